@@ -1,11 +1,17 @@
 package oleg.sopilnyak.test.application;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import oleg.sopilnyak.test.endpoint.configuration.EndpointConfiguration;
 import oleg.sopilnyak.test.persistence.configuration.MySqlDataSourceConfiguration;
 import oleg.sopilnyak.test.persistence.configuration.PersistenceConfiguration;
 import oleg.sopilnyak.test.school.common.persistence.PersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandResultCache;
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandSingleFlight;
 import oleg.sopilnyak.test.service.configuration.BusinessLogicConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -29,4 +35,32 @@ public class Main {
             persistenceFacade.initDefaultDataset();
         };
     }
+
+    // metrics of the commands results cache (/actuator/metrics/school.commands.results.cache.*)
+    @Bean
+    public MeterBinder commandResultCacheMetrics(ObjectProvider<CommandResultCache> resultCache) {
+        return registry -> resultCache.ifAvailable(cache -> {
+            FunctionCounter.builder("school.commands.results.cache.hits", cache, CommandResultCache::getHitCount)
+                    .register(registry);
+            FunctionCounter.builder("school.commands.results.cache.misses", cache, CommandResultCache::getMissCount)
+                    .register(registry);
+            FunctionCounter.builder("school.commands.results.cache.evictions", cache, CommandResultCache::getEvictionCount)
+                    .register(registry);
+            Gauge.builder("school.commands.results.cache.hit.rate", cache, CommandResultCache::getHitRate)
+                    .register(registry);
+            Gauge.builder("school.commands.results.cache.size", cache, CommandResultCache::getSize)
+                    .register(registry);
+        });
+    }
+
+    // metrics of the identical read-only commands coalescing (/actuator/metrics/school.commands.single.flight.*)
+    @Bean
+    public MeterBinder commandSingleFlightMetrics(ObjectProvider<CommandSingleFlight> singleFlight) {
+        return registry -> singleFlight.ifAvailable(flight -> {
+            FunctionCounter.builder("school.commands.single.flight.executed", flight, CommandSingleFlight::getExecutedCount)
+                    .register(registry);
+            FunctionCounter.builder("school.commands.single.flight.coalesced", flight, CommandSingleFlight::getCoalescedCount)
+                    .register(registry);
+        });
+    }
 }
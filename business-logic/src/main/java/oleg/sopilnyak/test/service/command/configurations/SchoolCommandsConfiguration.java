@@ -7,6 +7,9 @@ import static oleg.sopilnyak.test.service.command.executable.core.executor.messa
 import oleg.sopilnyak.test.authentication.configuration.SchoolAuthenticationConfiguration;
 import oleg.sopilnyak.test.service.command.executable.core.ParallelCommandsTask;
 import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchLoading;
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandResultCache;
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandSingleFlight;
 import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local.LocalQueueCommandExecutor;
 import oleg.sopilnyak.test.service.command.factory.CourseCommandsFactory;
 import oleg.sopilnyak.test.service.command.factory.StudentCommandsFactory;
@@ -28,18 +31,25 @@ import oleg.sopilnyak.test.service.command.type.organization.StudentsGroupComman
 import oleg.sopilnyak.test.service.command.type.profile.PrincipalProfileCommand;
 import oleg.sopilnyak.test.service.command.type.profile.StudentProfileCommand;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.concurrent.Executor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -66,6 +76,62 @@ public class SchoolCommandsConfiguration {
         return new LocalQueueCommandExecutor();
     }
 
+    /**
+     * Cache of the read-only commands results, used by commands executor (if enabled)
+     *
+     * @param maximumSize      the maximum quantity of the cached results
+     * @param timeToLiveMillis the time to live of the cached result in milliseconds
+     * @return the instance
+     * @see CommandActionExecutor#getResultCache()
+     */
+    @Bean
+    @ConditionalOnProperty(name = "school.commands.results.cache.enabled", havingValue = "true")
+    public CommandResultCache commandResultCache(
+            @Value("${school.commands.results.cache.maximum.size:10000}") final long maximumSize,
+            @Value("${school.commands.results.cache.ttl.millis:60000}") final long timeToLiveMillis
+    ) {
+        return new CommandResultCache(maximumSize, Duration.ofMillis(timeToLiveMillis));
+    }
+
+    /**
+     * Coalescing of the identical read-only commands in flight, used by commands executor (if enabled)
+     *
+     * @param followerTimeoutMillis the maximum time of the follower's waiting for the leader (the message expiration)
+     * @return the instance
+     * @see CommandActionExecutor#getSingleFlight()
+     */
+    @Bean
+    @ConditionalOnProperty(name = "school.commands.single.flight.enabled", havingValue = "true")
+    public CommandSingleFlight commandSingleFlight(
+            @Value("${school.commands.single.flight.follower.timeout.millis:${school.commands.executor.local.message.expiration.millis:1000}}")
+            final long followerTimeoutMillis
+    ) {
+        return new CommandSingleFlight(Duration.ofMillis(followerTimeoutMillis));
+    }
+
+    /**
+     * Batching of the lookups by id, used by find-by-id commands (if enabled)
+     *
+     * @param windowMicros       the time to collect the lookups of the batch in microseconds
+     * @param maximumSize        the maximum quantity of the lookups in the batch
+     * @param transactionManager the manager of the batch loading transactions
+     * @return the instance
+     * @see ByIdBatchLoading#loaderOf(java.util.function.Function, java.util.function.UnaryOperator)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "school.persistence.batch.enabled", havingValue = "true")
+    public ByIdBatchLoading byIdBatchLoading(
+            @Value("${school.persistence.batch.window.micros:1000}") final long windowMicros,
+            @Value("${school.persistence.batch.maximum.size:100}") final int maximumSize,
+            final PlatformTransactionManager transactionManager
+    ) {
+        // every batch is loaded in its own short read-only transaction
+        final TransactionTemplate batchTransaction = new TransactionTemplate(transactionManager);
+        batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        batchTransaction.setReadOnly(true);
+        return new ByIdBatchLoading(Duration.of(windowMicros, ChronoUnit.MICROS), maximumSize, batchTransaction);
+    }
+
     /**
      * Object mapper for module's data-model. Helps transform model to JSON and back
      *
@@ -98,7 +164,8 @@ public class SchoolCommandsConfiguration {
     /**
      * TaskExecutor for all parallel commands
      *
-     * @param maxPoolSize maximum size of threads-pool
+     * @param maxPoolSize    maximum size of threads-pool
+     * @param virtualThreads if true, every nested command is executed in a new virtual thread (no pool)
      * @return ready to use executor
      * @see Executor
      * @see ParallelCommandsTask#executeNested(Deque, Context.StateChangedListener)
@@ -106,8 +173,15 @@ public class SchoolCommandsConfiguration {
      */
     @Bean(name = EXECUTOR_BEAN_NAME)
     public Executor parallelCommandNestedCommandsExecutor(
-            @Value("${school.parallel.max.pool.size:100}") final int maxPoolSize
+            @Value("${school.parallel.max.pool.size:100}") final int maxPoolSize,
+            @Value("${school.parallel.virtual.threads:false}") final boolean virtualThreads
     ) {
+        if (virtualThreads) {
+            // nested commands are mostly blocked by the database, so thread per nested command
+            final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ParallelCommandThread-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
         final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         final int operationalPoolSize = Math.max(maxPoolSize, Runtime.getRuntime().availableProcessors());
         executor.setCorePoolSize(2);
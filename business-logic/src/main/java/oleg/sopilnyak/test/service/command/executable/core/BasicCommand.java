@@ -35,16 +35,18 @@ public abstract class BasicCommand<T> implements RootCommand<T> {
      */
     @Override
     public RootCommand<T> self() {
-        synchronized (RootCommand.class) {
-            if (isNull(self.get())) {
-                // getting command instance reference, which can be used for transactional operations
-                // actually it's proxy of the command with transactional executeDo/executeUndo methods
-                final String springName = springName();
-                final Class<? extends RootCommand<T>> familyType = commandFamily();
-                getLog().debug("Getting command from family:'{}' bean-name:[{}]",familyType.getSimpleName(), springName);
-                self.getAndSet(applicationContext.getBean(springName, familyType));
-            }
-        }
-        return self.get();
+        final RootCommand<T> command = self.get();
+        // lock free lazy initialization (no monitors pinning virtual threads)
+        return isNull(command) ? self.updateAndGet(current -> isNull(current) ? transactionalCommand() : current) : command;
+    }
+
+    // private methods
+    // getting command instance reference, which can be used for transactional operations
+    // actually it's proxy of the command with transactional executeDo/executeUndo methods
+    private RootCommand<T> transactionalCommand() {
+        final String springName = springName();
+        final Class<? extends RootCommand<T>> familyType = commandFamily();
+        getLog().debug("Getting command from family:'{}' bean-name:[{}]",familyType.getSimpleName(), springName);
+        return applicationContext.getBean(springName, familyType);
     }
 }
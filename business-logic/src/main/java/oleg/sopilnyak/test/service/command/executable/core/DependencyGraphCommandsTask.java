@@ -0,0 +1,286 @@
+package oleg.sopilnyak.test.service.command.executable.core;
+
+import static java.util.Objects.isNull;
+
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
+import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
+import oleg.sopilnyak.test.service.command.type.core.CompositeCommand;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+import oleg.sopilnyak.test.service.command.type.core.nested.NestedCommand;
+import oleg.sopilnyak.test.service.exception.CannotTransferCommandResultException;
+
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * MacroCommand: The command type with nested commands inside which are executing by the graph of their dependencies.<BR/>
+ * The nested command is executed after the nested commands it depends on, the results of them are transferred
+ * to the nested command's context. Independent nested commands are executing in parallel way.
+ * Rolling back is going in the reverse topological order of the graph
+ *
+ * @param <T> the type of command execution (do) result
+ * @see CompositeCommand
+ * @see MacroCommand
+ * @see CompletableFuture
+ */
+public abstract class DependencyGraphCommandsTask<T> extends MacroCommand<T> {
+    protected final transient Executor executor;
+    // the ids of the nested commands, the nested command (by id) depends on
+    private final Map<String, Set<String>> nestedDependencies = new ConcurrentHashMap<>();
+
+    protected DependencyGraphCommandsTask(CommandActionExecutor actionExecutor,
+                                          @Qualifier(ParallelCommandsTask.EXECUTOR_BEAN_NAME) Executor executor) {
+        super(actionExecutor);
+        this.executor = executor;
+    }
+
+    /**
+     * To add the command, depending on other nested commands, to the commands nest<BR/>
+     * For the command is already in the nest, the dependencies of the command are replaced only
+     *
+     * @param command      the instance to put it to the nest
+     * @param dependencies the nested commands, which results the command depends on
+     * @see NestedCommand
+     */
+    public void toNestDependent(final NestedCommand<?> command, final NestedCommand<?>... dependencies) {
+        if (fromNest().stream().noneMatch(nested -> nested.getId().equals(command.getId()))) {
+            toNest(command);
+        }
+        nestedDependencies.put(command.getId(),
+                Arrays.stream(dependencies).map(NestedCommand::getId).collect(Collectors.toUnmodifiableSet())
+        );
+    }
+
+    /**
+     * To get the ids of nested commands, the nested command depends on
+     *
+     * @param commandId the id of the nested command
+     * @return set of nested command-ids or empty set if the command is independent
+     */
+    public Set<String> dependenciesOf(final String commandId) {
+        return nestedDependencies.getOrDefault(commandId, Set.of());
+    }
+
+    /**
+     * To run do execution for each macro-command's nested command by the dependencies graph<BR/>
+     * The nested command is launched after all of its dependencies, and canceled if any of them isn't done
+     *
+     * @param contexts nested command contexts to execute
+     * @param listener listener of nested context-state-change
+     * @return nested command contexts after execution (in the order of contexts parameter)
+     * @throws IllegalStateException if dependencies graph is not complete or has a cycle
+     * @see DependencyGraphCommandsTask#transferResult(RootCommand, Object, Context)
+     * @see CompositeCommand#executeDoNested(Context, Context.StateChangedListener)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Deque<Context<?>> executeNested(final Deque<Context<?>> contexts, final Context.StateChangedListener listener) {
+        if (ObjectUtils.isEmpty(contexts)) {
+            getLog().warn("Nothing to do");
+            return contexts;
+        }
+        final Map<String, Context<?>> nested = byCommandId(contexts);
+        final Map<String, Set<String>> graph = dependenciesGraph(nested.keySet());
+        graph.forEach((commandId, dependencies) -> dependencies.stream()
+                .filter(dependency -> !nested.containsKey(dependency)).findFirst()
+                .ifPresent(dependency -> {
+                    throw new IllegalStateException("Nested command '" + commandId + "' depends on absent '" + dependency + "'");
+                })
+        );
+        final List<String> order = topologicalOrder(graph);
+        // launch nested contexts after their dependencies in separate threads
+        final Map<String, CompletableFuture<Context<?>>> launched = new HashMap<>();
+        order.forEach(commandId -> {
+            final CompletableFuture<Context<?>>[] dependencies = order.stream()
+                    .filter(graph.get(commandId)::contains).map(launched::get)
+                    .toArray(CompletableFuture[]::new);
+            launched.put(commandId, launchNestedCommandDo(nested.get(commandId), dependencies, listener));
+        });
+
+        getLog().debug("Nested commands execution started for {} contexts", launched.size());
+        // wait for all commands execution finished
+        CompletableFuture.allOf(launched.values().toArray(CompletableFuture[]::new)).join();
+
+        getLog().debug("Nested commands execution finished for {} contexts", launched.size());
+        // collect result contexts in the original order and return
+        return nested.keySet().stream().map(launched::get).map(CompletableFuture::join)
+                .collect(Collectors.toCollection(LinkedList::new));
+    }
+
+    /**
+     * To transfer result of executed nested command (dependency) to the dependent nested command
+     *
+     * @param executedCommand the command-owner of transferred result
+     * @param toTransfer      the result of executed nested command
+     * @param toExecute       the dependent nested command-context to execute
+     */
+    public void transferResult(
+            final RootCommand<?> executedCommand, final Object toTransfer, final Context<?> toExecute
+    ) {
+        final String commandId = toExecute.getCommand().getId();
+        getLog().error("Please implement transferResult(command,result,context) method for command with ID:'{}'", commandId);
+        throw new CannotTransferCommandResultException(commandId);
+    }
+
+    /**
+     * To run rolling back execution for each macro-command's nested command in the reverse topological order<BR/>
+     * The nested command is rolled back after its dependents, and skipped if any of them isn't rolled back
+     *
+     * @param contexts deque of contexts with DONE state
+     * @return nested contexts after rollback (in the order of contexts parameter)
+     * @see CompositeCommand#executeUndoNested(Context)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Deque<Context<?>> rollbackNested(final Deque<Context<?>> contexts) {
+        if (ObjectUtils.isEmpty(contexts)) {
+            getLog().warn("Nothing to rollback");
+            return contexts;
+        }
+        final Map<String, Context<?>> nested = byCommandId(contexts);
+        // dependencies only between the nested contexts to rollback
+        final Map<String, Set<String>> graph = dependenciesGraph(nested.keySet());
+        graph.replaceAll((commandId, dependencies) -> dependencies.stream()
+                .filter(nested::containsKey).collect(Collectors.toUnmodifiableSet())
+        );
+        // launch nested command undo after their dependents in separate threads
+        final Map<String, CompletableFuture<Context<?>>> launched = new HashMap<>();
+        topologicalOrder(graph).reversed().forEach(commandId -> {
+            final CompletableFuture<Context<?>>[] dependents = graph.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(commandId)).map(entry -> launched.get(entry.getKey()))
+                    .toArray(CompletableFuture[]::new);
+            launched.put(commandId, launchNestedCommandUndo(nested.get(commandId), dependents));
+        });
+
+        getLog().debug("Nested commands rollback started for {} contexts", launched.size());
+        // waiting for all nested command rollback done
+        CompletableFuture.allOf(launched.values().toArray(CompletableFuture[]::new)).join();
+
+        getLog().debug("Nested commands rollback finished for {} contexts", launched.size());
+        // collect result contexts in the original order and return
+        return nested.keySet().stream().map(launched::get).map(CompletableFuture::join)
+                .collect(Collectors.toCollection(LinkedList::new));
+    }
+
+    // private methods
+    private static Map<String, Context<?>> byCommandId(final Deque<Context<?>> contexts) {
+        return contexts.stream().collect(Collectors.toMap(context -> context.getCommand().getId(), Function.identity(),
+                (first, second) -> {
+                    throw new IllegalStateException("Duplicated nested command '" + first.getCommand().getId() + "'");
+                }, LinkedHashMap::new));
+    }
+
+    private Map<String, Set<String>> dependenciesGraph(final Set<String> commandIds) {
+        final Map<String, Set<String>> graph = new LinkedHashMap<>();
+        commandIds.forEach(commandId -> graph.put(commandId, dependenciesOf(commandId)));
+        return graph;
+    }
+
+    // Kahn's algorithm, the order of independent commands is kept by the insertion order of the graph
+    private static List<String> topologicalOrder(final Map<String, Set<String>> graph) {
+        final List<String> order = new LinkedList<>();
+        final Map<String, Set<String>> remained = new LinkedHashMap<>(graph);
+        while (!remained.isEmpty()) {
+            final List<String> ready = remained.entrySet().stream()
+                    .filter(entry -> order.containsAll(entry.getValue()))
+                    .map(Map.Entry::getKey).toList();
+            if (ready.isEmpty()) {
+                throw new IllegalStateException("Nested commands dependencies have a cycle among " + remained.keySet());
+            }
+            order.addAll(ready);
+            ready.forEach(remained::remove);
+        }
+        return order;
+    }
+
+    // launch nested command DO after its dependencies
+    private CompletableFuture<Context<?>> launchNestedCommandDo(final Context<?> context,
+                                                                final CompletableFuture<Context<?>>[] dependencies,
+                                                                final Context.StateChangedListener listener) {
+        return launchNestedCommandAfter(dependencies, executed -> executed.stream().allMatch(Context::isDone)
+                ? doDependentNestedCommand(context, executed, listener)
+                : cancelNestedCommandContext(context, listener)
+        );
+    }
+
+    // launch nested command UNDO after its dependents
+    private CompletableFuture<Context<?>> launchNestedCommandUndo(final Context<?> context,
+                                                                  final CompletableFuture<Context<?>>[] dependents) {
+        return launchNestedCommandAfter(dependents, rolledBack -> {
+            if (!context.isDone() || rolledBack.stream().anyMatch(dependent -> dependent.isDone() || dependent.isFailed())) {
+                getLog().debug("Skipping rollback of '{}' because of its dependents", context.getCommand().getId());
+                return context;
+            }
+            final Context<?> undone = executeUndoNested(context);
+            if (undone.isFailed()) {
+                getLog().warn("=== Rollback of the nested command '{}' is failed", undone.getCommand().getId(), undone.getException());
+            }
+            return undone;
+        });
+    }
+
+    // run nested command execution in the separate thread after the previous ones
+    private CompletableFuture<Context<?>> launchNestedCommandAfter(final CompletableFuture<Context<?>>[] previous,
+                                                                   final Function<List<Context<?>>, Context<?>> commandExecution) {
+        // prepare action context for execute command execution of the nested command
+        final ActionContext actionContext = ActionContext.current();
+        return CompletableFuture.allOf(previous).thenApplyAsync(ignored -> {
+            try {
+                // setup action context for the thread of threads pool
+                ActionContext.install(actionContext);
+                return commandExecution.apply(Arrays.stream(previous).map(CompletableFuture::join).toList());
+            } finally {
+                // release current thread
+                ActionContext.release();
+            }
+        }, executor);
+    }
+
+    private Context<?> doDependentNestedCommand(final Context<?> toExecute, final List<Context<?>> executed,
+                                                final Context.StateChangedListener listener) {
+        try {
+            // transferring result-data from executed dependencies to the current command-context
+            executed.forEach(dependency -> transferResult(dependency.getCommand(), dependency.getResult().orElse(null), toExecute));
+        } catch (Exception e) {
+            getLog().warn("=== Cannot transfer dependencies results to '{}'", toExecute.getCommand().getId(), e);
+            return failNestedCommandContext(toExecute, e, listener);
+        }
+        // executing nested command using current command-context
+        getLog().debug("Executing nested command for Command-Context:{}", toExecute);
+        return executeDoNested(toExecute, listener);
+    }
+
+    private Context<?> cancelNestedCommandContext(final Context<?> toCancel, final Context.StateChangedListener listener) {
+        final Context.State lastState = toCancel.getHistory().lastState();
+        getLog().debug("Cancel nested command '{}' execution from state {}", toCancel.getCommand().getId(), lastState);
+        if (!isNull(listener)) {
+            listener.stateChanged(toCancel, lastState, Context.State.CANCEL);
+        }
+        toCancel.setState(Context.State.CANCEL);
+        return toCancel;
+    }
+
+    private Context<?> failNestedCommandContext(final Context<?> toFail, final Exception cause,
+                                                final Context.StateChangedListener listener) {
+        final Context.State lastState = toFail.getHistory().lastState();
+        toFail.failed(cause);
+        if (!isNull(listener)) {
+            listener.stateChanged(toFail, lastState, Context.State.FAIL);
+        }
+        return toFail;
+    }
+}
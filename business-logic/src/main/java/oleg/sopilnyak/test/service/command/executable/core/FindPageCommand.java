@@ -0,0 +1,99 @@
+package oleg.sopilnyak.test.service.command.executable.core;
+
+import oleg.sopilnyak.test.school.common.model.BaseType;
+import oleg.sopilnyak.test.service.command.executable.core.context.history.History;
+import oleg.sopilnyak.test.service.command.io.CompositeInput;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.Getter;
+
+/**
+ * Command-Base: command to get the page of the items ordered by system-id (keyset pagination)<BR/>
+ * The input is the pair of the cursor (system-id of the last item of the previous page) and the size of the page,
+ * so the command reads no more than the page of the rows regardless of the table's size
+ *
+ * @param <T> the type of the page's item
+ * @see Input#of(Long, Long)
+ */
+public abstract class FindPageCommand<T extends BaseType> extends BasicCommand<Set<T>>
+        implements RootCommand.WithLimitedContextHistory {
+    // the maximum quantity of the items in one page
+    public static final int MAXIMUM_PAGE_SIZE = 500;
+    // the maximum quantity of the items in the history of command's context
+    @Getter
+    private int contextHistoryLimit = History.UNLIMITED;
+
+    /**
+     * Inject the limit of the history of command's context (high-volume reads could switch the history off)
+     *
+     * @param limit the maximum quantity of the history items, negative value means unlimited history
+     * @see History#OFF
+     */
+    @Autowired
+    public final void setContextHistoryLimit(@Value("${school.commands.read.context.history.limit:-1}") final int limit) {
+        this.contextHistoryLimit = limit < 0 ? History.UNLIMITED : limit;
+    }
+
+    /**
+     * To get the page of the items<BR/>
+     * To execute command redo with correct context state
+     *
+     * @param context context of redo execution
+     * @see Context
+     * @see Context#setResult(Object)
+     * @see FindPageCommand#page(Long, int)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void executeDo(Context<Set<T>> context) {
+        final Input<?> parameter = context.getRedoParameter();
+        try {
+            checkNullParameter(parameter);
+            final Input<Long>[] input = ((CompositeInput<Long>) parameter).value();
+            final Long afterId = input[0].value();
+            final long limit = Math.min(input[1].value(), MAXIMUM_PAGE_SIZE);
+            if (limit < 1L) {
+                throw new IllegalArgumentException("Wrong size of the page: " + limit);
+            }
+            getLog().debug("Trying to get the page of {} items after ID:{}", limit, afterId);
+
+            // the order of the items is kept in the result
+            final Set<T> items = page(afterId, (int) limit).stream()
+                    .map(this::adopt).collect(Collectors.toCollection(LinkedHashSet::new));
+
+            getLog().debug("Got the page of {} items", items.size());
+            context.setResult(items);
+        } catch (Exception e) {
+            getLog().error("Cannot get the page of items for {}", parameter, e);
+            context.failed(e);
+        }
+    }
+
+    /**
+     * To get the page of the items from the persistence layer
+     *
+     * @param afterId system-id of the last item of the previous page
+     * @param limit   the maximum quantity of the items in the page
+     * @return the items of the page ordered by system-id
+     */
+    protected abstract List<T> page(Long afterId, int limit);
+
+    /**
+     * To adopt the item of the page to business-logic data model
+     *
+     * @param item the item from the persistence layer
+     * @return adopted item
+     */
+    protected abstract T adopt(T item);
+}
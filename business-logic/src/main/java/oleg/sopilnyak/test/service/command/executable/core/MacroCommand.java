@@ -20,6 +20,7 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -41,7 +42,7 @@ public abstract class MacroCommand<T> implements CompositeCommand<T> {
     // commands executor for the commands from the nest
     private final transient CommandActionExecutor actionExecutor;
     // the list of nested commands
-    private final List<NestedCommand<?>> netsedCommandsList = new LinkedList<>();
+    private final List<NestedCommand<?>> netsedCommandsList = new CopyOnWriteArrayList<>();
 
     /**
      * To get the collection of nested commands, used in the composite
@@ -50,9 +51,7 @@ public abstract class MacroCommand<T> implements CompositeCommand<T> {
      */
     @Override
     public Collection<NestedCommand<?>> fromNest() {
-        synchronized (netsedCommandsList) {
-            return List.copyOf(netsedCommandsList);
-        }
+        return List.copyOf(netsedCommandsList);
     }
 
     /**
@@ -63,9 +62,7 @@ public abstract class MacroCommand<T> implements CompositeCommand<T> {
      */
     @Override
     public void toNest(final NestedCommand<?>... commands) {
-        synchronized (netsedCommandsList) {
-            netsedCommandsList.addAll(Arrays.asList(commands));
-        }
+        netsedCommandsList.addAll(Arrays.asList(commands));
     }
 
     /**
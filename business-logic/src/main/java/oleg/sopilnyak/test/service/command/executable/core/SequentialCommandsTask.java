@@ -70,7 +70,7 @@ public abstract class SequentialCommandsTask<T> extends MacroCommand<T> {
             final Context<?> toCancel, final Context.StateChangedListener listener
     ) {
         // getting last state from the context history and use it for the listener's notification
-        final Context.State lastState = toCancel.getHistory().states().getLast();
+        final Context.State lastState = toCancel.getHistory().lastState();
         getLog().debug("Cancel nested command execution from state {}", lastState);
         // update context-state-changes listener
         listener.stateChanged(toCancel, lastState, Context.State.CANCEL);
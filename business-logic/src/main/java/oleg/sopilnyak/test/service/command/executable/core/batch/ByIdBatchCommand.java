@@ -0,0 +1,61 @@
+package oleg.sopilnyak.test.service.command.executable.core.batch;
+
+import static java.util.Objects.isNull;
+
+import oleg.sopilnyak.test.school.common.model.BaseType;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+
+import java.util.Optional;
+
+/**
+ * Command-Type: the command to find the item by id, which lookups may be batched<BR/>
+ * The batched lookup is resolved before (and instead of) the transactional command's execution,
+ * so the lookup waiting for its batch doesn't hold the transaction (and the connection of the pool),
+ * the batch itself is loaded and adopted in own short transaction
+ *
+ * @param <E> the type of the item
+ * @see ByIdBatchLoader
+ * @see ByIdBatchLoading#loaderOf(java.util.function.Function, java.util.function.UnaryOperator)
+ */
+public interface ByIdBatchCommand<E extends BaseType> extends RootCommand<Optional<E>> {
+    /**
+     * To get the loader of the items by id
+     *
+     * @return the loader or null if the lookups aren't batched
+     */
+    ByIdBatchLoader<E> getBatchLoader();
+
+    /**
+     * To execute command logic with context, the lookup is resolved within the batch (if batching is enabled)
+     *
+     * @param context context of redo execution
+     * @see RootCommand#doCommand(Context)
+     * @see ByIdBatchLoader#load(Long)
+     */
+    @Override
+    default void doCommand(final Context<Optional<E>> context) {
+        final ByIdBatchLoader<E> batchLoader = getBatchLoader();
+        if (isNull(batchLoader) || !context.isReady()) {
+            RootCommand.super.doCommand(context);
+            return;
+        }
+        context.setState(Context.State.WORK);
+        final Input<Long> parameter = context.getRedoParameter();
+        try {
+            checkNullParameter(parameter);
+            final Long id = parameter.value();
+            getLog().debug("Trying to find by ID:{} within the batch", id);
+
+            final Optional<E> item = batchLoader.load(id);
+
+            getLog().debug("Got {} by ID:{}", item, id);
+            context.setResult(item);
+        } catch (Exception e) {
+            getLog().error("Cannot find by ID:{} within the batch", parameter, e);
+            context.failed(e);
+        }
+        afterExecute(context);
+    }
+}
@@ -0,0 +1,145 @@
+package oleg.sopilnyak.test.service.command.executable.core.batch;
+
+import static java.util.Objects.isNull;
+
+import oleg.sopilnyak.test.school.common.model.BaseType;
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandResultCopier;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batching: the lookups of the items by id, requested at once, are resolved by one query (WHERE id IN (...))<BR/>
+ * The first lookup opens the batch and waits for the window (or until the batch is full), the next lookups
+ * are joining the opened batch. The lookup without concurrent callers doesn't wait for the window.
+ * The batch is loaded and adopted in the thread of the lookup, opened the batch,
+ * then every lookup gets its own item (the lookups of the same id get the copies of the item)
+ *
+ * @param <T> the type of the item
+ */
+@Slf4j
+public class ByIdBatchLoader<T extends BaseType> {
+    // the loader of the items by ids (the items not found are absent)
+    private final Function<Collection<Long>, ? extends Collection<? extends T>> itemsLoader;
+    // the adopter of the loaded item (is called in the thread of the batch loading)
+    private final UnaryOperator<T> adopter;
+    private final long windowNanos;
+    private final int maximumSize;
+    // the batch collecting the lookups
+    private Batch<T> opened;
+    // the quantity of the lookups in progress
+    private int callers;
+
+    public ByIdBatchLoader(final Function<Collection<Long>, ? extends Collection<? extends T>> itemsLoader,
+                           final UnaryOperator<T> adopter, final Duration window, final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Wrong maximum size of the batch: " + maximumSize);
+        }
+        this.itemsLoader = itemsLoader;
+        this.adopter = adopter;
+        this.windowNanos = window.toNanos();
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * To find the item by id (the lookup is resolved within the batch)
+     *
+     * @param id system-id of the item
+     * @return adopted item or empty() if not exists
+     * @throws IllegalArgumentException if id is null
+     * @throws RuntimeException         if the batch cannot be loaded
+     * @see CommandResultCopier#copyOf(Object)
+     */
+    public Optional<T> load(final Long id) {
+        if (isNull(id)) {
+            throw new IllegalArgumentException("The id of the item must not be null");
+        }
+        final Batch<T> batch;
+        final CompletableFuture<Optional<T>> lookup;
+        final boolean opener;
+        final boolean alone;
+        final boolean shared;
+        synchronized (this) {
+            callers++;
+            opener = isNull(opened);
+            if (opener) {
+                opened = new Batch<>();
+            }
+            alone = callers == 1;
+            batch = opened;
+            shared = batch.lookups.containsKey(id);
+            lookup = batch.lookups.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (batch.lookups.size() >= maximumSize) {
+                // the batch is full, next lookup opens the new one
+                opened = null;
+                batch.full.countDown();
+            }
+        }
+        try {
+            if (opener) {
+                if (!alone) {
+                    awaitWindow(batch);
+                }
+                final Map<Long, CompletableFuture<Optional<T>>> lookups;
+                synchronized (this) {
+                    // the batch is closed, no more lookups are joining it
+                    if (opened == batch) {
+                        opened = null;
+                    }
+                    lookups = Map.copyOf(batch.lookups);
+                }
+                loadBatch(lookups);
+            }
+            // the lookups of the same id don't share the adopted item
+            return shared ? lookup.join().map(CommandResultCopier::copyOf) : lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            synchronized (this) {
+                callers--;
+            }
+        }
+    }
+
+    // private methods
+    private void awaitWindow(final Batch<T> batch) {
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            // the batch is loaded without waiting
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void loadBatch(final Map<Long, CompletableFuture<Optional<T>>> lookups) {
+        log.debug("Loading the batch of {} items", lookups.size());
+        try {
+            final Map<Long, T> items = new LinkedHashMap<>();
+            itemsLoader.apply(lookups.keySet()).forEach(item -> items.put(item.getId(), adopter.apply(item)));
+            lookups.forEach((id, lookup) -> lookup.complete(Optional.ofNullable(items.get(id))));
+        } catch (RuntimeException | Error e) {
+            // the lookups of the batch are released in any case
+            log.warn("Cannot load the batch of items {}", lookups.keySet(), e);
+            lookups.values().forEach(lookup -> lookup.completeExceptionally(e));
+        }
+    }
+
+    // the lookups of the batch
+    private static final class Batch<T> {
+        private final Map<Long, CompletableFuture<Optional<T>>> lookups = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+}
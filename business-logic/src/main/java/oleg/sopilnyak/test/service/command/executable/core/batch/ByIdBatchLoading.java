@@ -0,0 +1,50 @@
+package oleg.sopilnyak.test.service.command.executable.core.batch;
+
+import oleg.sopilnyak.test.school.common.model.BaseType;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import lombok.Getter;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Batching: the settings of the lookups by id batching, shared by the find-by-id commands<BR/>
+ * The lookups are waiting for the batch outside any transaction,
+ * the batch is loaded and adopted in its own short transaction
+ *
+ * @see ByIdBatchLoader
+ * @see ByIdBatchCommand
+ */
+@Getter
+public class ByIdBatchLoading {
+    private final Duration window;
+    private final int maximumSize;
+    private final TransactionOperations transaction;
+
+    public ByIdBatchLoading(final Duration window, final int maximumSize, final TransactionOperations transaction) {
+        this.window = window;
+        this.maximumSize = maximumSize;
+        this.transaction = transaction;
+    }
+
+    /**
+     * To make the loader of the items by id with the shared batching settings
+     *
+     * @param itemsLoader the loader of the items by ids
+     * @param adopter     the adopter of the loaded item
+     * @param <T>         the type of the item
+     * @return new instance of the loader
+     */
+    public <T extends BaseType> ByIdBatchLoader<T> loaderOf(
+            final Function<Collection<Long>, ? extends Collection<? extends T>> itemsLoader,
+            final UnaryOperator<T> adopter
+    ) {
+        // the items are adopted within the transaction of the batch loading
+        final Function<Collection<Long>, Collection<T>> batchLoader = ids -> transaction.execute(_ ->
+                itemsLoader.apply(ids).stream().<T>map(adopter).toList()
+        );
+        return new ByIdBatchLoader<>(batchLoader, UnaryOperator.identity(), window, maximumSize);
+    }
+}
@@ -9,6 +9,7 @@ import static oleg.sopilnyak.test.service.command.type.core.Context.State.READY;
 import static oleg.sopilnyak.test.service.command.type.core.Context.State.UNDONE;
 import static oleg.sopilnyak.test.service.command.type.core.Context.State.WORK;
 
+import oleg.sopilnyak.test.school.common.utility.InstanceUnwrapper;
 import oleg.sopilnyak.test.service.command.executable.core.context.history.History;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
@@ -22,8 +23,6 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Predicate;
-import org.mockito.Mockito;
-import org.mockito.internal.util.MockUtil;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -237,21 +236,14 @@ public class CommandContext<T> implements Context<T> {
          * If context is a spy, then it returns the spied instance.
          * If context is a mock, then it returns null.
          * Otherwise, it returns the context itself.
+         * Without test doubles unwrapper (production) the context is returned as is
          *
          * @param context the context to check
          * @return genuine context instance or null if context is a mock
+         * @see InstanceUnwrapper#genuine(Object)
          */
         private static Context<?> genuine(final Context<?> context) {
-            if (MockUtil.isSpy(context)) {
-                log.debug("Context is a spy, returning spied instance");
-                // if context is a spy, we can retrieve genuine instance from it
-                return (Context<?>) Mockito.mockingDetails(context).getMockCreationSettings().getSpiedInstance();
-            } else {
-                log.debug("Context is not a spy... returning it as is (if not a mock)");
-                // if it is a mock, then we return null
-                // if context is not a mock, then we can return it as is
-                return MockUtil.isMock(context) ? null : context;
-            }
+            return InstanceUnwrapper.current().genuine(context);
         }
 
         /**
@@ -1,17 +1,22 @@
 package oleg.sopilnyak.test.service.command.executable.core.context.history;
 
+import static java.util.Objects.isNull;
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.TYPE_FIELD_NAME;
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.VALUE_FIELD_NAME;
 
+import oleg.sopilnyak.test.service.command.io.IOBase;
+import oleg.sopilnyak.test.service.command.io.IOTypesRegistry;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.TreeNode;
@@ -25,44 +30,52 @@ import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
-import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Data;
-import lombok.Getter;
-import lombok.Setter;
 
 /**
- * The type of the context's history
+ * The type of the context's history<BR/>
+ * Keeps states ordinals and epoch-nanos in growable primitive arrays, the quantity of kept items could be limited
  *
  * @see Context.LifeCycleHistory
+ * @see History#UNLIMITED
+ * @see History#OFF
  */
-@Data
-@Getter(AccessLevel.NONE)
-@Setter(AccessLevel.NONE)
-@Builder
 @JsonSerialize(using = History.Serializer.class)
 @JsonDeserialize(using = History.Deserializer.class)
 public class History implements Context.LifeCycleHistory {
     public static final String DURATIONS_FILED_NAME = "durations";
     public static final String STARTED_FILED_NAME = "started";
     public static final String STATES_FILED_NAME = "states";
-    @Builder.Default
-    private transient List<StateChangedHistoryItem> states = new LinkedList<>();
-    @Builder.Default
-    private transient List<StartedAtHistoryItem> started = new LinkedList<>();
-    @Builder.Default
-    private transient List<WorkedHistoryItem> worked = new LinkedList<>();
+    public static final String LIMIT_FILED_NAME = "limit";
+    public static final String LAST_STATE_FILED_NAME = "lastState";
+    // history keeps all items
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+    // history doesn't keep items (last state only)
+    public static final int OFF = 0;
+    private static final Context.State[] STATES = Context.State.values();
+    // the maximum quantity of kept items of every kind (the oldest ones are dropped)
+    private final int limit;
+    private final Track states = new Track();
+    private final Track started = new Track();
+    private final Track worked = new Track();
+    // the last added state (kept even if history is off)
+    private Context.State lastState;
+
+    @Builder
+    private History(final Integer limit) {
+        this.limit = isNull(limit) ? UNLIMITED : Math.max(limit, OFF);
+    }
 
     public void add(final Context.State state) {
-        states.add(new StateChangedHistoryItem(state, Instant.now()));
+        add(state, Instant.now());
     }
 
     public void add(final Instant startedAt, final Context.State startedAfter) {
-        started.add(new StartedAtHistoryItem(startedAt, startedAfter));
+        started.add(epochNanos(startedAt), startedAfter, limit);
     }
 
     public void add(final Duration duration, final Context.State finishedBy) {
-        worked.add(new WorkedHistoryItem(duration, finishedBy));
+        worked.add(duration.toNanos(), finishedBy, limit);
     }
 
     @Override
@@ -88,6 +101,21 @@ public class History implements Context.LifeCycleHistory {
         return result;
     }
 
+    @Override
+    public String toString() {
+        return "History(states=" + stateItems() + ", started=" + startedItems() + ", worked=" + workedItems() + ")";
+    }
+
+    /**
+     * To get the last state of the context (without states copying)
+     *
+     * @return the last added state or null if there were no states
+     */
+    @Override
+    public Context.State lastState() {
+        return lastState;
+    }
+
     /**
      * To get context's states history
      *
@@ -95,9 +123,11 @@ public class History implements Context.LifeCycleHistory {
      */
     @Override
     public Deque<Context.State> states() {
-        return states.stream()
-                .map(item -> item.state)
-                .collect(Collectors.toCollection(LinkedList::new));
+        final Deque<Context.State> result = new LinkedList<>();
+        for (int i = 0; i < states.size; i++) {
+            result.add(states.state(i));
+        }
+        return result;
     }
 
     /**
@@ -107,9 +137,11 @@ public class History implements Context.LifeCycleHistory {
      */
     @Override
     public Deque<Instant> started() {
-        return started.stream()
-                .map(item -> item.startedAt)
-                .collect(Collectors.toCollection(LinkedList::new));
+        final Deque<Instant> result = new LinkedList<>();
+        for (int i = 0; i < started.size; i++) {
+            result.add(instant(started.values[i]));
+        }
+        return result;
     }
 
     /**
@@ -119,9 +151,49 @@ public class History implements Context.LifeCycleHistory {
      */
     @Override
     public Deque<Duration> durations() {
-        return worked.stream()
-                .map(item -> item.worked)
-                .collect(Collectors.toCollection(LinkedList::new));
+        final Deque<Duration> result = new LinkedList<>();
+        for (int i = 0; i < worked.size; i++) {
+            result.add(Duration.ofNanos(worked.values[i]));
+        }
+        return result;
+    }
+
+    // private methods
+    private void add(final Context.State state, final Instant setup) {
+        states.add(epochNanos(setup), state, limit);
+        lastState = state;
+    }
+
+    private List<StateChangedHistoryItem> stateItems() {
+        final List<StateChangedHistoryItem> items = new ArrayList<>(states.size);
+        for (int i = 0; i < states.size; i++) {
+            items.add(new StateChangedHistoryItem(states.state(i), instant(states.values[i])));
+        }
+        return items;
+    }
+
+    private List<StartedAtHistoryItem> startedItems() {
+        final List<StartedAtHistoryItem> items = new ArrayList<>(started.size);
+        for (int i = 0; i < started.size; i++) {
+            items.add(new StartedAtHistoryItem(instant(started.values[i]), started.state(i)));
+        }
+        return items;
+    }
+
+    private List<WorkedHistoryItem> workedItems() {
+        final List<WorkedHistoryItem> items = new ArrayList<>(worked.size);
+        for (int i = 0; i < worked.size; i++) {
+            items.add(new WorkedHistoryItem(Duration.ofNanos(worked.values[i]), worked.state(i)));
+        }
+        return items;
+    }
+
+    private static long epochNanos(final Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    private static Instant instant(final long epochNanos) {
+        return Instant.ofEpochSecond(0L, epochNanos);
     }
 
     /**
@@ -146,43 +218,58 @@ public class History implements Context.LifeCycleHistory {
             generator.writeStringField(TYPE_FIELD_NAME, parameter.getClass().getName());
             generator.writeFieldName(VALUE_FIELD_NAME);
             generator.writeStartObject();
-            serializeStates(parameter, generator);
-            serializeStarted(parameter, generator);
-            serializeDurations(parameter, generator);
+            serializeStates(parameter, generator, serializerProvider);
+            serializeStarted(parameter, generator, serializerProvider);
+            serializeDurations(parameter, generator, serializerProvider);
+            serializeLimit(parameter, generator);
             generator.writeEndObject();
             generator.writeEndObject();
         }
 
-        private void serializeStates(final History history, final JsonGenerator generator) throws IOException {
-            final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
+        private void serializeStates(final History history,
+                                     final JsonGenerator generator,
+                                     final SerializerProvider provider) throws IOException {
             generator.writeFieldName(STATES_FILED_NAME);
             generator.writeStartArray();
-            for (var state : history.states) {
-                generator.writeRawValue(mapper.writeValueAsString(state));
+            for (var state : history.stateItems()) {
+                IOBase.storeValue(state, generator, provider);
             }
             generator.writeEndArray();
         }
 
-        private void serializeStarted(final History history, final JsonGenerator generator) throws IOException {
-            final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
+        private void serializeStarted(final History history,
+                                      final JsonGenerator generator,
+                                      final SerializerProvider provider) throws IOException {
             generator.writeFieldName(STARTED_FILED_NAME);
             generator.writeStartArray();
-            for (var startedAt : history.started) {
-                generator.writeRawValue(mapper.writeValueAsString(startedAt));
+            for (var startedAt : history.startedItems()) {
+                IOBase.storeValue(startedAt, generator, provider);
             }
             generator.writeEndArray();
         }
 
-        private void serializeDurations(final History history, final JsonGenerator generator) throws IOException {
-            final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
+        private void serializeDurations(final History history,
+                                        final JsonGenerator generator,
+                                        final SerializerProvider provider) throws IOException {
             generator.writeFieldName(DURATIONS_FILED_NAME);
             generator.writeStartArray();
-            for (final var duration : history.worked) {
-                generator.writeRawValue(mapper.writeValueAsString(duration));
+            for (final var duration : history.workedItems()) {
+                IOBase.storeValue(duration, generator, provider);
             }
             generator.writeEndArray();
         }
 
+        // the limited history keeps the limit and the last state (it could be absent in the states items)
+        private void serializeLimit(final History history, final JsonGenerator generator) throws IOException {
+            if (history.limit == UNLIMITED) {
+                return;
+            }
+            generator.writeNumberField(LIMIT_FILED_NAME, history.limit);
+            if (history.lastState != null) {
+                generator.writeStringField(LAST_STATE_FILED_NAME, history.lastState.name());
+            }
+        }
+
     }
 
     static class Deserializer extends StdDeserializer<Context.LifeCycleHistory> {
@@ -205,7 +292,7 @@ public class History implements Context.LifeCycleHistory {
             final TreeNode typeNode = historyNode.get(TYPE_FIELD_NAME);
             if (typeNode instanceof TextNode typeTextNode) {
                 try {
-                    Class.forName(typeTextNode.asText()).asSubclass(Context.LifeCycleHistory.class);
+                    IOTypesRegistry.resolve(typeTextNode.asText(), Context.LifeCycleHistory.class);
                 } catch (ClassNotFoundException | ClassCastException e) {
                     // class not found or class is not Context.History
                     throw new IOException("Wrong type name of history class " + typeTextNode.asText(), e);
@@ -216,53 +303,40 @@ public class History implements Context.LifeCycleHistory {
         }
 
         private Context.LifeCycleHistory restoreHistoryInstance(JsonParser jsonParser, TreeNode treeNode) throws IOException {
-            final HistoryBuilder historyBuilder = History.builder();
-            deserializeStates(historyBuilder, jsonParser, treeNode.get(STATES_FILED_NAME));
-            deserializeStarted(historyBuilder, jsonParser, treeNode.get(STARTED_FILED_NAME));
-            deserializeDurations(historyBuilder, jsonParser, treeNode.get(DURATIONS_FILED_NAME));
-            return historyBuilder.build();
-        }
-
-        private void deserializeStates(final HistoryBuilder historyBuilder,
-                                       final JsonParser jsonParser, final TreeNode statesNode) throws IOException {
-            final List<StateChangedHistoryItem> items = new LinkedList<>();
-            historyBuilder.states(items);
-            if (statesNode instanceof ArrayNode arrayNode) {
-                final ObjectMapper mapper = (ObjectMapper) jsonParser.getCodec();
-                for (final JsonNode node : arrayNode) {
-                    items.add(mapper.readValue(node.toString(), StateChangedHistoryItem.class));
-                }
-                return;
+            final TreeNode limitNode = treeNode.get(LIMIT_FILED_NAME);
+            final History history = History.builder().limit(limitNode instanceof JsonNode limit ? limit.asInt() : null).build();
+            final ObjectMapper mapper = (ObjectMapper) jsonParser.getCodec();
+            for (final JsonNode node : arrayNode(treeNode.get(STATES_FILED_NAME), "states")) {
+                final StateChangedHistoryItem item = IOBase.restoreValue(node, mapper, StateChangedHistoryItem.class);
+                history.add(item.state(), item.setup());
             }
-            throw new IOException("Wrong type of states node " + statesNode.toString());
+            for (final JsonNode node : arrayNode(treeNode.get(STARTED_FILED_NAME), "started")) {
+                final StartedAtHistoryItem item = IOBase.restoreValue(node, mapper, StartedAtHistoryItem.class);
+                history.add(item.startedAt(), item.state());
+            }
+            for (final JsonNode node : arrayNode(treeNode.get(DURATIONS_FILED_NAME), "worked")) {
+                final WorkedHistoryItem item = IOBase.restoreValue(node, mapper, WorkedHistoryItem.class);
+                history.add(item.worked(), item.state());
+            }
+            if (treeNode.get(LAST_STATE_FILED_NAME) instanceof TextNode lastState) {
+                history.lastState = toState(lastState.asText());
+            }
+            return history;
         }
 
-        private void deserializeStarted(final HistoryBuilder historyBuilder,
-                                        final JsonParser jsonParser, final TreeNode startedNode) throws IOException {
-            final List<StartedAtHistoryItem> items = new LinkedList<>();
-            historyBuilder.started(items);
-            if (startedNode instanceof ArrayNode arrayNode) {
-                final ObjectMapper mapper = (ObjectMapper) jsonParser.getCodec();
-                for (final JsonNode node : arrayNode) {
-                    items.add(mapper.readValue(node.toString(), StartedAtHistoryItem.class));
-                }
-                return;
+        private static Context.State toState(final String value) throws IOException {
+            try {
+                return Context.State.valueOf(value);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Wrong last state of history " + value, e);
             }
-            throw new IOException("Wrong type of started node " + startedNode.toString());
         }
 
-        private void deserializeDurations(final HistoryBuilder historyBuilder,
-                                          final JsonParser jsonParser, final TreeNode startedNode) throws IOException {
-            final List<WorkedHistoryItem> items = new LinkedList<>();
-            historyBuilder.worked(items);
-            if (startedNode instanceof ArrayNode arrayNode) {
-                final ObjectMapper mapper = (ObjectMapper) jsonParser.getCodec();
-                for (final JsonNode node : arrayNode) {
-                    items.add(mapper.readValue(node.toString(), WorkedHistoryItem.class));
-                }
-                return;
+        private static ArrayNode arrayNode(final TreeNode itemsNode, final String itemsName) throws IOException {
+            if (itemsNode instanceof ArrayNode arrayNode) {
+                return arrayNode;
             }
-            throw new IOException("Wrong type of worked node " + startedNode.toString());
+            throw new IOException("Wrong type of " + itemsName + " node " + itemsNode);
         }
     }
 
@@ -305,4 +379,57 @@ public class History implements Context.LifeCycleHistory {
             return "Worked " + worked.toNanos() + " ns Till State:" + state;
         }
     }
+
+    /**
+     * Growable track of history items (long value and state ordinal)
+     */
+    private static final class Track implements Serializable {
+        private static final long[] NO_VALUES = new long[0];
+        private static final byte[] NO_STATES = new byte[0];
+        // the capacity of the track after first item is added (INIT, READY, WORK, DONE)
+        private static final int INITIAL_CAPACITY = 4;
+        private long[] values = NO_VALUES;
+        private byte[] states = NO_STATES;
+        private int size;
+
+        private void add(final long value, final Context.State state, final int limit) {
+            if (limit == OFF) {
+                return;
+            }
+            if (size == limit) {
+                // dropping the oldest item
+                System.arraycopy(values, 1, values, 0, size - 1);
+                System.arraycopy(states, 1, states, 0, size - 1);
+                size--;
+            } else if (size == values.length) {
+                final int capacity = (int) Math.min(Math.max(INITIAL_CAPACITY, 2L * size), limit);
+                values = Arrays.copyOf(values, capacity);
+                states = Arrays.copyOf(states, capacity);
+            }
+            values[size] = value;
+            states[size] = (byte) state.ordinal();
+            size++;
+        }
+
+        private Context.State state(final int index) {
+            return STATES[states[index]];
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Track track && size == track.size
+                   && Arrays.equals(values, 0, size, track.values, 0, size)
+                   && Arrays.equals(states, 0, size, track.states, 0, size);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = size;
+            for (int i = 0; i < size; i++) {
+                result = 31 * result + Long.hashCode(values[i]);
+                result = 31 * result + states[i];
+            }
+            return result;
+        }
+    }
 }
@@ -4,6 +4,8 @@ import static oleg.sopilnyak.test.service.message.CommandMessage.Direction.DO;
 import static oleg.sopilnyak.test.service.message.CommandMessage.Direction.UNDO;
 
 import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandResultCache;
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandSingleFlight;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.message.BaseCommandMessage;
 import oleg.sopilnyak.test.service.message.CommandMessage;
@@ -11,7 +13,10 @@ import oleg.sopilnyak.test.service.message.DoCommandMessage;
 import oleg.sopilnyak.test.service.message.UndoCommandMessage;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import org.slf4j.Logger;
 
 /**
@@ -85,6 +90,24 @@ public interface CommandActionExecutor {
         return message;
     }
 
+    /**
+     * To process command message asynchronously, executing command from command-context of the message<BR/>
+     * By default the message is processed in the caller's thread
+     *
+     * @param message the processing command message
+     * @param <T>     type of command result
+     * @return future of processed command message
+     * @see CommandActionExecutor#processActionCommand(CommandMessage)
+     */
+    default <T> CompletableFuture<CommandMessage<T>> processActionCommandAsync(final CommandMessage<T> message) {
+        try {
+            return CompletableFuture.completedFuture(processActionCommand(message));
+        } catch (RuntimeException e) {
+            getLogger().warn("Cannot process command message: '{}'.", message, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * To get the logger of the executor implementation
      *
@@ -92,6 +115,26 @@ public interface CommandActionExecutor {
      */
     Logger getLogger();
 
+    /**
+     * To get the cache of the read-only commands results, used by the executor
+     *
+     * @return the cache instance or null if the results aren't cached
+     * @see CommandResultCache
+     */
+    default CommandResultCache getResultCache() {
+        return null;
+    }
+
+    /**
+     * To get the coalescing of the identical read-only commands in flight, used by the executor
+     *
+     * @return the coalescing instance or null if the commands aren't coalesced
+     * @see CommandSingleFlight
+     */
+    default CommandSingleFlight getSingleFlight() {
+        return null;
+    }
+
     /**
      * To do (commit) processing with the action context and command context
      *
@@ -103,7 +146,13 @@ public interface CommandActionExecutor {
      * @see Context
      */
     default <T> Context<T> commitAction(final ActionContext actionContext, final Context<T> commandContext) {
-        return processActionCommand(buildMessage(actionContext, commandContext, DO)).getContext();
+        final CommandSingleFlight singleFlight = getSingleFlight();
+        final UnaryOperator<Context<T>> process = context -> processActionCommand(buildMessage(actionContext, context, DO)).getContext();
+        // the identical read-only commands in flight share one execution
+        final UnaryOperator<Context<T>> execution = singleFlight == null ? process : context -> singleFlight.commit(context, process);
+        final CommandResultCache resultCache = getResultCache();
+        // the result of read-only command is taken from the cache if it's possible
+        return resultCache == null ? execution.apply(commandContext) : resultCache.commit(commandContext, execution);
     }
 
     /**
@@ -116,7 +165,48 @@ public interface CommandActionExecutor {
      * @see Context
      */
     default <T> Context<T> rollbackAction(final ActionContext actionContext, final Context<T> commandContext) {
-        return processActionCommand(buildMessage(actionContext, commandContext, CommandMessage.Direction.UNDO)).getContext();
+        try {
+            return processActionCommand(buildMessage(actionContext, commandContext, CommandMessage.Direction.UNDO)).getContext();
+        } finally {
+            invalidateResults(commandContext);
+        }
+    }
+
+    /**
+     * To do (commit) processing with the action context and command context without blocking of the caller
+     *
+     * @param actionContext  the action context
+     * @param commandContext the command context
+     * @param <T>            type of do command execution result
+     * @return future of command-context after do command execution
+     * @see CommandActionExecutor#commitAction(ActionContext, Context)
+     * @see CommandActionExecutor#processActionCommandAsync(CommandMessage)
+     */
+    default <T> CompletableFuture<Context<T>> commitActionAsync(final ActionContext actionContext, final Context<T> commandContext) {
+        final CommandSingleFlight singleFlight = getSingleFlight();
+        final Function<Context<T>, CompletableFuture<Context<T>>> process =
+                context -> processActionCommandAsync(buildMessage(actionContext, context, DO)).thenApply(CommandMessage::getContext);
+        // the identical read-only commands in flight share one execution
+        final Function<Context<T>, CompletableFuture<Context<T>>> execution =
+                singleFlight == null ? process : context -> singleFlight.commitAsync(context, process);
+        final CommandResultCache resultCache = getResultCache();
+        // the result of read-only command is taken from the cache if it's possible
+        return resultCache == null ? execution.apply(commandContext) : resultCache.commitAsync(commandContext, execution);
+    }
+
+    /**
+     * To undo (rollback) processing with the action context and command context without blocking of the caller
+     *
+     * @param actionContext  the action context
+     * @param commandContext the command context
+     * @param <T>            type of do command execution result
+     * @return future of command-context after undo command execution
+     * @see CommandActionExecutor#rollbackAction(ActionContext, Context)
+     * @see CommandActionExecutor#processActionCommandAsync(CommandMessage)
+     */
+    default <T> CompletableFuture<Context<T>> rollbackActionAsync(final ActionContext actionContext, final Context<T> commandContext) {
+        return processActionCommandAsync(buildMessage(actionContext, commandContext, UNDO)).thenApply(CommandMessage::getContext)
+                .whenComplete((context, error) -> invalidateResults(commandContext));
     }
 
     /**
@@ -133,6 +223,19 @@ public interface CommandActionExecutor {
         }
     }
 
+    /**
+     * To invalidate the cached results, changed by the rolled back command
+     *
+     * @param commandContext the context of rolled back command
+     * @see CommandResultCache#invalidate(oleg.sopilnyak.test.service.command.type.core.RootCommand)
+     */
+    private <T> void invalidateResults(final Context<T> commandContext) {
+        final CommandResultCache resultCache = getResultCache();
+        if (resultCache != null && commandContext != null) {
+            resultCache.invalidate(commandContext.getCommand());
+        }
+    }
+
     /**
      * To build the command-message instance to process
      *
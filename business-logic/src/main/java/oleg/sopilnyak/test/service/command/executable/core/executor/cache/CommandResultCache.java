@@ -0,0 +1,222 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.cache;
+
+import static java.util.Objects.isNull;
+
+import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache: read-through cache of the read-only commands results, keyed by command-id and command's input<BR/>
+ * The cache is bounded by size (W-TinyLFU eviction) and by time to live of the result.
+ * The data changing commands invalidate the regions they declare, the result read concurrently with the change
+ * isn't cached (the version of the region is checked before the result is put to the cache).
+ * The cache keeps the copy of the result and gives the new copy to each caller, so callers don't share the result
+ *
+ * @see RootCommand#resultCacheRegion()
+ * @see RootCommand#invalidatedCacheRegions()
+ * @see CommandActionExecutor#getResultCache()
+ * @see CommandResultCopier
+ */
+@Slf4j
+public class CommandResultCache {
+    // the cached results of the commands
+    private final Cache<Key, Object> results;
+    // the versions of the regions, changed by each invalidation of the region
+    private final Map<String, AtomicLong> regionVersions = new ConcurrentHashMap<>();
+    // the keys of the cached results by the regions, to invalidate the region without scanning of the cache
+    private final Map<String, Set<Key>> regionKeys = new ConcurrentHashMap<>();
+
+    public CommandResultCache(final long maximumSize, final Duration timeToLive) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .evictionListener((Key key, Object result, RemovalCause cause) -> unIndex(key))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * To execute the command of the context through the cache
+     *
+     * @param context   the context of command to execute
+     * @param execution the execution of the command (when result isn't cached)
+     * @param <T>       type of command result
+     * @return the context after command execution or the context with cached result
+     */
+    public <T> Context<T> commit(final Context<T> context, final UnaryOperator<Context<T>> execution) {
+        final Key key = cacheKey(context);
+        if (isNull(key)) {
+            try {
+                return execution.apply(context);
+            } finally {
+                invalidate(context.getCommand());
+            }
+        }
+        final Context<T> cached = cachedResult(key, context);
+        if (!isNull(cached)) {
+            return cached;
+        }
+        final long version = version(key.region());
+        final Context<T> executed = execution.apply(context);
+        store(key, version, executed);
+        return executed;
+    }
+
+    /**
+     * To execute the command of the context through the cache without blocking of the caller
+     *
+     * @param context   the context of command to execute
+     * @param execution the asynchronous execution of the command (when result isn't cached)
+     * @param <T>       type of command result
+     * @return future of the context after command execution or completed future of the context with cached result
+     */
+    public <T> CompletableFuture<Context<T>> commitAsync(final Context<T> context,
+                                                         final Function<Context<T>, CompletableFuture<Context<T>>> execution) {
+        final Key key = cacheKey(context);
+        if (isNull(key)) {
+            return execution.apply(context).whenComplete((executed, error) -> invalidate(context.getCommand()));
+        }
+        final Context<T> cached = cachedResult(key, context);
+        if (!isNull(cached)) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        final long version = version(key.region());
+        return execution.apply(context).thenApply(executed -> {
+            store(key, version, executed);
+            return executed;
+        });
+    }
+
+    /**
+     * To invalidate the regions, the command's execution (do or undo) changes the data of
+     *
+     * @param command the executed command
+     * @see RootCommand#invalidatedCacheRegions()
+     */
+    public void invalidate(final RootCommand<?> command) {
+        final Set<String> regions = isNull(command) ? Set.of() : command.invalidatedCacheRegions();
+        if (!regions.isEmpty()) {
+            regions.forEach(region -> {
+                regionVersions.computeIfAbsent(region, name -> new AtomicLong()).incrementAndGet();
+                final Set<Key> keys = regionKeys.remove(region);
+                if (!isNull(keys)) {
+                    results.invalidateAll(keys);
+                }
+            });
+            log.debug("Invalidated regions {} by command '{}'", regions, command.getId());
+        }
+    }
+
+    /**
+     * To get the quantity of the results taken from the cache
+     *
+     * @return the count of the cache hits
+     */
+    public long getHitCount() {
+        return results.stats().hitCount();
+    }
+
+    /**
+     * To get the quantity of the results not found in the cache
+     *
+     * @return the count of the cache misses
+     */
+    public long getMissCount() {
+        return results.stats().missCount();
+    }
+
+    /**
+     * To get the ratio of the results taken from the cache to all cache requests
+     *
+     * @return the hit rate of the cache (1.0 if there were no requests)
+     */
+    public double getHitRate() {
+        return results.stats().hitRate();
+    }
+
+    /**
+     * To get the quantity of the results evicted from the cache (by size or by time to live)
+     *
+     * @return the count of the evictions
+     */
+    public long getEvictionCount() {
+        return results.stats().evictionCount();
+    }
+
+    /**
+     * To get the quantity of the cached results
+     *
+     * @return estimated size of the cache
+     */
+    public long getSize() {
+        return results.estimatedSize();
+    }
+
+    // private methods
+    private <T> Key cacheKey(final Context<T> context) {
+        final RootCommand<T> command = context.getCommand();
+        final String region = isNull(command) ? null : command.resultCacheRegion();
+        return isNull(region) || !context.isReady() ? null : new Key(region, command.getId(), context.getRedoParameter());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Context<T> cachedResult(final Key key, final Context<T> context) {
+        final Object result = results.getIfPresent(key);
+        if (isNull(result)) {
+            return null;
+        }
+        log.debug("Using cached result of command '{}'", key.commandId());
+        context.setState(Context.State.WORK);
+        context.setResult((T) CommandResultCopier.copyOf(result));
+        return context;
+    }
+
+    private <T> void store(final Key key, final long version, final Context<T> executed) {
+        if (isNull(executed) || !executed.isDone() || version != version(key.region())) {
+            return;
+        }
+        executed.getResult().ifPresent(result -> {
+            if (!CommandResultCopier.isCopyable(result)) {
+                log.debug("Result of command '{}' cannot be copied and isn't cached", key.commandId());
+                return;
+            }
+            regionKeys.computeIfAbsent(key.region(), region -> ConcurrentHashMap.newKeySet()).add(key);
+            results.put(key, CommandResultCopier.copyOf(result));
+            // the region is invalidated while the result is putting to the cache
+            if (version != version(key.region())) {
+                results.invalidate(key);
+            }
+        });
+    }
+
+    private void unIndex(final Key key) {
+        final Set<Key> keys = isNull(key) ? null : regionKeys.get(key.region());
+        if (!isNull(keys)) {
+            keys.remove(key);
+        }
+    }
+
+    private long version(final String region) {
+        final AtomicLong version = regionVersions.get(region);
+        return isNull(version) ? 0L : version.get();
+    }
+
+    // the key of the command's result
+    private record Key(String region, String commandId, Input<?> input) {
+    }
+}
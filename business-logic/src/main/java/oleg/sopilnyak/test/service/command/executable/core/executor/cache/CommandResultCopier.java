@@ -0,0 +1,99 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.cache;
+
+import static java.util.Objects.isNull;
+
+import oleg.sopilnyak.test.school.common.model.BaseType;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.school.common.model.education.Course;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.model.organization.AuthorityPerson;
+import oleg.sopilnyak.test.school.common.model.organization.Faculty;
+import oleg.sopilnyak.test.school.common.model.organization.StudentsGroup;
+import oleg.sopilnyak.test.school.common.model.person.profile.PrincipalProfile;
+import oleg.sopilnyak.test.school.common.model.person.profile.StudentProfile;
+import oleg.sopilnyak.test.school.common.utility.InstanceUnwrapper;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Class-Utility: to copy the result of the command, shared by many callers (cached or coalesced result)<BR/>
+ * The immutable values are shared as is, the model's types are copied to the new payloads,
+ * the collections and the optionals are copied item by item
+ *
+ * @see CommandResultCache
+ * @see CommandSingleFlight
+ */
+public interface CommandResultCopier {
+    // the mapper to copy model's types to the new payloads
+    BusinessMessagePayloadMapper payloadMapper = Mappers.getMapper(BusinessMessagePayloadMapper.class);
+
+    /**
+     * To check is the result could be copied
+     *
+     * @param result the result of the command
+     * @return true if the result is immutable or the copy of the result could be made
+     */
+    static boolean isCopyable(final Object result) {
+        if (isImmutable(result) || InstanceUnwrapper.current().isTestDouble(result)) {
+            return true;
+        } else if (result instanceof Optional<?> optional) {
+            return optional.map(CommandResultCopier::isCopyable).orElse(true);
+        } else if (result instanceof Set<?> || result instanceof List<?>) {
+            return ((Collection<?>) result).stream().allMatch(CommandResultCopier::isCopyable);
+        }
+        return result instanceof Student || result instanceof Course
+               || result instanceof AuthorityPerson || result instanceof Faculty || result instanceof StudentsGroup
+               || result instanceof PrincipalProfile || result instanceof StudentProfile;
+    }
+
+    /**
+     * To make the copy of the result, which doesn't share mutable state with the result
+     *
+     * @param result the result of the command
+     * @param <T>    type of the result
+     * @return the copy of the result
+     * @throws IllegalArgumentException if the result couldn't be copied
+     * @see CommandResultCopier#isCopyable(Object)
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copyOf(final T result) {
+        if (isImmutable(result) || InstanceUnwrapper.current().isTestDouble(result)) {
+            return result;
+        }
+        return (T) switch (result) {
+            case Optional<?> optional -> optional.map(CommandResultCopier::copyOf);
+            // the order of the items is kept in the copy
+            case Set<?> items -> items.stream().map(CommandResultCopier::copyOf)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            case List<?> items -> items.stream().map(CommandResultCopier::copyOf).collect(Collectors.toList());
+            case BaseType model -> copyOf(model);
+            default -> throw new IllegalArgumentException("Result type cannot be copied: " + result.getClass());
+        };
+    }
+
+    // private methods
+    private static boolean isImmutable(final Object result) {
+        return isNull(result) || result instanceof Boolean || result instanceof String || result instanceof Long
+               || result instanceof Integer || result instanceof Enum<?> || result instanceof BulkLoadReport;
+    }
+
+    private static BaseType copyOf(final BaseType model) {
+        return switch (model) {
+            case Student student -> payloadMapper.toPayload(student);
+            case Course course -> payloadMapper.toPayload(course);
+            case AuthorityPerson person -> payloadMapper.toPayload(person);
+            case Faculty faculty -> payloadMapper.toPayload(faculty);
+            case StudentsGroup group -> payloadMapper.toPayload(group);
+            case PrincipalProfile profile -> payloadMapper.toPayload(profile);
+            case StudentProfile profile -> payloadMapper.toPayload(profile);
+            default -> throw new IllegalArgumentException("Model type cannot be copied: " + model.getClass());
+        };
+    }
+}
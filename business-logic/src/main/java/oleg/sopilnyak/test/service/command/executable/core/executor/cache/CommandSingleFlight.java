@@ -0,0 +1,190 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.cache;
+
+import static java.util.Objects.isNull;
+
+import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalescing: the identical read-only commands (the same command-id and input) being in flight at once
+ * share one execution<BR/>
+ * The first command (leader) is executed, the others (followers) are waiting for the leader's execution and
+ * get the copy of the leader's result in their own contexts. The follower is executed by itself if the leader's
+ * execution isn't succeeded, isn't finished within the follower's timeout or the leader's result cannot be copied
+ *
+ * @see RootCommand#resultCacheRegion()
+ * @see CommandActionExecutor#getSingleFlight()
+ * @see CommandResultCopier
+ */
+@Slf4j
+public class CommandSingleFlight {
+    // the default time of the follower's waiting for the leader's execution
+    public static final Duration DEFAULT_FOLLOWER_TIMEOUT = Duration.ofSeconds(1);
+    // the executions of the commands being in flight
+    private final ConcurrentMap<Key, CompletableFuture<Context<?>>> inFlight = new ConcurrentHashMap<>();
+    // the counters of the executed and coalesced commands
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    // the maximum time of the follower's waiting for the leader's execution
+    private final long followerTimeoutMillis;
+
+    public CommandSingleFlight() {
+        this(DEFAULT_FOLLOWER_TIMEOUT);
+    }
+
+    public CommandSingleFlight(final Duration followerTimeout) {
+        this.followerTimeoutMillis = followerTimeout.toMillis();
+    }
+
+    /**
+     * To execute the command of the context, sharing the execution with identical commands in flight
+     *
+     * @param context   the context of command to execute
+     * @param execution the execution of the command
+     * @param <T>       type of command result
+     * @return the context after command execution
+     */
+    public <T> Context<T> commit(final Context<T> context, final UnaryOperator<Context<T>> execution) {
+        final Key key = flightKey(context);
+        if (isNull(key)) {
+            return execution.apply(context);
+        }
+        final CompletableFuture<Context<?>> flight = new CompletableFuture<>();
+        final CompletableFuture<Context<?>> leading = inFlight.putIfAbsent(key, flight);
+        if (!isNull(leading)) {
+            // waiting for the leader's execution
+            return follow(leaderExecution(leading, context).join(), context, execution);
+        }
+        executedCount.incrementAndGet();
+        try {
+            final Context<T> executed = execution.apply(context);
+            flight.complete(executed);
+            return executed;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * To execute the command of the context without blocking of the caller,
+     * sharing the execution with identical commands in flight
+     *
+     * @param context   the context of command to execute
+     * @param execution the asynchronous execution of the command
+     * @param <T>       type of command result
+     * @return future of the context after command execution
+     */
+    public <T> CompletableFuture<Context<T>> commitAsync(final Context<T> context,
+                                                         final Function<Context<T>, CompletableFuture<Context<T>>> execution) {
+        final Key key = flightKey(context);
+        if (isNull(key)) {
+            return execution.apply(context);
+        }
+        final CompletableFuture<Context<?>> flight = new CompletableFuture<>();
+        final CompletableFuture<Context<?>> leading = inFlight.putIfAbsent(key, flight);
+        if (!isNull(leading)) {
+            // the follower is completed after the leader's execution
+            return leaderExecution(leading, context).thenCompose(executed -> followAsync(executed, context, execution));
+        }
+        executedCount.incrementAndGet();
+        try {
+            return execution.apply(context).whenComplete((executed, error) -> {
+                inFlight.remove(key, flight);
+                if (isNull(error)) {
+                    flight.complete(executed);
+                } else {
+                    flight.completeExceptionally(error);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * To get the quantity of the commands executed by the flights (leaders)
+     *
+     * @return the count of the executions
+     */
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /**
+     * To get the quantity of the commands got the result of the leader's execution (followers)
+     *
+     * @return the count of the coalesced commands
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    // private methods
+    private static <T> Key flightKey(final Context<T> context) {
+        final RootCommand<T> command = context.getCommand();
+        return isNull(command) || isNull(command.resultCacheRegion()) || !context.isReady()
+                ? null : new Key(command.getId(), context.getRedoParameter());
+    }
+
+    // the leader's execution, the follower is waiting for (null if failed or not finished in time)
+    private <T> CompletableFuture<Context<?>> leaderExecution(final CompletableFuture<Context<?>> leading,
+                                                              final Context<T> context) {
+        // the copy is timed out, the leader's flight stays untouched for the other followers
+        return leading.copy().orTimeout(followerTimeoutMillis, TimeUnit.MILLISECONDS).exceptionally(error -> {
+            if (error instanceof TimeoutException) {
+                log.debug("The leader of command '{}' isn't finished in time", context.getCommand().getId());
+            }
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> boolean share(final Context<?> executed, final Context<T> context) {
+        if (isNull(executed) || !executed.isDone() || executed.getResult().isEmpty()) {
+            return false;
+        }
+        final Object result = executed.getResult().get();
+        if (!CommandResultCopier.isCopyable(result)) {
+            log.debug("Result of command '{}' cannot be copied and isn't shared", context.getCommand().getId());
+            return false;
+        }
+        log.debug("Sharing the result of command '{}'", context.getCommand().getId());
+        context.setState(Context.State.WORK);
+        // each follower gets its own copy of the leader's result
+        context.setResult((T) CommandResultCopier.copyOf(result));
+        coalescedCount.incrementAndGet();
+        return true;
+    }
+
+    private <T> Context<T> follow(final Context<?> executed, final Context<T> context,
+                                  final UnaryOperator<Context<T>> execution) {
+        return share(executed, context) ? context : execution.apply(context);
+    }
+
+    private <T> CompletableFuture<Context<T>> followAsync(final Context<?> executed, final Context<T> context,
+                                                          final Function<Context<T>, CompletableFuture<Context<T>>> execution) {
+        return share(executed, context) ? CompletableFuture.completedFuture(context) : execution.apply(context);
+    }
+
+    // the key of the command in flight
+    private record Key(String commandId, Input<?> input) {
+    }
+}
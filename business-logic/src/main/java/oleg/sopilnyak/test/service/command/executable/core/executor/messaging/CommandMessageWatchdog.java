@@ -2,6 +2,8 @@ package oleg.sopilnyak.test.service.command.executable.core.executor.messaging;
 
 import oleg.sopilnyak.test.service.message.CommandMessage;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Watcher: command-message in progress watcher
  *
@@ -17,6 +19,21 @@ public interface CommandMessageWatchdog<T> {
      */
     void waitForMessageComplete();
 
+    /**
+     * To get the future of command-message processing completion (or expiration)<BR/>
+     * By default waits for completion in the thread of the common pool
+     *
+     * @return future of processed command-message (or original one if expired)
+     * @see CommandMessageWatchdog#waitForMessageComplete()
+     * @see CommandMessageWatchdog#getResult()
+     */
+    default CompletableFuture<CommandMessage<T>> whenMessageComplete() {
+        return CompletableFuture.supplyAsync(() -> {
+            waitForMessageComplete();
+            return getResult();
+        });
+    }
+
     /**
      * Finalize (stop) command-message's watching
      *
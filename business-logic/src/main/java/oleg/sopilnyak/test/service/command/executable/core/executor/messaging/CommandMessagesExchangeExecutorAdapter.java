@@ -1,11 +1,15 @@
 package oleg.sopilnyak.test.service.command.executable.core.executor.messaging;
 
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandResultCache;
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandSingleFlight;
+import oleg.sopilnyak.test.service.exception.CommandMessagesQueueOverflowException;
 import oleg.sopilnyak.test.service.exception.CountDownLatchInterruptedException;
 import oleg.sopilnyak.test.service.facade.ActionFacade;
 import oleg.sopilnyak.test.service.message.CommandMessage;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -15,6 +19,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import lombok.Getter;
@@ -28,6 +33,8 @@ import lombok.Getter;
 public abstract class CommandMessagesExchangeExecutorAdapter
         extends MessagesExchange
         implements CommandThroughMessagesExecutor {
+    // the time to wait for launched message-processor's main loop activation
+    private static final Duration PROCESSOR_ACTIVATION_TIMEOUT = Duration.ofSeconds(10);
     // executor service to support message-processors lifecycle
     private ExecutorService processorLaunchExecutor = null;
     // Flag to control the current state of the service
@@ -36,6 +43,34 @@ public abstract class CommandMessagesExchangeExecutorAdapter
     private MessagesProcessor requestsProcessor = null;
     @Getter
     private MessagesProcessor responsesProcessor = null;
+    // the cache of read-only commands results (if enabled)
+    @Getter
+    private CommandResultCache resultCache = null;
+    // the coalescing of identical read-only commands in flight (if enabled)
+    @Getter
+    private CommandSingleFlight singleFlight = null;
+
+    /**
+     * Inject the cache of read-only commands results
+     *
+     * @param resultCache the cache instance (the results aren't cached if the bean is absent)
+     * @see CommandResultCache
+     */
+    @Autowired(required = false)
+    public final void setResultCache(final CommandResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Inject the coalescing of the identical read-only commands in flight
+     *
+     * @param singleFlight the coalescing instance (the commands aren't coalesced if the bean is absent)
+     * @see CommandSingleFlight
+     */
+    @Autowired(required = false)
+    public final void setSingleFlight(final CommandSingleFlight singleFlight) {
+        this.singleFlight = singleFlight;
+    }
 
     /**
      * To check the state of messages exchange sub-service
@@ -76,6 +111,8 @@ public abstract class CommandMessagesExchangeExecutorAdapter
         //
         // waiting for processors' start
         waitFor(latchOfProcessors);
+        waitForActivation(requestsProcessor);
+        waitForActivation(responsesProcessor);
         //
         // the command through messages service is started
         getLogger().info("The executor is started.");
@@ -133,6 +170,40 @@ public abstract class CommandMessagesExchangeExecutorAdapter
         }
     }
 
+    /**
+     * To process command message asynchronously, using messages-processors<BR/>
+     * The caller's thread isn't blocked, the future is completed after responses messages-processor's delivery
+     *
+     * @param message the command message to process
+     * @return future of processed command message
+     * @see CommandMessage
+     * @see MessagesProcessor
+     * @see CommandMessageWatchdog#whenMessageComplete()
+     */
+    @Override
+    public <T> CompletableFuture<CommandMessage<T>> processActionCommandAsync(final CommandMessage<T> message) {
+        try {
+            getLogger().debug("Validating input command-message before async processing...");
+            validateInput(message);
+            // setup variables for command-message processing
+            final String correlationId = message.getCorrelationId();
+            final String commandId = message.getContext().getCommand().getId();
+            //
+            // start process sending command-message to requests messages processor
+            getLogger().info("=== Sending command-message to start async processing it, correlationId='{}'", correlationId);
+            if (launchingCommandMessageProcessing(message, correlationId, commandId)) {
+                // future of processed command-message from responses processor
+                return processedCommandMessageFuture(correlationId, commandId);
+            } else {
+                getLogger().warn("Launching command:'{}' message:'{}' processing is canceled.", commandId, correlationId);
+                // nothing to complete the future with
+                return ActionFacade.throwFor(commandId, new IllegalStateException(canceledLaunchMessage(correlationId)));
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Build and prepare message-processor for requests messages
      *
@@ -169,6 +240,16 @@ public abstract class CommandMessagesExchangeExecutorAdapter
      */
     protected abstract void shutdownTakenMessagesExecutor();
 
+    /**
+     * To get the time to wait for launched messages-processor's main loop activation
+     *
+     * @return the maximum time to wait for the processor's activation
+     * @see MessagesProcessor#awaitActivation(long, TimeUnit)
+     */
+    protected Duration processorActivationTimeout() {
+        return PROCESSOR_ACTIVATION_TIMEOUT;
+    }
+
     /**
      * To shut down tasks executor service properly
      *
@@ -256,10 +337,18 @@ public abstract class CommandMessagesExchangeExecutorAdapter
         return processorName + " isn't in active state.";
     }
 
+    private static String canceledLaunchMessage(String correlationId) {
+        return "Launching of message with correlationId='" + correlationId + "' processing is canceled.";
+    }
+
+    private static String notInProgressMessage(String correlationId) {
+        return "Message with correlationId='" + correlationId + "' isn't in progress.";
+    }
+
     // initialize request command-message processing
     private boolean initiateProcessingMessage(final CommandMessage<?> message) {
         // try to send the request to the requests processor
-        if (requestsProcessor.accept(message)) {
+        if (acceptedByRequestsProcessor(message)) {
             // successfully sent
             getLogger().info("Launch: message with correlationId='{}' is accepted for processing.", message.getCorrelationId());
             // initiated well
@@ -275,6 +364,19 @@ public abstract class CommandMessagesExchangeExecutorAdapter
         return false;
     }
 
+    // to pass the request to the requests processor, the overflowed processor rejects the request
+    private boolean acceptedByRequestsProcessor(final CommandMessage<?> message) {
+        try {
+            return requestsProcessor.accept(message);
+        } catch (CommandMessagesQueueOverflowException e) {
+            final String messageCorrelationId = message.getCorrelationId();
+            getLogger().warn("Launch: message with correlationId='{}' is rejected by overflowed processor.", messageCorrelationId);
+            // removing message-watcher from in-progress-messages map using correlation-id
+            stopWatchingMessage(messageCorrelationId);
+            return ActionFacade.throwFor(message.getContext().getCommand().getId(), e);
+        }
+    }
+
     // To receive processed command message (sent by initiateProcessingMessage(...)) by correlationId
     private <T> @Nullable CommandMessage<T> waitingProcessedCommandMessage(String correlationId, String commandId) {
         if (responsesProcessor.isProcessorActive()) {
@@ -287,6 +389,28 @@ public abstract class CommandMessagesExchangeExecutorAdapter
         }
     }
 
+    // To make future of processed command message (sent by initiateProcessingMessage(...)) by correlationId
+    private <T> CompletableFuture<CommandMessage<T>> processedCommandMessageFuture(String correlationId, String commandId) {
+        if (!responsesProcessor.isProcessorActive()) {
+            final String processorName = responsesProcessor.getProcessorName();
+            getLogger().warn("{} is NOT active. Message with correlationId='{}' is won't receive", processorName, correlationId);
+            stopWatchingMessage(correlationId);
+            return ActionFacade.throwFor(commandId, new IllegalStateException(processorNotActiveMessage(processorName)));
+        }
+        // getting message-watcher from in-progress map by correlation-id
+        final Optional<CommandMessageWatchdog<T>> watchdogOptional = messageWatchdogFor(correlationId);
+        return watchdogOptional.map(watchdog -> watchdog.whenMessageComplete().whenComplete((processed, _) -> {
+                    // removing message-watcher from message-in-progress map using correlation-id
+                    stopWatchingMessage(correlationId);
+                    getLogger().info("= Retrieve: the result of command '{}' after async processing is {}", commandId, processed);
+                }))
+                // no command-message-watcher in message-in-progress map
+                .orElseGet(() -> {
+                    getLogger().warn("= Retrieve: the message with correlationId='{}' is NOT found in message-in-progress map", correlationId);
+                    return ActionFacade.throwFor(commandId, new IllegalStateException(notInProgressMessage(correlationId)));
+                });
+    }
+
     // waiting for processed command-message from responses processor
     private <T> @Nullable CommandMessage<T> retrieveProcessedMessage(final String commandId, final String correlationId) {
         // command-message in progress holder
@@ -339,6 +463,23 @@ public abstract class CommandMessagesExchangeExecutorAdapter
         );
     }
 
+    // waiting for the processor's main loop became active (started processor's thread activates it a bit later)
+    private void waitForActivation(final MessagesProcessor processor) {
+        final boolean activated;
+        try {
+            activated = processor.awaitActivation(processorActivationTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            /* Clean up whatever needs to be handled before interrupting  */
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Waiting for activation of '" + processor.getProcessorName() + "' is interrupted.", e);
+        }
+        if (!activated) {
+            getLogger().error("'{}' messages-processor is not activated in {}.",
+                    processor.getProcessorName(), processorActivationTimeout());
+            throw new IllegalStateException("Messages-processor '" + processor.getProcessorName() + "' is not activated.");
+        }
+    }
+
     // waiting for all processors' became started
     private static void waitFor(final CountDownLatch latch) {
         try {
@@ -5,6 +5,7 @@ import static oleg.sopilnyak.test.service.message.CommandMessage.EMPTY;
 import oleg.sopilnyak.test.service.message.CommandMessage;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import org.slf4j.Logger;
@@ -34,16 +35,6 @@ public interface MessagesProcessor {
      */
     boolean isOwnerActive();
 
-    /**
-     * To take command-message from the appropriate messages processor's source for further processing
-     *
-     * @param <T> command execution result type
-     * @return the command message taken from the appropriate processor's source
-     * @throws InterruptedException if interrupted while waiting
-     * @see CommandMessage
-     */
-    <T> CommandMessage<T> takeMessage() throws InterruptedException;
-
     /**
      * To check is there any active messages to process
      *
@@ -68,6 +59,17 @@ public interface MessagesProcessor {
      */
     boolean isProcessorActive();
 
+    /**
+     * To wait for the processor's main loop became active
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of the timeout argument
+     * @return true if the processor is active, false if the waiting time elapsed before activation
+     * @throws InterruptedException if interrupted while waiting
+     * @see MessagesProcessor#doingMainLoop()
+     */
+    boolean awaitActivation(long timeout, TimeUnit unit) throws InterruptedException;
+
     /**
      * To change processor's state
      *
@@ -115,57 +117,7 @@ public interface MessagesProcessor {
     /**
      * To execute command-messages' processor main loop
      */
-    default void doingMainLoop() {
-        // checking processor's state
-        if (isProcessorActive()) {
-            getLogger().warn("{} is already working.", getProcessorName());
-            return;
-        }
-        //
-        // process isn't active
-        // making processor active
-        activateProcessor();
-        getLogger().info("{} is started. Main service active = '{}'", getProcessorName(), isOwnerActive());
-        //
-        // main processor loop
-        while (isOwnerActive()) try {
-            //
-            // taking the message depends on processor's implementation
-            final CommandMessage<?> message = takeMessage();
-            //
-            // check service-owner state or last message taken
-            if (!isOwnerActive() || IS_LAST_MESSAGE.test(message)) {
-                getLogger().debug(!isOwnerActive()
-                                // the processor's owner stops the processor
-                                ? "{} is going to stop by owner request."
-                                // last message is received
-                                : "Received the last message, the processor {} is going to stop.",
-                        getProcessorName()
-                );
-                break;
-            } else {
-                //
-                // process the command-message asynchronously
-                runAsyncTakenMessage(this::onTakenMessage, message);
-                getLogger().debug(
-                        "The processor {} runs received message processing in asynchronous way.",
-                        getProcessorName()
-                );
-            }
-        } catch (InterruptedException e) {
-            getLogger().warn("{} getting command requests is interrupted", getProcessorName(), e);
-            /* Clean up whatever needs to be handled before interrupting  */
-            Thread.currentThread().interrupt();
-            // to leave the main loop
-            break;
-        } catch (Exception e) {
-            getLogger().warn("{} getting command requests throws", getProcessorName(), e);
-            // to leave the main loop
-            break;
-        }
-        // mark processor as inactive
-        deActivateProcessor();
-    }
+    void doingMainLoop();
 
     /**
      * To shut down the messages processor
@@ -0,0 +1,80 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.messaging;
+
+import oleg.sopilnyak.test.service.message.CommandMessage;
+
+/**
+ * Processor: command-messages processor which takes the messages from own source in the main loop
+ *
+ * @see MessagesProcessor
+ * @see RootMessageProcessor
+ */
+public interface MessagesSourceProcessor extends MessagesProcessor {
+    /**
+     * To take command-message from the appropriate messages processor's source for further processing
+     *
+     * @param <T> command execution result type
+     * @return the command message taken from the appropriate processor's source
+     * @throws InterruptedException if interrupted while waiting
+     * @see CommandMessage
+     */
+    <T> CommandMessage<T> takeMessage() throws InterruptedException;
+
+    /**
+     * To execute command-messages' processor main loop, taking the messages from the processor's source
+     *
+     * @see MessagesSourceProcessor#takeMessage()
+     */
+    @Override
+    default void doingMainLoop() {
+        // checking processor's state
+        if (isProcessorActive()) {
+            getLogger().warn("{} is already working.", getProcessorName());
+            return;
+        }
+        //
+        // process isn't active
+        // making processor active
+        activateProcessor();
+        getLogger().info("{} is started. Main service active = '{}'", getProcessorName(), isOwnerActive());
+        //
+        // main processor loop
+        while (isOwnerActive()) try {
+            //
+            // taking the message depends on processor's implementation
+            final CommandMessage<?> message = takeMessage();
+            //
+            // check service-owner state or last message taken
+            if (!isOwnerActive() || IS_LAST_MESSAGE.test(message)) {
+                getLogger().debug(!isOwnerActive()
+                                // the processor's owner stops the processor
+                                ? "{} is going to stop by owner request."
+                                // last message is received
+                                : "Received the last message, the processor {} is going to stop.",
+                        getProcessorName()
+                );
+                break;
+            } else {
+                //
+                // process the command-message asynchronously
+                runAsyncTakenMessage(this::onTakenMessage, message);
+                getLogger().debug(
+                        "The processor {} runs received message processing in asynchronous way.",
+                        getProcessorName()
+                );
+            }
+        } catch (InterruptedException e) {
+            getLogger().warn("{} getting command requests is interrupted", getProcessorName(), e);
+            /* Clean up whatever needs to be handled before interrupting  */
+            Thread.currentThread().interrupt();
+            // to leave the main loop
+            break;
+        } catch (Exception e) {
+            getLogger().warn("{} getting command requests throws", getProcessorName(), e);
+            // to leave the main loop
+            break;
+        }
+        // mark processor as inactive
+        deActivateProcessor();
+    }
+
+}
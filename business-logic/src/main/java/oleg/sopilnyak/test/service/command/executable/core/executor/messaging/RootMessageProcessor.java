@@ -4,7 +4,11 @@ import static oleg.sopilnyak.test.service.message.CommandMessage.EMPTY;
 
 import oleg.sopilnyak.test.service.message.CommandMessage;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,7 +20,7 @@ import lombok.experimental.SuperBuilder;
  * Processor: possible parent processor of some command-messages processor for requests and response messages flows
  */
 @SuperBuilder
-public abstract class RootMessageProcessor implements MessagesProcessor {
+public abstract class RootMessageProcessor implements MessagesSourceProcessor {
     protected final Logger logger;
     protected final MessagesExchange exchange;
     @Builder.Default
@@ -28,8 +32,10 @@ public abstract class RootMessageProcessor implements MessagesProcessor {
             .error("There's no defined processing for message: {}", message);
     // processor state holder
     private final AtomicBoolean processorActive = new AtomicBoolean(false);
-    // monitor to shut down messages-processor properly
-    private final Object processorStateMonitor = new Object();
+    // lock and condition to shut down messages-processor properly (no monitors, virtual threads friendly)
+    private final Lock processorStateLock = new ReentrantLock();
+    private final Condition processorStopped = processorStateLock.newCondition();
+    private final Condition processorStarted = processorStateLock.newCondition();
 
     /**
      * To check if the processor's owner (service) is active
@@ -59,6 +65,38 @@ public abstract class RootMessageProcessor implements MessagesProcessor {
     @Override
     public void setProcessorActive(boolean state) {
         processorActive.getAndSet(state);
+        // notify threads waiting for processor's start or stop
+        processorStateLock.lock();
+        try {
+            (state ? processorStarted : processorStopped).signalAll();
+        } finally {
+            processorStateLock.unlock();
+        }
+    }
+
+    /**
+     * To wait for the command-message processor's main loop became active
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of the timeout argument
+     * @return true if the processor is active, false if the waiting time elapsed before activation
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public boolean awaitActivation(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long nanosToWait = unit.toNanos(timeout);
+        processorStateLock.lock();
+        try {
+            while (!isProcessorActive()) {
+                if (nanosToWait <= 0L) {
+                    return false;
+                }
+                nanosToWait = processorStarted.awaitNanos(nanosToWait);
+            }
+            return true;
+        } finally {
+            processorStateLock.unlock();
+        }
     }
 
     /**
@@ -104,12 +142,15 @@ public abstract class RootMessageProcessor implements MessagesProcessor {
         // put the empty message as a last one to the processor
         accept(EMPTY);
         // waiting for processor is active
-        while (isProcessorActive()) synchronized (processorStateMonitor) {
-            try {
-                processorStateMonitor.wait(25);
-            } catch (InterruptedException _) {
-                Thread.currentThread().interrupt();
+        processorStateLock.lock();
+        try {
+            while (isProcessorActive()) {
+                processorStopped.await(25, TimeUnit.MILLISECONDS);
             }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        } finally {
+            processorStateLock.unlock();
         }
     }
 }
@@ -0,0 +1,231 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.messaging;
+
+import oleg.sopilnyak.test.service.message.CommandMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Singular;
+
+/**
+ * Processor: composite of the command-messages processors (shards), every shard has own main loop thread<BR/>
+ * The composite doesn't take the messages itself, every shard takes own ones in own main loop<BR/>
+ * Accepted command-message is routed to the shard by the hash of message's sharding key,
+ * so the messages with the same key are passing through the same shard in the order of acceptance
+ *
+ * @see MessagesProcessor
+ * @see ShardingKey
+ */
+@Builder
+public class ShardedMessagesProcessor implements MessagesProcessor {
+    @Getter
+    private final String processorName;
+    private final Logger logger;
+    // the processors to route accepted command-messages to
+    @NonNull
+    @Singular
+    private final List<MessagesProcessor> shards;
+    // the function to get routing key of the command-message
+    @Builder.Default
+    private final Function<CommandMessage<?>, String> shardingKey = ShardingKey.CORRELATION_ID;
+    // the factory of the threads for shards' main loops
+    @Builder.Default
+    private final ThreadFactory shardThreadFactory = Executors.defaultThreadFactory();
+
+    /**
+     * The keys of command-messages routing to the shards
+     */
+    public enum ShardingKey implements Function<CommandMessage<?>, String> {
+        // every command-message has own key, messages are spread evenly
+        CORRELATION_ID {
+            @Override
+            public String apply(CommandMessage<?> message) {
+                return message.getCorrelationId();
+            }
+        },
+        // command-messages of the same commands family (like 'school::education::students') share the shard
+        COMMAND_FAMILY {
+            @Override
+            public String apply(CommandMessage<?> message) {
+                final String commandId = message.getContext().getCommand().getId();
+                final int familyEnd = commandId.lastIndexOf(':');
+                return familyEnd < 0 ? commandId : commandId.substring(0, familyEnd);
+            }
+        }
+    }
+
+    /**
+     * To get the shard of the processor for the command-message
+     *
+     * @param message command-message to route
+     * @return the shard processing the message
+     */
+    public MessagesProcessor shardFor(final CommandMessage<?> message) {
+        final String key = shardingKey.apply(message);
+        return shards.get(Math.floorMod(Objects.hashCode(key), shards.size()));
+    }
+
+    /**
+     * To get the quantity of the shards
+     *
+     * @return the quantity of shards
+     */
+    public int getShardsCount() {
+        return shards.size();
+    }
+
+    /**
+     * To check if the processor's owner (service) is active
+     *
+     * @return true if the owner of the shards is active
+     */
+    @Override
+    public boolean isOwnerActive() {
+        return shards.getFirst().isOwnerActive();
+    }
+
+    /**
+     * To check is there any active messages to process
+     *
+     * @return true if all shards are waiting for the messages
+     */
+    @Override
+    public boolean isEmpty() {
+        return shards.stream().allMatch(MessagesProcessor::isEmpty);
+    }
+
+    /**
+     * To accept for command-message's processing by the message's shard<BR/>
+     * The last message is accepted by all shards
+     *
+     * @param message command-message to process
+     * @return true, if message is accepted by the shard
+     * @see ShardedMessagesProcessor#shardFor(CommandMessage)
+     */
+    @Override
+    public <T> boolean accept(final CommandMessage<T> message) {
+        if (IS_LAST_MESSAGE.test(message)) {
+            // every shard has to stop own main loop
+            return shards.stream().map(shard -> shard.accept(message)).reduce(true, Boolean::logicalAnd);
+        }
+        return shardFor(message).accept(message);
+    }
+
+    /**
+     * To check if all shards are active
+     *
+     * @return true if every shard is active
+     */
+    @Override
+    public boolean isProcessorActive() {
+        return shards.stream().allMatch(MessagesProcessor::isProcessorActive);
+    }
+
+    /**
+     * To wait for the main loops of all shards became active
+     *
+     * @param timeout the maximum time to wait for all shards
+     * @param unit    the time unit of the timeout argument
+     * @return true if every shard is active, false if the waiting time elapsed before activation
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public boolean awaitActivation(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (final MessagesProcessor shard : shards) {
+            if (!shard.awaitActivation(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * To change state of all shards
+     *
+     * @param state new state value
+     */
+    @Override
+    public void setProcessorActive(final boolean state) {
+        shards.forEach(shard -> shard.setProcessorActive(state));
+    }
+
+    /**
+     * To process the taken message by the message's shard
+     *
+     * @param message the command message to be processed
+     */
+    @Override
+    public void onTakenMessage(final CommandMessage<?> message) {
+        shardFor(message).onTakenMessage(message);
+    }
+
+    /**
+     * To run taken message in asynchronous way by the message's shard
+     *
+     * @param onMessageAction consumer of taken message to process
+     * @param taken           taken message instance
+     */
+    @Override
+    public void runAsyncTakenMessage(final Consumer<CommandMessage<?>> onMessageAction, final CommandMessage<?> taken) {
+        shardFor(taken).runAsyncTakenMessage(onMessageAction, taken);
+    }
+
+    /**
+     * To execute main loops of all shards<BR/>
+     * The first shard's main loop runs in the current thread, others ones in own threads
+     */
+    @Override
+    public void doingMainLoop() {
+        if (isProcessorActive()) {
+            getLogger().warn("{} is already working.", getProcessorName());
+            return;
+        }
+        getLogger().info("{} is starting {} shards.", getProcessorName(), shards.size());
+        final List<Thread> shardThreads = new ArrayList<>(shards.size() - 1);
+        for (int shard = 1; shard < shards.size(); shard++) {
+            final Thread shardThread = shardThreadFactory.newThread(shards.get(shard)::doingMainLoop);
+            shardThread.start();
+            shardThreads.add(shardThread);
+        }
+        // main loop of the first shard
+        shards.getFirst().doingMainLoop();
+        // waiting for the main loops of other shards
+        for (Thread shardThread : shardThreads) try {
+            shardThread.join();
+        } catch (InterruptedException e) {
+            getLogger().warn("{} waiting for shards is interrupted", getProcessorName(), e);
+            /* Clean up whatever needs to be handled before interrupting  */
+            Thread.currentThread().interrupt();
+            break;
+        }
+        getLogger().info("{} shards are stopped.", getProcessorName());
+    }
+
+    /**
+     * To shut down all shards
+     */
+    @Override
+    public void shutdown() {
+        shards.forEach(MessagesProcessor::shutdown);
+    }
+
+    /**
+     * To get access to the logger of the processor
+     *
+     * @return logger's reference
+     */
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+}
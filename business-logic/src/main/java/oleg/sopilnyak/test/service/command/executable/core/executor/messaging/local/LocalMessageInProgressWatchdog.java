@@ -1,74 +1,120 @@
 package oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local;
 
+import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
 import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.CommandMessageWatchdog;
+import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.message.CommandMessage;
+import oleg.sopilnyak.test.service.message.DoCommandMessage;
+import oleg.sopilnyak.test.service.message.UndoCommandMessage;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Watcher: local command-message in progress watcher
+ * Watcher: local command-message in progress watcher<BR/>
+ * The waiting thread is released as soon as processed message is delivered (no polling)
  *
  * @param <T> the type of command execution result
  * @see CommandMessageWatchdog
  */
 @Slf4j
 class LocalMessageInProgressWatchdog<T> implements CommandMessageWatchdog<T> {
-    private final Duration duration;
     // original instance of the message to watch after
     private final CommandMessage<T> original;
+    // the maker of the message to hand back, when original message is expired
+    private final UnaryOperator<CommandMessage<T>> expiredMessage;
     private final AtomicReference<CommandMessage<T>> result = new AtomicReference<>(null);
     private final AtomicReference<State> state = new AtomicReference<>(State.IN_PROGRESS);
-    // monitor for processed message waiting
-    private final Object resultSemaphore = new Object();
+    // monotonic deadline of the message processing (System.nanoTime() based)
+    private final long deadlineNanos;
+    // completion of the message processing
+    private final CompletableFuture<State> completion = new CompletableFuture<>();
 
     public LocalMessageInProgressWatchdog(CommandMessage<T> original) {
         this(original, Duration.ofMillis(1000L));
     }
 
     public LocalMessageInProgressWatchdog(CommandMessage<T> original, Duration duration) {
-        this.duration = duration;
+        this(original, duration, UnaryOperator.identity());
+    }
+
+    public LocalMessageInProgressWatchdog(CommandMessage<T> original, Duration duration,
+                                          UnaryOperator<CommandMessage<T>> expiredMessage) {
         this.original = original;
+        this.expiredMessage = expiredMessage;
+        this.deadlineNanos = System.nanoTime() + duration.toNanos();
+    }
+
+    /**
+     * To make the copy of the message, detached from the original message's context<BR/>
+     * The copy is handed back instead of the original message, which is still processing (reference transport)
+     *
+     * @param message the original message
+     * @param <T>     the type of command execution result
+     * @return the copy of the message with own context
+     * @see LocalQueueCommandExecutor.MessagesTransport#REFERENCE
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CommandMessage<T> detached(final CommandMessage<T> message) {
+        final Context<T> context = message.getContext();
+        final Context<T> copy = CommandContext.<T>builder().command(context.getCommand())
+                .redoParameter(context.getRedoParameter()).undoParameter(context.getUndoParameter())
+                .startedAt(context.getStartedAt()).build();
+        return message.getDirection() == CommandMessage.Direction.DO
+                ? DoCommandMessage.<T>builder().correlationId(message.getCorrelationId())
+                .actionContext(message.getActionContext()).context(copy).build()
+                : (CommandMessage<T>) UndoCommandMessage.builder().correlationId(message.getCorrelationId())
+                .actionContext(message.getActionContext()).context(copy).build();
     }
 
     @Override
     public void waitForMessageComplete() {
-        synchronized (resultSemaphore) {
-            result.getAndSet(null);
-            final LocalDateTime startsAt = LocalDateTime.now();
-            // waiting while state is in progress
-            while (state.get() == State.IN_PROGRESS) {
-                try {
-                    resultSemaphore.wait(25);
-                    // check result message expiration
-                    if (Duration.between(startsAt, LocalDateTime.now()).compareTo(duration) > 0) {
-                        // updating watchdog's state
-                        setState(State.EXPIRED);
-                        result.getAndSet(original);
-                        // updating result message context
-                        final String errorMessage = "Expired message with id:" + getResult().getCorrelationId();
-                        log.warn(errorMessage);
-                        getResult().getContext().failed(new TimeoutException(errorMessage));
-                        break;
-                    }
-                } catch (InterruptedException e) {
-                    log.warn("Interrupted while waiting for state to complete.", e);
-                    /* Clean up whatever needs to be handled before interrupting  */
-                    Thread.currentThread().interrupt();
-                }
+        if (state.get() != State.IN_PROGRESS) {
+            // message processing is already finished
+            return;
+        }
+        try {
+            completion.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException _) {
+            messageProcessingIsExpired();
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while waiting for state to complete.", e);
+            /* Clean up whatever needs to be handled before interrupting  */
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                // expired by the deadline of asynchronous waiting
+                messageProcessingIsExpired();
+            } else {
+                log.warn("Unexpected completion of message processing.", e);
             }
         }
     }
 
     @Override
-    public void messageProcessingIsDone() {
-        synchronized (resultSemaphore) {
-            if (state.get() == State.COMPLETED) {
-                resultSemaphore.notifyAll();
+    public CompletableFuture<CommandMessage<T>> whenMessageComplete() {
+        if (state.get() == State.IN_PROGRESS) {
+            // expiration at the deadline without any waiting thread
+            completion.orTimeout(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        }
+        return completion.handle((_, error) -> {
+            if (error instanceof TimeoutException) {
+                messageProcessingIsExpired();
             }
+            return getResult();
+        });
+    }
+
+    @Override
+    public void messageProcessingIsDone() {
+        if (state.get() == State.COMPLETED) {
+            completion.complete(State.COMPLETED);
         }
     }
 
@@ -82,6 +128,8 @@ class LocalMessageInProgressWatchdog<T> implements CommandMessageWatchdog<T> {
         if (result != null) {
             this.result.getAndSet(result);
             this.state.getAndSet(State.COMPLETED);
+            // releasing waiting thread immediately
+            completion.complete(State.COMPLETED);
         }
     }
 
@@ -93,4 +141,19 @@ class LocalMessageInProgressWatchdog<T> implements CommandMessageWatchdog<T> {
     public void setState(State state) {
         this.state.getAndSet(state);
     }
+
+    // private methods
+    // to expire the message if it's still in progress after the deadline
+    private void messageProcessingIsExpired() {
+        if (!state.compareAndSet(State.IN_PROGRESS, State.EXPIRED)) {
+            // processed message arrived just at the deadline
+            return;
+        }
+        // the original message may be still in progress, so its context isn't touched by the expiration
+        result.getAndSet(expiredMessage.apply(original));
+        // updating result message context
+        final String errorMessage = "Expired message with id:" + getResult().getCorrelationId();
+        log.warn(errorMessage);
+        getResult().getContext().failed(new TimeoutException(errorMessage));
+    }
 }
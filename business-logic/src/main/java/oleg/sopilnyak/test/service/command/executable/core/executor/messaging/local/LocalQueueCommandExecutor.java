@@ -1,11 +1,19 @@
 package oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local;
 
 
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
 import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.CommandMessageWatchdog;
 import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.CommandMessagesExchangeExecutorAdapter;
 import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.MessagesProcessor;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.ShardedMessagesProcessor;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.ShardedMessagesProcessor.ShardingKey;
 import oleg.sopilnyak.test.service.message.CommandMessage;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -13,9 +21,15 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,6 +51,52 @@ public class LocalQueueCommandExecutor extends CommandMessagesExchangeExecutorAd
     private ExecutorService executor;
     // object mapper for the command-messages transformation and other stuff
     private ObjectMapper objectMapper;
+    // the way how command-messages are passing through the local queues
+    private MessagesTransport messagesTransport = MessagesTransport.REFERENCE;
+    // the flag to process taken command-messages in virtual threads (thread per message)
+    private boolean virtualThreads = false;
+    // the duration of command-message processing, after which the message is expired
+    private Duration messageExpiration = Duration.ofMillis(1000L);
+    // the capacity of requests queue of every shard (not positive value means unbounded queue)
+    private int requestsQueueCapacity = 0;
+    // the policy of requests admission when requests queue is full
+    private AdmissionPolicy admissionPolicy = AdmissionPolicy.REJECT;
+    // the maximum time to wait for the free place in requests queue
+    private Duration admissionTimeout = Duration.ofMillis(100L);
+    // the counter of requests rejected by admission policy
+    private final AtomicLong rejectedRequests = new AtomicLong(0);
+    // the quantity of requests/responses messages-processors shards (every shard has own main loop thread)
+    private int processorShards = 1;
+    // the key of command-messages routing to the messages-processors shards
+    private ShardingKey shardingKey = ShardingKey.CORRELATION_ID;
+    // the flag to process the requests with the same sharding key in the order of acceptance
+    private boolean orderedByKey = false;
+    // the references to current requests messages-processors (shards)
+    private List<LocalQueueMessageProcessor> requestsQueueProcessors = List.of();
+
+    /**
+     * The way of passing command-messages through the local queues of the messages-processors
+     */
+    public enum MessagesTransport {
+        // the queues carry references to the command-messages (zero serialization)
+        REFERENCE,
+        // the queues carry defensive deep copies of the command-messages
+        DEEP_COPY,
+        // the queues carry JSON representation of the command-messages (wire compatibility)
+        JSON
+    }
+
+    /**
+     * The policy of command-messages admission to the full bounded requests queue
+     */
+    public enum AdmissionPolicy {
+        // reject the message immediately
+        REJECT,
+        // wait for the free place in the queue not longer than admission timeout
+        BLOCK,
+        // reject low priority (read-only queries) messages earlier, other ones wait like BLOCK policy
+        SHED_LOW_PRIORITY
+    }
 
     /**
      * Inject customized objects mapper to/from JSON transformation
@@ -50,6 +110,150 @@ public class LocalQueueCommandExecutor extends CommandMessagesExchangeExecutorAd
         this.objectMapper = objectMapper;
     }
 
+    /**
+     * Inject the way of passing command-messages through the local queues<BR/>
+     * Takes effect for messages-processors prepared after the injection
+     *
+     * @param messagesTransport the type of command-messages transport
+     * @see MessagesTransport
+     * @see CommandMessagesExchangeExecutorAdapter#initialize()
+     */
+    @Autowired
+    public final void setMessagesTransport(
+            @Value("${school.commands.executor.local.transport:REFERENCE}") MessagesTransport messagesTransport
+    ) {
+        this.messagesTransport = messagesTransport;
+    }
+
+    /**
+     * Inject the flag of processing taken command-messages in virtual threads<BR/>
+     * Takes effect for taken messages executor initialized after the injection
+     *
+     * @param virtualThreads if true, every taken command-message is processed in a new virtual thread
+     * @see LocalQueueCommandExecutor#initializeTakenMessagesExecutor()
+     */
+    @Autowired
+    public final void setVirtualThreads(
+            @Value("${school.commands.executor.local.virtual.threads:false}") boolean virtualThreads
+    ) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Inject the duration of command-message processing, after which the message is expired
+     *
+     * @param messageExpirationMillis the duration of the message's processing in milliseconds
+     * @see LocalMessageInProgressWatchdog
+     */
+    @Autowired
+    public final void setMessageExpirationMillis(
+            @Value("${school.commands.executor.local.message.expiration.millis:1000}") long messageExpirationMillis
+    ) {
+        this.messageExpiration = Duration.ofMillis(messageExpirationMillis);
+    }
+
+    /**
+     * Inject the capacity of requests queue (of every requests shard)<BR/>
+     * The same value limits the quantity of taken requests in progress
+     *
+     * @param requestsQueueCapacity the capacity of the queue, not positive value means unbounded queue
+     * @see AdmissionPolicy
+     */
+    @Autowired
+    public final void setRequestsQueueCapacity(
+            @Value("${school.commands.executor.local.queue.capacity:0}") int requestsQueueCapacity
+    ) {
+        this.requestsQueueCapacity = requestsQueueCapacity;
+    }
+
+    /**
+     * Inject the policy of requests admission when requests queue is full
+     *
+     * @param admissionPolicy the policy of admission
+     * @see AdmissionPolicy
+     */
+    @Autowired
+    public final void setAdmissionPolicy(
+            @Value("${school.commands.executor.local.queue.admission:REJECT}") AdmissionPolicy admissionPolicy
+    ) {
+        this.admissionPolicy = admissionPolicy;
+    }
+
+    /**
+     * Inject the maximum time to wait for the free place in requests queue
+     *
+     * @param admissionTimeoutMillis the time to wait in milliseconds
+     * @see AdmissionPolicy#BLOCK
+     * @see AdmissionPolicy#SHED_LOW_PRIORITY
+     */
+    @Autowired
+    public final void setAdmissionTimeoutMillis(
+            @Value("${school.commands.executor.local.queue.admission.timeout.millis:100}") long admissionTimeoutMillis
+    ) {
+        this.admissionTimeout = Duration.ofMillis(admissionTimeoutMillis);
+    }
+
+    /**
+     * Inject the quantity of requests/responses messages-processors shards<BR/>
+     * Takes effect for messages-processors prepared after the injection
+     *
+     * @param processorShards the quantity of shards, values less than 2 mean single processor
+     * @see ShardedMessagesProcessor
+     */
+    @Autowired
+    public final void setProcessorShards(
+            @Value("${school.commands.executor.local.shards:1}") int processorShards
+    ) {
+        this.processorShards = Math.max(processorShards, 1);
+    }
+
+    /**
+     * Inject the key of command-messages routing to the messages-processors shards
+     *
+     * @param shardingKey the key of messages routing
+     * @see ShardingKey
+     */
+    @Autowired
+    public final void setShardingKey(
+            @Value("${school.commands.executor.local.shards.key:CORRELATION_ID}") ShardingKey shardingKey
+    ) {
+        this.shardingKey = shardingKey;
+    }
+
+    /**
+     * Inject the flag of processing the requests with the same sharding key in the order of acceptance<BR/>
+     * The requests with different keys are processing in parallel, the ordering is ignored for
+     * {@link ShardingKey#CORRELATION_ID} key (every request has own key)
+     *
+     * @param orderedByKey if true, the requests with the same key are processing one by one
+     * @see ShardingKey
+     */
+    @Autowired
+    public final void setOrderedByKey(
+            @Value("${school.commands.executor.local.shards.ordered:false}") boolean orderedByKey
+    ) {
+        this.orderedByKey = orderedByKey;
+    }
+
+    /**
+     * To get the quantity of requests waiting in the requests queues
+     *
+     * @return current depth of requests queues (of all shards)
+     */
+    public int getRequestsQueueDepth() {
+        return requestsQueueProcessors.stream().mapToInt(LocalQueueMessageProcessor::getQueueDepth).sum();
+    }
+
+    /**
+     * To get the quantity of requests rejected by admission policy
+     *
+     * @return rejected requests counter value
+     * @see AdmissionPolicy
+     */
+    public long getRejectedRequestsCount() {
+        return rejectedRequests.get();
+    }
+
     /**
      * To run processor's taken message processing in asynchronous way
      * Runs in separate thread
@@ -72,7 +276,7 @@ public class LocalQueueCommandExecutor extends CommandMessagesExchangeExecutorAd
      */
     @Override
     protected boolean makeMessageInProgress(String correlationId, CommandMessage<?> original) {
-        return messageInProgress.putIfAbsent(correlationId, new LocalMessageInProgressWatchdog<>(original)) == null;
+        return messageInProgress.putIfAbsent(correlationId, makeWatchdog(original)) == null;
     }
 
     /**
@@ -109,11 +313,13 @@ public class LocalQueueCommandExecutor extends CommandMessagesExchangeExecutorAd
      */
     @Override
     protected MessagesProcessor prepareRequestsProcessor() {
-        return LocalQueueMessageProcessor.builder()
-                .processorName(REQUEST_MESSAGES_PROCESSOR_NAME)
-                .logger(log).exchange(this).objectMapper(objectMapper)
-                .processingTaken(this::executeWithActionContext)
-                .build();
+        // the shards share the actions in progress, because nested command-message may be routed to other shard
+        final Map<ActionContext, Integer> actionsInProgress = Collections.synchronizedMap(new IdentityHashMap<>());
+        final List<LocalQueueMessageProcessor> processors = IntStream.range(0, processorShards)
+                .mapToObj(shard -> prepareRequestsQueueProcessor(shardName(REQUEST_MESSAGES_PROCESSOR_NAME, shard), actionsInProgress))
+                .toList();
+        requestsQueueProcessors = processors;
+        return sharded(REQUEST_MESSAGES_PROCESSOR_NAME, processors::get);
     }
 
     /**
@@ -126,10 +332,11 @@ public class LocalQueueCommandExecutor extends CommandMessagesExchangeExecutorAd
      */
     @Override
     protected MessagesProcessor prepareResponsesProcessor() {
-        return LocalQueueMessageProcessor.builder()
-                .processorName(RESPONSE_MESSAGES_PROCESSOR_NAME)
-                .logger(log).exchange(this).objectMapper(objectMapper)
-                .processingTaken(this::onTakenResponseMessage).build();
+        return sharded(RESPONSE_MESSAGES_PROCESSOR_NAME, shard -> LocalQueueMessageProcessor.builder()
+                .processorName(shardName(RESPONSE_MESSAGES_PROCESSOR_NAME, shard))
+                .logger(log).exchange(this).objectMapper(objectMapper).transport(messagesTransport)
+                .processingTaken(this::onTakenResponseMessage).build()
+        );
     }
 
     /**
@@ -137,8 +344,13 @@ public class LocalQueueCommandExecutor extends CommandMessagesExchangeExecutorAd
      */
     @Override
     protected void initializeTakenMessagesExecutor() {
-        final int corePoolSize = Runtime.getRuntime().availableProcessors();
-        executor = Executors.newScheduledThreadPool(corePoolSize, serviceThreadFactory("QueueMessageProcessor-"));
+        if (virtualThreads) {
+            // taken command-messages are mostly blocked by the database, so thread per message
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("QueueMessageProcessor-", 1).factory());
+        } else {
+            final int corePoolSize = Runtime.getRuntime().availableProcessors();
+            executor = Executors.newScheduledThreadPool(corePoolSize, serviceThreadFactory("QueueMessageProcessor-"));
+        }
     }
 
     /**
@@ -159,4 +371,52 @@ public class LocalQueueCommandExecutor extends CommandMessagesExchangeExecutorAd
     public Logger getLogger() {
         return log;
     }
+
+    // private methods
+    // to make the watchdog of the message in progress
+    private <T> CommandMessageWatchdog<T> makeWatchdog(final CommandMessage<T> original) {
+        // the original message referenced by the queue is processing by the worker, so the detached copy is expired
+        return messagesTransport == MessagesTransport.REFERENCE
+                ? new LocalMessageInProgressWatchdog<>(original, messageExpiration, LocalMessageInProgressWatchdog::detached)
+                : new LocalMessageInProgressWatchdog<>(original, messageExpiration);
+    }
+
+    // to build requests messages-processor (shard)
+    private LocalQueueMessageProcessor prepareRequestsQueueProcessor(final String processorName,
+                                                                     final Map<ActionContext, Integer> actionsInProgress) {
+        final var builder = LocalQueueMessageProcessor.builder()
+                .processorName(processorName)
+                .orderingKey(requestsOrderingKey()).actionsInProgress(actionsInProgress)
+                .logger(log).exchange(this).objectMapper(objectMapper).transport(messagesTransport)
+                .rejectedCounter(rejectedRequests)
+                .processingTaken(this::executeWithActionContext);
+        if (requestsQueueCapacity > 0) {
+            // bounded requests queue with limited quantity of taken requests in progress
+            builder.messages(new LinkedBlockingQueue<>(requestsQueueCapacity))
+                    .inFlightLimit(new Semaphore(requestsQueueCapacity))
+                    .admission(admissionPolicy).admissionTimeout(admissionTimeout);
+        }
+        return builder.build();
+    }
+
+    // the key of requests ordering (if enabled), the requests with unique correlation-ids aren't ordered
+    private ShardingKey requestsOrderingKey() {
+        return orderedByKey && shardingKey != ShardingKey.CORRELATION_ID ? shardingKey : null;
+    }
+
+    // to combine the shards into the single messages-processor (single shard is returned as is)
+    private MessagesProcessor sharded(final String processorName, final IntFunction<? extends MessagesProcessor> shardBuilder) {
+        if (processorShards == 1) {
+            return shardBuilder.apply(0);
+        }
+        final var builder = ShardedMessagesProcessor.builder().processorName(processorName).logger(log).shardingKey(shardingKey)
+                .shardThreadFactory(serviceThreadFactory(processorName + "-Shard-"));
+        IntStream.range(0, processorShards).mapToObj(shardBuilder).forEach(builder::shard);
+        return builder.build();
+    }
+
+    // the name of the messages-processor shard
+    private String shardName(final String processorName, final int shard) {
+        return processorShards == 1 ? processorName : processorName + "-" + shard;
+    }
 }
@@ -1,16 +1,36 @@
 package oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local;
 
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
 import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.MessagesProcessor;
 import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.RootMessageProcessor;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.MessagesExchange;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local.LocalQueueCommandExecutor.AdmissionPolicy;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local.LocalQueueCommandExecutor.MessagesTransport;
+import oleg.sopilnyak.test.service.exception.CommandMessagesQueueOverflowException;
 import oleg.sopilnyak.test.service.message.BaseCommandMessage;
 import oleg.sopilnyak.test.service.message.CommandMessage;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import org.springframework.util.ObjectUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
@@ -18,6 +38,8 @@ import lombok.experimental.SuperBuilder;
  * Processor: command-messages processor for requests and response messages flows based on local blocking-queue
  *
  * @see BlockingQueue
+ * @see MessagesTransport
+ * @see AdmissionPolicy
  */
 @SuperBuilder
 class LocalQueueMessageProcessor extends RootMessageProcessor {
@@ -25,9 +47,47 @@ class LocalQueueMessageProcessor extends RootMessageProcessor {
     private static final Predicate<String> IS_EMPTY_MESSAGE = json -> ObjectUtils.isEmpty(json) || json.isBlank();
     // last message in the queue marker
     private static final String LAST_MESSAGE = "Last Message Marker";
-    private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+    // the portion of bounded queue which low priority messages may occupy
+    private static final double LOW_PRIORITY_QUEUE_SHARE = 0.75;
+    // the predicate to check low priority (read-only query, safe to retry) command-message
+    // the command declaring the region of the results cache is read-only one
+    private static final Predicate<CommandMessage<?>> IS_LOW_PRIORITY = message ->
+            message.getDirection() == CommandMessage.Direction.DO && message.getContext() != null
+            && message.getContext().getCommand() != null && message.getContext().getCommand().resultCacheRegion() != null;
+    // the queue of command-messages (references, copies or JSON strings, depends on transport)
+    @Builder.Default
+    private final BlockingQueue<Object> messages = new LinkedBlockingQueue<>();
+    // the policy of command-messages admission, when the queue is full
+    @Builder.Default
+    private AdmissionPolicy admission = AdmissionPolicy.REJECT;
+    // the maximum time to wait for the free place in the queue
+    @Builder.Default
+    private Duration admissionTimeout = Duration.ofMillis(100);
+    // the limit of taken command-messages in progress (null means no limit)
+    @Builder.Default
+    private Semaphore inFlightLimit = null;
+    // the key of taken command-messages ordering, the messages with the same key are processing one by one
+    // in the order of acceptance (null means the taken messages are processing in parallel without ordering)
+    @Builder.Default
+    private Function<CommandMessage<?>, String> orderingKey = null;
+    // the action-contexts of taken command-messages in progress, to recognize nested command-messages of the action
+    // (may be shared among the shards of processor, because nested command-message may be routed to other shard)
+    @Builder.Default
+    private Map<ActionContext, Integer> actionsInProgress = Collections.synchronizedMap(new IdentityHashMap<>());
+    // the correlation-ids of accepted nested command-messages, they are running beyond the in-flight limit and sequence
+    private final Set<String> nestedMessages = ConcurrentHashMap.newKeySet();
+    // the processing of taken command-messages waiting for free place of in-flight limit (they hold places in the queue)
+    private final Queue<Runnable> parked = new ConcurrentLinkedQueue<>();
+    // the completion of the last taken command-message of the key, the key is kept while it has messages in progress
+    private final Map<String, CompletableFuture<Void>> keySequences = new ConcurrentHashMap<>();
+    // the counter of rejected command-messages
+    @Builder.Default
+    private AtomicLong rejectedCounter = new AtomicLong(0);
     @Setter
     private ObjectMapper objectMapper;
+    // the way how command-messages are passing through the queue
+    @Builder.Default
+    private MessagesTransport transport = MessagesTransport.REFERENCE;
 
     /**
      * To take command-message from the appropriate messages processor's source for further processing in the processor
@@ -41,7 +101,13 @@ class LocalQueueMessageProcessor extends RootMessageProcessor {
     @SuppressWarnings("unchecked")
     public <T> CommandMessage<T> takeMessage() throws InterruptedException {
         logger.debug("Taking available command message from the queue.");
-        final String takenMessageJson = messages.take();
+        final Object taken = messages.take();
+        if (taken instanceof CommandMessage<?> takenMessage) {
+            // the queue carries command-message instance (reference or deep copy)
+            logger.debug("Took from the queue command message instance {}", takenMessage);
+            return (CommandMessage<T>) takenMessage;
+        }
+        final String takenMessageJson = (String) taken;
         logger.debug("Took from the queue command message {}", takenMessageJson);
         if (IS_EMPTY_MESSAGE.or(LAST_MESSAGE::equals).test(takenMessageJson)) {
             return (CommandMessage<T>) CommandMessage.EMPTY;
@@ -69,27 +135,253 @@ class LocalQueueMessageProcessor extends RootMessageProcessor {
         return messages.isEmpty();
     }
 
+    /**
+     * To get the quantity of command-messages waiting in the queue
+     *
+     * @return current depth of the queue (including taken messages waiting for free place of in-flight limit)
+     */
+    public int getQueueDepth() {
+        return messages.size() + parked.size();
+    }
+
+    /**
+     * To get the quantity of command-messages rejected by admission policy
+     *
+     * @return rejected messages counter value
+     * @see AdmissionPolicy
+     */
+    public long getRejectedCount() {
+        return rejectedCounter.get();
+    }
+
+    /**
+     * To run processor's taken message in asynchronous way<BR/>
+     * If in-flight limit is defined and there is no free place, the message is parked until the place is released
+     * (the main loop isn't blocked and keeps taking the messages, nested ones as well),
+     * the new messages aren't admitted while the parked ones are filling the queue capacity<BR/>
+     * If ordering key is defined, the message is running after the previous taken one with the same key is processed,
+     * the messages with different keys are running in parallel<BR/>
+     * Nested command-messages (accepted while their action is in progress) are running immediately,
+     * because their macro-command holds the place (or the key's sequence) and waits for them
+     *
+     * @param onMessageAction consumer of taken message to process
+     * @param message         taken message instance
+     * @see MessagesExchange#runAsync(Runnable)
+     */
+    @Override
+    public void runAsyncTakenMessage(Consumer<CommandMessage<?>> onMessageAction, CommandMessage<?> message) {
+        if (!isTrackingActions()) {
+            super.runAsyncTakenMessage(onMessageAction, message);
+            return;
+        }
+        final Runnable processing = () -> processInAction(onMessageAction, message);
+        if (isNestedAccepted(message)) {
+            exchange.runAsync(processing);
+        } else if (orderingKey != null) {
+            runOrdered(orderingKey.apply(message), processing);
+        } else {
+            runInFlightLimited(processing);
+        }
+    }
+
     /**
      * To accept for processing command-message
      *
      * @param message command-message to process
      * @return true, if message is accepted for the processing, false otherwise
+     * @throws CommandMessagesQueueOverflowException if the message isn't admitted to the full queue
+     * @see MessagesTransport
+     * @see AdmissionPolicy
      */
     @Override
     public <T> boolean accept(final CommandMessage<T> message) {
         logger.debug("Put to the queue command message {}", message);
         try {
-            final String stringMessage = CommandMessage.EMPTY.equals(message)
-                    // The last message marker
-                    ? LAST_MESSAGE
-                    // serialize message to JSON
-                    : objectMapper.writeValueAsString(message);
-            logger.debug("Put to the queue command message {}", stringMessage);
-            return messages.add(stringMessage);
+            if (CommandMessage.EMPTY.equals(message)) {
+                // The last message marker must be delivered anyway
+                putLastMessage();
+                return true;
+            }
+            if (isTrackingActions() && message.getCorrelationId() != null && isNested(message)) {
+                // the message is issued by the command of the action in progress
+                nestedMessages.add(message.getCorrelationId());
+            }
+            // prepare message for the queue according to the transport
+            final Object queuedMessage = toQueuedMessage(message);
+            logger.debug("Put to the queue command message {}", queuedMessage);
+            if (admit(message, queuedMessage)) {
+                return true;
+            }
         } catch (IOException e) {
             logger.warn("Failed to serialize message to json", e);
+            isNestedAccepted(message);
             message.getContext().failed(e);
+            return false;
+        } catch (InterruptedException e) {
+            logger.warn("Interrupted while putting message to the queue", e);
+            /* Clean up whatever needs to be handled before interrupting  */
+            Thread.currentThread().interrupt();
+        }
+        // message isn't admitted to the queue
+        isNestedAccepted(message);
+        rejectedCounter.incrementAndGet();
+        logger.warn("{} rejected message with correlationId='{}', queue depth is {}",
+                getProcessorName(), message.getCorrelationId(), messages.size());
+        throw new CommandMessagesQueueOverflowException(getProcessorName(), capacity(), admission.name());
+    }
+
+    // private methods
+    // to put the last message marker, the queue is cleared if there's no free place for the marker
+    private void putLastMessage() throws InterruptedException {
+        if (messages.offer(LAST_MESSAGE, admissionTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            return;
+        }
+        logger.warn("{} has no place for the last message, dropping {} queued messages", getProcessorName(), messages.size());
+        messages.clear();
+        messages.put(LAST_MESSAGE);
+    }
+
+    // the actions in progress are tracked to recognize nested command-messages
+    private boolean isTrackingActions() {
+        return inFlightLimit != null || orderingKey != null;
+    }
+
+    // to run the message processing after the processing of previous taken message with the same key
+    private void runOrdered(final String key, final Runnable processing) {
+        final CompletableFuture<Void> processed = new CompletableFuture<>();
+        final Runnable step = () -> {
+            try {
+                processing.run();
+            } finally {
+                processed.complete(null);
+                // the key without messages in progress is forgotten
+                keySequences.remove(key, processed);
+            }
+        };
+        final CompletableFuture<Void> previous = keySequences.put(key, processed);
+        if (previous == null) {
+            runInFlightLimited(step);
+        } else {
+            previous.whenComplete((_, _) -> runInFlightLimited(step));
+        }
+    }
+
+    // to run the message processing in free place of in-flight limit, or to park it until the place is released
+    private void runInFlightLimited(final Runnable processing) {
+        if (inFlightLimit == null) {
+            exchange.runAsync(processing);
+            return;
         }
-        return false;
+        parked.add(processing);
+        launchParked();
+    }
+
+    // to launch parked messages processing while there are free places of in-flight limit
+    private void launchParked() {
+        while (!parked.isEmpty() && inFlightLimit.tryAcquire()) {
+            final Runnable processing = parked.poll();
+            if (processing == null) {
+                // parked processing is launched by other thread
+                inFlightLimit.release();
+            } else {
+                launchInFlight(processing);
+            }
+        }
+    }
+
+    // to launch the processing in acquired place of in-flight limit
+    private void launchInFlight(final Runnable processing) {
+        try {
+            exchange.runAsync(() -> {
+                try {
+                    processing.run();
+                } finally {
+                    inFlightLimit.release();
+                    launchParked();
+                }
+            });
+        } catch (RuntimeException e) {
+            // taken message isn't launched
+            inFlightLimit.release();
+            throw e;
+        }
+    }
+
+    // to process the message registering its action in progress
+    private void processInAction(final Consumer<CommandMessage<?>> onMessageAction, final CommandMessage<?> message) {
+        final ActionContext actionContext = message.getActionContext();
+        actionStarted(actionContext);
+        try {
+            onMessageAction.accept(message);
+        } finally {
+            actionFinished(actionContext);
+        }
+    }
+
+    // to check is the message issued by the command of the action in progress
+    private boolean isNested(final CommandMessage<?> message) {
+        final ActionContext actionContext = message.getActionContext();
+        return actionContext != null && actionsInProgress.containsKey(actionContext);
+    }
+
+    // to check is the message accepted as a nested one
+    private boolean isNestedMessage(final CommandMessage<?> message) {
+        final String correlationId = message.getCorrelationId();
+        return correlationId != null && nestedMessages.contains(correlationId);
+    }
+
+    // to check and forget is the message accepted as a nested one
+    private boolean isNestedAccepted(final CommandMessage<?> message) {
+        final String correlationId = message.getCorrelationId();
+        return correlationId != null && nestedMessages.remove(correlationId);
+    }
+
+    // to register the action of the taken message in progress
+    private void actionStarted(final ActionContext actionContext) {
+        if (actionContext != null) {
+            actionsInProgress.merge(actionContext, 1, Integer::sum);
+        }
+    }
+
+    // to unregister the action of the taken message in progress
+    private void actionFinished(final ActionContext actionContext) {
+        if (actionContext != null) {
+            actionsInProgress.computeIfPresent(actionContext, (_, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    // to put the message to the queue according to admission policy
+    private boolean admit(final CommandMessage<?> message, final Object queuedMessage) throws InterruptedException {
+        if (parked.size() >= capacity() && !isNestedMessage(message)) {
+            // the taken messages waiting for free place of in-flight limit are filling the queue capacity
+            return false;
+        }
+        return switch (admission) {
+            // fail fast if there is no free place
+            case REJECT -> messages.offer(queuedMessage);
+            // waiting for the free place a while
+            case BLOCK -> messages.offer(queuedMessage, admissionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            // low priority messages may use only a part of the queue, other ones are waiting for the free place a while
+            case SHED_LOW_PRIORITY -> IS_LOW_PRIORITY.test(message)
+                    ? messages.size() < capacity() * LOW_PRIORITY_QUEUE_SHARE && messages.offer(queuedMessage)
+                    : messages.offer(queuedMessage, admissionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        };
+    }
+
+    // the capacity of the queue
+    private long capacity() {
+        return (long) messages.size() + messages.remainingCapacity();
+    }
+
+    // to prepare the command-message to put it to the queue
+    private <T> Object toQueuedMessage(final CommandMessage<T> message) throws IOException {
+        return switch (transport) {
+            // the message's reference as is
+            case REFERENCE -> message;
+            // isolated copy of the message, made without intermediate JSON string
+            case DEEP_COPY -> objectMapper.readValue(objectMapper.writeValueAsBytes(message), BaseCommandMessage.class);
+            // serialize message to JSON
+            case JSON -> objectMapper.writeValueAsString(message);
+        };
     }
 }
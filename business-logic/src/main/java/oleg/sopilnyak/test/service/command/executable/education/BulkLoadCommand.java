@@ -0,0 +1,137 @@
+package oleg.sopilnyak.test.service.command.executable.education;
+
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.service.command.executable.core.BasicCommand;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Command-Base: command to load the chunk of the rows at once<BR/>
+ * The rows are checked one by one, the accepted rows are stored (and flushed) by one persistence call
+ * in the transaction of the command, so the chunk is loaded or rolled back as a whole.
+ * Rejected or not stored rows are reported by the row's index in the chunk, so they don't abort the load
+ *
+ * @param <R> the type of the loading row
+ * @see BulkLoadReport
+ */
+public abstract class BulkLoadCommand<R> extends BasicCommand<BulkLoadReport> {
+
+    /**
+     * To load the chunk of the rows<BR/>
+     * To execute command redo with correct context state
+     *
+     * @param context context of redo execution
+     * @see Context
+     * @see Context#setResult(Object)
+     * @see BulkLoadCommand#rows(Input)
+     * @see BulkLoadCommand#rejectReasons(List)
+     * @see BulkLoadCommand#persist(List)
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void executeDo(Context<BulkLoadReport> context) {
+        final Input<?> parameter = context.getRedoParameter();
+        try {
+            checkNullParameter(parameter);
+            final List<R> rows = rows(parameter);
+            getLog().debug("Trying to load {} rows", rows.size());
+            final List<BulkLoadReport.RowError> errors = new ArrayList<>();
+            final List<R> accepted = new ArrayList<>(rows.size());
+            final List<Integer> acceptedIndexes = new ArrayList<>(rows.size());
+            final List<Optional<String>> reasons = rejectReasons(rows);
+            for (int index = 0; index < rows.size(); index++) {
+                final Optional<String> reason = reasons.get(index);
+                if (reason.isPresent()) {
+                    errors.add(new BulkLoadReport.RowError(index, reason.get()));
+                } else {
+                    accepted.add(rows.get(index));
+                    acceptedIndexes.add(index);
+                }
+            }
+            // storing accepted rows by one persistence call
+            long loaded = 0L;
+            final List<Boolean> stored = accepted.isEmpty() ? List.of() : persist(accepted);
+            for (int index = 0; index < accepted.size(); index++) {
+                // the row without the result of storing isn't stored
+                if (index < stored.size() && Boolean.TRUE.equals(stored.get(index))) {
+                    loaded++;
+                } else {
+                    errors.add(new BulkLoadReport.RowError(acceptedIndexes.get(index), notStoredReason(accepted.get(index))));
+                }
+            }
+            errors.sort(Comparator.comparingLong(BulkLoadReport.RowError::row));
+
+            getLog().debug("Loaded {} of {} rows", loaded, rows.size());
+            context.setResult(new BulkLoadReport(rows.size(), loaded, errors));
+        } catch (Exception e) {
+            getLog().error("Cannot load the rows {}", parameter, e);
+            context.failed(e);
+        }
+    }
+
+    /**
+     * Loaded rows cannot be rolled back by the command
+     *
+     * @param context context of undo execution
+     * @see Context#failed(Exception)
+     */
+    @Override
+    public void executeUndo(Context<?> context) {
+        getLog().warn("Bulk load of the rows cannot be undone");
+        context.failed(new UnsupportedOperationException("Bulk load of the rows cannot be undone."));
+    }
+
+    /**
+     * To get the rows to load from the input parameter
+     *
+     * @param parameter command's input parameter
+     * @return the rows of the chunk
+     */
+    protected abstract List<R> rows(Input<?> parameter);
+
+    /**
+     * To check the row before storing
+     *
+     * @param row the row to check
+     * @return the reason of rejection or empty() if the row is acceptable
+     */
+    protected abstract Optional<String> rejectReason(R row);
+
+    /**
+     * To check the rows of the chunk before storing<BR/>
+     * Override it when the row's check depends on the rows accepted before it
+     *
+     * @param rows the rows of the chunk
+     * @return the reasons of rejection (or empty()) in the order of the rows
+     * @see BulkLoadCommand#rejectReason(Object)
+     */
+    protected List<Optional<String>> rejectReasons(final List<R> rows) {
+        return rows.stream().map(this::rejectReason).toList();
+    }
+
+    /**
+     * To store the accepted rows at once<BR/>
+     * The rows must be flushed to the database, so the results reflect what actually happened
+     *
+     * @param rows accepted rows of the chunk
+     * @return the results of storing in the order of the rows
+     */
+    protected abstract List<Boolean> persist(List<R> rows);
+
+    /**
+     * To get the reason why accepted row isn't stored
+     *
+     * @param row the row which isn't stored
+     * @return the reason for the report
+     */
+    protected String notStoredReason(R row) {
+        return "Row is not stored: " + row;
+    }
+}
@@ -0,0 +1,82 @@
+package oleg.sopilnyak.test.service.command.executable.education.course;
+
+import oleg.sopilnyak.test.school.common.business.facade.education.CoursesFacade;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.core.BasicCommand;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command-Implementation: command to count courses without students (without loading of the courses)
+ *
+ * @see RegisterPersistenceFacade#countCoursesWithoutStudents()
+ */
+@Slf4j
+@AllArgsConstructor
+@Component(CourseCommand.Component.COUNT_NOT_REGISTERED)
+public class CountCoursesWithoutStudentsCommand extends BasicCommand<Long> implements CourseCommand<Long> {
+    private final transient RegisterPersistenceFacade persistenceFacade;
+
+    /**
+     * The name of command bean in spring beans factory
+     *
+     * @return spring name of the command
+     */
+    @Override
+    public String springName() {
+        return Component.COUNT_NOT_REGISTERED;
+    }
+
+    /**
+     * To get unique command-id for the command
+     *
+     * @return value of command-id
+     */
+    @Override
+    public String getId() {
+        return CoursesFacade.COUNT_NOT_REGISTERED;
+    }
+
+    /**
+     * To count courses without students<BR/>
+     * To execute command redo with correct context state
+     *
+     * @param context context of redo execution
+     * @see Context
+     * @see Context#setResult(Object)
+     * @see Context.State#WORK
+     * @see RegisterPersistenceFacade#countCoursesWithoutStudents()
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void executeDo(Context<Long> context) {
+        log.debug("Trying to count courses without students");
+        try {
+
+            final long count = persistenceFacade.countCoursesWithoutStudents();
+
+            log.debug("Counted {} courses without students", count);
+            context.setResult(count);
+        } catch (Exception e) {
+            log.error("Cannot count courses without students", e);
+            context.failed(e);
+        }
+    }
+
+    /**
+     * To get reference to command's logger
+     *
+     * @return reference to the logger
+     */
+    @Override
+    public Logger getLog() {
+        return log;
+    }
+}
@@ -11,9 +11,12 @@ import oleg.sopilnyak.test.service.command.executable.core.context.CommandContex
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
@@ -63,6 +66,14 @@ public class CreateOrUpdateCourseCommand extends SchoolCommandCache<Course, Opti
         return CoursesFacade.CREATE_OR_UPDATE;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(StudentCommand.CACHE_REGION, CourseCommand.CACHE_REGION, FacultyCommand.CACHE_REGION);
+    }
+
     public CreateOrUpdateCourseCommand(final CoursesPersistenceFacade persistenceFacade,
                                        final BusinessMessagePayloadMapper payloadMapper) {
         super(Course.class);
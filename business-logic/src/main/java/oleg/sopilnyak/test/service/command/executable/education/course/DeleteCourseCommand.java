@@ -12,8 +12,11 @@ import oleg.sopilnyak.test.service.command.executable.core.context.CommandContex
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
@@ -60,6 +63,14 @@ public class DeleteCourseCommand extends SchoolCommandCache<Course, Boolean> imp
         return CoursesFacade.DELETE;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(StudentCommand.CACHE_REGION, CourseCommand.CACHE_REGION, FacultyCommand.CACHE_REGION);
+    }
+
     public DeleteCourseCommand(final CoursesPersistenceFacade persistenceFacade,
                                final BusinessMessagePayloadMapper payloadMapper) {
         super(Course.class);
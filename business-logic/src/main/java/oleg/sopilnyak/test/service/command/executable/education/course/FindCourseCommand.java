@@ -4,6 +4,9 @@ import oleg.sopilnyak.test.school.common.business.facade.education.CoursesFacade
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.persistence.education.CoursesPersistenceFacade;
 import oleg.sopilnyak.test.service.command.executable.core.BasicCommand;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchCommand;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchLoader;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchLoading;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
@@ -11,6 +14,7 @@ import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
 import java.util.Optional;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,10 +32,14 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Component(CourseCommand.Component.FIND_BY_ID)
-public class FindCourseCommand extends BasicCommand<Optional<Course>> implements CourseCommand<Optional<Course>> {
+public class FindCourseCommand extends BasicCommand<Optional<Course>>
+        implements CourseCommand<Optional<Course>>, ByIdBatchCommand<Course> {
     private final transient CoursesPersistenceFacade persistenceFacade;
     @Getter
     private final transient BusinessMessagePayloadMapper payloadMapper;
+    // the batching of the lookups by id (if enabled)
+    @Getter
+    private transient ByIdBatchLoader<Course> batchLoader;
 
     /**
      * The name of command bean in spring beans factory
@@ -53,11 +61,30 @@ public class FindCourseCommand extends BasicCommand<Optional<Course>> implements
         return CoursesFacade.FIND_BY_ID;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resultCacheRegion() {
+        return CACHE_REGION;
+    }
+
     public FindCourseCommand(CoursesPersistenceFacade persistenceFacade, BusinessMessagePayloadMapper payloadMapper) {
         this.persistenceFacade = persistenceFacade;
         this.payloadMapper = payloadMapper;
     }
 
+    /**
+     * Inject the batching of the lookups by id (the lookups requested at once are resolved by one query)
+     *
+     * @param batchLoading the shared settings of the batching (the bean exists if batching is enabled)
+     * @see ByIdBatchLoading#loaderOf(java.util.function.Function, java.util.function.UnaryOperator)
+     */
+    @Autowired(required = false)
+    public final void setBatchLoading(final ByIdBatchLoading batchLoading) {
+        this.batchLoader = batchLoading.loaderOf(persistenceFacade::findCoursesByIds, this::adoptEntity);
+    }
+
     /**
      * To find course by id<BR/>
      * To execute command redo with correct context state
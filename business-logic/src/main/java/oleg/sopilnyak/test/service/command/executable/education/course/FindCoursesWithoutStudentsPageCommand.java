@@ -0,0 +1,88 @@
+package oleg.sopilnyak.test.service.command.executable.education.course;
+
+import oleg.sopilnyak.test.school.common.business.facade.education.CoursesFacade;
+import oleg.sopilnyak.test.school.common.model.education.Course;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.core.FindPageCommand;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command-Implementation: command to get the page of courses without students ordered by system-id
+ *
+ * @see Course
+ * @see CourseCommand
+ * @see FindPageCommand
+ * @see RegisterPersistenceFacade#findCoursesWithoutStudentsPage(Long, int)
+ */
+@Slf4j
+@AllArgsConstructor
+@Component(CourseCommand.Component.FIND_NOT_REGISTERED_PAGE)
+public class FindCoursesWithoutStudentsPageCommand extends FindPageCommand<Course> implements CourseCommand<Set<Course>> {
+    private final transient RegisterPersistenceFacade persistence;
+    @Getter
+    private final transient BusinessMessagePayloadMapper payloadMapper;
+
+    /**
+     * The name of command bean in spring beans factory
+     *
+     * @return spring name of the command
+     */
+    @Override
+    public String springName() {
+        return Component.FIND_NOT_REGISTERED_PAGE;
+    }
+
+    /**
+     * To get unique command-id for the command
+     *
+     * @return value of command-id
+     */
+    @Override
+    public String getId() {
+        return CoursesFacade.FIND_NOT_REGISTERED_PAGE;
+    }
+
+    /**
+     * To get reference to command's logger
+     *
+     * @return reference to the logger
+     */
+    @Override
+    public Logger getLog() {
+        return log;
+    }
+
+    /**
+     * To get the page of courses without students from the persistence layer
+     *
+     * @param afterId system-id of the last item of the previous page
+     * @param limit   the maximum quantity of the items in the page
+     * @return the items of the page ordered by system-id
+     * @see RegisterPersistenceFacade#findCoursesWithoutStudentsPage(Long, int)
+     */
+    @Override
+    protected List<Course> page(final Long afterId, final int limit) {
+        return persistence.findCoursesWithoutStudentsPage(afterId, limit);
+    }
+
+    /**
+     * To adopt the item of the page to business-logic data model
+     *
+     * @param item the item from the persistence layer
+     * @return adopted item
+     * @see CourseCommand#adoptEntity(Course)
+     */
+    @Override
+    protected Course adopt(final Course item) {
+        return adoptEntity(item);
+    }
+}
@@ -47,6 +47,14 @@ public class FindRegisteredCoursesCommand extends BasicCommand<Set<Course>> impl
     public String getId() {
         return CoursesFacade.FIND_REGISTERED;
     }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resultCacheRegion() {
+        return CACHE_REGION;
+    }
+
 
     public FindRegisteredCoursesCommand(RegisterPersistenceFacade persistenceFacade, BusinessMessagePayloadMapper payloadMapper) {
         this.persistenceFacade = persistenceFacade;
@@ -0,0 +1,116 @@
+package oleg.sopilnyak.test.service.command.executable.education.course;
+
+import static java.util.Objects.nonNull;
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+import oleg.sopilnyak.test.school.common.business.facade.education.CoursesFacade;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.school.common.model.education.Course;
+import oleg.sopilnyak.test.school.common.persistence.education.CoursesPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.education.BulkLoadCommand;
+import oleg.sopilnyak.test.service.command.io.CompositeInput;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command-Implementation: command to create or update the chunk of the courses at once
+ *
+ * @see BulkLoadCommand
+ * @see Course
+ * @see CoursesPersistenceFacade#saveAllCourses(List)
+ */
+@Slf4j
+@AllArgsConstructor
+@Getter
+@Component(CourseCommand.Component.LOAD_ALL)
+public class LoadCoursesCommand extends BulkLoadCommand<Course> implements CourseCommand<BulkLoadReport> {
+    private final transient CoursesPersistenceFacade persistence;
+    private final transient BusinessMessagePayloadMapper payloadMapper;
+
+    /**
+     * The name of command bean in spring beans factory
+     *
+     * @return spring name of the command
+     */
+    @Override
+    public String springName() {
+        return Component.LOAD_ALL;
+    }
+
+    /**
+     * To get unique command-id for the command
+     *
+     * @return value of command-id
+     */
+    @Override
+    public String getId() {
+        return CoursesFacade.LOAD_ALL;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(StudentCommand.CACHE_REGION, CourseCommand.CACHE_REGION, FacultyCommand.CACHE_REGION);
+    }
+
+    /**
+     * To get reference to command's logger
+     *
+     * @return reference to the logger
+     */
+    @Override
+    public Logger getLog() {
+        return log;
+    }
+
+    /**
+     * To get the courses to load from the input parameter
+     *
+     * @param parameter command's input parameter (composite input of course payloads)
+     * @return the courses of the chunk
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<Course> rows(final Input<?> parameter) {
+        return Arrays.stream(((CompositeInput<Course>) parameter).value()).map(Input::value).toList();
+    }
+
+    /**
+     * To check the course before storing
+     *
+     * @param course the course to check
+     * @return the reason of rejection or empty() if the course is acceptable
+     */
+    @Override
+    protected Optional<String> rejectReason(final Course course) {
+        return isEmpty(course.getName()) ? Optional.of("Name cannot be blank") : Optional.empty();
+    }
+
+    /**
+     * To store and flush the courses at once<BR/>
+     * The course is stored if it got the system-id from the database
+     *
+     * @param courses accepted courses of the chunk
+     * @return the results of storing in the order of the courses
+     * @see CoursesPersistenceFacade#saveAllCourses(List)
+     */
+    @Override
+    protected List<Boolean> persist(final List<Course> courses) {
+        return persistence.saveAllCourses(courses).stream().map(course -> nonNull(course.getId())).toList();
+    }
+}
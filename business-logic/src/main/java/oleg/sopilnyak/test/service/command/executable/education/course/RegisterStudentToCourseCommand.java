@@ -1,8 +1,6 @@
 package oleg.sopilnyak.test.service.command.executable.education.course;
 
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
-import static org.springframework.util.ObjectUtils.isEmpty;
 
 import oleg.sopilnyak.test.school.common.business.facade.education.CoursesFacade;
 import oleg.sopilnyak.test.school.common.exception.education.CourseHasNoRoomException;
@@ -17,10 +15,12 @@ import oleg.sopilnyak.test.service.command.io.CompositeInput;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
-import java.util.Collection;
-import java.util.Objects;
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -62,6 +62,14 @@ public class RegisterStudentToCourseCommand extends BasicCommand<Boolean> implem
         return CoursesFacade.REGISTER;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(StudentCommand.CACHE_REGION, CourseCommand.CACHE_REGION, FacultyCommand.CACHE_REGION);
+    }
+
     public RegisterStudentToCourseCommand(final EducationPersistenceFacade persistenceFacade,
                                           final BusinessMessagePayloadMapper payloadMapper,
                                           @Value("${school.courses.maximum.rooms:50}") int maximumRooms,
@@ -79,6 +87,9 @@ public class RegisterStudentToCourseCommand extends BasicCommand<Boolean> implem
      * @param context context of redo execution
      * @see EducationPersistenceFacade#findStudentById(Long)
      * @see EducationPersistenceFacade#findCourseById(Long)
+     * @see EducationPersistenceFacade#isLinked(Long, Long)
+     * @see EducationPersistenceFacade#countEnrolledStudents(Long)
+     * @see EducationPersistenceFacade#countRegisteredCourses(Long)
      * @see EducationPersistenceFacade#link(Student, Course)
      * @see Context
      * @see CommandContext#setUndoParameter(Input)
@@ -99,13 +110,14 @@ public class RegisterStudentToCourseCommand extends BasicCommand<Boolean> implem
             final Long studentId = student.getId();
             final Long courseId = course.getId();
 
-            if (isLinked(student, course)) {
+            // the checks are made by the queries to the links, without loading of the course's students
+            if (persistenceFacade.isLinked(studentId, courseId)) {
                 log.debug("student: {} with course {} are already linked", studentId, courseId);
                 context.setResult(true);
-            } else if (course.getStudents().size() >= maximumRooms) {
+            } else if (persistenceFacade.countEnrolledStudents(courseId) >= maximumRooms) {
                 log.error("Course with id:{} has students more than {}", courseId, maximumRooms);
                 throw new CourseHasNoRoomException(COURSE_WITH_ID_PREFIX + courseId + " does not have enough rooms.");
-            } else if (student.getCourses().size() >= coursesExceed) {
+            } else if (persistenceFacade.countRegisteredCourses(studentId) >= coursesExceed) {
                 log.error("Student with id:{} has more than {} courses", studentId, coursesExceed);
                 throw new StudentCoursesExceedException(LINK_STUDENT_WITH_ID_PREFIX + studentId + " exceeds maximum courses.");
             } else {
@@ -167,34 +179,4 @@ public class RegisterStudentToCourseCommand extends BasicCommand<Boolean> implem
     public Logger getLog() {
         return log;
     }
-
-    // private methods
-    private static boolean isLinked(final Student student, final Course course) {
-        return studentsHaveCourse(course.getStudents(), course.getId()) &&
-                coursesHaveStudent(student.getCourses(), student.getId());
-    }
-
-    private static boolean studentsHaveCourse(final Collection<Student> students, final Long courseId) {
-        return !isEmpty(students) && isValid(courseId)
-                && students.stream().anyMatch(student -> studentHasCourse(student, courseId));
-    }
-
-    private static boolean studentHasCourse(final Student student, final Long courseId) {
-        return nonNull(student) && !isEmpty(student.getCourses())
-                && student.getCourses().stream().anyMatch(course -> Objects.equals(courseId, course.getId()));
-    }
-
-    private static boolean coursesHaveStudent(final Collection<Course> courses, final Long studentId) {
-        return !isEmpty(courses) && isValid(studentId)
-                && courses.stream().anyMatch(course -> courseHasStudent(course, studentId));
-    }
-
-    private static boolean courseHasStudent(final Course course, final Long studentId) {
-        return nonNull(course) && !isEmpty(course.getStudents())
-                && course.getStudents().stream().anyMatch(student -> Objects.equals(studentId, student.getId()));
-    }
-
-    private static boolean isValid(final Long id) {
-        return nonNull(id) && id > 0L;
-    }
 }
@@ -0,0 +1,198 @@
+package oleg.sopilnyak.test.service.command.executable.education.course;
+
+import static oleg.sopilnyak.test.school.common.persistence.utility.PersistenceFacadeUtilities.isInvalidId;
+
+import oleg.sopilnyak.test.school.common.business.facade.education.CoursesFacade;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade.Link;
+import oleg.sopilnyak.test.service.command.executable.education.BulkLoadCommand;
+import oleg.sopilnyak.test.service.command.io.CompositeInput;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command-Implementation: command to link the chunk of the students to the courses at once<BR/>
+ * The links are checked against the course's rooms and the student's courses limits like single registration
+ *
+ * @see BulkLoadCommand
+ * @see Link
+ * @see RegisterPersistenceFacade#linkAll(List)
+ * @see RegisterStudentToCourseCommand
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Getter
+@Component(CourseCommand.Component.REGISTER_ALL)
+public class RegisterStudentsToCoursesCommand extends BulkLoadCommand<Link> implements CourseCommand<BulkLoadReport> {
+    private final transient RegisterPersistenceFacade persistence;
+    private final transient BusinessMessagePayloadMapper payloadMapper;
+    private int maximumRooms = 50;
+    private int coursesExceed = 5;
+
+    /**
+     * To set up the limits of the registration (the same as for single registration)
+     *
+     * @param maximumRooms  the maximum quantity of the students enrolled to the course
+     * @param coursesExceed the maximum quantity of the courses registered for the student
+     * @see RegisterStudentToCourseCommand
+     */
+    @Autowired
+    public final void setRegistrationLimits(@Value("${school.courses.maximum.rooms:50}") final int maximumRooms,
+                                            @Value("${school.students.maximum.courses:5}") final int coursesExceed) {
+        this.maximumRooms = maximumRooms;
+        this.coursesExceed = coursesExceed;
+    }
+
+    /**
+     * The name of command bean in spring beans factory
+     *
+     * @return spring name of the command
+     */
+    @Override
+    public String springName() {
+        return Component.REGISTER_ALL;
+    }
+
+    /**
+     * To get unique command-id for the command
+     *
+     * @return value of command-id
+     */
+    @Override
+    public String getId() {
+        return CoursesFacade.REGISTER_ALL;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(StudentCommand.CACHE_REGION, CourseCommand.CACHE_REGION, FacultyCommand.CACHE_REGION);
+    }
+
+    /**
+     * To get reference to command's logger
+     *
+     * @return reference to the logger
+     */
+    @Override
+    public Logger getLog() {
+        return log;
+    }
+
+    /**
+     * To get the links to store from the input parameter
+     *
+     * @param parameter command's input parameter (composite input of student-id, course-id pairs one by one)
+     * @return the links of the chunk
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<Link> rows(final Input<?> parameter) {
+        final Input<Long>[] ids = ((CompositeInput<Long>) parameter).value();
+        if (ids.length % 2 != 0) {
+            throw new IllegalArgumentException("Wrong number of student-id, course-id pairs: " + ids.length);
+        }
+        final List<Link> links = new ArrayList<>(ids.length / 2);
+        for (int index = 0; index < ids.length; index += 2) {
+            links.add(new Link(ids[index].value(), ids[index + 1].value()));
+        }
+        return links;
+    }
+
+    /**
+     * To check the link before storing
+     *
+     * @param link the link to check
+     * @return the reason of rejection or empty() if the link is acceptable
+     */
+    @Override
+    protected Optional<String> rejectReason(final Link link) {
+        if (isInvalidId(link.studentId())) {
+            return Optional.of("Wrong student-id: '" + link.studentId() + "'");
+        } else if (isInvalidId(link.courseId())) {
+            return Optional.of("Wrong course-id: '" + link.courseId() + "'");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * To check the links of the chunk before storing<BR/>
+     * The links accepted before in the chunk are counted as enrolled students and registered courses
+     *
+     * @param links the links of the chunk
+     * @return the reasons of rejection (or empty()) in the order of the links
+     * @see RegisterPersistenceFacade#isLinked(Long, Long)
+     * @see RegisterPersistenceFacade#countEnrolledStudents(Long)
+     * @see RegisterPersistenceFacade#countRegisteredCourses(Long)
+     */
+    @Override
+    protected List<Optional<String>> rejectReasons(final List<Link> links) {
+        final Map<Long, Long> enrolledStudents = new HashMap<>();
+        final Map<Long, Long> registeredCourses = new HashMap<>();
+        final Set<Link> accepted = new HashSet<>();
+        return links.stream().map(link -> {
+            final Optional<String> reason = rejectReason(link);
+            if (reason.isPresent() || accepted.contains(link) || persistence.isLinked(link.studentId(), link.courseId())) {
+                // the link doesn't change the quantities, it's rejected or reported as not stored
+                return reason;
+            }
+            if (enrolledStudents.computeIfAbsent(link.courseId(), persistence::countEnrolledStudents) >= maximumRooms) {
+                log.error("Course with id:{} has students more than {}", link.courseId(), maximumRooms);
+                return Optional.of(COURSE_WITH_ID_PREFIX + link.courseId() + " does not have enough rooms.");
+            }
+            if (registeredCourses.computeIfAbsent(link.studentId(), persistence::countRegisteredCourses) >= coursesExceed) {
+                log.error("Student with id:{} has more than {} courses", link.studentId(), coursesExceed);
+                return Optional.of("Student with ID:" + link.studentId() + " exceeds maximum courses.");
+            }
+            enrolledStudents.merge(link.courseId(), 1L, Long::sum);
+            registeredCourses.merge(link.studentId(), 1L, Long::sum);
+            accepted.add(link);
+            return Optional.<String>empty();
+        }).toList();
+    }
+
+    /**
+     * To link the students to the courses at once
+     *
+     * @param links accepted links of the chunk
+     * @return the results of linking in the order of the links
+     * @see RegisterPersistenceFacade#linkAll(List)
+     */
+    @Override
+    protected List<Boolean> persist(final List<Link> links) {
+        return persistence.linkAll(links);
+    }
+
+    /**
+     * To get the reason why accepted link isn't stored
+     *
+     * @param link the link which isn't stored
+     * @return the reason for the report
+     */
+    @Override
+    protected String notStoredReason(final Link link) {
+        return "Student with ID:" + link.studentId() + " or " + COURSE_WITH_ID_PREFIX + link.courseId()
+                + " is not exists or they are already linked.";
+    }
+}
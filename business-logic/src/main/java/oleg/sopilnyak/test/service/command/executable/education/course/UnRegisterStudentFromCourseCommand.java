@@ -13,8 +13,12 @@ import oleg.sopilnyak.test.service.command.io.CompositeInput;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
@@ -52,6 +56,14 @@ public class UnRegisterStudentFromCourseCommand extends BasicCommand<Boolean> im
         return CoursesFacade.UN_REGISTER;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(StudentCommand.CACHE_REGION, CourseCommand.CACHE_REGION, FacultyCommand.CACHE_REGION);
+    }
+
     public UnRegisterStudentFromCourseCommand(EducationPersistenceFacade persistenceFacade, BusinessMessagePayloadMapper payloadMapper) {
         this.persistenceFacade = persistenceFacade;
         this.payloadMapper = payloadMapper;
@@ -64,6 +76,7 @@ public class UnRegisterStudentFromCourseCommand extends BasicCommand<Boolean> im
      * @param context context of redo execution
      * @see EducationPersistenceFacade#findStudentById(Long)
      * @see EducationPersistenceFacade#findCourseById(Long)
+     * @see EducationPersistenceFacade#isLinked(Long, Long)
      * @see EducationPersistenceFacade#unLink(Student, Course)
      * @see Context
      * @see CommandContext#setUndoParameter(Input)
@@ -85,6 +98,12 @@ public class UnRegisterStudentFromCourseCommand extends BasicCommand<Boolean> im
             final Long studentId = student.getId();
             final Long courseId = course.getId();
 
+            if (!persistenceFacade.isLinked(studentId, courseId)) {
+                // nothing to un-link, the course's students aren't loaded
+                log.debug("student: {} with course {} are not linked", studentId, courseId);
+                context.setResult(false);
+                return;
+            }
             log.debug("Un-linking student-id:{} from course-id:{}", studentId, courseId);
 
             final boolean successful = persistenceFacade.unLink(student, course);
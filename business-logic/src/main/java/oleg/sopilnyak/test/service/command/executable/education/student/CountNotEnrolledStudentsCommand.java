@@ -0,0 +1,82 @@
+package oleg.sopilnyak.test.service.command.executable.education.student;
+
+import oleg.sopilnyak.test.school.common.business.facade.education.StudentsFacade;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.core.BasicCommand;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command-Implementation: command to count not enrolled to any course students (without loading of the students)
+ *
+ * @see RegisterPersistenceFacade#countNotEnrolledStudents()
+ */
+@Slf4j
+@AllArgsConstructor
+@Component(StudentCommand.Component.COUNT_NOT_ENROLLED)
+public class CountNotEnrolledStudentsCommand extends BasicCommand<Long> implements StudentCommand<Long> {
+    private final transient RegisterPersistenceFacade persistenceFacade;
+
+    /**
+     * The name of command bean in spring beans factory
+     *
+     * @return spring name of the command
+     */
+    @Override
+    public String springName() {
+        return Component.COUNT_NOT_ENROLLED;
+    }
+
+    /**
+     * To get unique command-id for the command
+     *
+     * @return value of command-id
+     */
+    @Override
+    public String getId() {
+        return StudentsFacade.COUNT_NOT_ENROLLED;
+    }
+
+    /**
+     * To count not enrolled students<BR/>
+     * To execute command redo with correct context state
+     *
+     * @param context context of redo execution
+     * @see Context
+     * @see Context#setResult(Object)
+     * @see Context.State#WORK
+     * @see RegisterPersistenceFacade#countNotEnrolledStudents()
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void executeDo(Context<Long> context) {
+        log.debug("Trying to count not enrolled students");
+        try {
+
+            final long count = persistenceFacade.countNotEnrolledStudents();
+
+            log.debug("Counted {} not enrolled students", count);
+            context.setResult(count);
+        } catch (Exception e) {
+            log.error("Cannot count not enrolled students", e);
+            context.failed(e);
+        }
+    }
+
+    /**
+     * To get reference to command's logger
+     *
+     * @return reference to the logger
+     */
+    @Override
+    public Logger getLog() {
+        return log;
+    }
+}
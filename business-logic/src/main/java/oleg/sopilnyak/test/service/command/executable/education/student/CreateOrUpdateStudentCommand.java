@@ -9,10 +9,12 @@ import oleg.sopilnyak.test.service.command.executable.core.cache.SchoolCommandCa
 import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
 import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
@@ -61,6 +63,14 @@ public class CreateOrUpdateStudentCommand extends SchoolCommandCache<Student, Op
         return StudentsFacade.CREATE_OR_UPDATE;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(StudentCommand.CACHE_REGION, CourseCommand.CACHE_REGION);
+    }
+
     public CreateOrUpdateStudentCommand(final StudentsPersistenceFacade persistence,
                                         final BusinessMessagePayloadMapper payloadMapper) {
         super(Student.class);
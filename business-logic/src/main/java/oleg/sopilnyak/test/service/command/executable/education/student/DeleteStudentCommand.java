@@ -11,9 +11,11 @@ import oleg.sopilnyak.test.service.command.executable.core.cache.SchoolCommandCa
 import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
 import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
@@ -61,6 +63,14 @@ public class DeleteStudentCommand extends SchoolCommandCache<Student, Boolean> i
         return StudentsFacade.DELETE;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(StudentCommand.CACHE_REGION, CourseCommand.CACHE_REGION);
+    }
+
     public DeleteStudentCommand(final StudentsPersistenceFacade persistence,
                                 final BusinessMessagePayloadMapper payloadMapper) {
         super(Student.class);
@@ -18,10 +18,12 @@ import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.core.RootCommand;
 import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
 import oleg.sopilnyak.test.service.command.type.core.nested.PrepareNestedContextVisitor;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
 import oleg.sopilnyak.test.service.command.type.profile.StudentProfileCommand;
 import oleg.sopilnyak.test.service.exception.CannotCreateCommandContextException;
 
 import java.util.Deque;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
@@ -65,17 +67,18 @@ public class DeleteStudentTask extends ParallelCommandsTask<Boolean> implements
      * @see this#createStudentProfileContext(StudentProfileCommand, Long)
      */
     private MacroDeleteStudent<Boolean> transactional() {
-        synchronized (MacroDeleteStudent.class) {
-            if (isNull(self.get())) {
-                // getting command instance reference, which can be used for transactional operations
-                // actually it's proxy of the command with transactional executeDo/executeUndo methods
-                final String springName = Component.DELETE_ALL;
-                final Class<MacroDeleteStudent<Boolean>> familyType = commandFamily();
-                getLog().debug("Getting command from family:{} bean-name:{}",familyType.getSimpleName(), springName);
-                self.getAndSet(applicationContext.getBean(springName, familyType));
-            }
-        }
-        return self.get();
+        final MacroDeleteStudent<Boolean> command = self.get();
+        // lock free lazy initialization (no monitors pinning virtual threads)
+        return isNull(command) ? self.updateAndGet(current -> isNull(current) ? transactionalCommand() : current) : command;
+    }
+
+    // getting command instance reference, which can be used for transactional operations
+    // actually it's proxy of the command with transactional executeDo/executeUndo methods
+    private MacroDeleteStudent<Boolean> transactionalCommand() {
+        final String springName = Component.DELETE_ALL;
+        final Class<MacroDeleteStudent<Boolean>> familyType = commandFamily();
+        getLog().debug("Getting command from family:{} bean-name:{}",familyType.getSimpleName(), springName);
+        return applicationContext.getBean(springName, familyType);
     }
 
     /**
@@ -102,6 +105,14 @@ public class DeleteStudentTask extends ParallelCommandsTask<Boolean> implements
         return StudentsFacade.DELETE_MACRO;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(StudentCommand.CACHE_REGION, CourseCommand.CACHE_REGION);
+    }
+
     public DeleteStudentTask(
             @Qualifier(StudentCommand.Component.DELETE) StudentCommand<?> personCommand,
             @Qualifier(StudentProfileCommand.Component.DELETE_BY_ID) StudentProfileCommand<?> profileCommand,
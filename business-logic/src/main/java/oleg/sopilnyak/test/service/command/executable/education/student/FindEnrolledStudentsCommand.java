@@ -49,6 +49,14 @@ public class FindEnrolledStudentsCommand extends BasicCommand<Set<Student>> impl
     public String getId() {
         return StudentsFacade.FIND_ENROLLED;
     }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resultCacheRegion() {
+        return CACHE_REGION;
+    }
+
 
     /**
      * To find enrolled students by course-id<BR/>
@@ -0,0 +1,88 @@
+package oleg.sopilnyak.test.service.command.executable.education.student;
+
+import oleg.sopilnyak.test.school.common.business.facade.education.StudentsFacade;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.core.FindPageCommand;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command-Implementation: command to get the page of not enrolled to any course students ordered by system-id
+ *
+ * @see Student
+ * @see StudentCommand
+ * @see FindPageCommand
+ * @see RegisterPersistenceFacade#findNotEnrolledStudentsPage(Long, int)
+ */
+@Slf4j
+@AllArgsConstructor
+@Component(StudentCommand.Component.FIND_NOT_ENROLLED_PAGE)
+public class FindNotEnrolledStudentsPageCommand extends FindPageCommand<Student> implements StudentCommand<Set<Student>> {
+    private final transient RegisterPersistenceFacade persistence;
+    @Getter
+    private final transient BusinessMessagePayloadMapper payloadMapper;
+
+    /**
+     * The name of command bean in spring beans factory
+     *
+     * @return spring name of the command
+     */
+    @Override
+    public String springName() {
+        return Component.FIND_NOT_ENROLLED_PAGE;
+    }
+
+    /**
+     * To get unique command-id for the command
+     *
+     * @return value of command-id
+     */
+    @Override
+    public String getId() {
+        return StudentsFacade.FIND_NOT_ENROLLED_PAGE;
+    }
+
+    /**
+     * To get reference to command's logger
+     *
+     * @return reference to the logger
+     */
+    @Override
+    public Logger getLog() {
+        return log;
+    }
+
+    /**
+     * To get the page of not enrolled to any course students from the persistence layer
+     *
+     * @param afterId system-id of the last item of the previous page
+     * @param limit   the maximum quantity of the items in the page
+     * @return the items of the page ordered by system-id
+     * @see RegisterPersistenceFacade#findNotEnrolledStudentsPage(Long, int)
+     */
+    @Override
+    protected List<Student> page(final Long afterId, final int limit) {
+        return persistence.findNotEnrolledStudentsPage(afterId, limit);
+    }
+
+    /**
+     * To adopt the item of the page to business-logic data model
+     *
+     * @param item the item from the persistence layer
+     * @return adopted item
+     * @see StudentCommand#adoptEntity(Student)
+     */
+    @Override
+    protected Student adopt(final Student item) {
+        return adoptEntity(item);
+    }
+}
@@ -4,6 +4,9 @@ import oleg.sopilnyak.test.school.common.business.facade.education.StudentsFacad
 import oleg.sopilnyak.test.school.common.model.education.Student;
 import oleg.sopilnyak.test.school.common.persistence.education.StudentsPersistenceFacade;
 import oleg.sopilnyak.test.service.command.executable.core.BasicCommand;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchCommand;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchLoader;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchLoading;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
@@ -11,23 +14,39 @@ import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
 import java.util.Optional;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Command-Implementation: command to get student by id
  */
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Component(StudentCommand.Component.FIND_BY_ID)
-public class FindStudentCommand extends BasicCommand<Optional<Student>> implements StudentCommand<Optional<Student>> {
+public class FindStudentCommand extends BasicCommand<Optional<Student>>
+        implements StudentCommand<Optional<Student>>, ByIdBatchCommand<Student> {
     private final transient StudentsPersistenceFacade persistenceFacade;
     @Getter
     private final transient BusinessMessagePayloadMapper payloadMapper;
+    // the batching of the lookups by id (if enabled)
+    @Getter
+    private transient ByIdBatchLoader<Student> batchLoader;
+
+    /**
+     * Inject the batching of the lookups by id (the lookups requested at once are resolved by one query)
+     *
+     * @param batchLoading the shared settings of the batching (the bean exists if batching is enabled)
+     * @see ByIdBatchLoading#loaderOf(java.util.function.Function, java.util.function.UnaryOperator)
+     */
+    @Autowired(required = false)
+    public final void setBatchLoading(final ByIdBatchLoading batchLoading) {
+        this.batchLoader = batchLoading.loaderOf(persistenceFacade::findStudentsByIds, this::adoptEntity);
+    }
 
     /**
      * The name of command bean in spring beans factory
@@ -49,6 +68,14 @@ public class FindStudentCommand extends BasicCommand<Optional<Student>> implemen
         return StudentsFacade.FIND_BY_ID;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resultCacheRegion() {
+        return CACHE_REGION;
+    }
+
     /**
      * To find student by id<BR/>
      * To execute command redo with correct context state
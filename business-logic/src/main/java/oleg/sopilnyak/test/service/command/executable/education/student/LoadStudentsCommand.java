@@ -0,0 +1,122 @@
+package oleg.sopilnyak.test.service.command.executable.education.student;
+
+import static java.util.Objects.nonNull;
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+import oleg.sopilnyak.test.school.common.business.facade.education.StudentsFacade;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.persistence.education.StudentsPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.education.BulkLoadCommand;
+import oleg.sopilnyak.test.service.command.io.CompositeInput;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command-Implementation: command to create or update the chunk of the students at once
+ *
+ * @see BulkLoadCommand
+ * @see Student
+ * @see StudentsPersistenceFacade#saveAllStudents(List)
+ */
+@Slf4j
+@AllArgsConstructor
+@Getter
+@Component(StudentCommand.Component.LOAD_ALL)
+public class LoadStudentsCommand extends BulkLoadCommand<Student> implements StudentCommand<BulkLoadReport> {
+    private final transient StudentsPersistenceFacade persistence;
+    private final transient BusinessMessagePayloadMapper payloadMapper;
+
+    /**
+     * The name of command bean in spring beans factory
+     *
+     * @return spring name of the command
+     */
+    @Override
+    public String springName() {
+        return Component.LOAD_ALL;
+    }
+
+    /**
+     * To get unique command-id for the command
+     *
+     * @return value of command-id
+     */
+    @Override
+    public String getId() {
+        return StudentsFacade.LOAD_ALL;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(StudentCommand.CACHE_REGION, CourseCommand.CACHE_REGION);
+    }
+
+    /**
+     * To get reference to command's logger
+     *
+     * @return reference to the logger
+     */
+    @Override
+    public Logger getLog() {
+        return log;
+    }
+
+    /**
+     * To get the students to load from the input parameter
+     *
+     * @param parameter command's input parameter (composite input of student payloads)
+     * @return the students of the chunk
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<Student> rows(final Input<?> parameter) {
+        return Arrays.stream(((CompositeInput<Student>) parameter).value()).map(Input::value).toList();
+    }
+
+    /**
+     * To check the student before storing
+     *
+     * @param student the student to check
+     * @return the reason of rejection or empty() if the student is acceptable
+     */
+    @Override
+    protected Optional<String> rejectReason(final Student student) {
+        if (isEmpty(student.getFirstName())) {
+            return Optional.of("First name cannot be blank");
+        } else if (isEmpty(student.getLastName())) {
+            return Optional.of("Last name cannot be blank");
+        } else if (isEmpty(student.getGender())) {
+            return Optional.of("Gender cannot be blank");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * To store and flush the students at once<BR/>
+     * The student is stored if it got the system-id from the database
+     *
+     * @param students accepted students of the chunk
+     * @return the results of storing in the order of the students
+     * @see StudentsPersistenceFacade#saveAllStudents(List)
+     */
+    @Override
+    protected List<Boolean> persist(final List<Student> students) {
+        return persistence.saveAllStudents(students).stream().map(student -> nonNull(student.getId())).toList();
+    }
+}
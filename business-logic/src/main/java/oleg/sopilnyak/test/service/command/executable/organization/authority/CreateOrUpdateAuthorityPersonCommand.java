@@ -10,9 +10,11 @@ import oleg.sopilnyak.test.service.command.executable.core.context.CommandContex
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.organization.AuthorityPersonCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
@@ -60,6 +62,14 @@ public class CreateOrUpdateAuthorityPersonCommand extends SchoolCommandCache<Aut
         return AuthorityPersonFacade.CREATE_OR_UPDATE;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(FacultyCommand.CACHE_REGION);
+    }
+
     public CreateOrUpdateAuthorityPersonCommand(final AuthorityPersonPersistenceFacade persistence,
                                                 final BusinessMessagePayloadMapper payloadMapper) {
         super(AuthorityPerson.class);
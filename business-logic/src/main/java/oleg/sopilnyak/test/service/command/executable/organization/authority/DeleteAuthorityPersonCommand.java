@@ -12,8 +12,10 @@ import oleg.sopilnyak.test.service.command.executable.core.context.CommandContex
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.organization.AuthorityPersonCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
@@ -62,6 +64,14 @@ public class DeleteAuthorityPersonCommand extends SchoolCommandCache<AuthorityPe
         return AuthorityPersonFacade.DELETE;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(FacultyCommand.CACHE_REGION);
+    }
+
     public DeleteAuthorityPersonCommand(final AuthorityPersonPersistenceFacade persistence,
                                         final BusinessMessagePayloadMapper payloadMapper) {
         super(AuthorityPerson.class);
@@ -19,11 +19,13 @@ import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.core.RootCommand;
 import oleg.sopilnyak.test.service.command.type.core.nested.PrepareNestedContextVisitor;
 import oleg.sopilnyak.test.service.command.type.organization.AuthorityPersonCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
 import oleg.sopilnyak.test.service.command.type.profile.PrincipalProfileCommand;
 import oleg.sopilnyak.test.service.command.type.profile.StudentProfileCommand;
 import oleg.sopilnyak.test.service.exception.CannotCreateCommandContextException;
 
 import java.util.Deque;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
@@ -68,17 +70,18 @@ public class DeleteAuthorityPersonTask extends ParallelCommandsTask<Boolean>
      * @see this#createPrincipalProfileContext(PrincipalProfileCommand, Long)
      */
     private MacroDeleteAuthorityPerson<Boolean> transactional() {
-        synchronized (MacroDeleteAuthorityPerson.class) {
-            if (isNull(self.get())) {
-                // getting command instance reference, which can be used for transactional operations
-                // actually it's proxy of the command with transactional executeDo/executeUndo methods
-                final String springName = Component.DELETE_ALL;
-                final Class<MacroDeleteAuthorityPerson<Boolean>> familyType = commandFamily();
-                getLog().debug("Getting command from family:{} bean-name:{}",familyType.getSimpleName(), springName);
-                self.getAndSet(applicationContext.getBean(springName, familyType));
-            }
-        }
-        return self.get();
+        final MacroDeleteAuthorityPerson<Boolean> command = self.get();
+        // lock free lazy initialization (no monitors pinning virtual threads)
+        return isNull(command) ? self.updateAndGet(current -> isNull(current) ? transactionalCommand() : current) : command;
+    }
+
+    // getting command instance reference, which can be used for transactional operations
+    // actually it's proxy of the command with transactional executeDo/executeUndo methods
+    private MacroDeleteAuthorityPerson<Boolean> transactionalCommand() {
+        final String springName = Component.DELETE_ALL;
+        final Class<MacroDeleteAuthorityPerson<Boolean>> familyType = commandFamily();
+        getLog().debug("Getting command from family:{} bean-name:{}",familyType.getSimpleName(), springName);
+        return applicationContext.getBean(springName, familyType);
     }
 
     /**
@@ -91,6 +94,14 @@ public class DeleteAuthorityPersonTask extends ParallelCommandsTask<Boolean>
         return AuthorityPersonFacade.DELETE_MACRO;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(FacultyCommand.CACHE_REGION, PrincipalProfileCommand.CACHE_REGION);
+    }
+
     /**
      * Reference to the current command for operations with the command's entities in transaction possibility<BR/>
      * Not needed transaction for this command
@@ -13,6 +13,7 @@ import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
@@ -60,6 +61,14 @@ public class CreateOrUpdateFacultyCommand extends SchoolCommandCache<Faculty, Op
         return FacultyFacade.CREATE_OR_UPDATE;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(FacultyCommand.CACHE_REGION);
+    }
+
     public CreateOrUpdateFacultyCommand(final FacultyPersistenceFacade persistence,
                                         final BusinessMessagePayloadMapper payloadMapper) {
         super(Faculty.class);
@@ -14,6 +14,7 @@ import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
@@ -60,6 +61,14 @@ public class DeleteFacultyCommand extends SchoolCommandCache<Faculty, Boolean> i
         return FacultyFacade.DELETE;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(FacultyCommand.CACHE_REGION);
+    }
+
     public DeleteFacultyCommand(final FacultyPersistenceFacade persistence,
                                 final BusinessMessagePayloadMapper payloadMapper) {
         super(Faculty.class);
@@ -53,6 +53,14 @@ public class FindAllFacultiesCommand extends BasicCommand<Set<Faculty>> implemen
         return FacultyFacade.FIND_ALL;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resultCacheRegion() {
+        return CACHE_REGION;
+    }
+
     /**
      * DO: To get all faculties of the school<BR/>
      * To execute command redo with correct context state
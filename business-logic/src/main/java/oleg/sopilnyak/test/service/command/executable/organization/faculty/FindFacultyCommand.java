@@ -53,6 +53,14 @@ public class FindFacultyCommand extends BasicCommand<Optional<Faculty>> implemen
         return FacultyFacade.FIND_BY_ID;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resultCacheRegion() {
+        return CACHE_REGION;
+    }
+
     /**
      * DO: To find faculty by id<BR/>
      * To execute command redo with correct context state
@@ -0,0 +1,88 @@
+package oleg.sopilnyak.test.service.command.executable.organization.group;
+
+import oleg.sopilnyak.test.school.common.business.facade.organization.StudentsGroupFacade;
+import oleg.sopilnyak.test.school.common.model.organization.StudentsGroup;
+import oleg.sopilnyak.test.school.common.persistence.organization.StudentsGroupPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.core.FindPageCommand;
+import oleg.sopilnyak.test.service.command.type.organization.StudentsGroupCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command-Implementation: command to get the page of students groups of the school ordered by system-id
+ *
+ * @see StudentsGroup
+ * @see StudentsGroupCommand
+ * @see FindPageCommand
+ * @see StudentsGroupPersistenceFacade#findStudentsGroupsPage(Long, int)
+ */
+@Slf4j
+@AllArgsConstructor
+@Component(StudentsGroupCommand.Component.FIND_PAGE)
+public class FindStudentsGroupsPageCommand extends FindPageCommand<StudentsGroup> implements StudentsGroupCommand<Set<StudentsGroup>> {
+    private final transient StudentsGroupPersistenceFacade persistence;
+    @Getter
+    private final transient BusinessMessagePayloadMapper payloadMapper;
+
+    /**
+     * The name of command bean in spring beans factory
+     *
+     * @return spring name of the command
+     */
+    @Override
+    public String springName() {
+        return Component.FIND_PAGE;
+    }
+
+    /**
+     * To get unique command-id for the command
+     *
+     * @return value of command-id
+     */
+    @Override
+    public String getId() {
+        return StudentsGroupFacade.FIND_PAGE;
+    }
+
+    /**
+     * To get reference to command's logger
+     *
+     * @return reference to the logger
+     */
+    @Override
+    public Logger getLog() {
+        return log;
+    }
+
+    /**
+     * To get the page of students groups of the school from the persistence layer
+     *
+     * @param afterId system-id of the last item of the previous page
+     * @param limit   the maximum quantity of the items in the page
+     * @return the items of the page ordered by system-id
+     * @see StudentsGroupPersistenceFacade#findStudentsGroupsPage(Long, int)
+     */
+    @Override
+    protected List<StudentsGroup> page(final Long afterId, final int limit) {
+        return persistence.findStudentsGroupsPage(afterId, limit);
+    }
+
+    /**
+     * To adopt the item of the page to business-logic data model
+     *
+     * @param item the item from the persistence layer
+     * @return adopted item
+     * @see StudentsGroupCommand#adoptEntity(StudentsGroup)
+     */
+    @Override
+    protected StudentsGroup adopt(final StudentsGroup item) {
+        return adoptEntity(item);
+    }
+}
@@ -8,6 +8,7 @@ import oleg.sopilnyak.test.service.command.type.profile.PrincipalProfileCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.UnaryOperator;
@@ -49,6 +50,14 @@ public class CreateOrUpdatePrincipalProfileCommand extends CreateOrUpdateProfile
         return PrincipalProfileFacade.CREATE_OR_UPDATE;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(PrincipalProfileCommand.CACHE_REGION);
+    }
+
     public CreateOrUpdatePrincipalProfileCommand(
             final ProfilePersistenceFacade persistence, final BusinessMessagePayloadMapper payloadMapper
     ) {
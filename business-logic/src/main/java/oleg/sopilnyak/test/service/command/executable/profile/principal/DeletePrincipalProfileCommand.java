@@ -8,6 +8,7 @@ import oleg.sopilnyak.test.service.command.type.profile.PrincipalProfileCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.UnaryOperator;
@@ -47,6 +48,14 @@ public class DeletePrincipalProfileCommand extends DeleteProfileCommand<Principa
         return PrincipalProfileFacade.DELETE_BY_ID;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> invalidatedCacheRegions() {
+        return Set.of(PrincipalProfileCommand.CACHE_REGION);
+    }
+
     /**
      * Constructor
      *
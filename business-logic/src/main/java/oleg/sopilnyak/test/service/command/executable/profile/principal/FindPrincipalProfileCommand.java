@@ -3,6 +3,9 @@ package oleg.sopilnyak.test.service.command.executable.profile.principal;
 import oleg.sopilnyak.test.school.common.business.facade.profile.PrincipalProfileFacade;
 import oleg.sopilnyak.test.school.common.model.person.profile.PrincipalProfile;
 import oleg.sopilnyak.test.school.common.persistence.profile.ProfilePersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchCommand;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchLoader;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchLoading;
 import oleg.sopilnyak.test.service.command.executable.profile.FindProfileCommand;
 import oleg.sopilnyak.test.service.command.type.profile.PrincipalProfileCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
@@ -10,7 +13,9 @@ import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 import java.util.Optional;
 import java.util.function.LongFunction;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -24,7 +29,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Component(PrincipalProfileCommand.Component.FIND_BY_ID)
 public class FindPrincipalProfileCommand extends FindProfileCommand<PrincipalProfile>
-        implements PrincipalProfileCommand<Optional<PrincipalProfile>> {
+        implements PrincipalProfileCommand<Optional<PrincipalProfile>>, ByIdBatchCommand<PrincipalProfile> {
+    // the batching of the lookups by id (if enabled)
+    @Getter
+    private transient ByIdBatchLoader<PrincipalProfile> batchLoader;
 
     /**
      * The name of command bean in spring beans factory
@@ -46,10 +54,29 @@ public class FindPrincipalProfileCommand extends FindProfileCommand<PrincipalPro
         return PrincipalProfileFacade.FIND_BY_ID;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resultCacheRegion() {
+        return CACHE_REGION;
+    }
+
     public FindPrincipalProfileCommand(ProfilePersistenceFacade persistence, BusinessMessagePayloadMapper payloadMapper) {
         super(persistence, payloadMapper);
     }
 
+    /**
+     * Inject the batching of the lookups by id (the lookups requested at once are resolved by one query)
+     *
+     * @param batchLoading the shared settings of the batching (the bean exists if batching is enabled)
+     * @see ByIdBatchLoading#loaderOf(java.util.function.Function, java.util.function.UnaryOperator)
+     */
+    @Autowired(required = false)
+    public final void setBatchLoading(final ByIdBatchLoading batchLoading) {
+        this.batchLoader = batchLoading.loaderOf(persistence::findPrincipalProfilesByIds, this::adoptEntity);
+    }
+
     /**
      * To get reference to command's logger
      *
@@ -8,13 +8,17 @@ import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.core.RootCommand;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Container: all commands factories farm
+ * Container: all commands factories farm<BR/>
+ * The commands of the registered factories are indexed by command-id once (at registration time),
+ * so the command's lookup doesn't depend on the quantity of the factories and their commands
  *
  * @param <T> the type of root command
  *
@@ -26,17 +30,25 @@ public class CommandsFactoriesFarm<T extends RootCommand<?>> implements Commands
     public static final String NAME = "CommandFactories-Farm";
     // the map of registered commands factories
     private final Map<Class<T>, CommandsFactory<T>> commandsFactoriesMap = new ConcurrentHashMap<>();
+    // the immutable index of the commands of registered factories
+    private volatile CommandsIndex<T> commandsIndex = CommandsIndex.empty();
 
     public CommandsFactoriesFarm(Collection<CommandsFactory<T>> factories) {
-        factories.forEach(this::register);
+        factories.forEach(factory -> commandsFactoriesMap.put(factory.commandFamily(), factory));
+        commandsIndex = CommandsIndex.of(commandsFactoriesMap.values());
     }
 
     /**
      * To register/re-register commands factory in the farm
      *
      * @param factory to register/re-register
+     * @throws IllegalStateException if the factory's command-id is registered for another command
      */
-    public void register(final CommandsFactory<T> factory) {
+    public synchronized void register(final CommandsFactory<T> factory) {
+        final Map<Class<T>, CommandsFactory<T>> factories = new HashMap<>(commandsFactoriesMap);
+        factories.put(factory.commandFamily(), factory);
+        // the index is built before the registration, to keep the farm untouched if commands are duplicated
+        commandsIndex = CommandsIndex.of(factories.values());
         commandsFactoriesMap.put(factory.commandFamily(), factory);
     }
 
@@ -62,9 +74,18 @@ public class CommandsFactoriesFarm<T extends RootCommand<?>> implements Commands
      */
     @Override
     public T command(String commandId) {
-        return commandsFactoriesMap.values().stream()
-                .map(factory -> factory.command(commandId))
-                .filter(Objects::nonNull).findFirst().orElse(null);
+        return isNull(commandId) ? null : commandsIndex.commands().get(commandId);
+    }
+
+    /**
+     * To get the commands of the family by command-id
+     *
+     * @param family the class of commands family
+     * @return immutable map of family's commands by command-id (empty if family isn't registered)
+     * @see CommandsFactory#commandFamily()
+     */
+    public Map<String, T> familyCommands(final Class<?> family) {
+        return isNull(family) ? Map.of() : commandsIndex.families().getOrDefault(family, Map.of());
     }
 
     /**
@@ -82,9 +103,8 @@ public class CommandsFactoriesFarm<T extends RootCommand<?>> implements Commands
     @Override
     @SuppressWarnings("unchecked")
     public <I, R> Context<R> makeCommandContext(final String commandId, final Input<I> input) {
-        return (Context<R>) commandsFactoriesMap.values().stream()
-                .map(factory -> factory.makeCommandContext(commandId, input))
-                .filter(Objects::nonNull).findFirst().orElse(null);
+        final T command = command(commandId);
+        return isNull(command) ? null : (Context<R>) command.createContext(input);
     }
 
     /**
@@ -111,9 +131,7 @@ public class CommandsFactoriesFarm<T extends RootCommand<?>> implements Commands
      */
     @Override
     public Collection<String> commandIds() {
-        return commandsFactoriesMap.values().stream()
-                .flatMap(factory -> factory.commandIds().stream())
-                .distinct().sorted().toList();
+        return commandsIndex.commandIds();
     }
 
     /**
@@ -133,6 +151,44 @@ public class CommandsFactoriesFarm<T extends RootCommand<?>> implements Commands
      */
     @Override
     public int getSize() {
-        return commandsFactoriesMap.values().stream().mapToInt(CommandsFactory::getSize).sum();
+        return commandsIndex.commands().size();
+    }
+
+    /**
+     * The index of the farm's commands
+     *
+     * @param commands   commands of all families by command-id
+     * @param families   commands of the family by command-id
+     * @param commandIds sorted ASC ids of all commands
+     * @param <T>        the type of root command
+     */
+    private record CommandsIndex<T extends RootCommand<?>>(Map<String, T> commands,
+                                                           Map<Class<?>, Map<String, T>> families,
+                                                           Collection<String> commandIds) {
+        private static <T extends RootCommand<?>> CommandsIndex<T> empty() {
+            return new CommandsIndex<>(Map.of(), Map.of(), List.of());
+        }
+
+        // to build the index of the factories' commands, checking the duplicates of the command-ids
+        private static <T extends RootCommand<?>> CommandsIndex<T> of(final Collection<CommandsFactory<T>> factories) {
+            final Map<String, T> commands = new HashMap<>();
+            final Map<Class<?>, Map<String, T>> families = new HashMap<>();
+            factories.forEach(factory -> {
+                final Map<String, T> familyCommands = new HashMap<>();
+                factory.commandIds().forEach(commandId -> {
+                    final T command = factory.command(commandId);
+                    if (isNull(command)) {
+                        return;
+                    }
+                    final T registered = commands.putIfAbsent(commandId, command);
+                    if (!isNull(registered) && registered != command) {
+                        throw new IllegalStateException("Duplicate command-id '" + commandId + "' in factory " + factory.getName());
+                    }
+                    familyCommands.put(commandId, command);
+                });
+                families.put(factory.commandFamily(), Map.copyOf(familyCommands));
+            });
+            return new CommandsIndex<>(Map.copyOf(commands), Map.copyOf(families), commands.keySet().stream().sorted().toList());
+        }
     }
 }
@@ -21,13 +21,18 @@ import java.util.function.Function;
 import org.springframework.util.ObjectUtils;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.node.TreeTraversingParser;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 /**
@@ -151,7 +156,7 @@ public interface IOBase<P> extends Serializable {
         if (ioClassNameNode instanceof TextNode node) {
             final String ioTypeClassName = node.asText();
             try {
-                return (Class<T>) Class.forName(ioTypeClassName).asSubclass(shouldBeType);
+                return (Class<T>) IOTypesRegistry.resolve(ioTypeClassName, shouldBeType);
             } catch (ClassNotFoundException | ClassCastException e) {
                 // class not found or class is not subclass of required type
                 throw new IOException("Wrong class name in node-type: " + ioTypeClassName, e);
@@ -161,8 +166,94 @@ public interface IOBase<P> extends Serializable {
         }
     }
 
+    /**
+     * To store the value into the JSON generator in place (without intermediate JSON string)
+     *
+     * @param value     the value to store
+     * @param generator the generator of the JSON
+     * @param provider  serializers provider (could be null)
+     * @throws IOException throws if it cannot store the value
+     */
+    static void storeValue(final Object value,
+                           final JsonGenerator generator,
+                           final SerializerProvider provider) throws IOException {
+        if (isNull(provider)) {
+            generator.writeObject(value);
+        } else {
+            provider.defaultSerializeValue(value, generator);
+        }
+    }
+
+    /**
+     * To restore the value from already parsed tree-node (without intermediate JSON string)
+     *
+     * @param valueNode  node with the value
+     * @param mapper     the mapper to restore the value
+     * @param valueClass the class of the value
+     * @param <T>        the type of the value
+     * @return restored value
+     * @throws IOException throws if it cannot restore the value
+     * @see TreeNodeParser
+     */
+    static <T> T restoreValue(final TreeNode valueNode, final ObjectMapper mapper, final Class<T> valueClass) throws IOException {
+        return mapper.readValue(new TreeNodeParser(valueNode, mapper), valueClass);
+    }
+
+    /**
+     * To restore the value from already parsed tree-node (without intermediate JSON string)
+     *
+     * @param valueNode node with the value
+     * @param mapper    the mapper to restore the value
+     * @param valueType the java-type of the value
+     * @param <T>       the type of the value
+     * @return restored value
+     * @throws IOException throws if it cannot restore the value
+     * @see TreeNodeParser
+     */
+    static <T> T restoreValue(final TreeNode valueNode, final ObjectMapper mapper, final JavaType valueType) throws IOException {
+        return mapper.readValue(new TreeNodeParser(valueNode, mapper), valueType);
+    }
+
     // inner classes for JSON serializing/deserializing
 
+    /**
+     * JSON: Parser of already parsed tree-node<BR/>
+     * Deserializers are reading the tree of the value from the parser,
+     * so the parser returns the node itself instead of building the copy of it
+     *
+     * @see JsonParser#readValueAsTree()
+     * @see IOBase#restoreValue(TreeNode, ObjectMapper, Class)
+     */
+    class TreeNodeParser extends TreeTraversingParser {
+        private final JsonNode rootNode;
+
+        public TreeNodeParser(final TreeNode rootNode, final ObjectCodec codec) {
+            super((JsonNode) rootNode, codec);
+            this.rootNode = (JsonNode) rootNode;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends TreeNode> T readValueAsTree() throws IOException {
+            if (!hasCurrentToken() && !isClosed()) {
+                // parser isn't started yet
+                nextToken();
+            }
+            if (isRootNodeStarted()) {
+                // skip root node's tokens and return the node itself
+                skipChildren();
+                return (T) rootNode;
+            }
+            return super.readValueAsTree();
+        }
+
+        // private methods
+        private boolean isRootNodeStarted() {
+            final JsonStreamContext parent = getParsingContext().getParent();
+            return hasCurrentToken() && currentToken().isStructStart() && nonNull(parent) && parent.inRoot();
+        }
+    }
+
     /**
      * JSON: Serializer for Throwable
      *
@@ -205,7 +296,7 @@ public interface IOBase<P> extends Serializable {
                 serialize((T) cause, generator, serializerProvider);
             }
             generator.writeFieldName(EXCEPTION_STACK_TRACE_FIELD_NAME);
-            generator.writeRawValue(((ObjectMapper) generator.getCodec()).writeValueAsString(exception.getStackTrace()));
+            storeValue(exception.getStackTrace(), generator, serializerProvider);
             generator.writeEndObject();
         }
     }
@@ -300,7 +391,7 @@ public interface IOBase<P> extends Serializable {
         private static Throwable addRestoredStackTraceFor(final Throwable restoredException,
                                                           final ObjectMapper mapper,
                                                           final TreeNode stackNode) throws IOException {
-            final StackTraceElement[] stackTraceElements = mapper.readValue(stackNode.toString(), StackTraceElement[].class);
+            final StackTraceElement[] stackTraceElements = restoreValue(stackNode, mapper, StackTraceElement[].class);
             restoredException.setStackTrace(stackTraceElements);
             return restoredException;
         }
@@ -309,7 +400,7 @@ public interface IOBase<P> extends Serializable {
             final TreeNode typeNode = exceptionNode.get(TYPE_FIELD_NAME);
             if (typeNode instanceof TextNode typeTextNode) {
                 try {
-                    return Class.forName(typeTextNode.asText()).asSubclass(Throwable.class);
+                    return IOTypesRegistry.resolve(typeTextNode.asText(), Throwable.class);
                 } catch (ClassNotFoundException | ClassCastException _) {
                     // class not found or class is not Throwable
                 }
@@ -369,12 +460,5 @@ public interface IOBase<P> extends Serializable {
                 throw new IOException("Wrong node-type of propertyValueNode: " + propertyValueNode.getClass().getName());
             }
         }
-
-        private static <T> T restoreValue(
-                final TreeNode propertyValueNode, final ObjectMapper mapper, final Class<T> valueClass
-        ) throws IOException {
-            final String propertyStringValue = propertyValueNode.toString();
-            return mapper.readValue(mapper.getFactory().createParser(propertyStringValue), valueClass);
-        }
     }
 }
@@ -0,0 +1,138 @@
+package oleg.sopilnyak.test.service.command.io;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.service.command.executable.core.context.history.History;
+import oleg.sopilnyak.test.service.command.executable.education.student.MacroDeleteStudent;
+import oleg.sopilnyak.test.service.command.executable.organization.authority.MacroDeleteAuthorityPerson;
+import oleg.sopilnyak.test.service.command.io.parameter.CompositeParameter;
+import oleg.sopilnyak.test.service.command.io.parameter.ContextParameter;
+import oleg.sopilnyak.test.service.command.io.parameter.DequeContextsParameter;
+import oleg.sopilnyak.test.service.command.io.parameter.EmptyParameter;
+import oleg.sopilnyak.test.service.command.io.parameter.MacroCommandParameter;
+import oleg.sopilnyak.test.service.command.io.parameter.NumberIdParameter;
+import oleg.sopilnyak.test.service.command.io.parameter.PayloadParameter;
+import oleg.sopilnyak.test.service.command.io.parameter.StaffPermissionParameter;
+import oleg.sopilnyak.test.service.command.io.parameter.StaffRoleParameter;
+import oleg.sopilnyak.test.service.command.io.parameter.StringParameter;
+import oleg.sopilnyak.test.service.command.io.result.BooleanResult;
+import oleg.sopilnyak.test.service.command.io.result.BulkLoadResult;
+import oleg.sopilnyak.test.service.command.io.result.CompositeResult;
+import oleg.sopilnyak.test.service.command.io.result.EmptyResult;
+import oleg.sopilnyak.test.service.command.io.result.NumberIdResult;
+import oleg.sopilnyak.test.service.command.io.result.OptionalValueResult;
+import oleg.sopilnyak.test.service.command.io.result.PayloadResult;
+import oleg.sopilnyak.test.service.command.io.result.PayloadSetResult;
+import oleg.sopilnyak.test.service.command.io.result.StaffPermissionResult;
+import oleg.sopilnyak.test.service.command.io.result.StaffRoleResult;
+import oleg.sopilnyak.test.service.command.io.result.StringIdResult;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.command.type.organization.AuthorityPersonCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
+import oleg.sopilnyak.test.service.command.type.organization.StudentsGroupCommand;
+import oleg.sopilnyak.test.service.command.type.profile.PrincipalProfileCommand;
+import oleg.sopilnyak.test.service.command.type.profile.StudentProfileCommand;
+import oleg.sopilnyak.test.service.message.payload.AccessCredentialsPayload;
+import oleg.sopilnyak.test.service.message.payload.AuthorityPersonPayload;
+import oleg.sopilnyak.test.service.message.payload.CoursePayload;
+import oleg.sopilnyak.test.service.message.payload.FacultyPayload;
+import oleg.sopilnyak.test.service.message.payload.PrincipalProfilePayload;
+import oleg.sopilnyak.test.service.message.payload.StudentPayload;
+import oleg.sopilnyak.test.service.message.payload.StudentProfilePayload;
+import oleg.sopilnyak.test.service.message.payload.StudentsGroupPayload;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Registry: the types allowed in the type-names of command-messages JSON<BR/>
+ * Known IO, payload, number, history and command-family types are pre-registered.
+ * Other type-names are resolved only from the allowed packages (without class initialization)
+ * and kept in the registry up to the limit
+ *
+ * @see IOBase#restoreIoBaseClass(com.fasterxml.jackson.core.TreeNode, Class)
+ */
+public final class IOTypesRegistry {
+    // the maximum quantity of resolved (not pre-registered) types to keep
+    public static final int RESOLVED_TYPES_LIMIT = 256;
+    // the packages of the types allowed to resolve
+    private static final List<String> ALLOWED_PACKAGES = List.of(
+            "oleg.sopilnyak.test.", "java.lang.", "java.io.", "java.util.", "java.time.", "java.math."
+    );
+    // pre-registered types
+    private static final Map<String, Class<?>> KNOWN_TYPES = Stream.of(
+            // input parameters
+            CompositeParameter.class, ContextParameter.class, DequeContextsParameter.class, EmptyParameter.class,
+            MacroCommandParameter.class, NumberIdParameter.class, PayloadParameter.class,
+            StaffPermissionParameter.class, StaffRoleParameter.class, StringParameter.class,
+            // output results
+            BooleanResult.class, BulkLoadResult.class, CompositeResult.class, EmptyResult.class, NumberIdResult.class,
+            OptionalValueResult.class, PayloadResult.class, PayloadSetResult.class,
+            StaffPermissionResult.class, StaffRoleResult.class, StringIdResult.class,
+            // payloads
+            AccessCredentialsPayload.class, AuthorityPersonPayload.class, CoursePayload.class, FacultyPayload.class,
+            PrincipalProfilePayload.class, StudentPayload.class, StudentProfilePayload.class, StudentsGroupPayload.class,
+            // reports
+            BulkLoadReport.class,
+            // number-ids
+            Long.class, Integer.class, Short.class, Byte.class, Double.class, Float.class, BigInteger.class, BigDecimal.class,
+            // context's history
+            History.class,
+            // commands families
+            CourseCommand.class, StudentCommand.class, AuthorityPersonCommand.class, FacultyCommand.class,
+            StudentsGroupCommand.class, PrincipalProfileCommand.class, StudentProfileCommand.class,
+            MacroDeleteStudent.class, MacroDeleteAuthorityPerson.class,
+            // exceptions
+            Exception.class, RuntimeException.class, IllegalArgumentException.class, IllegalStateException.class,
+            UnsupportedOperationException.class, NullPointerException.class
+    ).collect(Collectors.toUnmodifiableMap(Class::getName, Function.identity()));
+    // resolved types
+    private static final Map<String, Class<?>> RESOLVED_TYPES = new ConcurrentHashMap<>();
+
+    private IOTypesRegistry() {
+    }
+
+    /**
+     * To resolve the type by type-name
+     *
+     * @param typeName     the name of the type (class-name)
+     * @param shouldBeType the base type of resolved type
+     * @param <T>          the base type
+     * @return resolved type
+     * @throws ClassNotFoundException if type-name is unknown or not allowed
+     * @throws ClassCastException     if resolved type is not subtype of the base one
+     */
+    public static <T> Class<? extends T> resolve(final String typeName, final Class<T> shouldBeType) throws ClassNotFoundException {
+        if (isNull(typeName)) {
+            throw new ClassNotFoundException("Type name is missing");
+        }
+        final Class<?> known = KNOWN_TYPES.get(typeName);
+        return (isNull(known) ? resolveAllowed(typeName) : known).asSubclass(shouldBeType);
+    }
+
+    // private methods
+    private static Class<?> resolveAllowed(final String typeName) throws ClassNotFoundException {
+        final Class<?> resolved = RESOLVED_TYPES.get(typeName);
+        if (nonNull(resolved)) {
+            return resolved;
+        }
+        if (ALLOWED_PACKAGES.stream().noneMatch(typeName::startsWith)) {
+            throw new ClassNotFoundException("Type is not allowed: " + typeName);
+        }
+        // loading the type without class initialization
+        final Class<?> type = Class.forName(typeName, false, IOTypesRegistry.class.getClassLoader());
+        if (RESOLVED_TYPES.size() < RESOLVED_TYPES_LIMIT) {
+            RESOLVED_TYPES.putIfAbsent(typeName, type);
+        }
+        return type;
+    }
+}
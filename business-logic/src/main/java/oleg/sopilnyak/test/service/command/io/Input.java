@@ -11,6 +11,7 @@ import oleg.sopilnyak.test.school.common.model.organization.Faculty;
 import oleg.sopilnyak.test.school.common.model.organization.StudentsGroup;
 import oleg.sopilnyak.test.school.common.model.person.profile.PrincipalProfile;
 import oleg.sopilnyak.test.school.common.model.person.profile.StudentProfile;
+import oleg.sopilnyak.test.school.common.utility.InstanceUnwrapper;
 import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
 import oleg.sopilnyak.test.service.command.io.parameter.CompositeParameter;
 import oleg.sopilnyak.test.service.command.io.parameter.ContextParameter;
@@ -39,7 +40,6 @@ import java.util.Deque;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
-import org.mockito.internal.util.MockUtil;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.DeserializationContext;
@@ -178,7 +178,7 @@ public interface Input<P> extends IOBase<P> {
      * @see BaseType
      */
     static <T extends BasePayload<? extends BaseType>> Input<T> of(final T payload) {
-        return MockUtil.isMock(payload) ? mock(payload) : new PayloadParameter<>(payload);
+        return InstanceUnwrapper.current().isTestDouble(payload) ? mock(payload) : new PayloadParameter<>(payload);
     }
 
     /**
@@ -270,7 +270,7 @@ public interface Input<P> extends IOBase<P> {
         return switch (parameter) {
             case null -> emptyParameter();
             // check mocked objects
-            case Object object when MockUtil.isMock(object) -> mock(object);
+            case Object object when InstanceUnwrapper.current().isTestDouble(object) -> mock(object);
             // primitive output types
             case Input<?> input -> input;
             case Number number -> of(number);
@@ -297,7 +297,7 @@ public interface Input<P> extends IOBase<P> {
         return switch (type) {
             case null -> emptyParameter();
             // check mocked objects
-            case T base when MockUtil.isMock(base) -> mock(base);
+            case T base when InstanceUnwrapper.current().isTestDouble(base) -> mock(base);
             // education types
             case StudentPayload payload -> of(payload);
             case Student base -> of(payloadMapper.toPayload(base));
@@ -373,7 +373,7 @@ public interface Input<P> extends IOBase<P> {
         public Input<I> deserialize(final JsonParser jsonParser, final DeserializationContext notUsed) throws IOException {
             final TreeNode parameterNode = jsonParser.readValueAsTree();
             final var inputParameterClass = IOBase.restoreIoBaseClass(parameterNode, Input.class);
-            return ((ObjectMapper) jsonParser.getCodec()).readValue(parameterNode.toString(), inputParameterClass);
+            return IOBase.restoreValue(parameterNode, (ObjectMapper) jsonParser.getCodec(), inputParameterClass);
         }
 
     }
@@ -4,6 +4,7 @@ import oleg.sopilnyak.test.school.common.exception.core.InvalidParameterTypeExce
 import oleg.sopilnyak.test.school.common.model.BaseType;
 import oleg.sopilnyak.test.school.common.model.authentication.Permission;
 import oleg.sopilnyak.test.school.common.model.authentication.Role;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 import oleg.sopilnyak.test.school.common.model.organization.AuthorityPerson;
@@ -11,7 +12,9 @@ import oleg.sopilnyak.test.school.common.model.organization.Faculty;
 import oleg.sopilnyak.test.school.common.model.organization.StudentsGroup;
 import oleg.sopilnyak.test.school.common.model.person.profile.PrincipalProfile;
 import oleg.sopilnyak.test.school.common.model.person.profile.StudentProfile;
+import oleg.sopilnyak.test.school.common.utility.InstanceUnwrapper;
 import oleg.sopilnyak.test.service.command.io.result.BooleanResult;
+import oleg.sopilnyak.test.service.command.io.result.BulkLoadResult;
 import oleg.sopilnyak.test.service.command.io.result.CompositeResult;
 import oleg.sopilnyak.test.service.command.io.result.EmptyResult;
 import oleg.sopilnyak.test.service.command.io.result.NumberIdResult;
@@ -39,7 +42,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.mockito.internal.util.MockUtil;
 import org.springframework.util.CollectionUtils;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.TreeNode;
@@ -159,6 +161,16 @@ public interface Output<O> extends IOBase<O> {
         return new StringIdResult(result);
     }
 
+    /**
+     * To create bulk load report result output
+     *
+     * @return new instance of the output
+     * @see BulkLoadResult
+     */
+    static Output<BulkLoadReport> of(final BulkLoadReport result) {
+        return new BulkLoadResult(result);
+    }
+
     /**
      * To create number result output
      *
@@ -192,7 +204,7 @@ public interface Output<O> extends IOBase<O> {
      * @see BaseType
      */
     static <T extends BasePayload<? extends BaseType>> Output<T> of(final T payload) {
-        return MockUtil.isMock(payload) ? mock(payload) : new PayloadResult<>(payload);
+        return InstanceUnwrapper.current().isTestDouble(payload) ? mock(payload) : new PayloadResult<>(payload);
     }
 
     /**
@@ -257,12 +269,13 @@ public interface Output<O> extends IOBase<O> {
         return switch (result) {
             case null -> emptyResult();
             // check mocked objects
-            case Object object when MockUtil.isMock(object) -> mock(object);
+            case Object object when InstanceUnwrapper.current().isTestDouble(object) -> mock(object);
             // primitive output types
             case Boolean booleanResult -> of(booleanResult);
             case String stringResult -> of(stringResult);
             case Number numberResult -> of(numberResult);
             case Optional<?> optionalResult -> of(optionalResult);
+            case BulkLoadReport reportResult -> of(reportResult);
             // payload output types
             case BasePayload<?> payloadResult -> of(payloadResult);
             // set of results
@@ -285,7 +298,7 @@ public interface Output<O> extends IOBase<O> {
         return switch (type) {
             case null -> emptyResult();
             // check mocked objects
-            case T base when MockUtil.isMock(base) -> mock(base);
+            case T base when InstanceUnwrapper.current().isTestDouble(base) -> mock(base);
             // education types
             case StudentPayload payload -> of(payload);
             case Student base -> of(payloadMapper.toPayload(base));
@@ -361,7 +374,7 @@ public interface Output<O> extends IOBase<O> {
             final TreeNode resultNode = jsonParser.readValueAsTree();
             final var resultType = IOBase.restoreIoBaseClass(resultNode, Output.class);
             final var javaResultType = mapper.getTypeFactory().constructType(resultType);
-            return mapper.readValue(resultNode.toString(), javaResultType);
+            return IOBase.restoreValue(resultNode, mapper, javaResultType);
         }
     }
 }
@@ -47,11 +47,11 @@ public record ContextParameter<R, T extends Context<R>>(T value) implements Inpu
 
         @Override
         public void serialize(final ContextParameter parameter, final JsonGenerator generator,
-                              final SerializerProvider notUsed) throws IOException {
+                              final SerializerProvider serializerProvider) throws IOException {
             generator.writeStartObject();
             generator.writeStringField(TYPE_FIELD_NAME, ContextParameter.class.getName());
             generator.writeFieldName(VALUE_FIELD_NAME);
-            generator.writeRawValue(((ObjectMapper) generator.getCodec()).writeValueAsString(parameter.value));
+            IOBase.storeValue(parameter.value, generator, serializerProvider);
             generator.writeEndObject();
         }
     }
@@ -86,7 +86,7 @@ public record ContextParameter<R, T extends Context<R>>(T value) implements Inpu
 
         // private methods
         private static Context<?> restoreContext(final TreeNode valueNode, final JsonParser parser) throws IOException {
-            return ((ObjectMapper) parser.getCodec()).readValue(valueNode.toString(), Context.class);
+            return IOBase.restoreValue(valueNode, (ObjectMapper) parser.getCodec(), Context.class);
         }
     }
 }
@@ -4,6 +4,8 @@ import static oleg.sopilnyak.test.service.command.io.IOFieldNames.TYPE_FIELD_NAM
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.VALUE_FIELD_NAME;
 
 import oleg.sopilnyak.test.service.command.executable.core.MacroCommand;
+import oleg.sopilnyak.test.service.command.io.IOBase;
+import oleg.sopilnyak.test.service.command.io.IOTypesRegistry;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 
@@ -94,8 +96,8 @@ public class MacroCommandParameter implements Input<MacroCommandParameter> {
             generator.writeFieldName(VALUE_FIELD_NAME);
             // serialize the value start
             generator.writeStartObject();
-            serializeRootInputParameter(parameter.getRootInput(), generator);
-            serializeNestedContexts(parameter.getNestedContexts(), generator);
+            serializeRootInputParameter(parameter.getRootInput(), generator, serializerProvider);
+            serializeNestedContexts(parameter.getNestedContexts(), generator, serializerProvider);
             generator.writeEndObject();
             // serialize the value end
             generator.writeEndObject();
@@ -103,18 +105,19 @@ public class MacroCommandParameter implements Input<MacroCommandParameter> {
 
         // private methods
         private static void serializeRootInputParameter(final Input<?> mainInput,
-                                                        final JsonGenerator generator) throws IOException {
+                                                        final JsonGenerator generator,
+                                                        final SerializerProvider provider) throws IOException {
             generator.writeFieldName(MAIN_INPUT_FIELD_NAME);
-            generator.writeRawValue(((ObjectMapper) generator.getCodec()).writeValueAsString(mainInput));
+            IOBase.storeValue(mainInput, generator, provider);
         }
 
         private static void serializeNestedContexts(final Deque<Context<?>> nestedContexts,
-                                                    final JsonGenerator generator) throws IOException {
+                                                    final JsonGenerator generator,
+                                                    final SerializerProvider provider) throws IOException {
             generator.writeFieldName(NESTED_CONTEXTS_FIELD_NAME);
-            final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
             generator.writeStartArray();
             for (final Context<?> context : nestedContexts) {
-                generator.writeRawValue(mapper.writeValueAsString(context));
+                IOBase.storeValue(context, generator, provider);
             }
             generator.writeEndArray();
         }
@@ -157,11 +160,11 @@ public class MacroCommandParameter implements Input<MacroCommandParameter> {
         private static Class<? extends MacroCommandParameter> restoreParameterClass(final TreeNode parameterClassNode) throws IOException {
             try {
                 if (parameterClassNode instanceof TextNode node) {
-                    return Class.forName(node.asText()).asSubclass(MacroCommandParameter.class);
+                    return IOTypesRegistry.resolve(node.asText(), MacroCommandParameter.class);
                 } else {
                     throw new ClassNotFoundException("Wrong parameter type tree-node: " + parameterClassNode.getClass().getName());
                 }
-            } catch (ClassNotFoundException e) {
+            } catch (ClassNotFoundException | ClassCastException e) {
                 throw new IOException(parameterClassNode.toString(), e);
             }
         }
@@ -172,8 +175,7 @@ public class MacroCommandParameter implements Input<MacroCommandParameter> {
                 return Input.emptyParameter();
             }
             // restore redo parameter
-            final JsonParser parser = mapper.getFactory().createParser(treeNode.toString());
-            return parameterDeserializer.deserialize(parser, null);
+            return parameterDeserializer.deserialize(new IOBase.TreeNodeParser(treeNode, mapper), null);
         }
 
         private static Deque<Context<?>> deserializeNestedContexts(final TreeNode nestedContextsNode,
@@ -185,7 +187,7 @@ public class MacroCommandParameter implements Input<MacroCommandParameter> {
             if (nestedContextsNode instanceof ArrayNode contextsArrayNode) {
                 final Deque<Context<?>> contexts = new LinkedList<>();
                 for (final JsonNode contextNode : contextsArrayNode) {
-                    contexts.add(mapper.readValue(contextNode.toString(), Context.class));
+                    contexts.add(IOBase.restoreValue(contextNode, mapper, Context.class));
                 }
                 return contexts;
             }
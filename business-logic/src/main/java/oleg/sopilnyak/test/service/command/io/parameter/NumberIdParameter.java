@@ -6,6 +6,7 @@ import static oleg.sopilnyak.test.service.command.io.IOFieldNames.NESTED_TYPE_FI
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.TYPE_FIELD_NAME;
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.VALUE_FIELD_NAME;
 
+import oleg.sopilnyak.test.service.command.io.IOTypesRegistry;
 import oleg.sopilnyak.test.service.command.io.Input;
 
 import java.io.IOException;
@@ -91,7 +92,7 @@ public record NumberIdParameter<T extends Number>(T value) implements Input<T> {
                 try {
                     //
                     // restore type of number-id-input instance
-                    final var valueTypeClass = Class.forName(valueTypeName).asSubclass(NumberIdParameter.class);
+                    final var valueTypeClass = IOTypesRegistry.resolve(valueTypeName, NumberIdParameter.class);
                     //
                     // restore value of the number-id-input
                     final TreeNode parameterValueNode = inputTreeNode.get(VALUE_FIELD_NAME);
@@ -130,7 +131,7 @@ public record NumberIdParameter<T extends Number>(T value) implements Input<T> {
                 final String valueTypeName = node.textValue();
                 try {
                     // building value type from value-type class-name
-                    final var valueType = Class.forName(valueTypeName).asSubclass(Number.class);
+                    final var valueType = IOTypesRegistry.resolve(valueTypeName, Number.class);
                     // building value instance using one's type and value as string
                     return (T) valueType.getConstructor(String.class).newInstance(stringValue);
                 } catch (ClassNotFoundException | NoSuchMethodException |
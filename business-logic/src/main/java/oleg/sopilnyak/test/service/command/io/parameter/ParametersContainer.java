@@ -78,21 +78,22 @@ public abstract class ParametersContainer<T> {
 
         @Override
         public void serialize(final ParametersContainer parameter, final JsonGenerator generator,
-                              final SerializerProvider notUsed) throws IOException {
+                              final SerializerProvider serializerProvider) throws IOException {
             generator.writeStartObject();
             generator.writeStringField(TYPE_FIELD_NAME, parameter.getClass().getName());
             generator.writeFieldName(VALUE_FIELD_NAME);
-            serializeInputsArray(parameter.nest, generator);
+            serializeInputsArray(parameter.nest, generator, serializerProvider);
             generator.writeEndObject();
         }
 
         // private methods
         // store inputs array body as JSON
-        private void serializeInputsArray(final Input<?>[] inputs, final JsonGenerator generator) throws IOException {
+        private void serializeInputsArray(final Input<?>[] inputs,
+                                          final JsonGenerator generator,
+                                          final SerializerProvider provider) throws IOException {
             generator.writeStartArray();
-            final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
             for (final Input<?> input : inputs) {
-                generator.writeRawValue(mapper.writeValueAsString(input));
+                IOBase.storeValue(input, generator, provider);
             }
             generator.writeEndArray();
         }
@@ -150,7 +151,7 @@ public abstract class ParametersContainer<T> {
         @SuppressWarnings("unchecked")
         private Input<T> deserializeParameter(final JsonNode parameterNode, final ObjectMapper mapper) throws IOException {
             final var parameterClass = IOBase.restoreIoBaseClass(parameterNode, Input.class);
-            return mapper.readValue(parameterNode.toString(), parameterClass);
+            return IOBase.restoreValue(parameterNode, mapper, parameterClass);
         }
 
     }
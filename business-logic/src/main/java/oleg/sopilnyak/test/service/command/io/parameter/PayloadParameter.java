@@ -4,6 +4,8 @@ import static oleg.sopilnyak.test.service.command.io.IOFieldNames.NESTED_TYPE_FI
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.TYPE_FIELD_NAME;
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.VALUE_FIELD_NAME;
 
+import oleg.sopilnyak.test.service.command.io.IOBase;
+import oleg.sopilnyak.test.service.command.io.IOTypesRegistry;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.message.payload.BasePayload;
 
@@ -49,12 +51,11 @@ public record PayloadParameter<T extends BasePayload<?>>(T value) implements Inp
         public void serialize(final PayloadParameter<T> parameter,
                               final JsonGenerator generator,
                               final SerializerProvider serializerProvider) throws IOException {
-            final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
             generator.writeStartObject();
             generator.writeStringField(TYPE_FIELD_NAME, PayloadParameter.class.getName());
             generator.writeStringField(NESTED_TYPE_FIELD_NAME, parameter.value.getClass().getName());
             generator.writeFieldName(VALUE_FIELD_NAME);
-            generator.writeRawValue(mapper.writeValueAsString(parameter.value));
+            IOBase.storeValue(parameter.value, generator, serializerProvider);
             generator.writeEndObject();
         }
     }
@@ -82,11 +83,10 @@ public record PayloadParameter<T extends BasePayload<?>>(T value) implements Inp
             try {
                 final Class<?> nestedClass = restoreNestedClass(treeNode.get(NESTED_TYPE_FIELD_NAME));
                 final ObjectMapper mapper = (ObjectMapper) jsonParser.getCodec();
-                return new PayloadParameter<>(mapper.readValue(
-                        treeNode.get(VALUE_FIELD_NAME).toString(),
-                        mapper.getTypeFactory().constructType(nestedClass)
+                return new PayloadParameter<>(IOBase.restoreValue(
+                        treeNode.get(VALUE_FIELD_NAME), mapper, mapper.getTypeFactory().constructType(nestedClass)
                 ));
-            } catch (ClassNotFoundException e) {
+            } catch (ClassNotFoundException | ClassCastException e) {
                 throw new IOException("Wrong parameter nested type", e);
             }
         }
@@ -94,7 +94,7 @@ public record PayloadParameter<T extends BasePayload<?>>(T value) implements Inp
         // private methods
         private static Class<?> restoreNestedClass(final TreeNode nestedClassNode) throws ClassNotFoundException {
             if (nestedClassNode instanceof TextNode node) {
-                return Class.forName(node.asText());
+                return IOTypesRegistry.resolve(node.asText(), BasePayload.class);
             } else {
                 throw new ClassNotFoundException("Wrong nested type tree-node: " + nestedClassNode.getClass().getName());
             }
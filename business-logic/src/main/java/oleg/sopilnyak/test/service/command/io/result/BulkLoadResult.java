@@ -0,0 +1,83 @@
+package oleg.sopilnyak.test.service.command.io.result;
+
+import static oleg.sopilnyak.test.service.command.io.IOFieldNames.VALUE_FIELD_NAME;
+
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.service.command.io.IOBase;
+import oleg.sopilnyak.test.service.command.io.IOFieldNames;
+import oleg.sopilnyak.test.service.command.io.Output;
+
+import java.io.IOException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Type: I/O school-command bulk load report command execution result
+ *
+ * @see Output
+ * @see BulkLoadReport
+ */
+@JsonSerialize(using = BulkLoadResult.Serializer.class)
+@JsonDeserialize(using = BulkLoadResult.Deserializer.class)
+public record BulkLoadResult(BulkLoadReport value) implements Output<BulkLoadReport> {
+    /**
+     * JSON: Serializer for BulkLoadResult
+     *
+     * @see StdSerializer
+     * @see BulkLoadResult
+     */
+    static class Serializer extends StdSerializer<BulkLoadResult> {
+        public Serializer() {
+            this(null);
+        }
+
+        protected Serializer(Class<BulkLoadResult> t) {
+            super(t);
+        }
+
+        @Override
+        public void serialize(
+                final BulkLoadResult result, final JsonGenerator generator, final SerializerProvider serializerProvider
+        ) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField(IOFieldNames.TYPE_FIELD_NAME, BulkLoadResult.class.getName());
+            generator.writeFieldName(VALUE_FIELD_NAME);
+            IOBase.storeValue(result.value(), generator, serializerProvider);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * JSON: Deserializer for BulkLoadResult
+     *
+     * @see StdDeserializer
+     * @see BulkLoadResult
+     */
+    static class Deserializer extends StdDeserializer<BulkLoadResult> {
+
+        public Deserializer() {
+            this(BulkLoadResult.class);
+        }
+
+        protected Deserializer(Class<?> vc) {
+            super(vc);
+        }
+
+        @Override
+        public BulkLoadResult deserialize(
+                final JsonParser jsonParser, final DeserializationContext ignored
+        ) throws IOException {
+            final TreeNode valueNode = jsonParser.readValueAsTree().get(VALUE_FIELD_NAME);
+            final ObjectMapper mapper = (ObjectMapper) jsonParser.getCodec();
+            return new BulkLoadResult(IOBase.restoreValue(valueNode, mapper, BulkLoadReport.class));
+        }
+    }
+}
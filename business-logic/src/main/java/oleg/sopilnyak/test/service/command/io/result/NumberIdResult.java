@@ -7,6 +7,7 @@ import static oleg.sopilnyak.test.service.command.io.IOFieldNames.TYPE_FIELD_NAM
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.VALUE_FIELD_NAME;
 
 import oleg.sopilnyak.test.service.command.io.IOFieldNames;
+import oleg.sopilnyak.test.service.command.io.IOTypesRegistry;
 import oleg.sopilnyak.test.service.command.io.Output;
 
 import java.io.IOException;
@@ -97,7 +98,7 @@ public record NumberIdResult<T extends Number>(T value) implements Output<T> {
                 try {
                     //
                     // restore type of number-id-result instance
-                    final var valueTypeClass = Class.forName(valueTypeName).asSubclass(NumberIdResult.class);
+                    final var valueTypeClass = IOTypesRegistry.resolve(valueTypeName, NumberIdResult.class);
                     //
                     // restore value of the number-id-result
                     final TreeNode parameterValueNode = rootNode.get(VALUE_FIELD_NAME);
@@ -138,7 +139,7 @@ public record NumberIdResult<T extends Number>(T value) implements Output<T> {
                 final String valueTypeName = textTypeNode.textValue();
                 try {
                     // building value type from value-type class-name
-                    final var valueType = Class.forName(valueTypeName).asSubclass(Number.class);
+                    final var valueType = IOTypesRegistry.resolve(valueTypeName, Number.class);
                     // building value instance using one's type and value as string
                     return (T) valueType.getConstructor(String.class).newInstance(stringValue);
                 } catch (ClassNotFoundException | NoSuchMethodException |
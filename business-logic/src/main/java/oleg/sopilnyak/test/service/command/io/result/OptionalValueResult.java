@@ -3,7 +3,9 @@ package oleg.sopilnyak.test.service.command.io.result;
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.TYPE_FIELD_NAME;
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.VALUE_FIELD_NAME;
 
+import oleg.sopilnyak.test.service.command.io.IOBase;
 import oleg.sopilnyak.test.service.command.io.IOFieldNames;
+import oleg.sopilnyak.test.service.command.io.IOTypesRegistry;
 import oleg.sopilnyak.test.service.command.io.Output;
 
 import java.io.IOException;
@@ -46,17 +48,15 @@ public record OptionalValueResult<T>(Optional<T> value) implements Output<Option
 
         @Override
         public void serialize(
-                final OptionalValueResult<T> result, final JsonGenerator generator, final SerializerProvider ignored
+                final OptionalValueResult<T> result, final JsonGenerator generator, final SerializerProvider serializerProvider
         ) throws IOException {
             generator.writeStartObject();
             // storing type of result
             generator.writeStringField(IOFieldNames.TYPE_FIELD_NAME, OptionalValueResult.class.getName());
             // storing result value
-            final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
             generator.writeFieldName(VALUE_FIELD_NAME);
             final Output<?> valueResult = result.value.isEmpty() ? Output.emptyResult() : Output.of(result.value.get());
-            final String valueJson = mapper.writeValueAsString(valueResult);
-            generator.writeRawValue(valueJson);
+            IOBase.storeValue(valueResult, generator, serializerProvider);
             generator.writeEndObject();
         }
     }
@@ -97,8 +97,8 @@ public record OptionalValueResult<T>(Optional<T> value) implements Output<Option
                 try {
                     //
                     // restore type of result value instance
-                    final var valueTypeClass = Class.forName(valueTypeName).asSubclass(Output.class);
-                    return mapper.readerFor(valueTypeClass).readValue(rootNode.toString());
+                    final var valueTypeClass = IOTypesRegistry.resolve(valueTypeName, Output.class);
+                    return IOBase.restoreValue(rootNode, mapper, valueTypeClass);
                 } catch (ClassNotFoundException | ClassCastException e) {
                     throw new IOException("Result Optional Value Type is missing :" + valueTypeName, e);
                 }
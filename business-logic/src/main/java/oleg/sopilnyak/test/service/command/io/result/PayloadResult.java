@@ -4,7 +4,9 @@ import static oleg.sopilnyak.test.service.command.io.IOFieldNames.NESTED_TYPE_FI
 import static oleg.sopilnyak.test.service.command.io.IOFieldNames.VALUE_FIELD_NAME;
 
 import oleg.sopilnyak.test.school.common.model.BaseType;
+import oleg.sopilnyak.test.service.command.io.IOBase;
 import oleg.sopilnyak.test.service.command.io.IOFieldNames;
+import oleg.sopilnyak.test.service.command.io.IOTypesRegistry;
 import oleg.sopilnyak.test.service.command.io.Output;
 import oleg.sopilnyak.test.service.command.io.parameter.PayloadParameter;
 import oleg.sopilnyak.test.service.message.payload.BasePayload;
@@ -51,14 +53,13 @@ public record PayloadResult<P extends BasePayload<? extends BaseType>>(P value)
 
         @Override
         public void serialize(
-                final PayloadResult<T> result, final JsonGenerator generator, final SerializerProvider ignored
+                final PayloadResult<T> result, final JsonGenerator generator, final SerializerProvider serializerProvider
         ) throws IOException {
             generator.writeStartObject();
             generator.writeStringField(IOFieldNames.TYPE_FIELD_NAME, PayloadResult.class.getName());
             generator.writeStringField(NESTED_TYPE_FIELD_NAME, result.value.getClass().getName());
             generator.writeFieldName(VALUE_FIELD_NAME);
-            final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
-            generator.writeRawValue(mapper.writeValueAsString(result.value));
+            IOBase.storeValue(result.value, generator, serializerProvider);
             generator.writeEndObject();
         }
     }
@@ -88,15 +89,14 @@ public record PayloadResult<P extends BasePayload<? extends BaseType>>(P value)
                 final TreeNode node = rootNode.get(NESTED_TYPE_FIELD_NAME);
                 final Class<?> nestedClass;
                 if (node instanceof TextNode textNode) {
-                    nestedClass = Class.forName(textNode.asText());
+                    nestedClass = IOTypesRegistry.resolve(textNode.asText(), BasePayload.class);
                 } else {
                     throw new ClassNotFoundException("Wrong nested type tree-node: " + node.getClass().getName());
                 }
                 final ObjectMapper mapper = (ObjectMapper) jsonParser.getCodec();
-                final String payloadJson = rootNode.get(VALUE_FIELD_NAME).toString();
                 final JavaType payloadType = mapper.getTypeFactory().constructType(nestedClass);
-                return new PayloadResult<>(mapper.readValue(payloadJson, payloadType));
-            } catch (ClassNotFoundException e) {
+                return new PayloadResult<>(IOBase.restoreValue(rootNode.get(VALUE_FIELD_NAME), mapper, payloadType));
+            } catch (ClassNotFoundException | ClassCastException e) {
                 throw new IOException("Wrong parameter nested type", e);
             }
         }
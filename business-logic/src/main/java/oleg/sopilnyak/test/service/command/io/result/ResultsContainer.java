@@ -79,12 +79,12 @@ public abstract class ResultsContainer<T> {
         @SuppressWarnings("unchecked")
         @Override
         public void serialize(final ResultsContainer result, final JsonGenerator generator,
-                              final SerializerProvider notUsed) throws IOException {
+                              final SerializerProvider serializerProvider) throws IOException {
             checkBeforeSerialize(result.nest);
             generator.writeStartObject();
             generator.writeStringField(TYPE_FIELD_NAME, result.getClass().getName());
             generator.writeFieldName(VALUE_FIELD_NAME);
-            serializeOutputsArray(result.nest, generator);
+            serializeOutputsArray(result.nest, generator, serializerProvider);
             generator.writeEndObject();
         }
 
@@ -100,11 +100,12 @@ public abstract class ResultsContainer<T> {
 
         // private methods
         // store results array body as JSON
-        private void serializeOutputsArray(final Output<?>[] outputs, final JsonGenerator generator) throws IOException {
+        private void serializeOutputsArray(final Output<?>[] outputs,
+                                           final JsonGenerator generator,
+                                           final SerializerProvider provider) throws IOException {
             generator.writeStartArray();
-            final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
             for (final Output<?> output : outputs) {
-                generator.writeRawValue(mapper.writeValueAsString(output));
+                IOBase.storeValue(output, generator, provider);
             }
             generator.writeEndArray();
         }
@@ -162,7 +163,7 @@ public abstract class ResultsContainer<T> {
         @SuppressWarnings("unchecked")
         private Output<T> deserializeResult(final JsonNode resultNode, final ObjectMapper mapper) throws IOException {
             final var resultClass = IOBase.restoreIoBaseClass(resultNode, Output.class);
-            return mapper.readValue(resultNode.toString(), resultClass);
+            return IOBase.restoreValue(resultNode, mapper, resultClass);
         }
 
     }
@@ -261,5 +261,14 @@ public interface Context<T> extends Serializable {
          * @return deque of durations
          */
         Deque<Duration> durations();
+
+        /**
+         * To get the last state of the context
+         *
+         * @return the last state or null if there were no states
+         */
+        default State lastState() {
+            return states().peekLast();
+        }
     }
 }
@@ -7,6 +7,7 @@ import oleg.sopilnyak.test.service.command.executable.core.context.CommandContex
 import oleg.sopilnyak.test.service.command.executable.core.context.history.History;
 import oleg.sopilnyak.test.service.command.factory.farm.CommandsFactoriesFarm;
 import oleg.sopilnyak.test.service.command.io.IOBase;
+import oleg.sopilnyak.test.service.command.io.IOTypesRegistry;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.io.Output;
 
@@ -92,14 +93,14 @@ public class JsonContextModule<T> extends SimpleModule {
             final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
             generator.writeStartObject();
             serializeCommand(context.getCommand(), generator);
-            serializeRedoParameter(context.getRedoParameter(), generator);
-            serializeUndoParameter(context.getUndoParameter(), generator);
-            serializeExecutionResult(context.getResult().orElse(null), generator);
-            serializeExecutionError(context.getException(), generator);
+            serializeRedoParameter(context.getRedoParameter(), generator, provider);
+            serializeUndoParameter(context.getUndoParameter(), generator, provider);
+            serializeExecutionResult(context.getResult().orElse(null), generator, provider);
+            serializeExecutionError(context.getException(), generator, provider);
             generator.writeStringField(STARTED_AT_FIELD_NAME, mapper.writeValueAsString(context.getStartedAt()));
             generator.writeStringField(DURATION_FIELD_NAME, mapper.writeValueAsString(context.getDuration()));
             generator.writeStringField(STATE_FIELD_NAME, String.valueOf(context.getState()));
-            serializeHistory(context.getHistory(), generator);
+            serializeHistory(context.getHistory(), generator, provider);
             generator.writeEndObject();
         }
 
@@ -111,44 +112,55 @@ public class JsonContextModule<T> extends SimpleModule {
             generator.writeEndObject();
         }
 
-        private void serializeExecutionResult(final T executionResult, final JsonGenerator generator) throws IOException {
+        private void serializeExecutionResult(final T executionResult,
+                                              final JsonGenerator generator,
+                                              final SerializerProvider provider) throws IOException {
             generator.writeFieldName(RESULT_FIELD_NAME);
             final Output<?> result = isNull(executionResult) ?  Output.emptyResult() : Output.of(executionResult);
-            generator.writeRawValue(((ObjectMapper) generator.getCodec()).writeValueAsString(result));
+            IOBase.storeValue(result, generator, provider);
         }
 
         // serialize input parameter
         private static <I> void serializeParameter(final Input<I> input,
                                                    final JsonGenerator generator,
+                                                   final SerializerProvider provider,
                                                    final String fieldName) throws IOException {
             if (isNull(input) || input.isEmpty()) {
                 // if input is null or empty, do not serialize
                 return;
             }
             generator.writeFieldName(fieldName);
-            generator.writeRawValue(((ObjectMapper) generator.getCodec()).writeValueAsString(input));
+            IOBase.storeValue(input, generator, provider);
         }
 
         // serialize redo parameter
-        private static <R> void serializeRedoParameter(final Input<R> input, final JsonGenerator generator) throws IOException {
-            serializeParameter(input, generator, REDO_INPUT_FIELD_NAME);
+        private static <R> void serializeRedoParameter(final Input<R> input,
+                                                       final JsonGenerator generator,
+                                                       final SerializerProvider provider) throws IOException {
+            serializeParameter(input, generator, provider, REDO_INPUT_FIELD_NAME);
         }
 
         // serialize undo parameter
-        private static <U> void serializeUndoParameter(final Input<U> undoInput, final JsonGenerator generator) throws IOException {
-            serializeParameter(undoInput, generator, UNDO_INPUT_FIELD_NAME);
+        private static <U> void serializeUndoParameter(final Input<U> undoInput,
+                                                       final JsonGenerator generator,
+                                                       final SerializerProvider provider) throws IOException {
+            serializeParameter(undoInput, generator, provider, UNDO_INPUT_FIELD_NAME);
         }
 
-        private void serializeExecutionError(final Throwable error, final JsonGenerator generator) throws IOException {
+        private void serializeExecutionError(final Throwable error,
+                                             final JsonGenerator generator,
+                                             final SerializerProvider provider) throws IOException {
             if (nonNull(error)) {
                 generator.writeFieldName(ERROR_FIELD_NAME);
-                exceptionSerializer.serialize(error, generator, null);
+                exceptionSerializer.serialize(error, generator, provider);
             }
         }
 
-        private void serializeHistory(final Context.LifeCycleHistory history, final JsonGenerator generator) throws IOException {
+        private void serializeHistory(final Context.LifeCycleHistory history,
+                                      final JsonGenerator generator,
+                                      final SerializerProvider provider) throws IOException {
             generator.writeFieldName(HISTORY_FIELD_NAME);
-            generator.writeRawValue(((ObjectMapper) generator.getCodec()).writeValueAsString(history));
+            IOBase.storeValue(history, generator, provider);
         }
     }
 
@@ -218,7 +230,7 @@ public class JsonContextModule<T> extends SimpleModule {
             if (commandTypeNode instanceof TextNode textTypeNode) {
                 final String commandFamilyTypeName = textTypeNode.textValue();
                 try {
-                    final Class<?> commandFamilyType = Class.forName(commandFamilyTypeName).asSubclass(RootCommand.class);
+                    final Class<?> commandFamilyType = IOTypesRegistry.resolve(commandFamilyTypeName, RootCommand.class);
                     if (commandFamilyType.equals(command.commandFamily())) {
                         // add valid command to context builder
                         contextBuilder.command(command);
@@ -241,7 +253,7 @@ public class JsonContextModule<T> extends SimpleModule {
                 return;
             }
             // restore redo parameter
-            final JsonParser parser = mapper.getFactory().createParser(treeNode.toString());
+            final JsonParser parser = new IOBase.TreeNodeParser(treeNode, mapper);
             final Input<?> redoParameter = parameterDeserializer.deserialize(parser, null);
             contextBuilder.redoParameter(redoParameter);
         }
@@ -254,7 +266,7 @@ public class JsonContextModule<T> extends SimpleModule {
                 return;
             }
             // restore undo parameter
-            final JsonParser parser = mapper.getFactory().createParser(treeNode.toString());
+            final JsonParser parser = new IOBase.TreeNodeParser(treeNode, mapper);
             final Input<?> undoParameter = parameterDeserializer.deserialize(parser, null);
             contextBuilder.undoParameter(undoParameter);
         }
@@ -266,7 +278,7 @@ public class JsonContextModule<T> extends SimpleModule {
                 return;
             }
             // restore execution result
-            final JsonParser parser = mapper.getFactory().createParser(treeNode.toString());
+            final JsonParser parser = new IOBase.TreeNodeParser(treeNode, mapper);
             final Output<T> executionResult = resultDeserializer.deserialize(parser, null);
             contextBuilder.resultData(executionResult.value());
         }
@@ -278,7 +290,7 @@ public class JsonContextModule<T> extends SimpleModule {
                 return;
             }
             // restore execution error
-            final JsonParser parser = mapper.getFactory().createParser(treeNode.toString());
+            final JsonParser parser = new IOBase.TreeNodeParser(treeNode, mapper);
             final Throwable error = errorDeserializer.deserialize(parser, null);
             contextBuilder.exception((Exception) error);
         }
@@ -317,7 +329,7 @@ public class JsonContextModule<T> extends SimpleModule {
                                         final ObjectMapper mapper) throws IOException {
             if (nonNull(treeNode)) {
                 // restore execution history
-                final JsonParser parser = mapper.getFactory().createParser(treeNode.toString());
+                final JsonParser parser = new IOBase.TreeNodeParser(treeNode, mapper);
                 final History history = mapper.readValue(parser, History.class);
                 contextBuilder.history(history);
             }
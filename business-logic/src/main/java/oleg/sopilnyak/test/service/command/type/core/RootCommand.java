@@ -4,12 +4,16 @@ import static java.util.Objects.isNull;
 
 import oleg.sopilnyak.test.service.command.executable.core.BasicCommand;
 import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
+import oleg.sopilnyak.test.service.command.executable.core.context.history.History;
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandResultCache;
+import oleg.sopilnyak.test.service.command.executable.core.executor.cache.CommandSingleFlight;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.nested.NestedCommand;
 import oleg.sopilnyak.test.service.command.type.core.nested.PrepareNestedContextVisitor;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 
 /**
@@ -39,6 +43,28 @@ public interface RootCommand<T> extends CommandExecutable<T>, NestedCommand<T> {
         throw new UnsupportedOperationException("Please declare the name of command in spring beans factory.");
     }
 
+    /**
+     * The region of the commands results cache, the result of read-only command is cached in<BR/>
+     * The identical commands in flight having the region are coalesced as well
+     *
+     * @return the name of the region or null if the command's result isn't cached
+     * @see CommandResultCache
+     * @see CommandSingleFlight
+     */
+    default String resultCacheRegion() {
+        return null;
+    }
+
+    /**
+     * The regions of the commands results cache, invalidated by the command's do or undo
+     *
+     * @return the names of the regions (empty for read-only command)
+     * @see CommandResultCache#invalidate(RootCommand)
+     */
+    default Set<String> invalidatedCacheRegions() {
+        return Set.of();
+    }
+
     /**
      * To get mapper instance for business-message-payload transformation
      *
@@ -73,7 +99,7 @@ public interface RootCommand<T> extends CommandExecutable<T>, NestedCommand<T> {
      */
     @Override
     default Context<T> createContext() {
-        final Context<T> context = CommandContext.<T>builder().command(this).build();
+        final Context<T> context = CommandContext.<T>builder().command(this).history(contextHistory()).build();
         context.setState(Context.State.INIT);
         return context;
     }
@@ -94,7 +120,7 @@ public interface RootCommand<T> extends CommandExecutable<T>, NestedCommand<T> {
      */
     @Override
     default Context<T> createContext(Input<?> parameter) {
-        final Context<T> context = CommandContext.<T>builder().command(this).redoParameter(parameter).build();
+        final Context<T> context = CommandContext.<T>builder().command(this).redoParameter(parameter).history(contextHistory()).build();
         context.setState(Context.State.INIT);
         context.setState(Context.State.READY);
         return context;
@@ -244,4 +270,30 @@ public interface RootCommand<T> extends CommandExecutable<T>, NestedCommand<T> {
         return visitor.prepareContext(this, input);
     }
 
+    /**
+     * Type: contexts of the command are created with limited history<BR/>
+     * High-volume read commands could cap or switch the history off (the last state is kept anyway),
+     * but nested commands of composite commands need the states history to notify the listeners
+     *
+     * @see History#OFF
+     * @see CompositeCommand#executeDoNested(Context, Context.StateChangedListener)
+     */
+    interface WithLimitedContextHistory {
+        /**
+         * To get the maximum quantity of the items kept in the history of command's context
+         *
+         * @return the limit of the history items
+         * @see History#UNLIMITED
+         * @see History#OFF
+         */
+        int getContextHistoryLimit();
+    }
+
+    // private methods
+    // to build history of the command's context
+    private History contextHistory() {
+        return this instanceof WithLimitedContextHistory limited
+                ? History.builder().limit(limited.getContextHistoryLimit()).build()
+                : History.builder().build();
+    }
 }
@@ -1,5 +1,6 @@
 package oleg.sopilnyak.test.service.command.type.core.nested;
 
+import oleg.sopilnyak.test.service.command.executable.core.DependencyGraphCommandsTask;
 import oleg.sopilnyak.test.service.command.executable.core.ParallelCommandsTask;
 import oleg.sopilnyak.test.service.command.executable.core.SequentialCommandsTask;
 import oleg.sopilnyak.test.service.command.io.Input;
@@ -77,6 +78,21 @@ public interface PrepareNestedContextVisitor {
         return command.createContext(mainInputParameter);
     }
 
+    /**
+     * To prepare context for particular type (DependencyGraphCommandsTask) of the nested command
+     *
+     * @param command            nested command instance
+     * @param mainInputParameter macro-command input parameter
+     * @param <T>                type of command's do result
+     * @return built context of the nested command for the macro input parameter
+     * @see DependencyGraphCommandsTask
+     * @see DependencyGraphCommandsTask#createContext(Input)
+     * @see Context
+     */
+    default <T> Context<T> prepareContext(final DependencyGraphCommandsTask<T> command, final Input<?> mainInputParameter) {
+        return command.createContext(mainInputParameter);
+    }
+
     /**
      * To prepare context for particular type (CourseCommand) of the nested command
      *
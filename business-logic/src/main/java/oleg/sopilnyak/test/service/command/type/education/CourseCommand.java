@@ -21,6 +21,8 @@ public interface CourseCommand<T> extends RootCommand<T> {
     //
     // the name of factory in Spring Beans Factory
     String FACTORY_BEAN_NAME = "courseCommandsFactory";
+    // the region of the commands results cache for the family
+    String CACHE_REGION = "courses";
 
     // spring-bean component names of the commands family
     final class Component {
@@ -30,10 +32,14 @@ public interface CourseCommand<T> extends RootCommand<T> {
         public static final String FIND_BY_ID = "courseFind";
         public static final String FIND_REGISTERED = "courseFindWithStudent";
         public static final String FIND_NOT_REGISTERED = "courseFindNoStudents";
+        public static final String FIND_NOT_REGISTERED_PAGE = "courseFindNoStudentsPage";
+        public static final String COUNT_NOT_REGISTERED = "courseCountNoStudents";
         public static final String CREATE_OR_UPDATE = "courseUpdate";
         public static final String DELETE = "courseDelete";
         public static final String REGISTER = "courseRegisterStudent";
         public static final String UN_REGISTER = "courseUnRegisterStudent";
+        public static final String LOAD_ALL = "courseBulkLoad";
+        public static final String REGISTER_ALL = "courseBulkRegisterStudents";
     }
 
     /**
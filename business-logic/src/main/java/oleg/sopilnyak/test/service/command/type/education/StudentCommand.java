@@ -21,6 +21,8 @@ public interface StudentCommand<T> extends RootCommand<T> {
     //
     // the name of factory in Spring Beans Factory
     String FACTORY_BEAN_NAME = "studentCommandsFactory";
+    // the region of the commands results cache for the family
+    String CACHE_REGION = "students";
 
     // spring-bean component names of the commands family
     final class Component {
@@ -30,10 +32,13 @@ public interface StudentCommand<T> extends RootCommand<T> {
         public static final String FIND_BY_ID = "studentFind";
         public static final String FIND_ENROLLED = "studentFindEnrolled";
         public static final String FIND_NOT_ENROLLED = "studentFindNotEnrolled";
+        public static final String FIND_NOT_ENROLLED_PAGE = "studentFindNotEnrolledPage";
+        public static final String COUNT_NOT_ENROLLED = "studentCountNotEnrolled";
         public static final String CREATE_OR_UPDATE = "studentUpdate";
         public static final String CREATE_NEW = "studentMacroCreate";
         public static final String DELETE = "studentDelete";
         public static final String DELETE_ALL = "studentMacroDelete";
+        public static final String LOAD_ALL = "studentBulkLoad";
     }
 
     /**
@@ -31,6 +31,7 @@ public interface AuthorityPersonCommand<T> extends OrganizationCommand<T> {
         public static final String LOGIN = "authorityPersonLogin";
         public static final String LOGOUT = "authorityPersonLogout";
         public static final String FIND_ALL = "authorityPersonFindAll";
+        public static final String FIND_PAGE = "authorityPersonFindPage";
         public static final String FIND_BY_ID = "authorityPersonFind";
         public static final String CREATE_OR_UPDATE = "authorityPersonUpdate";
         public static final String DELETE = "authorityPersonDelete";
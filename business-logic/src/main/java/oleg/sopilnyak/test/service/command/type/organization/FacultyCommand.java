@@ -20,6 +20,8 @@ public interface FacultyCommand<T> extends OrganizationCommand<T> {
     String FACULTY_WITH_ID_PREFIX = "Faculty with ID:";
     // the name of factory in Spring Beans Factory
     String FACTORY_BEAN_NAME = "facultyCommandsFactory";
+    // the region of the commands results cache for the family
+    String CACHE_REGION = "faculties";
 
     // spring-bean names of the command family
     final class Component {
@@ -27,6 +29,7 @@ public interface FacultyCommand<T> extends OrganizationCommand<T> {
         }
 
         public static final String FIND_ALL = "facultyFindAll";
+        public static final String FIND_PAGE = "facultyFindPage";
         public static final String FIND_BY_ID = "facultyFind";
         public static final String CREATE_OR_UPDATE = "facultyUpdate";
         public static final String DELETE = "facultyDelete";
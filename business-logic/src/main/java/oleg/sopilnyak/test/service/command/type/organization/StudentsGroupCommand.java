@@ -28,6 +28,7 @@ public interface StudentsGroupCommand<T> extends OrganizationCommand<T> {
         }
 
         public static final String FIND_ALL = "studentsGroupFindAll";
+        public static final String FIND_PAGE = "studentsGroupFindPage";
         public static final String FIND_BY_ID = "studentsGroupFind";
         public static final String CREATE_OR_UPDATE = "studentsGroupUpdate";
         public static final String DELETE = "studentsGroupDelete";
@@ -19,6 +19,8 @@ import oleg.sopilnyak.test.service.message.payload.PrincipalProfilePayload;
 public interface PrincipalProfileCommand<T> extends ProfileCommand<T> {
     // the name of factory singleton in Spring Beans Factory
     String FACTORY_BEAN_NAME = "principalProfileCommandsFactory";
+    // the region of the commands results cache for the family
+    String CACHE_REGION = "principal-profiles";
     //
     // spring-bean component names of the commands family
     final class Component {
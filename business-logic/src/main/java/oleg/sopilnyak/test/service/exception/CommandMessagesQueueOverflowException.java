@@ -0,0 +1,18 @@
+package oleg.sopilnyak.test.service.exception;
+
+/**
+ * Exception throws when command-messages queue is full and the message isn't admitted for processing
+ */
+public class CommandMessagesQueueOverflowException extends RuntimeException {
+    /**
+     * Constructs a new instance of th exception with the specified processor name, queue capacity and admission policy.
+     *
+     * @param processorName   the name of the messages-processor which rejected the message
+     * @param capacity        the capacity of the processor's queue
+     * @param admissionPolicy the name of admission policy which rejected the message
+     */
+    public CommandMessagesQueueOverflowException(String processorName, long capacity, String admissionPolicy) {
+        super("The queue of '" + processorName + "' (capacity " + capacity + ") is overflowed, message is rejected by "
+              + admissionPolicy + " admission policy");
+    }
+}
@@ -13,6 +13,7 @@ import oleg.sopilnyak.test.service.exception.CommandNotRegisteredInFactoryExcept
 import oleg.sopilnyak.test.service.exception.UnableExecuteCommandException;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -87,20 +88,52 @@ public interface ActionFacade {
         }
 
         final Context<T> responseContext = getActionExecutor().commitAction(ActionContext.current(), requestContext);
-        if (responseContext.isDone()) {
-            // command execution is successful
-            getLogger().debug("Success execution of command:{} with parameter:{}", commandId, input.value());
-            // get the value of result of command execution response-context
-            final T result = responseContext.getResult().orElseThrow(createThrowFor(commandId));
-            getLogger().debug("Execution result of command:{} with parameter:{} is :{}", commandId, input.value(), result);
-            // returns result of command execution
-            return Optional.of(result);
-        } else {
-            // fail processing
-            doThisOnError.accept(responseContext.getException());
-            // returns null if command execution failed
-            return Optional.empty();
+        return commandResult(commandId, input, responseContext, doThisOnError);
+    }
+
+    /**
+     * To act processing command asynchronously with given command ID, command factory, and input parameter.
+     *
+     * @param commandId the command id
+     * @param factory   the commands factory to find command by id
+     * @param input     the input parameter for the command execution
+     * @param <T>       type of command result
+     * @return future of command execution result, completed exceptionally if command cannot be executed
+     * @see ActionFacade#executeCommandAsync(String, CommandsFactory, Input, Consumer)
+     */
+    default <T> CompletableFuture<Optional<T>> executeCommandAsync(String commandId, CommandsFactory<? extends RootCommand<?>> factory,
+                                                                  Input<?> input) {
+        // To do processing command with the given command-id, input parameter and default error processor
+        return executeCommandAsync(commandId, factory, input, defaultDoOnError(commandId));
+    }
+
+    /**
+     * To act processing command asynchronously with given command-id, commands factory, input parameter and command error processor.<BR/>
+     * The caller's thread isn't blocked while command is executing
+     *
+     * @param commandId     the command id
+     * @param factory       the commands factory to find command by id
+     * @param input         the input parameter for the command execution
+     * @param doThisOnError consumer to handle command execution errors
+     * @param <T>           type of command result
+     * @return future of command execution result, completed exceptionally if command cannot be executed
+     * @see CommandsFactory#makeCommandContext(String, Input)
+     * @see CommandActionExecutor#commitActionAsync(ActionContext, Context)
+     * @see UnableExecuteCommandException
+     */
+    default <T> CompletableFuture<Optional<T>> executeCommandAsync(String commandId, CommandsFactory<? extends RootCommand<?>> factory,
+                                                                  Input<?> input,
+                                                                  Consumer<Exception> doThisOnError) {
+        final Context<T> requestContext = factory.makeCommandContext(commandId, input);
+        if (isNull(requestContext)) {
+            // command is not registered in the factory
+            getLogger().error("Command with ID:{} is not registered in the factory:{}", commandId, factory.getName());
+            final Exception notRegistered = new CommandNotRegisteredInFactoryException(commandId, factory);
+            return CompletableFuture.failedFuture(new UnableExecuteCommandException(commandId, notRegistered));
         }
+
+        return getActionExecutor().<T>commitActionAsync(ActionContext.current(), requestContext)
+                .thenApply(responseContext -> commandResult(commandId, input, responseContext, doThisOnError));
     }
 
     /**
@@ -165,4 +198,22 @@ public interface ActionFacade {
         };
     }
     // private methods
+    // to get the result of command execution from the response-context
+    private <T> Optional<T> commandResult(String commandId, Input<?> input,
+                                          Context<T> responseContext, Consumer<Exception> doThisOnError) {
+        if (responseContext.isDone()) {
+            // command execution is successful
+            getLogger().debug("Success execution of command:{} with parameter:{}", commandId, input.value());
+            // get the value of result of command execution response-context
+            final T result = responseContext.getResult().orElseThrow(createThrowFor(commandId));
+            getLogger().debug("Execution result of command:{} with parameter:{} is :{}", commandId, input.value(), result);
+            // returns result of command execution
+            return Optional.of(result);
+        } else {
+            // fail processing
+            doThisOnError.accept(responseContext.getException());
+            // returns null if command execution failed
+            return Optional.empty();
+        }
+    }
 }
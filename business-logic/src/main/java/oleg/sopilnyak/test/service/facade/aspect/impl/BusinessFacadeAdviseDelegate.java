@@ -2,11 +2,10 @@ package oleg.sopilnyak.test.service.facade.aspect.impl;
 
 import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
 import oleg.sopilnyak.test.school.common.business.facade.BusinessFacade;
+import oleg.sopilnyak.test.school.common.utility.InstanceUnwrapper;
 import oleg.sopilnyak.test.service.facade.aspect.AdviseDelegate;
 
 import org.aspectj.lang.JoinPoint;
-import org.mockito.Mockito;
-import org.mockito.internal.util.MockUtil;
 import org.springframework.stereotype.Component;
 import lombok.extern.slf4j.Slf4j;
 
@@ -69,15 +68,12 @@ public class BusinessFacadeAdviseDelegate implements AdviseDelegate {
 
     private BusinessFacade getFacadeReference(final JoinPoint joinPoint) {
         final Object target = joinPoint.getTarget();
-        if (MockUtil.isSpy(target)) {
-            log.warn("Target facade is spy.");
+        final InstanceUnwrapper unwrapper = InstanceUnwrapper.current();
+        if (unwrapper.isTestDouble(target)) {
+            log.warn("Target facade is test double.");
             // if target is spy, we can retrieve genuine instance from it
-            // this is useful for Mockito spy, which is not a mock, but a real object
-            return (BusinessFacade) Mockito.mockingDetails(target).getMockCreationSettings().getSpiedInstance();
-        } else if (MockUtil.isMock(target)) {
-            log.warn("Target facade is mock.");
             // if target is mock, we cannot retrieve genuine instance from it
-            return null;
+            return (BusinessFacade) unwrapper.genuine(target);
         } else if (target instanceof BusinessFacade facade) {
             log.info("Detected BusinessFacade name = '{}'.", facade.getName());
             return facade;
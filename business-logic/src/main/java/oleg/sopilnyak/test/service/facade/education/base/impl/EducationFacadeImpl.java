@@ -2,8 +2,33 @@ package oleg.sopilnyak.test.service.facade.education.base.impl;
 
 import oleg.sopilnyak.test.school.common.business.facade.BusinessFacade;
 import oleg.sopilnyak.test.school.common.business.facade.education.base.EducationFacade;
+import oleg.sopilnyak.test.school.common.exception.core.CannotProcessActionException;
+import oleg.sopilnyak.test.school.common.exception.core.InvalidParameterTypeException;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.service.facade.education.bulk.BulkRowsReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 public abstract class EducationFacadeImpl implements EducationFacade {
+    // the quantity of the rows loaded in one transaction
+    private int bulkChunkSize = 500;
+
+    /**
+     * Inject the quantity of the rows loaded by the bulk action in one transaction
+     *
+     * @param bulkChunkSize the size of the chunk of the rows
+     * @see BulkRowsReader
+     */
+    @Autowired
+    public final void setBulkChunkSize(@Value("${school.bulk.load.chunk.size:500}") int bulkChunkSize) {
+        this.bulkChunkSize = bulkChunkSize;
+    }
+
     /**
      * Unified facade's entry-point to do action and return the result
      * delegate to facade's main entry-point method
@@ -30,4 +55,30 @@ public abstract class EducationFacadeImpl implements EducationFacade {
     public <T> T educationAction(String actionId, Object... parameters) {
         return EducationFacade.super.educationAction(actionId, parameters);
     }
+
+    /**
+     * To load the rows from the input stream by chunks (chunk per command execution)
+     *
+     * @param rowType     the type of the row to load
+     * @param chunkLoader the loader of the chunk of rows
+     * @param parameters  the parameters of the action (input stream and its media-type)
+     * @param <R>         the type of the row
+     * @return the report of the load
+     * @see BulkRowsReader#load(InputStream, String, Function)
+     */
+    protected <R> BulkLoadReport bulkLoad(final Class<R> rowType, final Function<List<R>, BulkLoadReport> chunkLoader,
+                                          final Object... parameters) {
+        if (parameters == null || parameters.length < 1) {
+            throw new IllegalArgumentException("Wrong number of parameters");
+        }
+        if (!(parameters[0] instanceof InputStream input)) {
+            throw new InvalidParameterTypeException("InputStream", parameters[0]);
+        }
+        final String mediaType = parameters.length > 1 && parameters[1] instanceof String type ? type : null;
+        try {
+            return new BulkRowsReader<>(rowType, bulkChunkSize).load(input, mediaType, chunkLoader);
+        } catch (IOException e) {
+            throw new CannotProcessActionException("Cannot read the rows to load", e);
+        }
+    }
 }
@@ -0,0 +1,184 @@
+package oleg.sopilnyak.test.service.facade.education.bulk;
+
+import static java.util.Objects.isNull;
+
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utility: Streaming reader of the bulk load rows<BR/>
+ * The rows are read line by line (NDJSON or CSV with header line) and passed to the loader by chunks,
+ * so the whole input is never kept in the memory. The errors of the rows (parsing and loading)
+ * are reported by the line-number of the row in the input. The instance reads one input only
+ *
+ * @param <R> the type of the row
+ * @see BulkLoadReport
+ */
+@Slf4j
+public class BulkRowsReader<R> {
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+    // the mapper of the rows (unknown fields/columns are ignored)
+    private static final ObjectMapper ROWS_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final Class<R> rowType;
+    private final int chunkSize;
+    // the state of the load
+    private final List<R> chunk;
+    private final List<Long> chunkLines;
+    private final List<BulkLoadReport.RowError> errors = new ArrayList<>();
+    private long rows;
+    private long loaded;
+
+    public BulkRowsReader(final Class<R> rowType, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Wrong size of the chunk: " + chunkSize);
+        }
+        this.rowType = rowType;
+        this.chunkSize = chunkSize;
+        this.chunk = new ArrayList<>(chunkSize);
+        this.chunkLines = new ArrayList<>(chunkSize);
+    }
+
+    /**
+     * To read the rows from the input and to load them by chunks
+     *
+     * @param input       the stream of the rows
+     * @param mediaType   the media-type of the input (CSV or NDJSON by default)
+     * @param chunkLoader the loader of the chunk (the rows of the errors in the report are indexes in the chunk)
+     * @return the report of the whole load
+     * @throws IOException if input cannot be read
+     */
+    public BulkLoadReport load(final InputStream input, final String mediaType,
+                               final Function<List<R>, BulkLoadReport> chunkLoader) throws IOException {
+        final boolean isCsv = !isNull(mediaType) && mediaType.toLowerCase().startsWith(CSV_MEDIA_TYPE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = null;
+            long lineNumber = 0L;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (isCsv && isNull(header)) {
+                    header = csvValues(line);
+                    continue;
+                }
+                readRow(line, lineNumber, header, chunkLoader);
+            }
+        }
+        loadChunk(chunkLoader);
+        errors.sort(Comparator.comparingLong(BulkLoadReport.RowError::row));
+        log.debug("Loaded {} of {} rows with {} errors", loaded, rows, errors.size());
+        return new BulkLoadReport(rows, loaded, errors);
+    }
+
+    // private methods
+    private void readRow(final String line, final long lineNumber, final List<String> header,
+                         final Function<List<R>, BulkLoadReport> chunkLoader) {
+        rows++;
+        try {
+            final R row = isNull(header) ? ROWS_MAPPER.readValue(line, rowType) : csvRow(header, line);
+            if (isNull(row)) {
+                throw new IllegalArgumentException("Row is empty");
+            }
+            chunk.add(row);
+            chunkLines.add(lineNumber);
+        } catch (Exception e) {
+            log.warn("Cannot parse the row in line {}", lineNumber, e);
+            errors.add(new BulkLoadReport.RowError(lineNumber, "Cannot parse the row: " + e.getMessage()));
+        }
+        if (chunk.size() >= chunkSize) {
+            loadChunk(chunkLoader);
+        }
+    }
+
+    private void loadChunk(final Function<List<R>, BulkLoadReport> chunkLoader) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            final BulkLoadReport report = chunkLoader.apply(List.copyOf(chunk));
+            loaded += report.loaded();
+            report.errors().forEach(error ->
+                    errors.add(new BulkLoadReport.RowError(chunkLines.get((int) error.row()), error.message()))
+            );
+        } catch (Exception e) {
+            // the chunk is rolled back as a whole, the load goes on with the next chunk
+            log.warn("Cannot load the chunk of {} rows", chunk.size(), e);
+            final String message = "Chunk is not loaded: " + rootCause(e).getMessage();
+            chunkLines.forEach(lineNumber -> errors.add(new BulkLoadReport.RowError(lineNumber, message)));
+        } finally {
+            chunk.clear();
+            chunkLines.clear();
+        }
+    }
+
+    private R csvRow(final List<String> header, final String line) {
+        final List<String> values = csvValues(line);
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("Too many values: " + values.size() + " for columns: " + header);
+        }
+        final Map<String, String> fields = new LinkedHashMap<>();
+        for (int index = 0; index < values.size(); index++) {
+            final String value = values.get(index);
+            fields.put(header.get(index), value.isEmpty() ? null : value);
+        }
+        return ROWS_MAPPER.convertValue(fields, rowType);
+    }
+
+    // to split the line of CSV with quoted values
+    private static List<String> csvValues(final String line) {
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            final char symbol = line.charAt(index);
+            if (quoted) {
+                if (symbol != CSV_QUOTE) {
+                    value.append(symbol);
+                } else if (index + 1 < line.length() && line.charAt(index + 1) == CSV_QUOTE) {
+                    // escaped quote inside quoted value
+                    value.append(CSV_QUOTE);
+                    index++;
+                } else {
+                    quoted = false;
+                }
+            } else if (symbol == CSV_QUOTE) {
+                quoted = true;
+            } else if (symbol == CSV_SEPARATOR) {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(symbol);
+            }
+        }
+        values.add(value.toString().trim());
+        return values;
+    }
+
+    private static Throwable rootCause(final Throwable exception) {
+        Throwable cause = exception;
+        while (!isNull(cause.getCause()) && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
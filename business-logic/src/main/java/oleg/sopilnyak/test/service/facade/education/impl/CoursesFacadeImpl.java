@@ -1,5 +1,7 @@
 package oleg.sopilnyak.test.service.facade.education.impl;
 
+import static java.util.Objects.isNull;
+
 import oleg.sopilnyak.test.school.common.business.facade.education.CoursesFacade;
 import oleg.sopilnyak.test.school.common.business.facade.organization.base.OrganizationFacade;
 import oleg.sopilnyak.test.school.common.exception.core.InvalidParameterTypeException;
@@ -8,11 +10,14 @@ import oleg.sopilnyak.test.school.common.exception.education.CourseNotFoundExcep
 import oleg.sopilnyak.test.school.common.exception.education.CourseWithStudentsException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentCoursesExceedException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentNotFoundException;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade.Link;
 import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
 import oleg.sopilnyak.test.service.command.factory.base.CommandsFactory;
 import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.io.parameter.CompositeParameter;
 import oleg.sopilnyak.test.service.command.type.core.RootCommand;
 import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
 import oleg.sopilnyak.test.service.facade.ActionFacade;
@@ -20,13 +25,16 @@ import oleg.sopilnyak.test.service.facade.education.base.impl.EducationFacadeImp
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 import oleg.sopilnyak.test.service.message.payload.CoursePayload;
 
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -70,10 +78,14 @@ public class CoursesFacadeImpl extends EducationFacadeImpl implements CoursesFac
             case CoursesFacade.FIND_BY_ID -> this.internalFindById(parameters);
             case CoursesFacade.FIND_REGISTERED -> this.internalFindRegisteredFor(parameters);
             case CoursesFacade.FIND_NOT_REGISTERED -> this.internalFindWithoutStudents();
+            case CoursesFacade.FIND_NOT_REGISTERED_PAGE -> this.internalFindPage(parameters);
+            case CoursesFacade.COUNT_NOT_REGISTERED -> this.internalCountWithoutStudents();
             case CoursesFacade.CREATE_OR_UPDATE -> this.internalCreateOrUpdate(parameters);
             case CoursesFacade.DELETE -> this.internalDelete(parameters);
             case CoursesFacade.REGISTER -> this.internalRegister(parameters);
             case CoursesFacade.UN_REGISTER -> this.internalUnRegister(parameters);
+            case CoursesFacade.LOAD_ALL -> this.internalLoadAll(parameters);
+            case CoursesFacade.REGISTER_ALL -> this.internalRegisterAll(parameters);
             default -> throwsUnknownActionId(actionId).apply(null);
         };
     }
@@ -165,6 +177,32 @@ public class CoursesFacadeImpl extends EducationFacadeImpl implements CoursesFac
         }).orElseGet(Set::of);
     }
 
+    // To get the page of no-students courses ordered by system-id (for entry-point)
+    private List<Course> internalFindPage(final Object... parameters) {
+        return internalFindPage(decodePageCursorArgument(parameters), decodePageSizeArgument(parameters));
+    }
+
+    // To get the page of no-students courses ordered by system-id (for internal usage)
+    private List<Course> internalFindPage(final Long afterId, final int limit) {
+        log.debug("Finding the page of {} no-students courses after ID:{}", limit, afterId);
+        final Optional<Set<Course>> result = executeCommand(FIND_NOT_REGISTERED_PAGE, factory, Input.of(afterId, (long) limit));
+        return result.map(entities -> {
+            log.debug("Found the page of {} no-students courses", entities.size());
+            return entities.stream().map(toPayload).sorted(Comparator.comparing(Course::getId)).toList();
+        }).orElseGet(List::of);
+    }
+
+    // To count courses without registered students (for entry-point)
+    // To count courses without registered students (for internal usage)
+    private Long internalCountWithoutStudents() {
+        log.debug("Counting no-students courses");
+        final Optional<Long> result = executeCommand(COUNT_NOT_REGISTERED, factory, Input.emptyParameter());
+        return result.map(count -> {
+            log.debug("Counted {} no-students courses", count);
+            return count;
+        }).orElse(0L);
+    }
+
     // To create or update course instance (for entry-point)
     private Optional<Course> internalCreateOrUpdate(final Object... parameters) {
         return internalCreateOrUpdate(decodeCourseArgument(parameters));
@@ -281,4 +319,35 @@ public class CoursesFacadeImpl extends EducationFacadeImpl implements CoursesFac
                 log.debug("Unlinked course:{} from student:{} successfully:{} .", courseId, studentId, executionResult)
         );
     }
+
+    // To load the courses from the stream of the rows, chunk by chunk (for entry-point)
+    private BulkLoadReport internalLoadAll(final Object... parameters) {
+        log.debug("Loading courses from the stream");
+        return bulkLoad(CoursePayload.class, this::internalLoadAll, parameters);
+    }
+
+    // To load the chunk of the courses at once (for internal usage)
+    private BulkLoadReport internalLoadAll(final List<CoursePayload> courses) {
+        log.debug("Loading the chunk of {} courses", courses.size());
+        final Optional<BulkLoadReport> result = executeCommand(LOAD_ALL, factory, new CompositeParameter<>(courses));
+        return result.orElseThrow(ActionFacade.createThrowFor(LOAD_ALL));
+    }
+
+    // To register the students to the courses from the stream of the rows, chunk by chunk (for entry-point)
+    private BulkLoadReport internalRegisterAll(final Object... parameters) {
+        log.debug("Registering students to the courses from the stream");
+        return bulkLoad(Link.class, this::internalRegisterAll, parameters);
+    }
+
+    // To register the chunk of the students to the courses at once (for internal usage)
+    private BulkLoadReport internalRegisterAll(final List<Link> links) {
+        log.debug("Registering the chunk of {} students to the courses", links.size());
+        // student-id, course-id pairs one by one, missing id is passed as invalid one (to keep the pairs)
+        final List<Long> ids = links.stream()
+                .flatMap(link -> Stream.of(link.studentId(), link.courseId()))
+                .map(id -> isNull(id) ? 0L : id)
+                .toList();
+        final Optional<BulkLoadReport> result = executeCommand(REGISTER_ALL, factory, new CompositeParameter<>(ids));
+        return result.orElseThrow(ActionFacade.createThrowFor(REGISTER_ALL));
+    }
 }
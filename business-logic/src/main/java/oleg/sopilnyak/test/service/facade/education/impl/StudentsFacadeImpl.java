@@ -5,16 +5,20 @@ import oleg.sopilnyak.test.school.common.business.facade.education.base.Educatio
 import oleg.sopilnyak.test.school.common.exception.core.InvalidParameterTypeException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentNotFoundException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentWithCoursesException;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
 import oleg.sopilnyak.test.service.command.factory.base.CommandsFactory;
 import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.io.parameter.CompositeParameter;
 import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
 import oleg.sopilnyak.test.service.facade.ActionFacade;
 import oleg.sopilnyak.test.service.facade.education.base.impl.EducationFacadeImpl;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 import oleg.sopilnyak.test.service.message.payload.StudentPayload;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -61,9 +65,12 @@ public class StudentsFacadeImpl extends EducationFacadeImpl implements StudentsF
             case StudentsFacade.FIND_BY_ID -> this.internalFindById(parameters);
             case StudentsFacade.FIND_ENROLLED -> this.internalEnrolledTo(parameters);
             case StudentsFacade.FIND_NOT_ENROLLED -> this.internalFindNotEnrolled();
+            case StudentsFacade.FIND_NOT_ENROLLED_PAGE -> this.internalFindPage(parameters);
+            case StudentsFacade.COUNT_NOT_ENROLLED -> this.internalCountNotEnrolled();
             case StudentsFacade.CREATE_MACRO -> this.internalCreateComposite(parameters);
             case StudentsFacade.CREATE_OR_UPDATE -> this.internalCreateOrUpdate(parameters);
             case StudentsFacade.DELETE_MACRO -> this.internalDeleteComposite(parameters);
+            case StudentsFacade.LOAD_ALL -> this.internalLoadAll(parameters);
             default -> throwsUnknownActionId(actionId).apply(null);
         };
     }
@@ -132,6 +139,32 @@ public class StudentsFacadeImpl extends EducationFacadeImpl implements StudentsF
         }).orElseGet(Set::of);
     }
 
+    // To get the page of students not enrolled to any course ordered by system-id (for entry-point)
+    private List<Student> internalFindPage(final Object... parameters) {
+        return internalFindPage(decodePageCursorArgument(parameters), decodePageSizeArgument(parameters));
+    }
+
+    // To get the page of students not enrolled to any course ordered by system-id (for internal usage)
+    private List<Student> internalFindPage(final Long afterId, final int limit) {
+        log.debug("Finding the page of {} students not enrolled to any course after ID:{}", limit, afterId);
+        final Optional<Set<Student>> result = executeCommand(FIND_NOT_ENROLLED_PAGE, factory, Input.of(afterId, (long) limit));
+        return result.map(entities -> {
+            log.debug("Found the page of {} students not enrolled to any course", entities.size());
+            return entities.stream().map(toPayload).sorted(Comparator.comparing(Student::getId)).toList();
+        }).orElseGet(List::of);
+    }
+
+    // To count students not enrolled to any course (for entry-point)
+    // To count students not enrolled to any course (for internal usage)
+    private Long internalCountNotEnrolled() {
+        log.debug("Counting students not enrolled to any course");
+        final Optional<Long> result = executeCommand(COUNT_NOT_ENROLLED, factory, Input.emptyParameter());
+        return result.map(count -> {
+            log.debug("Counted {} students not enrolled to any course", count);
+            return count;
+        }).orElse(0L);
+    }
+
     // To create or update course instance (for entry-point)
     private Optional<Student> internalCreateOrUpdate(final Object... parameters) {
         return internalCreateOrUpdate(decodeStudentArgument(parameters));
@@ -194,4 +227,17 @@ public class StudentsFacadeImpl extends EducationFacadeImpl implements StudentsF
                 log.debug("Deleted student with ID:{} successfully:{} .", id, executionResult)
         );
     }
+
+    // To load the students from the stream of the rows, chunk by chunk (for entry-point)
+    private BulkLoadReport internalLoadAll(final Object... parameters) {
+        log.debug("Loading students from the stream");
+        return bulkLoad(StudentPayload.class, this::internalLoadAll, parameters);
+    }
+
+    // To load the chunk of the students at once (for internal usage)
+    private BulkLoadReport internalLoadAll(final List<StudentPayload> students) {
+        log.debug("Loading the chunk of {} students", students.size());
+        final Optional<BulkLoadReport> result = executeCommand(LOAD_ALL, factory, new CompositeParameter<>(students));
+        return result.orElseThrow(ActionFacade.createThrowFor(LOAD_ALL));
+    }
 }
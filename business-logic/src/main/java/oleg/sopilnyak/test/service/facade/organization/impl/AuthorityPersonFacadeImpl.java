@@ -19,7 +19,9 @@ import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 import oleg.sopilnyak.test.service.message.payload.AuthorityPersonPayload;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -72,6 +74,7 @@ public class AuthorityPersonFacadeImpl extends OrganizationFacadeImpl<AuthorityP
             case AuthorityPersonFacade.LOGIN -> internalLogin(parameters);
             case AuthorityPersonFacade.LOGOUT -> internalLogout(parameters);
             case AuthorityPersonFacade.FIND_ALL -> internalFindAll();
+            case AuthorityPersonFacade.FIND_PAGE -> internalFindPage(parameters);
             case AuthorityPersonFacade.FIND_BY_ID -> internalFindById(parameters);
             case AuthorityPersonFacade.CREATE_OR_UPDATE -> internalCreateOrUpdate(parameters);
             case AuthorityPersonFacade.CREATE_MACRO -> internalCreatePersonTask(parameters);
@@ -201,6 +204,21 @@ public class AuthorityPersonFacadeImpl extends OrganizationFacadeImpl<AuthorityP
         }).orElseGet(Set::of);
     }
 
+    // To get the page of authority persons ordered by system-id (for entry-point)
+    private List<AuthorityPerson> internalFindPage(final Object... parameters) {
+        return internalFindPage(decodePageCursorArgument(parameters), decodePageSizeArgument(parameters));
+    }
+
+    // To get the page of authority persons ordered by system-id (for internal usage)
+    private List<AuthorityPerson> internalFindPage(final Long afterId, final int limit) {
+        log.debug("Finding the page of {} authority persons after ID:{}", limit, afterId);
+        final Optional<Set<AuthorityPerson>> result = executeCommand(AuthorityPersonFacade.FIND_PAGE, factory, Input.of(afterId, (long) limit));
+        return result.map(entities -> {
+            log.debug("Found the page of {} authority persons", entities.size());
+            return entities.stream().map(toPayload).sorted(Comparator.comparing(AuthorityPerson::getId)).toList();
+        }).orElseGet(List::of);
+    }
+
     // To get the authority person by ID (for entry-point)
     private Optional<AuthorityPerson> internalFindById(final Object... parameters) {
         return internalFindById(decodeLongArgument(parameters));
@@ -15,6 +15,8 @@ import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 import oleg.sopilnyak.test.service.message.payload.FacultyPayload;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -59,6 +61,7 @@ public class FacultyFacadeImpl extends OrganizationFacadeImpl<FacultyCommand<?>>
         getLogger().debug("Trying to execute action {} with arguments {}", actionId, parameters);
         return (T) switch (actionId) {
             case FacultyFacade.FIND_ALL -> this.internalFindAll();
+            case FacultyFacade.FIND_PAGE -> this.internalFindPage(parameters);
             case FacultyFacade.FIND_BY_ID -> this.internalFindById(parameters);
             case FacultyFacade.CREATE_OR_UPDATE -> this.internalCreateOrUpdate(parameters);
             case FacultyFacade.DELETE -> this.internalDeleteById(parameters);
@@ -115,6 +118,21 @@ public class FacultyFacadeImpl extends OrganizationFacadeImpl<FacultyCommand<?>>
         }).orElseGet(Set::of);
     }
 
+    // to get the page of faculties ordered by system-id (for entry-point)
+    private List<Faculty> internalFindPage(final Object... parameters) {
+        return internalFindPage(decodePageCursorArgument(parameters), decodePageSizeArgument(parameters));
+    }
+
+    // to get the page of faculties ordered by system-id (for internal usage)
+    private List<Faculty> internalFindPage(final Long afterId, final int limit) {
+        log.debug("Finding the page of {} faculties after ID:{}", limit, afterId);
+        final Optional<Set<Faculty>> result = executeCommand(FacultyFacade.FIND_PAGE, factory, Input.of(afterId, (long) limit));
+        return result.map(entities -> {
+            log.debug("Found the page of {} faculties", entities.size());
+            return entities.stream().map(toPayload).sorted(Comparator.comparing(Faculty::getId)).toList();
+        }).orElseGet(List::of);
+    }
+
     // to create or update faculty instance (for entry-point)
     private Optional<Faculty> internalCreateOrUpdate(final Object... parameters) {
         return internalCreateOrUpdate(decodeFacultyArgument(parameters));
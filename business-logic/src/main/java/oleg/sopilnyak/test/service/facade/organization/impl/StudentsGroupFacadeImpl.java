@@ -15,6 +15,8 @@ import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 import oleg.sopilnyak.test.service.message.payload.StudentsGroupPayload;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -57,6 +59,7 @@ public class StudentsGroupFacadeImpl extends OrganizationFacadeImpl<StudentsGrou
         getLogger().debug("Trying to execute action {} with arguments {}", actionId, parameters);
         return (T) switch (actionId) {
             case StudentsGroupFacade.FIND_ALL -> this.internalFindAll();
+            case StudentsGroupFacade.FIND_PAGE -> this.internalFindPage(parameters);
             case StudentsGroupFacade.FIND_BY_ID -> this.internalFindById(parameters);
             case StudentsGroupFacade.CREATE_OR_UPDATE -> this.internalCreateOrUpdate(parameters);
             case StudentsGroupFacade.DELETE -> this.internalDeleteById(parameters);
@@ -113,6 +116,21 @@ public class StudentsGroupFacadeImpl extends OrganizationFacadeImpl<StudentsGrou
         }).orElseGet(Set::of);
     }
 
+    // to get the page of students groups ordered by system-id (for entry-point)
+    private List<StudentsGroup> internalFindPage(final Object... parameters) {
+        return internalFindPage(decodePageCursorArgument(parameters), decodePageSizeArgument(parameters));
+    }
+
+    // to get the page of students groups ordered by system-id (for internal usage)
+    private List<StudentsGroup> internalFindPage(final Long afterId, final int limit) {
+        log.debug("Finding the page of {} students groups after ID:{}", limit, afterId);
+        final Optional<Set<StudentsGroup>> result = executeCommand(StudentsGroupFacade.FIND_PAGE, factory, Input.of(afterId, (long) limit));
+        return result.map(entities -> {
+            log.debug("Found the page of {} students groups", entities.size());
+            return entities.stream().map(toPayload).sorted(Comparator.comparing(StudentsGroup::getId)).toList();
+        }).orElseGet(List::of);
+    }
+
     // to create or update students group instance (for entry-point)
     private Optional<StudentsGroup> internalCreateOrUpdate(final Object... parameters) {
         return internalCreateOrUpdate(decodeStudentsGroupArgument(parameters));
@@ -81,27 +81,29 @@ public abstract class BaseCommandMessage<T> implements CommandMessage<T> {
                               final SerializerProvider serializerProvider) throws IOException {
             generator.writeStartObject();
             generator.writeStringField(CORRELATION_ID_FIELD_NAME, message.getCorrelationId());
-            serialize(message.getActionContext(), generator);
-            serialize(message.getContext(), generator);
+            serialize(message.getActionContext(), generator, serializerProvider);
+            serialize(message.getContext(), generator, serializerProvider);
             generator.writeStringField(DIRECTION_FIELD_NAME, message.getDirection().name());
             generator.writeEndObject();
         }
 
-        private static void serialize(final ActionContext actionContext, JsonGenerator generator) throws IOException {
+        private static void serialize(final ActionContext actionContext,
+                                      final JsonGenerator generator,
+                                      final SerializerProvider provider) throws IOException {
             generator.writeFieldName(ACTION_CONTEXT_FIELD_NAME);
             if (actionContext != null) {
-                final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
-                generator.writeRawValue(mapper.writeValueAsString(actionContext));
+                IOBase.storeValue(actionContext, generator, provider);
             } else {
                 generator.writeNull();
             }
         }
 
-        private static void serialize(final Context<?> context, JsonGenerator generator) throws IOException {
+        private static void serialize(final Context<?> context,
+                                      final JsonGenerator generator,
+                                      final SerializerProvider provider) throws IOException {
             generator.writeFieldName(COMMAND_CONTEXT_FIELD_NAME);
             if (context != null) {
-                final ObjectMapper mapper = (ObjectMapper) generator.getCodec();
-                generator.writeRawValue(mapper.writeValueAsString(context));
+                IOBase.storeValue(context, generator, provider);
             } else {
                 generator.writeNull();
             }
@@ -150,11 +152,11 @@ public abstract class BaseCommandMessage<T> implements CommandMessage<T> {
 
         @SuppressWarnings("unchecked")
         private Context<R> deserializeCommandContext(final TreeNode node, final ObjectMapper mapper) throws IOException {
-            return mapper.readValue(node.toString(), Context.class);
+            return IOBase.restoreValue(node, mapper, Context.class);
         }
 
         private ActionContext deserializeActionContext(final TreeNode node, final ObjectMapper mapper) throws IOException {
-            return actionContextDeserializer.deserialize(mapper.createParser(node.toString()), null);
+            return actionContextDeserializer.deserialize(new IOBase.TreeNodeParser(node, mapper), null);
         }
 
         private static Direction toDirection(final String value) {
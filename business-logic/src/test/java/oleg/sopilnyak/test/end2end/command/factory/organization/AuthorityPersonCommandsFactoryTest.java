@@ -51,6 +51,7 @@ class AuthorityPersonCommandsFactoryTest extends MysqlTestModelFactory {
     private static final String ORGANIZATION_AUTHORITY_PERSON_LOGIN = "school::organization::authority::persons:login";
     private static final String ORGANIZATION_AUTHORITY_PERSON_LOGOUT = "school::organization::authority::persons:logout";
     private static final String ORGANIZATION_AUTHORITY_PERSON_FIND_ALL = "school::organization::authority::persons:find.All";
+    private static final String ORGANIZATION_AUTHORITY_PERSON_FIND_PAGE = "school::organization::authority::persons:find.Page";
     private static final String ORGANIZATION_AUTHORITY_PERSON_FIND_BY_ID = "school::organization::authority::persons:find.By.Id";
     private static final String ORGANIZATION_AUTHORITY_PERSON_CREATE_NEW = "school::organization::authority::persons:create.Macro";
     private static final String ORGANIZATION_AUTHORITY_PERSON_CREATE_OR_UPDATE = "school::organization::authority::persons:create.Or.Update";
@@ -76,6 +77,7 @@ class AuthorityPersonCommandsFactoryTest extends MysqlTestModelFactory {
                 ORGANIZATION_AUTHORITY_PERSON_LOGIN,
                 ORGANIZATION_AUTHORITY_PERSON_LOGOUT,
                 ORGANIZATION_AUTHORITY_PERSON_FIND_ALL,
+                ORGANIZATION_AUTHORITY_PERSON_FIND_PAGE,
                 ORGANIZATION_AUTHORITY_PERSON_FIND_BY_ID,
                 ORGANIZATION_AUTHORITY_PERSON_CREATE_NEW,
                 ORGANIZATION_AUTHORITY_PERSON_CREATE_OR_UPDATE,
@@ -49,6 +49,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Rollback
 class StudentsGroupCommandsFactoryTest extends MysqlTestModelFactory {
     private static final String ORGANIZATION_STUDENTS_GROUP_FIND_ALL = "school::organization::student::groups:find.All";
+    private static final String ORGANIZATION_STUDENTS_GROUP_FIND_PAGE = "school::organization::student::groups:find.Page";
     private static final String ORGANIZATION_STUDENTS_GROUP_FIND_BY_ID = "school::organization::student::groups:find.By.Id";
     private static final String ORGANIZATION_STUDENTS_GROUP_CREATE_OR_UPDATE = "school::organization::student::groups:create.Or.Update";
     private static final String ORGANIZATION_STUDENTS_GROUP_DELETE = "school::organization::student::groups:delete";
@@ -69,6 +70,7 @@ class StudentsGroupCommandsFactoryTest extends MysqlTestModelFactory {
     void setUp() {
         commandsId = Set.of(
                 ORGANIZATION_STUDENTS_GROUP_FIND_ALL,
+                ORGANIZATION_STUDENTS_GROUP_FIND_PAGE,
                 ORGANIZATION_STUDENTS_GROUP_FIND_BY_ID,
                 ORGANIZATION_STUDENTS_GROUP_CREATE_OR_UPDATE,
                 ORGANIZATION_STUDENTS_GROUP_DELETE
@@ -0,0 +1,144 @@
+package oleg.sopilnyak.test.service.command.executable.core;
+
+import static oleg.sopilnyak.test.service.command.executable.core.ParallelCommandsTask.EXECUTOR_BEAN_NAME;
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.READY;
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.WORK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
+import oleg.sopilnyak.test.school.common.persistence.PersistenceFacade;
+import oleg.sopilnyak.test.service.command.configurations.SchoolCommandsConfiguration;
+import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
+import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {SchoolCommandsConfiguration.class, DependencyGraphMacroCommandSpringTest.GraphCommand.class})
+@DirtiesContext
+@SuppressWarnings("unchecked")
+class DependencyGraphMacroCommandSpringTest {
+    @MockitoBean
+    PersistenceFacade persistence;
+    @MockitoBean
+    BusinessMessagePayloadMapper payloadMapper;
+    @MockitoBean
+    CommandActionExecutor actionExecutor;
+
+    @Autowired
+    GraphCommand command;
+    @Autowired
+    @Qualifier(EXECUTOR_BEAN_NAME)
+    Executor nestedCommandsExecutor;
+
+    RootCommand<Long> profileCommand = mock(RootCommand.class);
+    RootCommand<Long> personCommand = mock(RootCommand.class);
+    Map<String, String> executedBy = new ConcurrentHashMap<>();
+    List<String> executed = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        doReturn("profile").when(profileCommand).getId();
+        doReturn("person").when(personCommand).getId();
+        ActionContext.setup("test-facade", "test-action");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ActionContext.release();
+    }
+
+    @Test
+    void shouldBuildGraphCommandWithNestedCommandsExecutor() {
+        assertThat(command).isNotNull();
+        assertThat(command.executor).isSameAs(nestedCommandsExecutor);
+    }
+
+    @Test
+    void shouldDoDependentAfterDependency_NestedCommandsExecutor() {
+        command.toNest(profileCommand);
+        command.toNestDependent(personCommand, profileCommand);
+        allowCommit();
+        Deque<Context<?>> contexts = readyContexts();
+
+        Deque<Context<?>> results = command.executeNested(contexts, mock(Context.StateChangedListener.class));
+
+        assertThat(results).allMatch(Context::isDone);
+        assertThat(executed).containsExactly("profile", "person");
+        assertThat(executedBy.values()).allMatch(thread -> thread.startsWith("ParallelCommandThread-"));
+        assertThat(((Context<Long>) results.getLast()).getResult()).contains(21L);
+    }
+
+    // inner classes
+    static class GraphCommand extends DependencyGraphCommandsTask<Long> {
+        private final Logger logger = LoggerFactory.getLogger(GraphCommand.class);
+
+        GraphCommand(CommandActionExecutor actionExecutor, @Qualifier(EXECUTOR_BEAN_NAME) Executor executor) {
+            super(actionExecutor, executor);
+        }
+
+        @Override
+        public void transferResult(RootCommand<?> executedCommand, Object toTransfer, Context<?> toExecute) {
+            ((CommandContext<Long>) toExecute).setRedoParameter(Input.of((Long) toTransfer));
+        }
+
+        @Override
+        public Logger getLog() {
+            return logger;
+        }
+
+        @Override
+        public String getId() {
+            return "graph-spring-command";
+        }
+    }
+
+    // private methods
+    private void allowCommit() {
+        doAnswer(invocation -> {
+            Context<Long> context = invocation.getArgument(1);
+            String commandId = context.getCommand().getId();
+            executedBy.put(commandId, Thread.currentThread().getName());
+            executed.add(commandId);
+            context.setState(WORK);
+            context.setResult(context.<Long>getRedoParameter().value() + 10L);
+            return context;
+        }).when(actionExecutor).commitAction(any(ActionContext.class), any(Context.class));
+    }
+
+    private Deque<Context<?>> readyContexts() {
+        Deque<Context<?>> contexts = new LinkedList<>();
+        for (RootCommand<Long> nested : List.of(profileCommand, personCommand)) {
+            Context<Long> context = CommandContext.<Long>builder().command(nested).redoParameter(Input.of(1L)).build();
+            context.setState(READY);
+            contexts.add(context);
+        }
+        return contexts;
+    }
+}
@@ -0,0 +1,293 @@
+package oleg.sopilnyak.test.service.command.executable.core;
+
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.CANCEL;
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.FAIL;
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.READY;
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.UNDONE;
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.WORK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
+import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
+import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.io.parameter.MacroCommandParameter;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+import oleg.sopilnyak.test.service.exception.CannotTransferCommandResultException;
+
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
+class DependencyGraphMacroCommandTest {
+    @Mock
+    RootCommand<Long> profileCommand;
+    @Mock
+    RootCommand<Long> personCommand;
+    @Mock
+    RootCommand<Long> auditCommand;
+    @Mock
+    CommandActionExecutor actionExecutor;
+    @Mock
+    Context.StateChangedListener listener;
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    FakeGraphCommand command;
+    List<String> executed = new CopyOnWriteArrayList<>();
+    List<String> rolledBack = new CopyOnWriteArrayList<>();
+    Map<String, RuntimeException> failures = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        doReturn("profile").when(profileCommand).getId();
+        doReturn("person").when(personCommand).getId();
+        doReturn("audit").when(auditCommand).getId();
+        command = new FakeGraphCommand(actionExecutor, executor);
+        command.toNest(profileCommand);
+        command.toNestDependent(personCommand, profileCommand);
+        command.toNest(auditCommand);
+        ActionContext.setup("test-facade", "test-action");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        ActionContext.release();
+    }
+
+    @Test
+    void shouldDoDependentAfterDependency_IndependentInParallel() {
+        CountDownLatch auditStarted = new CountDownLatch(1);
+        allowCommit(auditStarted);
+        LinkedList<Context<?>> contexts = readyContexts();
+
+        Deque<Context<?>> result = command.executeNested(contexts, listener);
+
+        assertThat(result).containsExactlyElementsOf(contexts).allMatch(Context::isDone);
+        assertThat(executed).containsSubsequence("profile", "person");
+        // profile command was waiting for audit command start, so they are executing in parallel
+        assertThat(executed.indexOf("audit")).isLessThan(executed.indexOf("profile"));
+        assertThat(command.transferred).containsExactly("profile:11->person");
+        assertThat(result.stream().filter(context -> context.getCommand() == personCommand).findFirst().orElseThrow()
+                .<Long>getRedoParameter().value()).isEqualTo(11L);
+    }
+
+    @Test
+    void shouldCancelDependent_DependencyFailed() {
+        failures.put("profile", new IllegalStateException("Cannot create profile"));
+        allowCommit(null);
+        LinkedList<Context<?>> contexts = readyContexts();
+
+        command.executeNested(contexts, listener);
+
+        Context<?> profileContext = contexts.pop();
+        Context<?> personContext = contexts.pop();
+        Context<?> auditContext = contexts.pop();
+        assertThat(profileContext.isFailed()).isTrue();
+        assertThat(personContext.getState()).isSameAs(CANCEL);
+        assertThat(auditContext.isDone()).isTrue();
+        assertThat(executed).containsExactlyInAnyOrder("profile", "audit");
+        assertThat(command.transferred).isEmpty();
+        verify(listener).stateChanged(personContext, READY, CANCEL);
+    }
+
+    @Test
+    void shouldFailDependent_CannotTransferResult() {
+        command.transferFailure = new CannotTransferCommandResultException("person");
+        allowCommit(null);
+        LinkedList<Context<?>> contexts = readyContexts();
+
+        command.executeNested(contexts, listener);
+
+        Context<?> personContext = contexts.get(1);
+        assertThat(personContext.isFailed()).isTrue();
+        assertThat(personContext.getException()).isSameAs(command.transferFailure);
+        assertThat(executed).containsExactlyInAnyOrder("profile", "audit");
+        verify(listener).stateChanged(personContext, READY, FAIL);
+    }
+
+    @Test
+    void shouldNotDoNestedCommands_DependenciesCycle() {
+        command.toNestDependent(profileCommand, personCommand);
+        assertThat(command.fromNest()).containsExactly(profileCommand, personCommand, auditCommand);
+        LinkedList<Context<?>> contexts = readyContexts();
+
+        var exception = assertThrows(IllegalStateException.class, () -> command.executeNested(contexts, listener));
+
+        assertThat(exception.getMessage()).isEqualTo("Nested commands dependencies have a cycle among [profile, person]");
+        assertThat(executed).isEmpty();
+    }
+
+    @Test
+    void shouldNotNestCommandTwice_CommandIsAlreadyNested() {
+        command.toNestDependent(profileCommand, auditCommand);
+
+        assertThat(command.fromNest()).containsExactly(profileCommand, personCommand, auditCommand);
+        assertThat(command.dependenciesOf("profile")).containsExactly("audit");
+        assertThat(command.dependenciesOf("person")).containsExactly("profile");
+    }
+
+    @Test
+    void shouldNotDoNestedCommands_DependencyIsAbsent() {
+        LinkedList<Context<?>> contexts = readyContexts();
+        contexts.removeFirst();
+
+        var exception = assertThrows(IllegalStateException.class, () -> command.executeNested(contexts, listener));
+
+        assertThat(exception.getMessage()).isEqualTo("Nested command 'person' depends on absent 'profile'");
+    }
+
+    @Test
+    void shouldRollbackDependentBeforeDependency() {
+        allowRollback();
+        LinkedList<Context<?>> contexts = doneContexts();
+
+        Deque<Context<?>> result = command.rollbackNested(contexts);
+
+        assertThat(result).containsExactlyElementsOf(contexts).allMatch(Context::isUndone);
+        assertThat(rolledBack).containsSubsequence("person", "profile").contains("audit");
+    }
+
+    @Test
+    void shouldSkipDependencyRollback_DependentRollbackFailed() {
+        failures.put("person", new IllegalStateException("Cannot delete person"));
+        allowRollback();
+        LinkedList<Context<?>> contexts = doneContexts();
+
+        command.rollbackNested(contexts);
+
+        assertThat(contexts.get(0).isDone()).isTrue();
+        assertThat(contexts.get(1).isFailed()).isTrue();
+        assertThat(contexts.get(2).isUndone()).isTrue();
+        assertThat(rolledBack).containsExactlyInAnyOrder("person", "audit");
+    }
+
+    @Test
+    void shouldRollbackDoneNestedCommands_IndependentCommandFailed() {
+        failures.put("audit", new IllegalStateException("Cannot audit"));
+        allowCommit(null);
+        allowRollback();
+        Context<Long> macroContext = CommandContext.<Long>builder().command(command)
+                .redoParameter(Input.of(Input.of(1L), readyContexts())).build();
+        macroContext.setState(READY);
+
+        command.doCommand(macroContext);
+
+        assertThat(macroContext.isFailed()).isTrue();
+        assertThat(macroContext.getException()).isSameAs(failures.get("audit"));
+        List<Context<?>> nested = List.copyOf(macroContext.<MacroCommandParameter>getRedoParameter().value().getNestedContexts());
+        assertThat(nested.get(0).isUndone()).isTrue();
+        assertThat(nested.get(1).isUndone()).isTrue();
+        assertThat(nested.get(2).isFailed()).isTrue();
+        assertThat(rolledBack).containsExactly("person", "profile");
+    }
+
+    // inner classes
+    static class FakeGraphCommand extends DependencyGraphCommandsTask<Long> {
+        private final Logger logger = LoggerFactory.getLogger(FakeGraphCommand.class);
+        final List<String> transferred = new CopyOnWriteArrayList<>();
+        RuntimeException transferFailure;
+
+        FakeGraphCommand(CommandActionExecutor actionExecutor, ExecutorService executor) {
+            super(actionExecutor, executor);
+        }
+
+        @Override
+        public void transferResult(RootCommand<?> executedCommand, Object toTransfer, Context<?> toExecute) {
+            if (transferFailure != null) {
+                throw transferFailure;
+            }
+            transferred.add(executedCommand.getId() + ":" + toTransfer + "->" + toExecute.getCommand().getId());
+            ((CommandContext<Long>) toExecute).setRedoParameter(Input.of((Long) toTransfer));
+        }
+
+        @Override
+        public Logger getLog() {
+            return logger;
+        }
+
+        @Override
+        public String getId() {
+            return "graph-fake-command";
+        }
+    }
+
+    // private methods
+    private void allowCommit(CountDownLatch auditStarted) {
+        doAnswer(invocation -> {
+            Context<Long> context = invocation.getArgument(1);
+            String commandId = context.getCommand().getId();
+            if (auditStarted != null && "profile".equals(commandId)) {
+                assertThat(auditStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            executed.add(commandId);
+            if (auditStarted != null && "audit".equals(commandId)) {
+                auditStarted.countDown();
+            }
+            context.setState(WORK);
+            RuntimeException failure = failures.get(commandId);
+            if (failure != null) {
+                return context.failed(failure);
+            }
+            context.setResult(context.<Long>getRedoParameter().value() + 10L);
+            return context;
+        }).when(actionExecutor).commitAction(any(ActionContext.class), any(Context.class));
+    }
+
+    private void allowRollback() {
+        doAnswer(invocation -> {
+            Context<?> context = invocation.getArgument(1);
+            String commandId = context.getCommand().getId();
+            rolledBack.add(commandId);
+            context.setState(WORK);
+            RuntimeException failure = failures.get(commandId);
+            if (failure != null) {
+                return context.failed(failure);
+            }
+            context.setState(UNDONE);
+            return context;
+        }).when(actionExecutor).rollbackAction(any(ActionContext.class), any(Context.class));
+    }
+
+    private LinkedList<Context<?>> readyContexts() {
+        LinkedList<Context<?>> contexts = new LinkedList<>();
+        for (RootCommand<Long> nested : List.of(profileCommand, personCommand, auditCommand)) {
+            Context<Long> context = CommandContext.<Long>builder().command(nested).redoParameter(Input.of(1L)).build();
+            context.setState(READY);
+            contexts.add(context);
+        }
+        return contexts;
+    }
+
+    private LinkedList<Context<?>> doneContexts() {
+        LinkedList<Context<?>> contexts = readyContexts();
+        contexts.forEach(context -> {
+            context.setState(WORK);
+            ((Context<Long>) context).setResult(1L);
+        });
+        return contexts;
+    }
+}
@@ -0,0 +1,228 @@
+package oleg.sopilnyak.test.service.command.executable.core;
+
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.UNDONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import oleg.sopilnyak.test.school.common.model.BaseType;
+import oleg.sopilnyak.test.school.common.model.education.Course;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.model.organization.AuthorityPerson;
+import oleg.sopilnyak.test.school.common.model.organization.Faculty;
+import oleg.sopilnyak.test.school.common.model.organization.StudentsGroup;
+import oleg.sopilnyak.test.school.common.persistence.PersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
+import oleg.sopilnyak.test.service.command.executable.core.context.history.History;
+import oleg.sopilnyak.test.service.command.executable.education.course.FindCoursesWithoutStudentsPageCommand;
+import oleg.sopilnyak.test.service.command.executable.education.student.FindNotEnrolledStudentsPageCommand;
+import oleg.sopilnyak.test.service.command.executable.organization.authority.FindAuthorityPersonsPageCommand;
+import oleg.sopilnyak.test.service.command.executable.organization.faculty.FindFacultiesPageCommand;
+import oleg.sopilnyak.test.service.command.executable.organization.group.FindStudentsGroupsPageCommand;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+import oleg.sopilnyak.test.service.message.payload.AuthorityPersonPayload;
+import oleg.sopilnyak.test.service.message.payload.CoursePayload;
+import oleg.sopilnyak.test.service.message.payload.FacultyPayload;
+import oleg.sopilnyak.test.service.message.payload.StudentPayload;
+import oleg.sopilnyak.test.service.message.payload.StudentsGroupPayload;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class FindPageCommandTest {
+    @Mock
+    PersistenceFacade persistence;
+    @Mock
+    BusinessMessagePayloadMapper payloadMapper;
+    @Mock
+    ApplicationContext applicationContext;
+
+    @ParameterizedTest
+    @MethodSource("pageCommands")
+    void shouldDoCommand_FirstPage(PageCommand page) {
+        FindPageCommand<BaseType> command = command(page);
+        BaseType entity = mock(page.itemType());
+        BaseType nextEntity = mock(page.itemType());
+        BaseType payload = mock(page.payloadType());
+        BaseType nextPayload = mock(page.payloadType());
+        page.query().page(doReturn(List.of(entity, nextEntity)).when(persistence), null, 2);
+        page.adopter().toPayload(doReturn(payload).when(payloadMapper), entity);
+        page.adopter().toPayload(doReturn(nextPayload).when(payloadMapper), nextEntity);
+        Context<Set<BaseType>> context = command.createContext(Input.of((Long) null, 2L));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        assertThat(context.getResult().orElseThrow()).containsExactly(payload, nextPayload);
+        assertThat(context.getUndoParameter().isEmpty()).isTrue();
+        verify(command).executeDo(context);
+        page.query().page(verify(persistence), null, 2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("pageCommands")
+    void shouldDoCommand_NextPageIsEmpty(PageCommand page) {
+        FindPageCommand<BaseType> command = command(page);
+        long afterId = 101L;
+        Context<Set<BaseType>> context = command.createContext(Input.of(afterId, 20L));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        assertThat(context.getResult().orElseThrow()).isEmpty();
+        verify(command).executeDo(context);
+        page.query().page(verify(persistence), afterId, 20);
+    }
+
+    @ParameterizedTest
+    @MethodSource("pageCommands")
+    void shouldDoCommand_PageSizeIsLimited(PageCommand page) {
+        FindPageCommand<BaseType> command = command(page);
+        Context<Set<BaseType>> context = command.createContext(Input.of((Long) null, 100_000L));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        page.query().page(verify(persistence), null, FindPageCommand.MAXIMUM_PAGE_SIZE);
+    }
+
+    @ParameterizedTest
+    @MethodSource("pageCommands")
+    void shouldNotDoCommand_WrongPageSize(PageCommand page) {
+        FindPageCommand<BaseType> command = command(page);
+        Context<Set<BaseType>> context = command.createContext(Input.of((Long) null, 0L));
+
+        command.doCommand(context);
+
+        assertThat(context.isFailed()).isTrue();
+        assertThat(context.getException()).isInstanceOf(IllegalArgumentException.class);
+        verify(command).executeDo(context);
+        verifyNoInteractions(persistence);
+    }
+
+    @ParameterizedTest
+    @MethodSource("pageCommands")
+    void shouldNotDoCommand_FindThrowsException(PageCommand page) {
+        FindPageCommand<BaseType> command = command(page);
+        page.query().page(doThrow(RuntimeException.class).when(persistence), null, 10);
+        Context<Set<BaseType>> context = command.createContext(Input.of((Long) null, 10L));
+
+        command.doCommand(context);
+
+        assertThat(context.isFailed()).isTrue();
+        assertThat(context.getException()).isInstanceOf(RuntimeException.class);
+        verify(command).executeDo(context);
+        page.query().page(verify(persistence), null, 10);
+    }
+
+    @ParameterizedTest
+    @MethodSource("pageCommands")
+    void shouldCreateContext_HistoryIsOff(PageCommand page) {
+        FindPageCommand<BaseType> command = command(page);
+        command.setContextHistoryLimit(History.OFF);
+
+        Context<Set<BaseType>> context = command.createContext(Input.of((Long) null, 10L));
+
+        assertThat(context.getHistory().states()).isEmpty();
+        assertThat(context.getHistory().lastState()).isEqualTo(Context.State.READY);
+    }
+
+    @ParameterizedTest
+    @MethodSource("pageCommands")
+    void shouldCreateContext_HistoryIsUnlimited(PageCommand page) {
+        FindPageCommand<BaseType> command = command(page);
+        command.setContextHistoryLimit(-1);
+
+        Context<Set<BaseType>> context = command.createContext(Input.of((Long) null, 10L));
+
+        assertThat(command.getContextHistoryLimit()).isEqualTo(History.UNLIMITED);
+        assertThat(context.getHistory().states()).containsExactly(Context.State.INIT, Context.State.READY);
+    }
+
+    @ParameterizedTest
+    @MethodSource("pageCommands")
+    void shouldUndoCommand_NothingToDo(PageCommand page) {
+        FindPageCommand<BaseType> command = command(page);
+        Context<Set<BaseType>> context = command.createContext(null);
+        context.setState(Context.State.DONE);
+        if (context instanceof CommandContext<?> commandContext) {
+            commandContext.setUndoParameter(Input.of(mock(page.itemType())));
+        }
+
+        command.undoCommand(context);
+
+        assertThat(context.getState()).isEqualTo(UNDONE);
+        assertThat(context.getException()).isNull();
+        verify(command).executeUndo(context);
+    }
+
+    // private methods
+    private static Stream<PageCommand> pageCommands() {
+        return Stream.of(
+                new PageCommand("studentFindNotEnrolledPage", Student.class, StudentPayload.class,
+                        FindNotEnrolledStudentsPageCommand::new, PersistenceFacade::findNotEnrolledStudentsPage,
+                        (mapper, item) -> mapper.toPayload((Student) item)),
+                new PageCommand("courseFindNoStudentsPage", Course.class, CoursePayload.class,
+                        FindCoursesWithoutStudentsPageCommand::new, PersistenceFacade::findCoursesWithoutStudentsPage,
+                        (mapper, item) -> mapper.toPayload((Course) item)),
+                new PageCommand("facultyFindPage", Faculty.class, FacultyPayload.class,
+                        FindFacultiesPageCommand::new, PersistenceFacade::findFacultiesPage,
+                        (mapper, item) -> mapper.toPayload((Faculty) item)),
+                new PageCommand("authorityPersonFindPage", AuthorityPerson.class, AuthorityPersonPayload.class,
+                        FindAuthorityPersonsPageCommand::new, PersistenceFacade::findAuthorityPersonsPage,
+                        (mapper, item) -> mapper.toPayload((AuthorityPerson) item)),
+                new PageCommand("studentsGroupFindPage", StudentsGroup.class, StudentsGroupPayload.class,
+                        FindStudentsGroupsPageCommand::new, PersistenceFacade::findStudentsGroupsPage,
+                        (mapper, item) -> mapper.toPayload((StudentsGroup) item))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private FindPageCommand<BaseType> command(final PageCommand page) {
+        final FindPageCommand<BaseType> command =
+                (FindPageCommand<BaseType>) spy(page.factory().apply(persistence, payloadMapper));
+        ReflectionTestUtils.setField(command, "applicationContext", applicationContext);
+        assertThat(command.springName()).isEqualTo(page.springName());
+        final Class<?> family = command.commandFamily();
+        lenient().doReturn(command).when(applicationContext).getBean(page.springName(), family);
+        return command;
+    }
+
+    // the page command under the test, with the access to its persistence query and payload mapping
+    record PageCommand(String springName,
+                       Class<? extends BaseType> itemType,
+                       Class<? extends BaseType> payloadType,
+                       BiFunction<PersistenceFacade, BusinessMessagePayloadMapper, FindPageCommand<?>> factory,
+                       PageQuery query,
+                       PayloadAdopter adopter) {
+        @Override
+        public String toString() {
+            return springName;
+        }
+    }
+
+    interface PageQuery {
+        List<? extends BaseType> page(PersistenceFacade persistence, Long afterId, int limit);
+    }
+
+    interface PayloadAdopter {
+        BaseType toPayload(BusinessMessagePayloadMapper mapper, BaseType item);
+    }
+}
@@ -0,0 +1,219 @@
+package oleg.sopilnyak.test.service.command.executable.core.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.test.TestModelFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+class ByIdBatchLoaderTest extends TestModelFactory {
+    private static final Duration LONG_WINDOW = Duration.ofSeconds(30);
+    // the lookup of this id is in progress until the query is released
+    private static final Long HOLDING_ID = 0L;
+    CountDownLatch queryReleased = new CountDownLatch(1);
+    Error queryError;
+    List<Set<Long>> queries = new CopyOnWriteArrayList<>();
+    List<Thread> lookupThreads = new CopyOnWriteArrayList<>();
+    ExecutorService lookups = Executors.newFixedThreadPool(4, task -> {
+        Thread thread = new Thread(task);
+        lookupThreads.add(thread);
+        return thread;
+    });
+
+    @AfterEach
+    void tearDown() {
+        queryReleased.countDown();
+        lookups.shutdownNow();
+    }
+
+    @Test
+    void shouldResolveLookupsByOneQuery_BatchIsFull() {
+        ByIdBatchLoader<Student> loader = new ByIdBatchLoader<>(this::findStudents, UnaryOperator.identity(), LONG_WINDOW, 3);
+        CompletableFuture<Optional<Student>> holding = holdLookupInProgress(loader);
+
+        List<CompletableFuture<Optional<Student>>> found = List.of(1L, 2L, 404L).stream()
+                .map(id -> CompletableFuture.supplyAsync(() -> loader.load(id), lookups))
+                .toList();
+
+        assertThat(found.get(0).join()).hasValueSatisfying(student -> assertThat(student.getId()).isEqualTo(1L));
+        assertThat(found.get(1).join()).hasValueSatisfying(student -> assertThat(student.getId()).isEqualTo(2L));
+        assertThat(found.get(2).join()).isEmpty();
+        assertThat(queries).containsExactly(Set.of(HOLDING_ID), Set.of(1L, 2L, 404L));
+        queryReleased.countDown();
+        assertThat(holding.join()).hasValueSatisfying(student -> assertThat(student.getId()).isEqualTo(HOLDING_ID));
+    }
+
+    @Test
+    void shouldResolveSameIdLookupsByCopiesOfOneItem() {
+        ByIdBatchLoader<Student> loader = new ByIdBatchLoader<>(this::findStudents, UnaryOperator.identity(), LONG_WINDOW, 2);
+        holdLookupInProgress(loader);
+        CompletableFuture<Optional<Student>> first = CompletableFuture.supplyAsync(() -> loader.load(7L), lookups);
+        CompletableFuture<Optional<Student>> second = CompletableFuture.supplyAsync(() -> loader.load(7L), lookups);
+        // both lookups are waiting in the opened batch
+        await().atMost(Duration.ofSeconds(5)).until(() -> lookupThreads.size() == 3 && lookupThreads.stream().allMatch(this::isWaiting));
+
+        Optional<Student> third = loader.load(8L);
+
+        assertThat(third).hasValueSatisfying(student -> assertThat(student.getId()).isEqualTo(8L));
+        Student firstStudent = first.join().orElseThrow();
+        Student secondStudent = second.join().orElseThrow();
+        assertThat(firstStudent).isNotSameAs(secondStudent);
+        assertThat(firstStudent.getId()).isEqualTo(secondStudent.getId()).isEqualTo(7L);
+        assertThat(queries).containsExactly(Set.of(HOLDING_ID), Set.of(7L, 8L));
+    }
+
+    @Test
+    void shouldResolveLookupWithoutWindow_NoOtherLookups() {
+        ByIdBatchLoader<Student> loader = new ByIdBatchLoader<>(this::findStudents, UnaryOperator.identity(), LONG_WINDOW, 100);
+
+        Optional<Student> student = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> loader.load(1L));
+
+        assertThat(student).hasValueSatisfying(item -> assertThat(item.getId()).isEqualTo(1L));
+        assertThat(queries).containsExactly(Set.of(1L));
+    }
+
+    @Test
+    void shouldResolveLookupAfterWindow() {
+        ByIdBatchLoader<Student> loader = new ByIdBatchLoader<>(this::findStudents, UnaryOperator.identity(), Duration.ofMillis(5), 100);
+
+        Optional<Student> student = loader.load(1L);
+
+        assertThat(student).hasValueSatisfying(item -> assertThat(item.getId()).isEqualTo(1L));
+        assertThat(queries).containsExactly(Set.of(1L));
+    }
+
+    @Test
+    void shouldAdoptLoadedItems() {
+        Student adopted = makeTestStudent(1L);
+        ByIdBatchLoader<Student> loader = new ByIdBatchLoader<>(this::findStudents, student -> adopted, Duration.ZERO, 100);
+
+        assertThat(loader.load(1L)).containsSame(adopted);
+    }
+
+    @Test
+    void shouldOpenNewBatch_PreviousIsFull() {
+        ByIdBatchLoader<Student> loader = new ByIdBatchLoader<>(this::findStudents, UnaryOperator.identity(), LONG_WINDOW, 1);
+
+        loader.load(1L);
+        loader.load(2L);
+
+        assertThat(queries).containsExactly(Set.of(1L), Set.of(2L));
+    }
+
+    @Test
+    void shouldNotResolveLookup_QueryFailed() {
+        RuntimeException cannotQuery = new IllegalStateException("Cannot query");
+        ByIdBatchLoader<Student> loader = new ByIdBatchLoader<>(ids -> {
+            throw cannotQuery;
+        }, UnaryOperator.identity(), Duration.ZERO, 100);
+
+        var exception = assertThrows(IllegalStateException.class, () -> loader.load(1L));
+
+        assertThat(exception).isSameAs(cannotQuery);
+    }
+
+    @Test
+    void shouldNotResolveLookups_QueryFailedWithError() {
+        ByIdBatchLoader<Student> loader = new ByIdBatchLoader<>(this::findStudents, UnaryOperator.identity(), LONG_WINDOW, 2);
+        holdLookupInProgress(loader);
+        queryError = new AssertionError("Cannot query");
+
+        CompletableFuture<Optional<Student>> first = CompletableFuture.supplyAsync(() -> loader.load(1L), lookups);
+        CompletableFuture<Optional<Student>> second = CompletableFuture.supplyAsync(() -> loader.load(2L), lookups);
+
+        var firstException = assertThrows(CompletionException.class, first::join);
+        var secondException = assertThrows(CompletionException.class, second::join);
+        assertThat(firstException.getCause()).isSameAs(queryError);
+        assertThat(secondException.getCause()).isSameAs(queryError);
+    }
+
+    @Test
+    void shouldLoadAndAdoptBatchInOwnTransaction() {
+        List<String> steps = new CopyOnWriteArrayList<>();
+        TransactionOperations transaction = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> callback) {
+                steps.add("begin");
+                try {
+                    return callback.doInTransaction(null);
+                } finally {
+                    steps.add("commit");
+                }
+            }
+        };
+        ByIdBatchLoader<Student> loader = new ByIdBatchLoading(Duration.ZERO, 100, transaction).loaderOf(ids -> {
+            steps.add("load " + ids);
+            return findStudents(ids);
+        }, student -> {
+            steps.add("adopt " + student.getId());
+            return student;
+        });
+
+        assertThat(loader.load(1L)).hasValueSatisfying(student -> assertThat(student.getId()).isEqualTo(1L));
+
+        assertThat(steps).containsExactly("begin", "load [1]", "adopt 1", "commit");
+        assertThat(new ByIdBatchLoading(Duration.ZERO, 100, transaction).getMaximumSize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldNotResolveLookup_NullId() {
+        ByIdBatchLoader<Student> loader = new ByIdBatchLoader<>(this::findStudents, UnaryOperator.identity(), Duration.ZERO, 100);
+
+        assertThrows(IllegalArgumentException.class, () -> loader.load(null));
+
+        assertThat(queries).isEmpty();
+    }
+
+    @Test
+    void shouldNotCreateLoader_WrongMaximumSize() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> new ByIdBatchLoader<>(this::findStudents, UnaryOperator.identity(), Duration.ZERO, 0));
+
+        assertThat(exception.getMessage()).isEqualTo("Wrong maximum size of the batch: 0");
+    }
+
+    // private methods
+    private List<Student> findStudents(Collection<Long> ids) {
+        queries.add(Set.copyOf(ids));
+        if (ids.contains(HOLDING_ID)) {
+            try {
+                queryReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else if (queryError != null) {
+            throw queryError;
+        }
+        return ids.stream().filter(id -> id < 100L).map(this::makeTestStudent).toList();
+    }
+
+    // the lookup in progress makes the next lookups wait for the window of their batch
+    private CompletableFuture<Optional<Student>> holdLookupInProgress(ByIdBatchLoader<Student> loader) {
+        CompletableFuture<Optional<Student>> holding = CompletableFuture.supplyAsync(() -> loader.load(HOLDING_ID), lookups);
+        await().atMost(Duration.ofSeconds(5)).until(() -> queries.contains(Set.of(HOLDING_ID)));
+        return holding;
+    }
+
+    private boolean isWaiting(Thread thread) {
+        return thread.getState() == Thread.State.WAITING || thread.getState() == Thread.State.TIMED_WAITING;
+    }
+}
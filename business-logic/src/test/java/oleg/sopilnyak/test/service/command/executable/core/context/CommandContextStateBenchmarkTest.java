@@ -0,0 +1,125 @@
+package oleg.sopilnyak.test.service.command.executable.core.context;
+
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.DONE;
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.INIT;
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.READY;
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.WORK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.persistence.education.StudentsPersistenceFacade;
+import oleg.sopilnyak.test.school.common.test.MockitoInstanceUnwrapper;
+import oleg.sopilnyak.test.school.common.utility.InstanceUnwrapper;
+import oleg.sopilnyak.test.service.command.executable.education.student.FindStudentCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * Benchmark: throughput of CommandContext state transitions (INIT->READY->WORK->DONE)<BR/>
+ * Every transition resolves genuine context instance through the plugged InstanceUnwrapper,
+ * reports the cost of the resolution with Mockito (former production path) and without it (production path)
+ *
+ * @see CommandContext#setState(Context.State)
+ * @see InstanceUnwrapper
+ */
+@Tag("benchmark")
+class CommandContextStateBenchmarkTest {
+    private static final int WARM_UP_CYCLES = 50_000;
+    private static final int MEASURED_CYCLES = 500_000;
+    private static final InstanceUnwrapper IDENTITY = new InstanceUnwrapper() {
+        @Override
+        public boolean isTestDouble(Object instance) {
+            return false;
+        }
+
+        @Override
+        public <T> T genuine(T instance) {
+            return instance;
+        }
+    };
+    private final FindStudentCommand command = new FindStudentCommand(
+            mock(StudentsPersistenceFacade.class), mock(BusinessMessagePayloadMapper.class)
+    );
+
+    Logger contextLogger = (Logger) LoggerFactory.getLogger(CommandContext.class);
+    Level contextLogLevel;
+
+    @BeforeEach
+    void setUp() {
+        // the logging of every transition should not be measured
+        contextLogLevel = contextLogger.getLevel();
+        contextLogger.setLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contextLogger.setLevel(contextLogLevel);
+    }
+
+    @Test
+    void shouldMeasureStateTransitions() {
+        runCycles(WARM_UP_CYCLES);
+        long startedAt = System.nanoTime();
+        int done = runCycles(MEASURED_CYCLES);
+        long spentNanos = System.nanoTime() - startedAt;
+
+        assertThat(done).isEqualTo(MEASURED_CYCLES);
+        System.out.printf(
+                "CommandContext (%s) : %,12.0f cycles/sec, %,12.0f transitions/sec%n",
+                InstanceUnwrapper.current().getClass().getSimpleName(),
+                MEASURED_CYCLES * 1_000_000_000.0 / spentNanos, 3 * MEASURED_CYCLES * 1_000_000_000.0 / spentNanos
+        );
+    }
+
+    @Test
+    void shouldCompareGenuineInstanceResolution() {
+        CommandContext<Optional<Student>> context = CommandContext.<Optional<Student>>builder().command(command).state(INIT).build();
+        for (InstanceUnwrapper unwrapper : new InstanceUnwrapper[]{new MockitoInstanceUnwrapper(), IDENTITY}) {
+            resolve(unwrapper, context, WARM_UP_CYCLES);
+            long startedAt = System.nanoTime();
+            int resolved = resolve(unwrapper, context, MEASURED_CYCLES);
+            long spentNanos = System.nanoTime() - startedAt;
+
+            assertThat(resolved).isEqualTo(MEASURED_CYCLES);
+            System.out.printf(
+                    "InstanceUnwrapper %-25s : %,14.0f resolutions/sec, %,8.1f ns per resolution%n",
+                    unwrapper == IDENTITY ? "(production identity)" : unwrapper.getClass().getSimpleName(),
+                    MEASURED_CYCLES * 1_000_000_000.0 / spentNanos, (double) spentNanos / MEASURED_CYCLES
+            );
+        }
+    }
+
+    // private methods
+    private int runCycles(int cycles) {
+        int done = 0;
+        for (int cycle = 0; cycle < cycles; cycle++) {
+            CommandContext<Optional<Student>> context = CommandContext.<Optional<Student>>builder().command(command).state(INIT).build();
+            context.setState(READY);
+            context.setState(WORK);
+            context.setState(DONE);
+            if (context.isDone()) {
+                done++;
+            }
+        }
+        return done;
+    }
+
+    private static int resolve(InstanceUnwrapper unwrapper, CommandContext<?> context, int times) {
+        int resolved = 0;
+        for (int time = 0; time < times; time++) {
+            if (unwrapper.genuine(context) == context) {
+                resolved++;
+            }
+        }
+        return resolved;
+    }
+}
@@ -8,7 +8,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Deque;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 class HistoryTest {
 
@@ -46,4 +50,110 @@ class HistoryTest {
         assertThat(durations.pop().getSeconds()).isEqualTo(seconds++);
         assertThat(durations.pop().getSeconds()).isEqualTo(seconds);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGetLastState() {
+        assertThat(history.lastState()).isNull();
+
+        history.add(Context.State.INIT);
+        history.add(Context.State.READY);
+        history.add(Context.State.WORK);
+
+        assertThat(history.lastState()).isEqualTo(Context.State.WORK);
+        assertThat(history.lastState()).isEqualTo(history.states().getLast());
+    }
+
+    @Test
+    void shouldGrowStatesHistory() {
+        List<Context.State> states = IntStream.range(0, 100).mapToObj(i -> Context.State.values()[i % Context.State.values().length]).toList();
+
+        states.forEach(history::add);
+
+        assertThat(history.states()).containsExactlyElementsOf(states);
+    }
+
+    @Test
+    void shouldKeepLimitedHistory() {
+        history = History.builder().limit(2).build();
+
+        history.add(Context.State.INIT);
+        history.add(Context.State.READY);
+        history.add(Context.State.WORK);
+        history.add(Context.State.DONE);
+        history.add(Duration.ofSeconds(1), Context.State.FAIL);
+        history.add(Duration.ofSeconds(2), Context.State.DONE);
+        history.add(Duration.ofSeconds(3), Context.State.UNDONE);
+
+        assertThat(history.states()).containsExactly(Context.State.WORK, Context.State.DONE);
+        assertThat(history.durations()).containsExactly(Duration.ofSeconds(2), Duration.ofSeconds(3));
+        assertThat(history.lastState()).isEqualTo(Context.State.DONE);
+    }
+
+    @Test
+    void shouldNotKeepHistory_HistoryIsOff() {
+        history = History.builder().limit(History.OFF).build();
+
+        history.add(Context.State.INIT);
+        history.add(Context.State.READY);
+        history.add(Instant.now(), Context.State.READY);
+        history.add(Duration.ofSeconds(1), Context.State.DONE);
+
+        assertThat(history.states()).isEmpty();
+        assertThat(history.started()).isEmpty();
+        assertThat(history.durations()).isEmpty();
+        assertThat(history.lastState()).isEqualTo(Context.State.READY);
+    }
+
+    @Test
+    void shouldKeepWireFormat() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Instant setup = Instant.parse("2025-01-02T03:04:05.123456Z");
+        Duration worked = Duration.ofNanos(1_234_567);
+        // history's JSON made of the history items
+        String legacyJson = "{\"type\":\"" + History.class.getName() + "\",\"value\":{"
+                + "\"states\":[" + mapper.writeValueAsString(new History.StateChangedHistoryItem(Context.State.READY, setup)) + "],"
+                + "\"started\":[" + mapper.writeValueAsString(new History.StartedAtHistoryItem(setup, Context.State.READY)) + "],"
+                + "\"durations\":[" + mapper.writeValueAsString(new History.WorkedHistoryItem(worked, Context.State.DONE)) + "]}}";
+
+        History restored = mapper.readValue(legacyJson, History.class);
+        String json = mapper.writeValueAsString(restored);
+
+        assertThat(restored.states()).containsExactly(Context.State.READY);
+        assertThat(restored.started()).containsExactly(setup);
+        assertThat(restored.durations()).containsExactly(worked);
+        assertThat(restored.lastState()).isEqualTo(Context.State.READY);
+        assertThat(mapper.readTree(json)).isEqualTo(mapper.readTree(legacyJson));
+        assertThat(mapper.readValue(json, History.class)).isEqualTo(restored);
+    }
+
+    @Test
+    void shouldRestoreHistoryOff_JsonRoundTrip() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        history = History.builder().limit(History.OFF).build();
+        history.add(Context.State.INIT);
+        history.add(Context.State.READY);
+
+        History restored = mapper.readValue(mapper.writeValueAsString(history), History.class);
+        restored.add(Context.State.WORK);
+
+        assertThat(restored.states()).isEmpty();
+        assertThat(restored.lastState()).isEqualTo(Context.State.WORK);
+        assertThat(mapper.readValue(mapper.writeValueAsString(history), History.class).lastState()).isEqualTo(Context.State.READY);
+    }
+
+    @Test
+    void shouldRestoreLimitedHistory_JsonRoundTrip() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        history = History.builder().limit(2).build();
+        history.add(Context.State.INIT);
+        history.add(Context.State.READY);
+        history.add(Context.State.WORK);
+
+        History restored = mapper.readValue(mapper.writeValueAsString(history), History.class);
+        restored.add(Context.State.DONE);
+
+        assertThat(restored.states()).containsExactly(Context.State.WORK, Context.State.DONE);
+        assertThat(restored.lastState()).isEqualTo(Context.State.DONE);
+        assertThat(mapper.readTree(mapper.writeValueAsString(restored)).get("value").get(History.LIMIT_FILED_NAME).asInt()).isEqualTo(2);
+    }
+}
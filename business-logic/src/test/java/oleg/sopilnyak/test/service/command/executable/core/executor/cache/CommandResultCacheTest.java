@@ -0,0 +1,189 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.cache;
+
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.READY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+import oleg.sopilnyak.test.service.message.payload.StudentPayload;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CommandResultCacheTest {
+    static final String REGION = "students";
+    @Mock
+    RootCommand<String> findCommand;
+    @Mock
+    RootCommand<Boolean> updateCommand;
+
+    CommandResultCache cache = new CommandResultCache(100, Duration.ofMinutes(1));
+    AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn("student.find").when(findCommand).getId();
+        lenient().doReturn(REGION).when(findCommand).resultCacheRegion();
+    }
+
+    @Test
+    void shouldExecuteReadCommandOnce_SameInput() {
+        Context<String> first = cache.commit(readyContext(findCommand, 1L), this::executeFind);
+        Context<String> second = cache.commit(readyContext(findCommand, 1L), this::executeFind);
+
+        assertThat(executions.get()).isOne();
+        assertThat(second.isDone()).isTrue();
+        assertThat(second.getResult()).isEqualTo(first.getResult()).contains("student-1");
+        assertThat(cache.getHitCount()).isOne();
+        assertThat(cache.getMissCount()).isOne();
+        assertThat(cache.getHitRate()).isEqualTo(0.5);
+        assertThat(cache.getSize()).isOne();
+    }
+
+    @Test
+    void shouldExecuteReadCommand_DifferentInputs() {
+        cache.commit(readyContext(findCommand, 1L), this::executeFind);
+        Context<String> second = cache.commit(readyContext(findCommand, 2L), this::executeFind);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(second.getResult()).contains("student-2");
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    void shouldExecuteReadCommandAgain_RegionInvalidatedByDataChange() {
+        doReturn(Set.of(REGION)).when(updateCommand).invalidatedCacheRegions();
+        cache.commit(readyContext(findCommand, 1L), this::executeFind);
+
+        Context<Boolean> update = cache.commit(readyContext(updateCommand, 1L), this::executeUpdate);
+        cache.commit(readyContext(findCommand, 1L), this::executeFind);
+
+        assertThat(update.getResult()).contains(true);
+        assertThat(executions.get()).isEqualTo(3);
+        assertThat(cache.getSize()).isOne();
+    }
+
+    @Test
+    void shouldNotCacheResult_RegionInvalidatedDuringRead() {
+        doReturn(Set.of(REGION)).when(updateCommand).invalidatedCacheRegions();
+
+        cache.commit(readyContext(findCommand, 1L), context -> {
+            // the data are changed while the result is read
+            cache.invalidate(updateCommand);
+            return executeFind(context);
+        });
+        cache.commit(readyContext(findCommand, 1L), this::executeFind);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheResult_ReadCommandFailed() {
+        UnaryOperator<Context<String>> failedExecution = context -> {
+            executions.incrementAndGet();
+            context.failed(new IllegalStateException("Cannot find"));
+            return context;
+        };
+
+        Context<String> failed = cache.commit(readyContext(findCommand, 1L), failedExecution);
+        cache.commit(readyContext(findCommand, 1L), failedExecution);
+
+        assertThat(failed.isFailed()).isTrue();
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    void shouldExecuteReadCommandOnceAsync_SameInput() {
+        cache.commitAsync(readyContext(findCommand, 1L), context -> CompletableFuture.completedFuture(executeFind(context))).join();
+        CompletableFuture<Context<String>> second =
+                cache.commitAsync(readyContext(findCommand, 1L), context -> CompletableFuture.completedFuture(executeFind(context)));
+
+        assertThat(second).isCompleted();
+        assertThat(second.join().getResult()).contains("student-1");
+        assertThat(executions.get()).isOne();
+        assertThat(cache.getHitCount()).isOne();
+    }
+
+    @Test
+    void shouldGiveCopyOfCachedResult() {
+        RootCommand<StudentPayload> findPayloadCommand = mock(RootCommand.class);
+        doReturn("student.find.payload").when(findPayloadCommand).getId();
+        doReturn(REGION).when(findPayloadCommand).resultCacheRegion();
+        StudentPayload student = StudentPayload.builder().id(1L).firstName("John").lastName("Doe").build();
+        UnaryOperator<Context<StudentPayload>> execution = context -> {
+            executions.incrementAndGet();
+            context.setState(Context.State.WORK);
+            context.setResult(student);
+            return context;
+        };
+
+        Context<StudentPayload> first = cache.commit(readyContext(findPayloadCommand, 1L), execution);
+        student.setFirstName("Jane");
+        Context<StudentPayload> second = cache.commit(readyContext(findPayloadCommand, 1L), execution);
+        second.getResult().orElseThrow().setLastName("Smith");
+        Context<StudentPayload> third = cache.commit(readyContext(findPayloadCommand, 1L), execution);
+
+        assertThat(executions.get()).isOne();
+        assertThat(first.getResult()).containsSame(student);
+        assertThat(second.getResult().orElseThrow()).isNotSameAs(student)
+                .extracting(StudentPayload::getFirstName).isEqualTo("John");
+        assertThat(third.getResult().orElseThrow()).isNotSameAs(second.getResult().orElseThrow())
+                .extracting(StudentPayload::getId, StudentPayload::getFirstName, StudentPayload::getLastName)
+                .containsExactly(1L, "John", "Doe");
+    }
+
+    @Test
+    void shouldInvalidateOnlyDeclaredRegion() {
+        RootCommand<String> findCourseCommand = mock(RootCommand.class);
+        doReturn("course.find").when(findCourseCommand).getId();
+        doReturn("courses").when(findCourseCommand).resultCacheRegion();
+        doReturn(Set.of(REGION)).when(updateCommand).invalidatedCacheRegions();
+        cache.commit(readyContext(findCommand, 1L), this::executeFind);
+        cache.commit(readyContext(findCourseCommand, 1L), this::executeFind);
+
+        cache.invalidate(updateCommand);
+        cache.commit(readyContext(findCommand, 1L), this::executeFind);
+        cache.commit(readyContext(findCourseCommand, 1L), this::executeFind);
+
+        assertThat(executions.get()).isEqualTo(3);
+        assertThat(cache.getHitCount()).isOne();
+        assertThat(cache.getSize()).isEqualTo(2);
+    }
+
+    // private methods
+    private static <T> Context<T> readyContext(RootCommand<T> command, Long id) {
+        Context<T> context = CommandContext.<T>builder().command(command).redoParameter(Input.of(id)).build();
+        context.setState(READY);
+        return context;
+    }
+
+    private Context<String> executeFind(Context<String> context) {
+        executions.incrementAndGet();
+        context.setState(Context.State.WORK);
+        context.setResult("student-" + context.getRedoParameter().value());
+        return context;
+    }
+
+    private Context<Boolean> executeUpdate(Context<Boolean> context) {
+        executions.incrementAndGet();
+        context.setState(Context.State.WORK);
+        context.setResult(true);
+        return context;
+    }
+}
@@ -0,0 +1,177 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+import oleg.sopilnyak.test.end2end.configuration.TestConfig;
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
+import oleg.sopilnyak.test.school.common.business.facade.education.StudentsFacade;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.persistence.PersistenceFacade;
+import oleg.sopilnyak.test.school.common.test.TestModelFactory;
+import oleg.sopilnyak.test.service.command.configurations.SchoolCommandsConfiguration;
+import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.CommandMessagesExchangeExecutorAdapter;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local.LocalQueueCommandExecutor;
+import oleg.sopilnyak.test.service.command.factory.base.CommandsFactory;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * Benchmark: database calls of StudentsFacade.FIND_BY_ID commands with and without coalescing<BR/>
+ * The students are requested by Zipfian distribution of the ids (a few hot students),
+ * the database call takes about a millisecond, reports the quantity of the database calls and throughput
+ *
+ * @see CommandSingleFlight
+ */
+@Tag("benchmark")
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {SchoolCommandsConfiguration.class, TestConfig.class})
+@DirtiesContext
+class CommandSingleFlightBenchmarkTest extends TestModelFactory {
+    private static final int STUDENTS = 1_000;
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final int CALLS = 16_000;
+    private static final int CALLER_THREADS = 32;
+    private static final long DATABASE_CALL_NANOS = 1_000_000L;
+    @MockitoBean
+    PlatformTransactionManager platformTransactionManager;
+    @MockitoBean
+    PersistenceFacade persistenceFacade;
+    @Autowired
+    CommandActionExecutor actionExecutor;
+    @Autowired
+    @Qualifier(StudentCommand.FACTORY_BEAN_NAME)
+    CommandsFactory<StudentCommand<?>> factory;
+
+    AtomicInteger databaseCalls = new AtomicInteger();
+    long[] zipfianIds;
+    Logger executorLogger = (Logger) LoggerFactory.getLogger(LocalQueueCommandExecutor.class);
+    Level executorLogLevel;
+
+    @BeforeEach
+    void setUp() {
+        // the logging of every message should not be measured
+        executorLogLevel = executorLogger.getLevel();
+        executorLogger.setLevel(Level.WARN);
+        zipfianIds = zipfianIds(CALLS);
+        doAnswer(invocation -> {
+            databaseCalls.incrementAndGet();
+            long calledAt = System.nanoTime();
+            while (System.nanoTime() - calledAt < DATABASE_CALL_NANOS) {
+                Thread.onSpinWait();
+            }
+            Student student = makeTestStudent(invocation.getArgument(0, Long.class));
+            return Optional.of(student);
+        }).when(persistenceFacade).findStudentById(anyLong());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorLogger.setLevel(executorLogLevel);
+        ((CommandMessagesExchangeExecutorAdapter) actionExecutor).setSingleFlight(null);
+    }
+
+    @Test
+    void shouldReduceDatabaseCalls_ZipfianStudentIds() throws Exception {
+        CommandMessagesExchangeExecutorAdapter executor = (CommandMessagesExchangeExecutorAdapter) actionExecutor;
+
+        executor.setSingleFlight(null);
+        long[] plain = runCalls();
+        CommandSingleFlight singleFlight = new CommandSingleFlight();
+        executor.setSingleFlight(singleFlight);
+        long[] coalesced = runCalls();
+
+        System.out.printf("FIND_BY_ID without coalescing : %,6d database calls, %,10.0f calls/sec%n", plain[0], callsPerSecond(plain[1]));
+        System.out.printf("FIND_BY_ID with coalescing    : %,6d database calls, %,10.0f calls/sec (%d coalesced)%n",
+                coalesced[0], callsPerSecond(coalesced[1]), singleFlight.getCoalescedCount());
+        System.out.printf("Database calls reduction      : %.1f%%%n", 100.0 * (plain[0] - coalesced[0]) / plain[0]);
+        assertThat(plain[0]).isEqualTo(CALLS);
+        assertThat(coalesced[0]).isLessThan(plain[0]);
+        assertThat(coalesced[0] + singleFlight.getCoalescedCount()).isEqualTo(CALLS);
+    }
+
+    // private methods
+    private static double callsPerSecond(long spentNanos) {
+        return CALLS * 1_000_000_000.0 / spentNanos;
+    }
+
+    // ids of the students by Zipfian distribution (inverse of cumulative distribution)
+    private static long[] zipfianIds(int calls) {
+        double[] cumulative = new double[STUDENTS];
+        double sum = 0;
+        for (int rank = 1; rank <= STUDENTS; rank++) {
+            sum += 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+            cumulative[rank - 1] = sum;
+        }
+        SplittableRandom random = new SplittableRandom(42L);
+        long[] ids = new long[calls];
+        for (int call = 0; call < calls; call++) {
+            double point = random.nextDouble() * sum;
+            int rank = 0;
+            while (cumulative[rank] < point) {
+                rank++;
+            }
+            ids[call] = rank + 1L;
+        }
+        return ids;
+    }
+
+    // returns the quantity of the database calls and the spent nanoseconds
+    private long[] runCalls() throws Exception {
+        databaseCalls.set(0);
+        ExecutorService callers = Executors.newFixedThreadPool(CALLER_THREADS);
+        long startedAt = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(CALLER_THREADS);
+            int callsPerThread = CALLS / CALLER_THREADS;
+            for (int thread = 0; thread < CALLER_THREADS; thread++) {
+                int firstCall = thread * callsPerThread;
+                futures.add(callers.submit(() -> {
+                    ActionContext.setup("test-facade", "test-benchmark");
+                    try {
+                        for (int call = 0; call < callsPerThread; call++) {
+                            Input<Long> id = Input.of(zipfianIds[firstCall + call]);
+                            Context<Optional<Student>> context = factory.makeCommandContext(StudentsFacade.FIND_BY_ID, id);
+                            assertThat(actionExecutor.commitAction(ActionContext.current(), context).isDone()).isTrue();
+                        }
+                    } finally {
+                        ActionContext.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            callers.shutdown();
+        }
+        return new long[]{databaseCalls.get(), System.nanoTime() - startedAt};
+    }
+}
@@ -0,0 +1,246 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.cache;
+
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.READY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+import oleg.sopilnyak.test.service.message.payload.StudentPayload;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CommandSingleFlightTest {
+    @Mock
+    RootCommand<String> findCommand;
+    @Mock
+    RootCommand<Boolean> updateCommand;
+
+    CommandSingleFlight singleFlight = new CommandSingleFlight();
+    AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void shouldShareExecution_IdenticalCommandsInFlight() throws Exception {
+        readOnly(findCommand);
+        CountDownLatch leaderRelease = new CountDownLatch(1);
+        CompletableFuture<Context<String>> leader = CompletableFuture.supplyAsync(() ->
+                singleFlight.commit(readyContext(findCommand, 1L), context -> {
+                    waitFor(leaderRelease);
+                    return executeFind(context);
+                }));
+        await().atMost(Duration.ofSeconds(5)).until(() -> inFlight().size() == 1);
+        List<CompletableFuture<Context<String>>> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            followers.add(CompletableFuture.supplyAsync(() -> singleFlight.commit(readyContext(findCommand, 1L), this::executeFind)));
+        }
+        // all followers are waiting for the leader's execution
+        await().atMost(Duration.ofSeconds(5)).until(() -> inFlight().values().iterator().next().getNumberOfDependents() == 3);
+
+        leaderRelease.countDown();
+
+        assertThat(leader.get().getResult()).contains("student-1");
+        for (CompletableFuture<Context<String>> follower : followers) {
+            Context<String> context = follower.get();
+            assertThat(context).isNotSameAs(leader.get());
+            assertThat(context.isDone()).isTrue();
+            assertThat(context.getResult()).contains("student-1");
+        }
+        assertThat(executions.get()).isOne();
+        assertThat(singleFlight.getExecutedCount()).isOne();
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(3);
+        assertThat(inFlight()).isEmpty();
+    }
+
+    @Test
+    void shouldShareExecutionAsync_IdenticalCommandsInFlight() {
+        readOnly(findCommand);
+        CompletableFuture<Context<String>> leaderExecution = new CompletableFuture<>();
+        Context<String> leaderContext = readyContext(findCommand, 1L);
+
+        CompletableFuture<Context<String>> leader = singleFlight.commitAsync(leaderContext, context -> leaderExecution);
+        CompletableFuture<Context<String>> follower =
+                singleFlight.commitAsync(readyContext(findCommand, 1L), context -> CompletableFuture.completedFuture(executeFind(context)));
+        assertThat(follower).isNotDone();
+        leaderExecution.complete(executeFind(leaderContext));
+
+        assertThat(leader.join().getResult()).contains("student-1");
+        assertThat(follower.join().getResult()).contains("student-1");
+        assertThat(executions.get()).isOne();
+        assertThat(singleFlight.getCoalescedCount()).isOne();
+        assertThat(inFlight()).isEmpty();
+    }
+
+    @Test
+    void shouldExecuteEach_DifferentInputsInFlight() {
+        readOnly(findCommand);
+        CompletableFuture<Context<String>> firstExecution = new CompletableFuture<>();
+
+        singleFlight.commitAsync(readyContext(findCommand, 1L), context -> firstExecution);
+        Context<String> second = singleFlight.commitAsync(readyContext(findCommand, 2L),
+                context -> CompletableFuture.completedFuture(executeFind(context))).join();
+
+        assertThat(second.getResult()).contains("student-2");
+        assertThat(singleFlight.getExecutedCount()).isEqualTo(2);
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void shouldExecuteFollower_LeaderFailed() {
+        readOnly(findCommand);
+        CompletableFuture<Context<String>> leaderExecution = new CompletableFuture<>();
+        Context<String> leaderContext = readyContext(findCommand, 1L);
+
+        singleFlight.commitAsync(leaderContext, context -> leaderExecution);
+        CompletableFuture<Context<String>> follower =
+                singleFlight.commitAsync(readyContext(findCommand, 1L), context -> CompletableFuture.completedFuture(executeFind(context)));
+        leaderExecution.complete((Context<String>) leaderContext.failed(new IllegalStateException("Cannot find")));
+
+        assertThat(follower.join().getResult()).contains("student-1");
+        assertThat(executions.get()).isOne();
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void shouldExecuteFollower_LeaderNotFinishedInTime() {
+        readOnly(findCommand);
+        CommandSingleFlight boundedFlight = new CommandSingleFlight(Duration.ofMillis(50));
+        CompletableFuture<Context<String>> leaderExecution = new CompletableFuture<>();
+        Context<String> leaderContext = readyContext(findCommand, 1L);
+        boundedFlight.commitAsync(leaderContext, context -> leaderExecution);
+
+        Context<String> follower = boundedFlight.commit(readyContext(findCommand, 1L), this::executeFind);
+
+        assertThat(follower.getResult()).contains("student-1");
+        assertThat(executions.get()).isOne();
+        assertThat(boundedFlight.getCoalescedCount()).isZero();
+        // the leader's flight isn't affected by the follower's timeout
+        assertThat(leaderExecution).isNotDone();
+        leaderExecution.complete(executeFind(leaderContext));
+        assertThat(ReflectionTestUtils.getField(boundedFlight, "inFlight")).asInstanceOf(MAP).isEmpty();
+    }
+
+    @Test
+    void shouldExecuteFollowerAsync_LeaderNotFinishedInTime() {
+        readOnly(findCommand);
+        CommandSingleFlight boundedFlight = new CommandSingleFlight(Duration.ofMillis(50));
+        CompletableFuture<Context<String>> leaderExecution = new CompletableFuture<>();
+        boundedFlight.commitAsync(readyContext(findCommand, 1L), context -> leaderExecution);
+
+        CompletableFuture<Context<String>> follower =
+                boundedFlight.commitAsync(readyContext(findCommand, 1L), context -> CompletableFuture.completedFuture(executeFind(context)));
+
+        assertThat(follower.join().getResult()).contains("student-1");
+        assertThat(leaderExecution).isNotDone();
+        assertThat(executions.get()).isOne();
+        assertThat(boundedFlight.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void shouldShareCopyOfResult_IdenticalCommandsInFlight() {
+        RootCommand<StudentPayload> findPayloadCommand = mock(RootCommand.class);
+        readOnly(findPayloadCommand);
+        StudentPayload student = StudentPayload.builder().id(1L).firstName("John").lastName("Doe").build();
+        CompletableFuture<Context<StudentPayload>> leaderExecution = new CompletableFuture<>();
+        Context<StudentPayload> leaderContext = readyContext(findPayloadCommand, 1L);
+
+        singleFlight.commitAsync(leaderContext, context -> leaderExecution);
+        CompletableFuture<Context<StudentPayload>> first =
+                singleFlight.commitAsync(readyContext(findPayloadCommand, 1L), CompletableFuture::completedFuture);
+        CompletableFuture<Context<StudentPayload>> second =
+                singleFlight.commitAsync(readyContext(findPayloadCommand, 1L), CompletableFuture::completedFuture);
+        leaderContext.setState(Context.State.WORK);
+        leaderContext.setResult(student);
+        leaderExecution.complete(leaderContext);
+        first.join().getResult().orElseThrow().setFirstName("Jane");
+
+        assertThat(first.join().getResult().orElseThrow()).isNotSameAs(student);
+        assertThat(second.join().getResult().orElseThrow()).isNotSameAs(student)
+                .isNotSameAs(first.join().getResult().orElseThrow())
+                .extracting(StudentPayload::getFirstName).isEqualTo("John");
+        assertThat(student.getFirstName()).isEqualTo("John");
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldExecuteFollower_LeaderResultCannotBeCopied() {
+        RootCommand<Object> findObjectCommand = mock(RootCommand.class);
+        readOnly(findObjectCommand);
+        CompletableFuture<Context<Object>> leaderExecution = new CompletableFuture<>();
+        Context<Object> leaderContext = readyContext(findObjectCommand, 1L);
+
+        singleFlight.commitAsync(leaderContext, context -> leaderExecution);
+        CompletableFuture<Context<Object>> follower = singleFlight.commitAsync(readyContext(findObjectCommand, 1L), context -> {
+            executions.incrementAndGet();
+            context.setState(Context.State.WORK);
+            context.setResult(new StringBuilder("follower"));
+            return CompletableFuture.completedFuture(context);
+        });
+        leaderContext.setState(Context.State.WORK);
+        leaderContext.setResult(new StringBuilder("leader"));
+        leaderExecution.complete(leaderContext);
+
+        assertThat(follower.join().getResult().orElseThrow()).hasToString("follower");
+        assertThat(executions.get()).isOne();
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void shouldNotCoalesce_NotReadOnlyCommand() {
+        CompletableFuture<Context<Boolean>> firstExecution = new CompletableFuture<>();
+
+        singleFlight.commitAsync(readyContext(updateCommand, 1L), context -> firstExecution);
+        singleFlight.commitAsync(readyContext(updateCommand, 1L), context -> CompletableFuture.completedFuture(context)).join();
+
+        assertThat(singleFlight.getExecutedCount()).isZero();
+        assertThat(inFlight()).isEmpty();
+    }
+
+    // private methods
+    private static void readOnly(RootCommand<?> command) {
+        doReturn("student.find").when(command).getId();
+        doReturn("students").when(command).resultCacheRegion();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<?, CompletableFuture<?>> inFlight() {
+        return (Map<?, CompletableFuture<?>>) ReflectionTestUtils.getField(singleFlight, "inFlight");
+    }
+
+    private static void waitFor(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> Context<T> readyContext(RootCommand<T> command, Long id) {
+        Context<T> context = CommandContext.<T>builder().command(command).redoParameter(Input.of(id)).build();
+        context.setState(READY);
+        return context;
+    }
+
+    private Context<String> executeFind(Context<String> context) {
+        executions.incrementAndGet();
+        context.setState(Context.State.WORK);
+        context.setResult("student-" + context.getRedoParameter().value());
+        return context;
+    }
+}
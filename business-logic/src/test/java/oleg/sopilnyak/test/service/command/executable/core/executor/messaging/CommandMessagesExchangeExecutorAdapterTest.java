@@ -6,10 +6,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
@@ -19,13 +21,17 @@ import static org.mockito.Mockito.verify;
 import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
 import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+import oleg.sopilnyak.test.service.exception.CommandMessagesQueueOverflowException;
 import oleg.sopilnyak.test.service.exception.UnableExecuteCommandException;
 import oleg.sopilnyak.test.service.message.BaseCommandMessage;
 import oleg.sopilnyak.test.service.message.CommandMessage;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -56,8 +62,8 @@ class CommandMessagesExchangeExecutorAdapterTest {
     @Mock
     RootCommand command;
 
-    MessagesProcessor requestsProcessor;
-    MessagesProcessor responsesProcessor;
+    MessagesSourceProcessor requestsProcessor;
+    MessagesSourceProcessor responsesProcessor;
     CommandMessagesExchangeExecutorStub messagesExecutor;
 
     @BeforeEach
@@ -65,8 +71,8 @@ class CommandMessagesExchangeExecutorAdapterTest {
         messagesExecutor = spy(new CommandMessagesExchangeExecutorStub());
         messagesExecutor.initialize();
         serviceActive = (AtomicBoolean) ReflectionTestUtils.getField(messagesExecutor, "serviceActive");
-        requestsProcessor = (MessagesProcessor) ReflectionTestUtils.getField(messagesExecutor, "requestsProcessor");
-        responsesProcessor = (MessagesProcessor) ReflectionTestUtils.getField(messagesExecutor, "responsesProcessor");
+        requestsProcessor = (MessagesSourceProcessor) ReflectionTestUtils.getField(messagesExecutor, "requestsProcessor");
+        responsesProcessor = (MessagesSourceProcessor) ReflectionTestUtils.getField(messagesExecutor, "responsesProcessor");
         reset(messagesExecutor, logger);
     }
 
@@ -97,8 +103,8 @@ class CommandMessagesExchangeExecutorAdapterTest {
         // Act
         messagesExecutor.initialize();
 
-        requestsProcessor = (MessagesProcessor) ReflectionTestUtils.getField(messagesExecutor, "requestsProcessor");
-        responsesProcessor = (MessagesProcessor) ReflectionTestUtils.getField(messagesExecutor, "responsesProcessor");
+        requestsProcessor = (MessagesSourceProcessor) ReflectionTestUtils.getField(messagesExecutor, "requestsProcessor");
+        responsesProcessor = (MessagesSourceProcessor) ReflectionTestUtils.getField(messagesExecutor, "responsesProcessor");
         // Verification
         verify(messagesExecutor, atLeastOnce()).isActive();
         verify(logger).info(startsWith("Initializing school-commands"));
@@ -113,6 +119,25 @@ class CommandMessagesExchangeExecutorAdapterTest {
         assertThat(responsesProcessor.isProcessorActive()).isTrue();
     }
 
+    @Test
+    void shouldNotInitialize_ProcessorIsNotActivated() {
+        // Init
+        serviceActive.getAndSet(false);
+        MessagesProcessor inactiveProcessor = mock(MessagesProcessor.class);
+        doReturn(REQUESTS_PROCESSOR_NAME).when(inactiveProcessor).getProcessorName();
+        doReturn(inactiveProcessor).when(messagesExecutor).prepareRequestsProcessor();
+        doReturn(Duration.ofMillis(50)).when(messagesExecutor).processorActivationTimeout();
+
+        // Act
+        var exception = assertThrows(IllegalStateException.class, () -> messagesExecutor.initialize());
+
+        // Verification
+        assertThat(exception.getMessage()).isEqualTo("Messages-processor '" + REQUESTS_PROCESSOR_NAME + "' is not activated.");
+        verify(inactiveProcessor).doingMainLoop();
+        verify(logger).error("'{}' messages-processor is not activated in {}.", REQUESTS_PROCESSOR_NAME, Duration.ofMillis(50));
+        verify(logger, never()).info(startsWith("The executor is"));
+    }
+
     @Test
     void shouldNotInitialize_AlreadyInitialized() {
         // Init
@@ -220,6 +245,79 @@ class CommandMessagesExchangeExecutorAdapterTest {
         verify(logger).info("= Retrieve: the result of command '{}' after processing is {}", commandId, request);
     }
 
+    @Test
+    void shouldProcessActionCommandAsync() {
+        // Init
+        ActionContext actionContext = ActionContext.setup("test-facade", "test-action");
+        String commandId = "command-id";
+        String correlationId = "correlation-id";
+        doReturn(actionContext).when(request).getActionContext();
+        doReturn(correlationId).when(request).getCorrelationId();
+        doReturn(CommandMessage.Direction.DO).when(request).getDirection();
+        doReturn(context).when(request).getContext();
+        doReturn(command).when(context).getCommand();
+        doReturn(commandId).when(command).getId();
+
+        // Act
+        CompletableFuture<? extends CommandMessage<?>> future = messagesExecutor.processActionCommandAsync(request);
+
+        // Verification
+        assertThat(future.join()).isSameAs(request);
+        verify(logger).debug(startsWith("Validating input command-message before async"));
+        verify(messagesExecutor).validateInput(request);
+        verify(logger).info(startsWith("=== Sending command-message to start async"), eq(correlationId));
+        verify(messagesExecutor).makeMessageInProgress(correlationId, request);
+        verify(requestsProcessor).accept(request);
+        verify(command).doCommand(context);
+        verify(responsesProcessor).accept(request);
+        verify(messagesExecutor).onTakenResponseMessage(request);
+        verify(messagesExecutor).stopWatchingMessage(correlationId);
+        verify(logger).info("= Retrieve: the result of command '{}' after async processing is {}", commandId, request);
+        assertThat(messagesExecutor.messages).isEmpty();
+    }
+
+    @Test
+    void shouldNotProcessActionCommandAsync_MessageAlreadyInProgress() {
+        // Init
+        String commandId = "command-id";
+        String correlationId = "correlation-id";
+        doReturn(correlationId).when(request).getCorrelationId();
+        doReturn(CommandMessage.Direction.DO).when(request).getDirection();
+        doReturn(context).when(request).getContext();
+        doReturn(command).when(context).getCommand();
+        doReturn(commandId).when(command).getId();
+        doReturn(false).when(messagesExecutor).makeMessageInProgress(correlationId, request);
+
+        // Act
+        CompletableFuture<? extends CommandMessage<?>> future = messagesExecutor.processActionCommandAsync(request);
+
+        // Verification
+        assertThat(future).isCompletedExceptionally();
+        var exception = assertThrows(CompletionException.class, future::join);
+        assertThat(exception.getCause()).isInstanceOf(UnableExecuteCommandException.class);
+        assertThat(exception.getCause().getCause()).isInstanceOf(IllegalStateException.class);
+        assertThat(exception.getCause().getCause().getMessage())
+                .isEqualTo("Launching of message with correlationId='correlation-id' processing is canceled.");
+        verify(requestsProcessor, never()).accept(any(CommandMessage.class));
+    }
+
+    @Test
+    void shouldNotProcessActionCommandAsync_InvalidMessageDirection_Null() {
+        // Init
+        var message = CommandMessage.EMPTY;
+
+        // Act
+        var future = messagesExecutor.processActionCommandAsync(message);
+
+        // Verification
+        verify(messagesExecutor).validateInput(message);
+        assertThat(future).isCompletedExceptionally();
+        var exception = assertThrows(CompletionException.class, future::join);
+        assertThat(exception.getCause()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(exception.getCause().getMessage()).isEqualTo("Message direction is not defined.");
+        verify(requestsProcessor, never()).accept(any(CommandMessage.class));
+    }
+
     @Test
     void shouldNotProcessActionCommand_InvalidMessageDirection_Null() {
         // Init
@@ -289,6 +387,34 @@ class CommandMessagesExchangeExecutorAdapterTest {
         assertThat(exception.getCause().getMessage()).isEqualTo(REQUESTS_PROCESSOR_NAME + " isn't in active state.");
     }
 
+    @Test
+    void shouldNotProcessActionCommand_RequestsProcessorOverflowed() {
+        // Init
+        String commandId = "command-id";
+        String correlationId = "correlation-id";
+        doReturn(correlationId).when(request).getCorrelationId();
+        doReturn(CommandMessage.Direction.DO).when(request).getDirection();
+        doReturn(context).when(request).getContext();
+        doReturn(command).when(context).getCommand();
+        doReturn(commandId).when(command).getId();
+        var overflow = new CommandMessagesQueueOverflowException(REQUESTS_PROCESSOR_NAME, 1, "REJECT");
+        doThrow(overflow).when(requestsProcessor).accept(request);
+
+        // Act
+        var exception = assertThrows(Exception.class, () -> messagesExecutor.processActionCommand(request));
+
+        // Verification
+        verify(messagesExecutor).makeMessageInProgress(correlationId, request);
+        verify(requestsProcessor).accept(request);
+        verify(logger).warn("Launch: message with correlationId='{}' is rejected by overflowed processor.", correlationId);
+        verify(messagesExecutor).stopWatchingMessage(correlationId);
+        assertThat(messagesExecutor.messageWatchdogFor(correlationId)).isEmpty();
+        // verifying thrown exception
+        assertThat(exception).isInstanceOf(UnableExecuteCommandException.class);
+        assertThat(exception.getMessage()).startsWith("Cannot execute command '" + commandId);
+        assertThat(exception.getCause()).isSameAs(overflow);
+    }
+
     @Test
     void shouldNotProcessActionCommand_DidNotLaunchResponsesProcessing() throws InterruptedException {
         // Init
@@ -384,7 +510,8 @@ class CommandMessagesExchangeExecutorAdapterTest {
         // waitingProcessedCommandMessage
         verify(logger).info("=== Waiting for processed command message of command '{}' with correlationId='{}'",
                 commandId, correlationId);
-        verify(responsesProcessor, times(2)).isProcessorActive();
+        // main loop, activation waiting (initialize) and processed message waiting
+        verify(responsesProcessor, atLeast(3)).isProcessorActive();
         verify(responsesProcessor, never()).accept(request);
         // waitingProcessedCommandMessage::retrieveProcessedMessage
         verify(messagesExecutor, times(2)).messageWatchdogFor(correlationId);
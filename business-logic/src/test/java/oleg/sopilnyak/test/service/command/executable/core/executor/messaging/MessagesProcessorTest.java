@@ -15,6 +15,7 @@ import static org.mockito.Mockito.when;
 
 import oleg.sopilnyak.test.service.message.CommandMessage;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,7 +27,7 @@ import org.slf4j.Logger;
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings("unchecked")
 class MessagesProcessorTest {
-    MessagesProcessor processor;
+    MessagesSourceProcessor processor;
 
     @Mock
     Logger logger;
@@ -133,7 +134,7 @@ class MessagesProcessorTest {
     }
 
     // class implementation
-    class FakeBasicMessageProcessor implements MessagesProcessor {
+    class FakeBasicMessageProcessor implements MessagesSourceProcessor {
 
         @Override
         public String getProcessorName() {
@@ -165,6 +166,11 @@ class MessagesProcessorTest {
             return processorActive;
         }
 
+        @Override
+        public boolean awaitActivation(long timeout, TimeUnit unit) {
+            return processorActive;
+        }
+
         @Override
         public void setProcessorActive(boolean state) {
             processorActive = state;
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.verify;
 
 import oleg.sopilnyak.test.service.message.CommandMessage;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -61,6 +62,21 @@ class RootMessageProcessorTest {
         assertThat(state).isNotEqualTo(newState);
     }
 
+    @Test
+    void shouldAwaitActivation() throws InterruptedException {
+        Thread.ofVirtual().start(processor::activateProcessor);
+
+        assertThat(processor.awaitActivation(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processor.isProcessorActive()).isTrue();
+    }
+
+    @Test
+    void shouldNotAwaitActivation_TimeElapsed() throws InterruptedException {
+
+        assertThat(processor.awaitActivation(10, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(processor.isProcessorActive()).isFalse();
+    }
+
     @Test
     void shouldShutdown() {
 
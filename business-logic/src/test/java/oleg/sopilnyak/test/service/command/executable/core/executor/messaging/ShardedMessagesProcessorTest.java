@@ -0,0 +1,270 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.ShardedMessagesProcessor.ShardingKey;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+import oleg.sopilnyak.test.service.message.CommandMessage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedMessagesProcessorTest {
+    static final String PROCESSOR_NAME = "ShardedMessagesProcessor";
+    @Mock
+    Logger logger;
+    @Mock
+    MessagesProcessor shard0;
+    @Mock
+    MessagesProcessor shard1;
+    @Mock
+    MessagesProcessor shard2;
+
+    ShardedMessagesProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = ShardedMessagesProcessor.builder().processorName(PROCESSOR_NAME).logger(logger)
+                .shard(shard0).shard(shard1).shard(shard2).build();
+    }
+
+    @Test
+    void shouldAcceptMessageByTheSameShard() {
+        // Init
+        CommandMessage<?> message = mock(CommandMessage.class);
+        doReturn("correlation-id").when(message).getCorrelationId();
+        MessagesProcessor shard = processor.shardFor(message);
+        doReturn(true).when(shard).accept(message);
+
+        // Act
+        boolean accepted = processor.accept(message) && processor.accept(message);
+
+        // Verification
+        assertThat(accepted).isTrue();
+        assertThat(processor.getShardsCount()).isEqualTo(3);
+        verify(shard, times(2)).accept(message);
+        List.of(shard0, shard1, shard2).stream().filter(other -> other != shard)
+                .forEach(other -> verify(other, never()).accept(message));
+    }
+
+    @Test
+    void shouldSpreadMessagesByCorrelationId() {
+        // Init
+        Set<MessagesProcessor> usedShards = new HashSet<>();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            CommandMessage<?> message = mock(CommandMessage.class);
+            doReturn("correlation-id-" + i).when(message).getCorrelationId();
+            usedShards.add(processor.shardFor(message));
+        }
+
+        // Verification
+        assertThat(usedShards).containsExactlyInAnyOrder(shard0, shard1, shard2);
+    }
+
+    @Test
+    void shouldRouteMessagesByCommandFamily() {
+        // Init
+        processor = ShardedMessagesProcessor.builder().processorName(PROCESSOR_NAME).logger(logger)
+                .shard(shard0).shard(shard1).shard(shard2).shardingKey(ShardingKey.COMMAND_FAMILY).build();
+        CommandMessage<?> findMessage = commandMessage("school::education::students:find.By.Id");
+        CommandMessage<?> updateMessage = commandMessage("school::education::students:create.Or.Update");
+
+        // Act
+        MessagesProcessor findShard = processor.shardFor(findMessage);
+        MessagesProcessor updateShard = processor.shardFor(updateMessage);
+
+        // Verification
+        assertThat(findShard).isSameAs(updateShard);
+        assertThat(ShardingKey.COMMAND_FAMILY.apply(findMessage)).isEqualTo("school::education::students");
+    }
+
+    @Test
+    void shouldAcceptLastMessageByAllShards() {
+        // Init
+        doReturn(true).when(shard0).accept(CommandMessage.EMPTY);
+        doReturn(true).when(shard1).accept(CommandMessage.EMPTY);
+        doReturn(true).when(shard2).accept(CommandMessage.EMPTY);
+
+        // Act
+        boolean accepted = processor.accept(CommandMessage.EMPTY);
+
+        // Verification
+        assertThat(accepted).isTrue();
+        verify(shard0).accept(CommandMessage.EMPTY);
+        verify(shard1).accept(CommandMessage.EMPTY);
+        verify(shard2).accept(CommandMessage.EMPTY);
+    }
+
+    @Test
+    void shouldCheckIsProcessorActive() {
+        doReturn(true).when(shard0).isProcessorActive();
+        doReturn(true).when(shard1).isProcessorActive();
+
+        assertThat(processor.isProcessorActive()).isFalse();
+
+        doReturn(true).when(shard2).isProcessorActive();
+
+        assertThat(processor.isProcessorActive()).isTrue();
+    }
+
+    @Test
+    void shouldRunTakenMessageByShard() {
+        // Init
+        CommandMessage<?> message = mock(CommandMessage.class);
+        doReturn("correlation-id").when(message).getCorrelationId();
+        Consumer<CommandMessage<?>> action = _ -> {
+        };
+
+        // Act
+        processor.runAsyncTakenMessage(action, message);
+        processor.onTakenMessage(message);
+
+        // Verification
+        MessagesProcessor shard = processor.shardFor(message);
+        verify(shard).runAsyncTakenMessage(action, message);
+        verify(shard).onTakenMessage(message);
+    }
+
+    @Test
+    void shouldDoMainLoopsOfAllShards() throws InterruptedException {
+        // Init
+        CountDownLatch allStarted = new CountDownLatch(3);
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> loopThreads = ConcurrentHashMap.newKeySet();
+        List<MessagesProcessor> shards = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            shards.add(new MainLoopShard(allStarted, release, loopThreads));
+        }
+        processor = ShardedMessagesProcessor.builder().processorName(PROCESSOR_NAME).logger(logger).shards(shards)
+                .shardThreadFactory(Thread.ofPlatform().name("test-shard-", 1).factory()).build();
+
+        // Act
+        Thread owner = Thread.ofPlatform().name("owner").start(processor::doingMainLoop);
+
+        // Verification
+        assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(loopThreads).containsExactlyInAnyOrder("owner", "test-shard-1", "test-shard-2");
+        release.countDown();
+        owner.join(5_000);
+        assertThat(owner.isAlive()).isFalse();
+        verify(logger).info("{} is starting {} shards.", PROCESSOR_NAME, 3);
+        verify(logger).info("{} shards are stopped.", PROCESSOR_NAME);
+    }
+
+    @Test
+    void shouldShutdownAllShards() {
+
+        processor.shutdown();
+
+        verify(shard0).shutdown();
+        verify(shard1).shutdown();
+        verify(shard2).shutdown();
+    }
+
+    // private methods
+    private static CommandMessage<?> commandMessage(String commandId) {
+        CommandMessage<?> commandMessage = mock(CommandMessage.class);
+        Context<?> commandContext = mock(Context.class);
+        RootCommand<?> command = mock(RootCommand.class);
+        doReturn(commandContext).when(commandMessage).getContext();
+        doReturn(command).when(commandContext).getCommand();
+        doReturn(commandId).when(command).getId();
+        return commandMessage;
+    }
+
+    // class implementation
+    private static class MainLoopShard implements MessagesProcessor {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+        private final Set<String> loopThreads;
+
+        MainLoopShard(CountDownLatch started, CountDownLatch release, Set<String> loopThreads) {
+            this.started = started;
+            this.release = release;
+            this.loopThreads = loopThreads;
+        }
+
+        @Override
+        public void doingMainLoop() {
+            loopThreads.add(Thread.currentThread().getName());
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String getProcessorName() {
+            return "shard";
+        }
+
+        @Override
+        public boolean isOwnerActive() {
+            return true;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public <T> boolean accept(CommandMessage<T> message) {
+            return true;
+        }
+
+        @Override
+        public boolean isProcessorActive() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitActivation(long timeout, TimeUnit unit) {
+            return false;
+        }
+
+        @Override
+        public void setProcessorActive(boolean state) {
+        }
+
+        @Override
+        public void onTakenMessage(CommandMessage<?> message) {
+        }
+
+        @Override
+        public void runAsyncTakenMessage(Consumer<CommandMessage<?>> onMessageAction, CommandMessage<?> taken) {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public Logger getLogger() {
+            return null;
+        }
+    }
+}
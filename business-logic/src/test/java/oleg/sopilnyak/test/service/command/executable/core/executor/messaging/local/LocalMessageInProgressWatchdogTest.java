@@ -1,16 +1,23 @@
 package oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
+import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
 import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.CommandMessageWatchdog;
+import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
 import oleg.sopilnyak.test.service.message.CommandMessage;
+import oleg.sopilnyak.test.service.message.DoCommandMessage;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,7 +25,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings("unchecked")
@@ -41,23 +47,22 @@ class LocalMessageInProgressWatchdogTest<T> {
     @Test
     void shouldWaitForMessageComplete() {
         assertThat(watchdog.getState()).isSameAs(CommandMessageWatchdog.State.IN_PROGRESS);
-        final Object semaphore = ReflectionTestUtils.getField(watchdog, "resultSemaphore");
-        assertThat(semaphore).isNotNull();
+        CommandMessage<T> processed = mock(CommandMessage.class);
         new Thread(() -> {
             try {
                 Thread.sleep(150);
-                watchdog.setState(CommandMessageWatchdog.State.COMPLETED);
-                synchronized (semaphore) {
-                    semaphore.notifyAll();
-                }
+                watchdog.setResult(processed);
+                watchdog.messageProcessingIsDone();
             } catch (InterruptedException _) {
             }
         }).start();
+        long startedAt = System.nanoTime();
 
         watchdog.waitForMessageComplete();
 
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(400L));
         assertThat(watchdog.getState()).isSameAs(CommandMessageWatchdog.State.COMPLETED);
-        assertThat(watchdog.getResult()).isNull();
+        assertThat(watchdog.getResult()).isSameAs(processed);
     }
 
     @Test
@@ -65,15 +70,10 @@ class LocalMessageInProgressWatchdogTest<T> {
         Context<T> context = mock(Context.class);
         doReturn(context).when(commandMessage).getContext();
         assertThat(watchdog.getState()).isSameAs(CommandMessageWatchdog.State.IN_PROGRESS);
-        final Object semaphore = ReflectionTestUtils.getField(watchdog, "resultSemaphore");
-        assertThat(semaphore).isNotNull();
         new Thread(() -> {
             try {
                 Thread.sleep(1000);
-                watchdog.setState(CommandMessageWatchdog.State.COMPLETED);
-                synchronized (semaphore) {
-                    semaphore.notifyAll();
-                }
+                watchdog.setResult(mock(CommandMessage.class));
             } catch (InterruptedException _) {
             }
         }).start();
@@ -88,6 +88,84 @@ class LocalMessageInProgressWatchdogTest<T> {
         assertThat(watchdog.getResult()).isSameAs(commandMessage);
     }
 
+    @Test
+    void shouldWaitForMessageComplete_ResultDeliveredBeforeWaiting() {
+        CommandMessage<T> processed = mock(CommandMessage.class);
+        watchdog.setResult(processed);
+        watchdog.messageProcessingIsDone();
+
+        watchdog.waitForMessageComplete();
+
+        assertThat(watchdog.getState()).isSameAs(CommandMessageWatchdog.State.COMPLETED);
+        assertThat(watchdog.getResult()).isSameAs(processed);
+    }
+
+    @Test
+    void shouldWaitForMessageExpired_DeadlineIsPassedBeforeWaiting() throws InterruptedException {
+        Context<T> context = mock(Context.class);
+        doReturn(context).when(commandMessage).getContext();
+        watchdog = new LocalMessageInProgressWatchdog<>(commandMessage, Duration.ofMillis(50L));
+        Thread.sleep(100);
+        long startedAt = System.nanoTime();
+
+        watchdog.waitForMessageComplete();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(50L));
+        verify(context).failed(any(TimeoutException.class));
+        assertThat(watchdog.getState()).isSameAs(CommandMessageWatchdog.State.EXPIRED);
+        assertThat(watchdog.getResult()).isSameAs(commandMessage);
+    }
+
+    @Test
+    void shouldCompleteMessageAsync() {
+        CommandMessage<T> processed = mock(CommandMessage.class);
+
+        CompletableFuture<CommandMessage<T>> future = watchdog.whenMessageComplete();
+        assertThat(future).isNotDone();
+        watchdog.setResult(processed);
+
+        assertThat(future).isCompletedWithValue(processed);
+        assertThat(watchdog.getState()).isSameAs(CommandMessageWatchdog.State.COMPLETED);
+    }
+
+    @Test
+    void shouldExpireMessageAsync() {
+        Context<T> context = mock(Context.class);
+        doReturn(context).when(commandMessage).getContext();
+
+        CompletableFuture<CommandMessage<T>> future = watchdog.whenMessageComplete();
+
+        assertThat(future.join()).isSameAs(commandMessage);
+        verify(context).failed(any(TimeoutException.class));
+        assertThat(watchdog.getState()).isSameAs(CommandMessageWatchdog.State.EXPIRED);
+    }
+
+    @Test
+    void shouldExpireDetachedMessage_OriginalIsStillInProgress() {
+        RootCommand<String> command = mock(RootCommand.class);
+        Context<String> context = CommandContext.<String>builder().command(command).redoParameter(Input.of(1L)).build();
+        context.setState(Context.State.WORK);
+        CommandMessage<String> original = DoCommandMessage.<String>builder().correlationId("correlation-id")
+                .actionContext(ActionContext.builder().actionProcessorFacade("test-facade").entryPointMethod("test-action").build())
+                .context(context).build();
+        LocalMessageInProgressWatchdog<String> detachingWatchdog =
+                new LocalMessageInProgressWatchdog<>(original, Duration.ZERO, LocalMessageInProgressWatchdog::detached);
+
+        CommandMessage<String> expired = detachingWatchdog.whenMessageComplete().join();
+        // the worker is still processing the original message
+        context.setResult("processed");
+
+        assertThat(detachingWatchdog.getState()).isSameAs(CommandMessageWatchdog.State.EXPIRED);
+        assertThat(expired).isNotSameAs(original);
+        assertThat(expired.getCorrelationId()).isEqualTo("correlation-id");
+        assertThat(expired.getContext()).isNotSameAs(context);
+        assertThat(expired.getContext().getCommand()).isSameAs(command);
+        assertThat(expired.getContext().isFailed()).isTrue();
+        assertThat(expired.getContext().getException()).isInstanceOf(TimeoutException.class);
+        assertThat(expired.getContext().getResult()).isEmpty();
+        assertThat(context.isDone()).isTrue();
+    }
+
     @Test
     void shouldMakeMessageProcessingIsDone() {
         assertThat(watchdog.getState()).isSameAs(CommandMessageWatchdog.State.IN_PROGRESS);
@@ -0,0 +1,175 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+
+import oleg.sopilnyak.test.end2end.configuration.TestConfig;
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
+import oleg.sopilnyak.test.school.common.business.facade.education.StudentsFacade;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.persistence.PersistenceFacade;
+import oleg.sopilnyak.test.school.common.test.TestModelFactory;
+import oleg.sopilnyak.test.service.command.configurations.SchoolCommandsConfiguration;
+import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.CommandMessagesExchangeExecutorAdapter;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.MessagesProcessor;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local.LocalQueueCommandExecutor.MessagesTransport;
+import oleg.sopilnyak.test.service.command.factory.base.CommandsFactory;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * Benchmark: throughput of the local queues command executor for every messages transport<BR/>
+ * Runs trivial StudentsFacade.FIND_BY_ID command through the requests/responses queues,
+ * reports calls per second and p50/p99 latency of the call
+ *
+ * @see LocalQueueCommandExecutor
+ * @see MessagesTransport
+ */
+@Tag("benchmark")
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {SchoolCommandsConfiguration.class, TestConfig.class})
+@DirtiesContext
+class LocalQueueCommandExecutorBenchmarkTest extends TestModelFactory {
+    private static final int WARM_UP_CALLS = 2_000;
+    private static final int MEASURED_CALLS = 20_000;
+    private static final int CALLER_THREADS = 8;
+    @MockitoBean
+    PlatformTransactionManager platformTransactionManager;
+    @MockitoBean
+    PersistenceFacade persistenceFacade;
+    @Autowired
+    CommandActionExecutor actionExecutor;
+    @Autowired
+    @Qualifier(StudentCommand.FACTORY_BEAN_NAME)
+    CommandsFactory<StudentCommand<?>> factory;
+
+    Logger executorLogger = (Logger) LoggerFactory.getLogger(LocalQueueCommandExecutor.class);
+    Level executorLogLevel;
+
+    @BeforeEach
+    void setUp() {
+        // the logging of every message should not be measured
+        executorLogLevel = executorLogger.getLevel();
+        executorLogger.setLevel(Level.WARN);
+        Student student = makeTestStudent(100L);
+        doReturn(Optional.of(student)).when(persistenceFacade).findStudentById(anyLong());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorLogger.setLevel(executorLogLevel);
+        switchTransport(MessagesTransport.REFERENCE);
+    }
+
+    @Test
+    void shouldCompareMessagesTransports() throws Exception {
+        Map<MessagesTransport, Double> throughput = new EnumMap<>(MessagesTransport.class);
+        Map<MessagesTransport, long[]> latencies = new EnumMap<>(MessagesTransport.class);
+
+        for (MessagesTransport transport : MessagesTransport.values()) {
+            switchTransport(transport);
+            runCalls(WARM_UP_CALLS, new long[WARM_UP_CALLS]);
+            long[] callsLatency = new long[MEASURED_CALLS];
+            long startedAt = System.nanoTime();
+            int succeed = runCalls(MEASURED_CALLS, callsLatency);
+            long spentNanos = System.nanoTime() - startedAt;
+
+            assertThat(succeed).isEqualTo(MEASURED_CALLS);
+            throughput.put(transport, MEASURED_CALLS * 1_000_000_000.0 / spentNanos);
+            Arrays.sort(callsLatency);
+            latencies.put(transport, callsLatency);
+        }
+
+        throughput.forEach((transport, callsPerSecond) -> System.out.printf(
+                "LocalQueueCommandExecutor %-9s : %,12.0f calls/sec (%.2fx of JSON), p50 = %,8.1f us, p99 = %,8.1f us%n",
+                transport, callsPerSecond, callsPerSecond / throughput.get(MessagesTransport.JSON),
+                percentile(latencies.get(transport), 50), percentile(latencies.get(transport), 99)
+        ));
+    }
+
+    // private methods
+    private void switchTransport(MessagesTransport transport) {
+        LocalQueueCommandExecutor executor = (LocalQueueCommandExecutor) actionExecutor;
+        executor.shutdown();
+        executor.setMessagesTransport(transport);
+        executor.initialize();
+        // waiting for the messages processors main loops are started
+        await().atMost(Duration.ofSeconds(5)).until(() -> isActive(executor, "requestsProcessor") && isActive(executor, "responsesProcessor"));
+    }
+
+    private static boolean isActive(LocalQueueCommandExecutor executor, String processorFieldName) {
+        MessagesProcessor processor = (MessagesProcessor) ReflectionTestUtils.getField(executor, CommandMessagesExchangeExecutorAdapter.class, processorFieldName);
+        return processor != null && processor.isProcessorActive();
+    }
+
+    // percentile of the sorted calls latencies in microseconds
+    private static double percentile(long[] sortedLatencies, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000.0;
+    }
+
+    private int runCalls(int calls, long[] callsLatency) throws Exception {
+        AtomicInteger succeed = new AtomicInteger(0);
+        ExecutorService callers = Executors.newFixedThreadPool(CALLER_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(CALLER_THREADS);
+            int callsPerThread = calls / CALLER_THREADS;
+            for (int thread = 0; thread < CALLER_THREADS; thread++) {
+                int firstCall = thread * callsPerThread;
+                futures.add(callers.submit(() -> {
+                    ActionContext.setup("test-facade", "test-benchmark");
+                    try {
+                        for (int call = 0; call < callsPerThread; call++) {
+                            long callStartedAt = System.nanoTime();
+                            Context<Optional<Student>> context = factory.makeCommandContext(StudentsFacade.FIND_BY_ID, Input.of(100L));
+                            if (actionExecutor.commitAction(ActionContext.current(), context).isDone()) {
+                                succeed.incrementAndGet();
+                            }
+                            callsLatency[firstCall + call] = System.nanoTime() - callStartedAt;
+                        }
+                    } finally {
+                        ActionContext.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            callers.shutdown();
+        }
+        return succeed.get();
+    }
+}
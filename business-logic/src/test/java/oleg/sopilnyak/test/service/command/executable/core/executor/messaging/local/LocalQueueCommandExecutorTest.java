@@ -1,12 +1,26 @@
 package oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
+import oleg.sopilnyak.test.service.command.executable.core.context.CommandContext;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.CommandMessageWatchdog;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.CommandMessagesExchangeExecutorAdapter;
 import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.MessagesProcessor;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.ShardedMessagesProcessor;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+import oleg.sopilnyak.test.service.message.CommandMessage;
+import oleg.sopilnyak.test.service.message.DoCommandMessage;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.test.util.ReflectionTestUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -45,6 +60,103 @@ class LocalQueueCommandExecutorTest {
         assertThat(processor.getProcessorName()).isEqualTo(REQUESTS_PROCESSOR);
     }
 
+    @Test
+    void shouldPrepareRequestsProcessor_BoundedQueue() {
+        // Init
+        executor.setRequestsQueueCapacity(2);
+        executor.setAdmissionPolicy(LocalQueueCommandExecutor.AdmissionPolicy.SHED_LOW_PRIORITY);
+        executor.setAdmissionTimeoutMillis(10);
+
+        // Act
+        MessagesProcessor processor = executor.prepareRequestsProcessor();
+
+        // Verification
+        assertThat(processor).isInstanceOf(LocalQueueMessageProcessor.class);
+        assertThat(ReflectionTestUtils.getField(processor, "admission")).isSameAs(LocalQueueCommandExecutor.AdmissionPolicy.SHED_LOW_PRIORITY);
+        assertThat(ReflectionTestUtils.getField(processor, "inFlightLimit")).isNotNull();
+        BlockingQueue<?> messages = (BlockingQueue<?>) ReflectionTestUtils.getField(processor, "messages");
+        assertThat(messages).isNotNull();
+        assertThat(messages.remainingCapacity()).isEqualTo(2);
+        assertThat(executor.getRequestsQueueDepth()).isZero();
+        assertThat(executor.getRejectedRequestsCount()).isZero();
+    }
+
+    @Test
+    void shouldPrepareRequestsProcessor_Sharded() {
+        // Init
+        executor.setProcessorShards(3);
+        executor.setShardingKey(ShardedMessagesProcessor.ShardingKey.COMMAND_FAMILY);
+
+        // Act
+        MessagesProcessor processor = executor.prepareRequestsProcessor();
+
+        // Verification
+        assertThat(processor).isInstanceOf(ShardedMessagesProcessor.class);
+        assertThat(processor.getProcessorName()).isEqualTo(REQUESTS_PROCESSOR);
+        assertThat(((ShardedMessagesProcessor) processor).getShardsCount()).isEqualTo(3);
+        assertThat(ReflectionTestUtils.getField(processor, "shardingKey")).isSameAs(ShardedMessagesProcessor.ShardingKey.COMMAND_FAMILY);
+        List<?> shards = (List<?>) ReflectionTestUtils.getField(processor, "shards");
+        assertThat(shards).isNotNull().hasSize(3);
+        assertThat(shards.stream().map(shard -> ((MessagesProcessor) shard).getProcessorName()))
+                .containsExactly(REQUESTS_PROCESSOR + "-0", REQUESTS_PROCESSOR + "-1", REQUESTS_PROCESSOR + "-2");
+        // the shards are processing the requests in parallel, the ordering is opt-in
+        assertThat(shards).allMatch(shard -> ReflectionTestUtils.getField(shard, "orderingKey") == null);
+        Object actionsInProgress = ReflectionTestUtils.getField(shards.getFirst(), "actionsInProgress");
+        assertThat(shards).allMatch(shard -> ReflectionTestUtils.getField(shard, "actionsInProgress") == actionsInProgress);
+        assertThat(ReflectionTestUtils.getField(processor, "shardThreadFactory")).isInstanceOf(CustomizableThreadFactory.class);
+        assertThat(executor.getRequestsQueueDepth()).isZero();
+    }
+
+    @Test
+    void shouldPrepareRequestsProcessor_ShardedOrderedByKey() {
+        // Init
+        executor.setProcessorShards(2);
+        executor.setShardingKey(ShardedMessagesProcessor.ShardingKey.COMMAND_FAMILY);
+        executor.setOrderedByKey(true);
+
+        // Act
+        MessagesProcessor processor = executor.prepareRequestsProcessor();
+
+        // Verification
+        List<?> shards = (List<?>) ReflectionTestUtils.getField(processor, "shards");
+        assertThat(shards).isNotNull().hasSize(2).allMatch(shard ->
+                ReflectionTestUtils.getField(shard, "orderingKey") == ShardedMessagesProcessor.ShardingKey.COMMAND_FAMILY);
+    }
+
+    @Test
+    void shouldPrepareRequestsProcessor_ShardedNotOrderedByCorrelationId() {
+        // Init
+        executor.setProcessorShards(2);
+        executor.setOrderedByKey(true);
+
+        // Act
+        MessagesProcessor processor = executor.prepareRequestsProcessor();
+
+        // Verification
+        List<?> shards = (List<?>) ReflectionTestUtils.getField(processor, "shards");
+        assertThat(shards).isNotNull().hasSize(2).allMatch(shard -> ReflectionTestUtils.getField(shard, "orderingKey") == null);
+    }
+
+    @Test
+    void shouldInitializeAndShutdown_ShardedProcessors() {
+        // Init
+        executor.setProcessorShards(2);
+
+        // Act
+        executor.initialize();
+
+        // Verification
+        assertThat(executor.isActive()).isTrue();
+        assertThat(executor.getResponsesProcessor()).isInstanceOf(ShardedMessagesProcessor.class);
+        assertThat(executor.getResponsesProcessor().isProcessorActive()).isTrue();
+        MessagesProcessor requestsProcessor = (MessagesProcessor) ReflectionTestUtils.getField(executor, CommandMessagesExchangeExecutorAdapter.class, "requestsProcessor");
+        assertThat(requestsProcessor).isNotNull();
+        assertThat(requestsProcessor.isProcessorActive()).isTrue();
+        executor.shutdown();
+        assertThat(executor.isActive()).isFalse();
+        assertThat(requestsProcessor.isProcessorActive()).isFalse();
+    }
+
     @Test
     void shouldPrepareResponsesProcessor() {
         // Init
@@ -80,6 +192,65 @@ class LocalQueueCommandExecutorTest {
         verify(objectMapper).writeValueAsString(executor);
     }
 
+    @Test
+    void shouldInitializeTakenMessagesExecutor_VirtualThreads() throws ExecutionException, InterruptedException {
+        // Init
+        executor.setVirtualThreads(true);
+
+        // Act
+        executor.initializeTakenMessagesExecutor();
+
+        // Verification
+        ExecutorService takenMessagesExecutor = (ExecutorService) ReflectionTestUtils.getField(executor, "executor");
+        assertThat(takenMessagesExecutor).isNotNull();
+        assertThat(takenMessagesExecutor.isShutdown()).isFalse();
+        // test executor functionality
+        Thread taken = takenMessagesExecutor.submit(Thread::currentThread).get();
+        assertThat(taken.isVirtual()).isTrue();
+        assertThat(taken.getName()).startsWith("QueueMessageProcessor-");
+        executor.shutdownTakenMessagesExecutor();
+    }
+
+    @Test
+    void shouldMakeMessageInProgress_ConfiguredExpiration() {
+        // Init
+        executor.setMessageExpirationMillis(50);
+        executor.setMessagesTransport(LocalQueueCommandExecutor.MessagesTransport.JSON);
+        CommandMessage<?> message = mock(CommandMessage.class);
+
+        // Act
+        boolean inProgress = executor.makeMessageInProgress("correlation-id", message);
+
+        // Verification
+        assertThat(inProgress).isTrue();
+        Optional<CommandMessageWatchdog<Object>> watchdog = executor.messageWatchdogFor("correlation-id");
+        assertThat(watchdog).isPresent();
+        doReturn(mock(Context.class)).when(message).getContext();
+        watchdog.get().waitForMessageComplete();
+        assertThat(watchdog.get().getState()).isSameAs(CommandMessageWatchdog.State.EXPIRED);
+    }
+
+    @Test
+    void shouldExpireDetachedMessage_ReferenceTransport() {
+        // Init
+        executor.setMessageExpirationMillis(50);
+        executor.setMessagesTransport(LocalQueueCommandExecutor.MessagesTransport.REFERENCE);
+        Context<Object> context = CommandContext.builder().command(mock(RootCommand.class)).redoParameter(Input.of(1L)).build();
+        CommandMessage<Object> message = DoCommandMessage.builder().correlationId("correlation-id").context(context)
+                .actionContext(ActionContext.builder().actionProcessorFacade("test-facade").build()).build();
+
+        // Act
+        executor.makeMessageInProgress("correlation-id", message);
+
+        // Verification
+        CommandMessageWatchdog<Object> watchdog = executor.messageWatchdogFor("correlation-id").orElseThrow();
+        watchdog.waitForMessageComplete();
+        assertThat(watchdog.getState()).isSameAs(CommandMessageWatchdog.State.EXPIRED);
+        assertThat(watchdog.getResult()).isNotSameAs(message);
+        assertThat(watchdog.getResult().getContext().isFailed()).isTrue();
+        assertThat(context.isFailed()).isFalse();
+    }
+
     @Test
     void shouldShutdownTakenMessagesExecutor() {
         // Init
@@ -0,0 +1,148 @@
+package oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+import oleg.sopilnyak.test.end2end.configuration.TestConfig;
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
+import oleg.sopilnyak.test.school.common.business.facade.education.StudentsFacade;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.persistence.PersistenceFacade;
+import oleg.sopilnyak.test.school.common.test.TestModelFactory;
+import oleg.sopilnyak.test.service.command.configurations.SchoolCommandsConfiguration;
+import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.CommandMessagesExchangeExecutorAdapter;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.MessagesProcessor;
+import oleg.sopilnyak.test.service.command.factory.base.CommandsFactory;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * Benchmark: local queues command executor with pooled and virtual threads for taken command-messages<BR/>
+ * Runs 1k and 10k concurrent StudentsFacade.FIND_BY_ID calls, persistence layer is blocked for a while (like JDBC)
+ *
+ * @see LocalQueueCommandExecutor#setVirtualThreads(boolean)
+ */
+@Tag("benchmark")
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {SchoolCommandsConfiguration.class, TestConfig.class})
+@DirtiesContext
+class LocalQueueCommandExecutorVirtualThreadsBenchmarkTest extends TestModelFactory {
+    private static final int[] CONCURRENT_CALLS = {1_000, 10_000};
+    private static final long PERSISTENCE_LATENCY_MILLIS = 5;
+    // concurrent calls are queued, so default expiration isn't enough for 10k calls
+    private static final long MESSAGE_EXPIRATION_MILLIS = 60_000;
+    @MockitoBean
+    PlatformTransactionManager platformTransactionManager;
+    @MockitoBean
+    PersistenceFacade persistenceFacade;
+    @Autowired
+    CommandActionExecutor actionExecutor;
+    @Autowired
+    @Qualifier(StudentCommand.FACTORY_BEAN_NAME)
+    CommandsFactory<StudentCommand<?>> factory;
+
+    Logger executorLogger = (Logger) LoggerFactory.getLogger(LocalQueueCommandExecutor.class);
+    Level executorLogLevel;
+
+    @BeforeEach
+    void setUp() {
+        // the logging of every message should not be measured
+        executorLogLevel = executorLogger.getLevel();
+        executorLogger.setLevel(Level.ERROR);
+        Student student = makeTestStudent(100L);
+        doAnswer(_ -> {
+            Thread.sleep(PERSISTENCE_LATENCY_MILLIS);
+            return Optional.of(student);
+        }).when(persistenceFacade).findStudentById(anyLong());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorLogger.setLevel(executorLogLevel);
+        ((LocalQueueCommandExecutor) actionExecutor).setMessageExpirationMillis(1_000);
+        switchThreads(false);
+    }
+
+    @Test
+    void shouldCompareTakenMessagesThreads() throws Exception {
+        for (int calls : CONCURRENT_CALLS) {
+            for (boolean virtualThreads : new boolean[]{false, true}) {
+                switchThreads(virtualThreads);
+                AtomicInteger succeed = new AtomicInteger(0);
+                long startedAt = System.nanoTime();
+                runConcurrentCalls(calls, succeed);
+                long spentNanos = System.nanoTime() - startedAt;
+
+                System.out.printf(
+                        "LocalQueueCommandExecutor %-8s threads, %,6d concurrent calls : %,6d done, %,6d expired/failed, %,10.0f calls/sec%n",
+                        virtualThreads ? "virtual" : "pooled", calls, succeed.get(), calls - succeed.get(),
+                        succeed.get() * 1_000_000_000.0 / spentNanos
+                );
+                if (virtualThreads) {
+                    assertThat(succeed.get()).isPositive();
+                }
+            }
+        }
+    }
+
+    // private methods
+    private void switchThreads(boolean virtualThreads) {
+        LocalQueueCommandExecutor executor = (LocalQueueCommandExecutor) actionExecutor;
+        executor.shutdown();
+        executor.setVirtualThreads(virtualThreads);
+        executor.setMessageExpirationMillis(MESSAGE_EXPIRATION_MILLIS);
+        executor.initialize();
+        // waiting for the messages processors main loops are started
+        await().atMost(Duration.ofSeconds(5)).until(() -> isActive(executor, "requestsProcessor") && isActive(executor, "responsesProcessor"));
+    }
+
+    private static boolean isActive(LocalQueueCommandExecutor executor, String processorFieldName) {
+        MessagesProcessor processor = (MessagesProcessor) ReflectionTestUtils.getField(executor, CommandMessagesExchangeExecutorAdapter.class, processorFieldName);
+        return processor != null && processor.isProcessorActive();
+    }
+
+    private void runConcurrentCalls(int calls, AtomicInteger succeed) {
+        // every facade call is in own (virtual) thread, like servlet requests
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int call = 0; call < calls; call++) {
+                callers.submit(() -> {
+                    ActionContext.setup("test-facade", "test-benchmark");
+                    try {
+                        Context<Optional<Student>> context = factory.makeCommandContext(StudentsFacade.FIND_BY_ID, Input.of(100L));
+                        if (actionExecutor.commitAction(ActionContext.current(), context).isDone()) {
+                            succeed.incrementAndGet();
+                        }
+                    } finally {
+                        ActionContext.release();
+                    }
+                });
+            }
+        }
+    }
+}
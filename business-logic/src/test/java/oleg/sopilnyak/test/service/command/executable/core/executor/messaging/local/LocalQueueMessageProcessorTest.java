@@ -1,19 +1,35 @@
 package oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
 import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.MessagesExchange;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local.LocalQueueCommandExecutor.AdmissionPolicy;
+import oleg.sopilnyak.test.service.command.executable.core.executor.messaging.local.LocalQueueCommandExecutor.MessagesTransport;
 import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+import oleg.sopilnyak.test.service.exception.CommandMessagesQueueOverflowException;
 import oleg.sopilnyak.test.service.message.BaseCommandMessage;
 import oleg.sopilnyak.test.service.message.CommandMessage;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -153,6 +169,8 @@ class LocalQueueMessageProcessorTest {
     @Test
     void shouldAccept() throws JsonProcessingException, InterruptedException {
         // Init
+        processor = spy(ConcreteMessageProcessor.builder().transport(MessagesTransport.JSON)
+                .exchange(messagesExchange).logger(logger).objectMapper(objectMapper).build());
         BlockingQueue<String> messages = (BlockingQueue<String>) ReflectionTestUtils.getField(processor, "messages");
         assertThat(messages).isNotNull();
         String messageJson = "test-message";
@@ -167,9 +185,75 @@ class LocalQueueMessageProcessorTest {
         assertThat(messages.take()).isEqualTo(messageJson);
     }
 
+    @Test
+    void shouldAccept_ReferenceTransport() throws InterruptedException {
+        // Init
+        BlockingQueue<Object> messages = (BlockingQueue<Object>) ReflectionTestUtils.getField(processor, "messages");
+        assertThat(messages).isNotNull();
+
+        // Act
+        boolean accepted = processor.accept(message);
+
+        // Verification
+        verifyNoInteractions(objectMapper);
+        assertThat(accepted).isTrue();
+        assertThat(messages.take()).isSameAs(message);
+    }
+
+    @Test
+    void shouldAccept_DeepCopyTransport() throws IOException, InterruptedException {
+        // Init
+        processor = spy(ConcreteMessageProcessor.builder().transport(MessagesTransport.DEEP_COPY)
+                .exchange(messagesExchange).logger(logger).objectMapper(objectMapper).build());
+        BlockingQueue<Object> messages = (BlockingQueue<Object>) ReflectionTestUtils.getField(processor, "messages");
+        assertThat(messages).isNotNull();
+        byte[] messageBytes = "test-message".getBytes();
+        doReturn(messageBytes).when(objectMapper).writeValueAsBytes(message);
+        BaseCommandMessage<?> copy = mock(BaseCommandMessage.class);
+        doReturn(copy).when(objectMapper).readValue(messageBytes, BaseCommandMessage.class);
+
+        // Act
+        boolean accepted = processor.accept(message);
+
+        // Verification
+        verify(objectMapper).writeValueAsBytes(message);
+        verify(objectMapper).readValue(messageBytes, BaseCommandMessage.class);
+        assertThat(accepted).isTrue();
+        assertThat(messages.take()).isSameAs(copy).isNotSameAs(message);
+    }
+
+    @Test
+    void shouldTakeMessage_ReferenceTransport() throws InterruptedException {
+        // Init
+        assertThat(processor.accept(message)).isTrue();
+
+        // Act
+        CommandMessage<?> taken = processor.takeMessage();
+
+        // Verification
+        verify(logger).debug("Took from the queue command message instance {}", message);
+        verifyNoInteractions(objectMapper);
+        assertThat(taken).isSameAs(message);
+    }
+
+    @Test
+    void shouldTakeLastMessage_ReferenceTransport() throws InterruptedException {
+        // Init
+        assertThat(processor.accept(CommandMessage.EMPTY)).isTrue();
+
+        // Act
+        CommandMessage<?> taken = processor.takeMessage();
+
+        // Verification
+        verifyNoInteractions(objectMapper);
+        assertThat(taken).isSameAs(CommandMessage.EMPTY);
+    }
+
     @Test
     void shouldNotAccept() throws JsonProcessingException {
         // Init
+        processor = spy(ConcreteMessageProcessor.builder().transport(MessagesTransport.JSON)
+                .exchange(messagesExchange).logger(logger).objectMapper(objectMapper).build());
         BlockingQueue<String> messages = (BlockingQueue<String>) ReflectionTestUtils.getField(processor, "messages");
         assertThat(messages).isNotNull();
         doReturn(context).when(message).getContext();
@@ -185,6 +269,343 @@ class LocalQueueMessageProcessorTest {
         assertThat(messages).isEmpty();
     }
 
+    @Test
+    void shouldNotAccept_QueueIsFull_RejectAdmission() {
+        // Init
+        processor = spy(ConcreteMessageProcessor.builder().messages(new LinkedBlockingQueue<>(1))
+                .admission(AdmissionPolicy.REJECT).exchange(messagesExchange).logger(logger).build());
+        assertThat(processor.accept(message)).isTrue();
+
+        // Act
+        var exception = assertThrows(CommandMessagesQueueOverflowException.class, () -> processor.accept(message));
+
+        // Verification
+        assertThat(exception.getMessage()).contains("capacity 1").endsWith("REJECT admission policy");
+        assertThat(processor.getQueueDepth()).isOne();
+        assertThat(processor.getRejectedCount()).isOne();
+    }
+
+    @Test
+    void shouldAccept_QueueIsFull_BlockAdmission() throws InterruptedException {
+        // Init
+        processor = spy(ConcreteMessageProcessor.builder().messages(new LinkedBlockingQueue<>(1))
+                .admission(AdmissionPolicy.BLOCK).admissionTimeout(Duration.ofSeconds(1))
+                .exchange(messagesExchange).logger(logger).build());
+        assertThat(processor.accept(message)).isTrue();
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                processor.takeMessage();
+            } catch (InterruptedException _) {
+            }
+        }).start();
+
+        // Act
+        boolean accepted = processor.accept(message);
+
+        // Verification
+        assertThat(accepted).isTrue();
+        assertThat(processor.getQueueDepth()).isOne();
+        assertThat(processor.getRejectedCount()).isZero();
+    }
+
+    @Test
+    void shouldNotAccept_QueueIsFull_BlockAdmissionTimeout() {
+        // Init
+        processor = spy(ConcreteMessageProcessor.builder().messages(new LinkedBlockingQueue<>(1))
+                .admission(AdmissionPolicy.BLOCK).admissionTimeout(Duration.ofMillis(50))
+                .exchange(messagesExchange).logger(logger).build());
+        assertThat(processor.accept(message)).isTrue();
+
+        // Act
+        assertThrows(CommandMessagesQueueOverflowException.class, () -> processor.accept(message));
+
+        // Verification
+        assertThat(processor.getRejectedCount()).isOne();
+    }
+
+    @Test
+    void shouldShedLowPriorityMessage() {
+        // Init
+        processor = spy(ConcreteMessageProcessor.builder().messages(new LinkedBlockingQueue<>(4))
+                .admission(AdmissionPolicy.SHED_LOW_PRIORITY).admissionTimeout(Duration.ofMillis(50))
+                .exchange(messagesExchange).logger(logger).build());
+        // the read-only command declares the region of results cache
+        CommandMessage<?> query = commandMessage("school::education::students:get.By.Id", "students");
+        CommandMessage<?> update = commandMessage("school::education::students:find.Or.Create", null);
+        for (int i = 0; i < 3; i++) {
+            assertThat(processor.accept(query)).isTrue();
+        }
+
+        // Act
+        assertThrows(CommandMessagesQueueOverflowException.class, () -> processor.accept(query));
+        boolean updateAccepted = processor.accept(update);
+
+        // Verification
+        assertThat(updateAccepted).isTrue();
+        assertThat(processor.getQueueDepth()).isEqualTo(4);
+        assertThat(processor.getRejectedCount()).isOne();
+    }
+
+    @Test
+    void shouldAcceptLastMessage_QueueIsFull() throws InterruptedException {
+        // Init
+        processor = spy(ConcreteMessageProcessor.builder().messages(new LinkedBlockingQueue<>(1))
+                .admissionTimeout(Duration.ofSeconds(5)).exchange(messagesExchange).logger(logger).build());
+        assertThat(processor.accept(message)).isTrue();
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                processor.takeMessage();
+            } catch (InterruptedException _) {
+            }
+        }).start();
+
+        // Act
+        boolean accepted = processor.accept(CommandMessage.EMPTY);
+
+        // Verification
+        assertThat(accepted).isTrue();
+        assertThat(processor.<Object>takeMessage()).isSameAs(CommandMessage.EMPTY);
+    }
+
+    @Test
+    void shouldAcceptLastMessage_QueueIsFullForLong() throws InterruptedException {
+        // Init
+        processor = spy(ConcreteMessageProcessor.builder().messages(new LinkedBlockingQueue<>(1))
+                .admissionTimeout(Duration.ofMillis(10)).exchange(messagesExchange).logger(logger).build());
+        assertThat(processor.accept(message)).isTrue();
+
+        // Act
+        boolean accepted = processor.accept(CommandMessage.EMPTY);
+
+        // Verification
+        assertThat(accepted).isTrue();
+        assertThat(processor.getQueueDepth()).isOne();
+        assertThat(processor.<Object>takeMessage()).isSameAs(CommandMessage.EMPTY);
+    }
+
+    @Test
+    void shouldRunAsyncTakenMessage_InFlightLimit() {
+        // Init
+        Semaphore inFlightLimit = new Semaphore(1);
+        List<Runnable> launched = new ArrayList<>();
+        doAnswer((Answer<Void>) invocationOnMock -> {
+            launched.add(invocationOnMock.getArgument(0, Runnable.class));
+            return null;
+        }).when(messagesExchange).runAsync(any(Runnable.class));
+        processor = spy(ConcreteMessageProcessor.builder().inFlightLimit(inFlightLimit)
+                .exchange(messagesExchange).logger(logger).build());
+
+        // Act
+        processor.runAsyncTakenMessage(CommandMessage::getContext, message);
+
+        // Verification
+        assertThat(inFlightLimit.availablePermits()).isZero();
+        launched.getFirst().run();
+        verify(message).getContext();
+        assertThat(inFlightLimit.availablePermits()).isOne();
+    }
+
+    @Test
+    void shouldParkTakenMessage_InFlightLimitIsReached() {
+        // Init
+        Semaphore inFlightLimit = new Semaphore(1);
+        List<Runnable> launched = new ArrayList<>();
+        doAnswer((Answer<Void>) invocationOnMock -> {
+            launched.add(invocationOnMock.getArgument(0, Runnable.class));
+            return null;
+        }).when(messagesExchange).runAsync(any(Runnable.class));
+        processor = spy(ConcreteMessageProcessor.builder().inFlightLimit(inFlightLimit)
+                .exchange(messagesExchange).logger(logger).build());
+        CommandMessage<?> next = mock(CommandMessage.class);
+        processor.runAsyncTakenMessage(CommandMessage::getContext, message);
+
+        // Act
+        processor.runAsyncTakenMessage(CommandMessage::getContext, next);
+
+        // Verification
+        // the main loop isn't blocked, the taken message is waiting for the free place
+        assertThat(launched).hasSize(1);
+        assertThat(processor.getQueueDepth()).isOne();
+        launched.getFirst().run();
+        // the released place is taken by the parked message
+        assertThat(launched).hasSize(2);
+        assertThat(inFlightLimit.availablePermits()).isZero();
+        assertThat(processor.getQueueDepth()).isZero();
+        launched.getLast().run();
+        verify(next).getContext();
+        assertThat(inFlightLimit.availablePermits()).isOne();
+    }
+
+    @Test
+    void shouldRunAsyncTakenNestedMessage_NotNestedMessageIsParked() {
+        // Init
+        Semaphore inFlightLimit = new Semaphore(1);
+        List<Runnable> launched = new ArrayList<>();
+        doAnswer((Answer<Void>) invocationOnMock -> {
+            launched.add(invocationOnMock.getArgument(0, Runnable.class));
+            return null;
+        }).when(messagesExchange).runAsync(any(Runnable.class));
+        processor = spy(ConcreteMessageProcessor.builder().inFlightLimit(inFlightLimit)
+                .exchange(messagesExchange).logger(logger).build());
+        ActionContext actionContext = ActionContext.builder().actionProcessorFacade("facade").entryPointMethod("action").build();
+        CommandMessage<?> nested = mock(CommandMessage.class);
+        CommandMessage<?> other = mock(CommandMessage.class);
+        doReturn("nested-correlation-id").when(nested).getCorrelationId();
+        doReturn(actionContext).when(nested).getActionContext();
+        doReturn(actionContext).when(message).getActionContext();
+        processor.runAsyncTakenMessage(taken -> {
+            // macro-command holds the place, the other message is taken before the nested one
+            assertThat(processor.accept(nested)).isTrue();
+            processor.runAsyncTakenMessage(CommandMessage::getContext, other);
+            processor.runAsyncTakenMessage(CommandMessage::getContext, nested);
+            // nested command-message is launched before the end of macro-command
+            assertThat(launched).hasSize(2);
+            launched.getLast().run();
+        }, message);
+
+        // Act
+        launched.getFirst().run();
+
+        // Verification
+        verify(nested).getContext();
+        assertThat(launched).hasSize(3);
+        launched.getLast().run();
+        verify(other).getContext();
+        assertThat(inFlightLimit.availablePermits()).isOne();
+    }
+
+    @Test
+    void shouldNotAccept_ParkedMessagesFillQueueCapacity() {
+        // Init
+        processor = spy(ConcreteMessageProcessor.builder().messages(new LinkedBlockingQueue<>(1))
+                .inFlightLimit(new Semaphore(1)).exchange(messagesExchange).logger(logger).build());
+        processor.runAsyncTakenMessage(CommandMessage::getContext, mock(CommandMessage.class));
+        processor.runAsyncTakenMessage(CommandMessage::getContext, mock(CommandMessage.class));
+
+        // Act
+        assertThrows(CommandMessagesQueueOverflowException.class, () -> processor.accept(message));
+
+        // Verification
+        assertThat(processor.getQueueDepth()).isOne();
+        assertThat(processor.getRejectedCount()).isOne();
+    }
+
+    @Test
+    void shouldRunAsyncTakenNestedMessage_InFlightLimitIsReached() {
+        // Init
+        Semaphore inFlightLimit = new Semaphore(1);
+        List<Runnable> launched = new ArrayList<>();
+        doAnswer((Answer<Void>) invocationOnMock -> {
+            launched.add(invocationOnMock.getArgument(0, Runnable.class));
+            return null;
+        }).when(messagesExchange).runAsync(any(Runnable.class));
+        processor = spy(ConcreteMessageProcessor.builder().inFlightLimit(inFlightLimit)
+                .exchange(messagesExchange).logger(logger).build());
+        ActionContext actionContext = ActionContext.builder().actionProcessorFacade("facade").entryPointMethod("action").build();
+        CommandMessage<?> nested = mock(CommandMessage.class);
+        doReturn("nested-correlation-id").when(nested).getCorrelationId();
+        doReturn(actionContext).when(nested).getActionContext();
+        doReturn(actionContext).when(message).getActionContext();
+        processor.runAsyncTakenMessage(taken -> {
+            // macro-command holds the place and issues the nested command-message
+            assertThat(processor.accept(nested)).isTrue();
+            processor.runAsyncTakenMessage(CommandMessage::getContext, nested);
+        }, message);
+        assertThat(inFlightLimit.availablePermits()).isZero();
+
+        // Act
+        launched.getFirst().run();
+
+        // Verification
+        assertThat(launched).hasSize(2);
+        assertThat(inFlightLimit.availablePermits()).isOne();
+        launched.getLast().run();
+        verify(nested).getContext();
+        assertThat(inFlightLimit.availablePermits()).isOne();
+    }
+
+    @Test
+    void shouldRunAsyncTakenMessages_OrderedByKey() {
+        // Init
+        List<Runnable> launched = new ArrayList<>();
+        doAnswer((Answer<Void>) invocationOnMock -> {
+            launched.add(invocationOnMock.getArgument(0, Runnable.class));
+            return null;
+        }).when(messagesExchange).runAsync(any(Runnable.class));
+        processor = spy(ConcreteMessageProcessor.builder().orderingKey(CommandMessage::getCorrelationId)
+                .exchange(messagesExchange).logger(logger).build());
+        List<String> processed = new ArrayList<>();
+        CommandMessage<?> next = mock(CommandMessage.class);
+        CommandMessage<?> other = mock(CommandMessage.class);
+        doReturn("key").when(message).getCorrelationId();
+        doReturn("key").when(next).getCorrelationId();
+        doReturn("other-key").when(other).getCorrelationId();
+
+        // Act
+        processor.runAsyncTakenMessage(_ -> processed.add("first"), message);
+        processor.runAsyncTakenMessage(_ -> processed.add("second"), next);
+        processor.runAsyncTakenMessage(_ -> processed.add("other"), other);
+
+        // Verification
+        // the message with other key isn't waiting for the messages of the key
+        assertThat(launched).hasSize(2);
+        launched.getLast().run();
+        assertThat(processed).containsExactly("other");
+        launched.getFirst().run();
+        assertThat(processed).containsExactly("other", "first");
+        assertThat(launched).hasSize(3);
+        launched.getLast().run();
+        assertThat(processed).containsExactly("other", "first", "second");
+        // the keys without messages in progress are forgotten
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(processor, "keySequences")).isEmpty();
+    }
+
+    @Test
+    void shouldRunAsyncTakenNestedMessage_KeySequenceIsBusy() {
+        // Init
+        List<Runnable> launched = new ArrayList<>();
+        doAnswer((Answer<Void>) invocationOnMock -> {
+            launched.add(invocationOnMock.getArgument(0, Runnable.class));
+            return null;
+        }).when(messagesExchange).runAsync(any(Runnable.class));
+        processor = spy(ConcreteMessageProcessor.builder().orderingKey(_ -> "key")
+                .exchange(messagesExchange).logger(logger).build());
+        ActionContext actionContext = ActionContext.builder().actionProcessorFacade("facade").entryPointMethod("action").build();
+        CommandMessage<?> nested = mock(CommandMessage.class);
+        doReturn("nested-correlation-id").when(nested).getCorrelationId();
+        doReturn(actionContext).when(nested).getActionContext();
+        doReturn(actionContext).when(message).getActionContext();
+        processor.runAsyncTakenMessage(_ -> {
+            // macro-command holds the key's sequence and issues the nested command-message
+            assertThat(processor.accept(nested)).isTrue();
+            processor.runAsyncTakenMessage(CommandMessage::getContext, nested);
+            // nested command-message is launched before the end of macro-command
+            assertThat(launched).hasSize(2);
+        }, message);
+
+        // Act
+        launched.getFirst().run();
+
+        // Verification
+        launched.get(1).run();
+        verify(nested).getContext();
+    }
+
+    // private methods
+    private static CommandMessage<?> commandMessage(String commandId, String cacheRegion) {
+        CommandMessage<?> commandMessage = mock(CommandMessage.class);
+        Context<?> commandContext = mock(Context.class);
+        RootCommand<?> command = mock(RootCommand.class);
+        doReturn(CommandMessage.Direction.DO).when(commandMessage).getDirection();
+        doReturn(commandContext).when(commandMessage).getContext();
+        doReturn(command).when(commandContext).getCommand();
+        lenient().doReturn(commandId).when(command).getId();
+        doReturn(cacheRegion).when(command).resultCacheRegion();
+        return commandMessage;
+    }
+
     @SuperBuilder
     private static class ConcreteMessageProcessor extends LocalQueueMessageProcessor {
     }
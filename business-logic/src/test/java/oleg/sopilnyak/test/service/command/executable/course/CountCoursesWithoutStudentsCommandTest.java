@@ -0,0 +1,82 @@
+package oleg.sopilnyak.test.service.command.executable.course;
+
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.DONE;
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.UNDONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.education.course.CountCoursesWithoutStudentsCommand;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CountCoursesWithoutStudentsCommandTest {
+    @Mock
+    RegisterPersistenceFacade persistence;
+    @Spy
+    @InjectMocks
+    CountCoursesWithoutStudentsCommand command;
+    @Mock
+    ApplicationContext applicationContext;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(command, "applicationContext", applicationContext);
+        doReturn(command).when(applicationContext).getBean("courseCountNoStudents", CourseCommand.class);
+    }
+
+    @Test
+    void shouldDoCommand_CoursesCounted() {
+        when(persistence.countCoursesWithoutStudents()).thenReturn(3L);
+        Context<Long> context = command.createContext(null);
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        assertThat(context.getResult()).contains(3L);
+        verify(command).executeDo(context);
+        verify(persistence).countCoursesWithoutStudents();
+    }
+
+    @Test
+    void shouldNotDoCommand_ExceptionThrown() {
+        RuntimeException cannotExecute = new RuntimeException("Cannot count");
+        doThrow(cannotExecute).when(persistence).countCoursesWithoutStudents();
+        Context<Long> context = command.createContext(null);
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isFalse();
+        assertThat(context.isFailed()).isTrue();
+        assertThat(context.getException()).isEqualTo(cannotExecute);
+        verify(command).executeDo(context);
+        verify(persistence).countCoursesWithoutStudents();
+    }
+
+    @Test
+    void shouldExecuteCommandUndoCommand() {
+        Context<Long> context = command.createContext();
+        context.setState(DONE);
+
+        command.undoCommand(context);
+
+        assertThat(context.getState()).isEqualTo(UNDONE);
+        assertThat(context.getException()).isNull();
+
+        verify(command).executeUndo(context);
+    }
+}
@@ -0,0 +1,137 @@
+package oleg.sopilnyak.test.service.command.executable.course;
+
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.DONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.school.common.model.education.Course;
+import oleg.sopilnyak.test.school.common.persistence.education.CoursesPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.education.course.LoadCoursesCommand;
+import oleg.sopilnyak.test.service.command.io.parameter.CompositeParameter;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+import oleg.sopilnyak.test.service.message.payload.CoursePayload;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class LoadCoursesCommandTest {
+    @Mock
+    CoursesPersistenceFacade persistence;
+    @Mock
+    BusinessMessagePayloadMapper payloadMapper;
+    @Spy
+    @InjectMocks
+    LoadCoursesCommand command;
+    @Mock
+    ApplicationContext applicationContext;
+
+    CoursePayload course = CoursePayload.builder().name("Math").build();
+    CoursePayload noName = CoursePayload.builder().description("Without name").build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(command, "applicationContext", applicationContext);
+        doReturn(command).when(applicationContext).getBean("courseBulkLoad", CourseCommand.class);
+    }
+
+    @Test
+    void shouldDoCommand_RowsLoaded() {
+        CoursePayload stored = CoursePayload.builder().id(1L).build();
+        when(persistence.saveAllCourses(List.of(course))).thenReturn(List.of(stored));
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(noName, course)));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        BulkLoadReport report = context.getResult().orElseThrow();
+        assertThat(report.rows()).isEqualTo(2);
+        assertThat(report.loaded()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(new BulkLoadReport.RowError(0L, "Name cannot be blank"));
+        verify(command).executeDo(context);
+        verify(persistence).saveAllCourses(List.<Course>of(course));
+    }
+
+    @Test
+    void shouldDoCommand_RowNotStored() {
+        CoursePayload another = CoursePayload.builder().name("Physics").build();
+        CoursePayload stored = CoursePayload.builder().id(1L).build();
+        when(persistence.saveAllCourses(List.of(course, another))).thenReturn(List.of(stored, another));
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(course, another)));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        BulkLoadReport report = context.getResult().orElseThrow();
+        assertThat(report.rows()).isEqualTo(2);
+        assertThat(report.loaded()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(new BulkLoadReport.RowError(1L, "Row is not stored: " + another));
+        verify(command).executeDo(context);
+        verify(persistence).saveAllCourses(List.<Course>of(course, another));
+    }
+
+    @Test
+    void shouldDoCommand_NoRowsAccepted() {
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(noName)));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        BulkLoadReport report = context.getResult().orElseThrow();
+        assertThat(report.loaded()).isZero();
+        assertThat(report.errors()).hasSize(1);
+        verifyNoInteractions(persistence);
+    }
+
+    @Test
+    void shouldNotDoCommand_ExceptionThrown() {
+        RuntimeException cannotExecute = new RuntimeException("Cannot save");
+        doThrow(cannotExecute).when(persistence).saveAllCourses(anyList());
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(course)));
+
+        command.doCommand(context);
+
+        assertThat(context.isFailed()).isTrue();
+        assertThat(context.getException()).isEqualTo(cannotExecute);
+        verify(command).executeDo(context);
+    }
+
+    @Test
+    void shouldNotDoCommand_EmptyParameter() {
+        Context<BulkLoadReport> context = command.createContext(null);
+
+        command.doCommand(context);
+
+        assertThat(context.isFailed()).isTrue();
+        assertThat(context.getException()).isInstanceOf(NullPointerException.class);
+        verifyNoInteractions(persistence);
+    }
+
+    @Test
+    void shouldNotUndoCommand() {
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(course)));
+        context.setState(DONE);
+
+        command.undoCommand(context);
+
+        assertThat(context.isFailed()).isTrue();
+        assertThat(context.getException()).isInstanceOf(UnsupportedOperationException.class);
+        verify(command).executeUndo(context);
+    }
+}
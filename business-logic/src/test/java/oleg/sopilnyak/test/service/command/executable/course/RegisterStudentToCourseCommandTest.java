@@ -25,7 +25,6 @@ import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 
-import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -95,8 +94,7 @@ class RegisterStudentToCourseCommandTest {
         Long id = 125L;
         when(student.getId()).thenReturn(id);
         when(course.getId()).thenReturn(id);
-        when(student.getCourses()).thenReturn(List.of(course));
-        when(course.getStudents()).thenReturn(List.of(student));
+        when(persistence.isLinked(id, id)).thenReturn(true);
         when(persistence.findStudentById(id)).thenReturn(Optional.of(student));
         when(persistence.findCourseById(id)).thenReturn(Optional.of(course));
 
@@ -112,6 +110,7 @@ class RegisterStudentToCourseCommandTest {
         verify(command).executeDo(context);
         verify(persistence).findStudentById(id);
         verify(persistence).findCourseById(id);
+        verify(persistence, never()).countEnrolledStudents(id);
         verify(persistence, never()).link(student, course);
     }
 
@@ -150,7 +149,8 @@ class RegisterStudentToCourseCommandTest {
     @Test
     void shouldNotDoCommand_MaximumRooms() {
         Long id = 126L;
-        when(course.getStudents()).thenReturn(List.of(student, student));
+        when(course.getId()).thenReturn(id);
+        when(persistence.countEnrolledStudents(id)).thenReturn(2L);
         when(persistence.findStudentById(id)).thenReturn(Optional.of(student));
         when(persistence.findCourseById(id)).thenReturn(Optional.of(course));
         Context<Boolean> context = command.createContext(Input.of(id, id));
@@ -163,14 +163,17 @@ class RegisterStudentToCourseCommandTest {
         verify(command).executeDo(context);
         verify(persistence).findStudentById(id);
         verify(persistence).findCourseById(id);
+        verify(persistence).countEnrolledStudents(id);
         verify(persistence, never()).link(student, course);
     }
 
     @Test
     void shouldNotDoCommand_CoursesExceed() {
         Long id = 127L;
-        when(student.getCourses()).thenReturn(List.of(course, course));
-        when(course.getStudents()).thenReturn(List.of(student));
+        when(student.getId()).thenReturn(id);
+        when(course.getId()).thenReturn(id);
+        when(persistence.countEnrolledStudents(id)).thenReturn(1L);
+        when(persistence.countRegisteredCourses(id)).thenReturn(2L);
         when(persistence.findStudentById(id)).thenReturn(Optional.of(student));
         when(persistence.findCourseById(id)).thenReturn(Optional.of(course));
         Context<Boolean> context = command.createContext(Input.of(id, id));
@@ -183,6 +186,7 @@ class RegisterStudentToCourseCommandTest {
         verify(command).executeDo(context);
         verify(persistence).findStudentById(id);
         verify(persistence).findCourseById(id);
+        verify(persistence).countRegisteredCourses(id);
         verify(persistence, never()).link(student, course);
     }
 
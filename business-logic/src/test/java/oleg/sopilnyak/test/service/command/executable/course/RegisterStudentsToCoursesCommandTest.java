@@ -0,0 +1,109 @@
+package oleg.sopilnyak.test.service.command.executable.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade.Link;
+import oleg.sopilnyak.test.service.command.executable.education.course.RegisterStudentsToCoursesCommand;
+import oleg.sopilnyak.test.service.command.io.parameter.CompositeParameter;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RegisterStudentsToCoursesCommandTest {
+    @Mock
+    RegisterPersistenceFacade persistence;
+    @Mock
+    BusinessMessagePayloadMapper payloadMapper;
+    @Spy
+    @InjectMocks
+    RegisterStudentsToCoursesCommand command;
+    @Mock
+    ApplicationContext applicationContext;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(command, "applicationContext", applicationContext);
+        doReturn(command).when(applicationContext).getBean("courseBulkRegisterStudents", CourseCommand.class);
+    }
+
+    @Test
+    void shouldDoCommand_StudentsRegistered() {
+        List<Link> accepted = List.of(new Link(1L, 10L), new Link(2L, 20L));
+        when(persistence.linkAll(accepted)).thenReturn(List.of(true, false));
+        var parameter = new CompositeParameter<>(List.of(1L, 10L, 0L, 10L, 2L, 20L));
+        Context<BulkLoadReport> context = command.createContext(parameter);
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        BulkLoadReport report = context.getResult().orElseThrow();
+        assertThat(report.rows()).isEqualTo(3);
+        assertThat(report.loaded()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(
+                new BulkLoadReport.RowError(1L, "Wrong student-id: '0'"),
+                new BulkLoadReport.RowError(2L, "Student with ID:2 or Course with ID:20 is not exists or they are already linked.")
+        );
+        verify(command).executeDo(context);
+        verify(persistence).linkAll(accepted);
+    }
+
+    @Test
+    void shouldDoCommand_LimitsExceeded() {
+        command.setRegistrationLimits(2, 1);
+        when(persistence.countEnrolledStudents(10L)).thenReturn(1L);
+        when(persistence.countEnrolledStudents(20L)).thenReturn(0L);
+        when(persistence.isLinked(anyLong(), eq(10L))).thenAnswer(call -> call.getArgument(0).equals(3L));
+        List<Link> accepted = List.of(new Link(1L, 10L), new Link(3L, 10L));
+        when(persistence.linkAll(accepted)).thenReturn(List.of(true, false));
+        var parameter = new CompositeParameter<>(List.of(1L, 10L, 2L, 10L, 1L, 20L, 3L, 10L));
+        Context<BulkLoadReport> context = command.createContext(parameter);
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        BulkLoadReport report = context.getResult().orElseThrow();
+        assertThat(report.rows()).isEqualTo(4);
+        assertThat(report.loaded()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(
+                new BulkLoadReport.RowError(1L, "Course with ID:10 does not have enough rooms."),
+                new BulkLoadReport.RowError(2L, "Student with ID:1 exceeds maximum courses."),
+                new BulkLoadReport.RowError(3L, "Student with ID:3 or Course with ID:10 is not exists or they are already linked.")
+        );
+        verify(persistence).countEnrolledStudents(10L);
+        verify(persistence).countEnrolledStudents(20L);
+        verify(persistence).countRegisteredCourses(1L);
+        verify(persistence).linkAll(accepted);
+    }
+
+    @Test
+    void shouldNotDoCommand_WrongPairs() {
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(1L, 10L, 2L)));
+
+        command.doCommand(context);
+
+        assertThat(context.isFailed()).isTrue();
+        assertThat(context.getException()).isInstanceOf(IllegalArgumentException.class);
+        verify(command).executeDo(context);
+        verifyNoInteractions(persistence);
+    }
+}
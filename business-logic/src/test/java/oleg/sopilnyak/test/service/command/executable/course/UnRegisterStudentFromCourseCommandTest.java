@@ -71,6 +71,7 @@ class UnRegisterStudentFromCourseCommandTest {
         when(course.getId()).thenReturn(courseId);
         when(persistence.findStudentById(id)).thenReturn(Optional.of(student));
         when(persistence.findCourseById(id)).thenReturn(Optional.of(course));
+        when(persistence.isLinked(studentId, courseId)).thenReturn(true);
         when(persistence.unLink(student, course)).thenReturn(true);
         Context<Boolean> context = command.createContext(Input.of(id, id));
 
@@ -87,6 +88,25 @@ class UnRegisterStudentFromCourseCommandTest {
         verify(persistence).unLink(student, course);
     }
 
+    @Test
+    void shouldDoCommand_NotLinked() {
+        Long id = 135L;
+        when(student.getId()).thenReturn(id);
+        when(course.getId()).thenReturn(id);
+        when(persistence.findStudentById(id)).thenReturn(Optional.of(student));
+        when(persistence.findCourseById(id)).thenReturn(Optional.of(course));
+        Context<Boolean> context = command.createContext(Input.of(id, id));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        assertThat(context.getResult()).contains(false);
+        assertThat(context.getUndoParameter().isEmpty()).isTrue();
+        verify(command).executeDo(context);
+        verify(persistence).isLinked(id, id);
+        verify(persistence, never()).unLink(student, course);
+    }
+
     @Test
     void shouldNotDoCommand_NoStudent() {
         Long id = 132L;
@@ -125,6 +145,9 @@ class UnRegisterStudentFromCourseCommandTest {
         Long id = 131L;
         RuntimeException cannotExecute = new RuntimeException("Cannot un-link");
         doThrow(cannotExecute).when(persistence).unLink(student, course);
+        when(student.getId()).thenReturn(id);
+        when(course.getId()).thenReturn(id);
+        when(persistence.isLinked(id, id)).thenReturn(true);
         when(persistence.findStudentById(id)).thenReturn(Optional.of(student));
         when(persistence.findCourseById(id)).thenReturn(Optional.of(course));
         Context<Boolean> context = command.createContext(Input.of(id, id));
@@ -5,11 +5,14 @@ import static oleg.sopilnyak.test.service.command.type.core.Context.State.UNDONE
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import oleg.sopilnyak.test.school.common.model.education.Student;
 import oleg.sopilnyak.test.school.common.persistence.education.StudentsPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.core.batch.ByIdBatchLoading;
 import oleg.sopilnyak.test.service.command.executable.education.student.FindStudentCommand;
 import oleg.sopilnyak.test.service.command.io.Input;
 import oleg.sopilnyak.test.service.command.type.core.Context;
@@ -17,7 +20,10 @@ import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
 import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 import oleg.sopilnyak.test.service.message.payload.StudentPayload;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +33,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationContext;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class FindStudentCommandTest {
@@ -47,7 +54,8 @@ class FindStudentCommandTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(command, "applicationContext", applicationContext);
-        doReturn(command).when(applicationContext).getBean("studentFind", StudentCommand.class);
+        // the batched lookup doesn't execute the command through the spring proxy
+        lenient().doReturn(command).when(applicationContext).getBean("studentFind", StudentCommand.class);
     }
 
     @Test
@@ -82,6 +90,29 @@ class FindStudentCommandTest {
         verify(persistence).findStudentById(id);
     }
 
+    @Test
+    void shouldDoCommand_StudentFoundByBatch() {
+        Long id = 109L;
+        command.setBatchLoading(new ByIdBatchLoading(Duration.ZERO, 10, TransactionOperations.withoutTransaction()));
+        doReturn(id).when(payload).getId();
+        doReturn(List.of(instance)).when(persistence).findStudentsByIds(Set.of(id));
+        when(payloadMapper.toPayload(instance)).thenReturn(payload);
+        Context<Optional<Student>> context = command.createContext(Input.of(id));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        assertThat(context.getResult()).isPresent();
+        Optional<Student> result = context.getResult().orElseThrow();
+        assertThat(result).contains(payload);
+        // the batched lookup isn't waiting within the command's transaction
+        verify(command, never()).executeDo(context);
+        verify(persistence).findStudentsByIds(Set.of(id));
+        verify(persistence, never()).findStudentById(id);
+        verify(command).adoptEntity(instance);
+        verify(command, never()).adoptEntity(payload);
+    }
+
     @Test
     void shouldNotDoCommand_ExceptionThrown() {
         Long id = 108L;
@@ -0,0 +1,137 @@
+package oleg.sopilnyak.test.service.command.executable.student;
+
+import static oleg.sopilnyak.test.service.command.type.core.Context.State.DONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.persistence.education.StudentsPersistenceFacade;
+import oleg.sopilnyak.test.service.command.executable.education.student.LoadStudentsCommand;
+import oleg.sopilnyak.test.service.command.io.parameter.CompositeParameter;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
+import oleg.sopilnyak.test.service.message.payload.StudentPayload;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class LoadStudentsCommandTest {
+    @Mock
+    StudentsPersistenceFacade persistence;
+    @Mock
+    BusinessMessagePayloadMapper payloadMapper;
+    @Spy
+    @InjectMocks
+    LoadStudentsCommand command;
+    @Mock
+    ApplicationContext applicationContext;
+
+    StudentPayload student = StudentPayload.builder().firstName("John").lastName("Doe").gender("Mr").build();
+    StudentPayload noLastName = StudentPayload.builder().firstName("Jane").gender("Ms").build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(command, "applicationContext", applicationContext);
+        doReturn(command).when(applicationContext).getBean("studentBulkLoad", StudentCommand.class);
+    }
+
+    @Test
+    void shouldDoCommand_RowsLoaded() {
+        StudentPayload stored = StudentPayload.builder().id(1L).build();
+        when(persistence.saveAllStudents(List.of(student))).thenReturn(List.of(stored));
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(noLastName, student)));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        BulkLoadReport report = context.getResult().orElseThrow();
+        assertThat(report.rows()).isEqualTo(2);
+        assertThat(report.loaded()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(new BulkLoadReport.RowError(0L, "Last name cannot be blank"));
+        verify(command).executeDo(context);
+        verify(persistence).saveAllStudents(List.<Student>of(student));
+    }
+
+    @Test
+    void shouldDoCommand_RowNotStored() {
+        StudentPayload another = StudentPayload.builder().firstName("Anna").lastName("Smith").gender("Ms").build();
+        StudentPayload stored = StudentPayload.builder().id(1L).build();
+        when(persistence.saveAllStudents(List.of(student, another))).thenReturn(List.of(stored, another));
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(student, another)));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        BulkLoadReport report = context.getResult().orElseThrow();
+        assertThat(report.rows()).isEqualTo(2);
+        assertThat(report.loaded()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(new BulkLoadReport.RowError(1L, "Row is not stored: " + another));
+        verify(command).executeDo(context);
+        verify(persistence).saveAllStudents(List.<Student>of(student, another));
+    }
+
+    @Test
+    void shouldDoCommand_NoRowsAccepted() {
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(noLastName)));
+
+        command.doCommand(context);
+
+        assertThat(context.isDone()).isTrue();
+        BulkLoadReport report = context.getResult().orElseThrow();
+        assertThat(report.loaded()).isZero();
+        assertThat(report.errors()).hasSize(1);
+        verifyNoInteractions(persistence);
+    }
+
+    @Test
+    void shouldNotDoCommand_ExceptionThrown() {
+        RuntimeException cannotExecute = new RuntimeException("Cannot save");
+        doThrow(cannotExecute).when(persistence).saveAllStudents(anyList());
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(student)));
+
+        command.doCommand(context);
+
+        assertThat(context.isFailed()).isTrue();
+        assertThat(context.getException()).isEqualTo(cannotExecute);
+        verify(command).executeDo(context);
+    }
+
+    @Test
+    void shouldNotDoCommand_EmptyParameter() {
+        Context<BulkLoadReport> context = command.createContext(null);
+
+        command.doCommand(context);
+
+        assertThat(context.isFailed()).isTrue();
+        assertThat(context.getException()).isInstanceOf(NullPointerException.class);
+        verifyNoInteractions(persistence);
+    }
+
+    @Test
+    void shouldNotUndoCommand() {
+        Context<BulkLoadReport> context = command.createContext(new CompositeParameter<>(List.of(student)));
+        context.setState(DONE);
+
+        command.undoCommand(context);
+
+        assertThat(context.isFailed()).isTrue();
+        assertThat(context.getException()).isInstanceOf(UnsupportedOperationException.class);
+        verify(command).executeUndo(context);
+    }
+}
@@ -31,10 +31,14 @@ class CourseCommandsFactorySpringTest {
     private static final String COURSE_FIND_BY_ID = "school::education::courses:find.By.Id";
     private static final String COURSE_FIND_REGISTERED_FOR = "school::education::courses:find.Registered.To.The.Student";
     private static final String COURSE_FIND_WITHOUT_STUDENTS = "school::education::courses:find.Without.Any.Student";
+    private static final String COURSE_FIND_WITHOUT_STUDENTS_PAGE = "school::education::courses:find.Without.Any.Student.Page";
+    private static final String COURSE_COUNT_WITHOUT_STUDENTS = "school::education::courses:count.Without.Any.Student";
     private static final String COURSE_CREATE_OR_UPDATE = "school::education::courses:create.Or.Update";
     private static final String COURSE_DELETE = "school::education::courses:delete";
     private static final String COURSE_REGISTER = "school::education::courses:register";
     private static final String COURSE_UN_REGISTER = "school::education::courses:unregister";
+    private static final String COURSE_LOAD_ALL = "school::education::courses:load.All";
+    private static final String COURSE_REGISTER_ALL = "school::education::courses:register.All";
     // factory meta-names
     private static final String FACTORY_NAME = "Courses";
     private static final String SPRING_NAME = "courseCommandsFactory";
@@ -60,10 +64,14 @@ class CourseCommandsFactorySpringTest {
                 COURSE_FIND_BY_ID,
                 COURSE_FIND_REGISTERED_FOR,
                 COURSE_FIND_WITHOUT_STUDENTS,
+                COURSE_FIND_WITHOUT_STUDENTS_PAGE,
+                COURSE_COUNT_WITHOUT_STUDENTS,
                 COURSE_CREATE_OR_UPDATE,
                 COURSE_DELETE,
                 COURSE_REGISTER,
-                COURSE_UN_REGISTER
+                COURSE_UN_REGISTER,
+                COURSE_LOAD_ALL,
+                COURSE_REGISTER_ALL
         );
     }
 
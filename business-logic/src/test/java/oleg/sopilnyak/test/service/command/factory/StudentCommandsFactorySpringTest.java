@@ -30,10 +30,13 @@ class StudentCommandsFactorySpringTest {
     private static final String STUDENT_FIND_BY_ID = "school::education::students:find.By.Id";
     private static final String STUDENT_FIND_ENROLLED_TO = "school::education::students:find.Enrolled.To.The.Course";
     private static final String STUDENT_FIND_NOT_ENROLLED = "school::education::students:find.Not.Enrolled.To.Any.Course";
+    private static final String STUDENT_FIND_NOT_ENROLLED_PAGE = "school::education::students:find.Not.Enrolled.To.Any.Course.Page";
+    private static final String STUDENT_COUNT_NOT_ENROLLED = "school::education::students:count.Not.Enrolled.To.Any.Course";
     private static final String STUDENT_CREATE_OR_UPDATE = "school::education::students:create.Or.Update";
     private static final String STUDENT_CREATE_NEW = "school::education::students:create.Macro";
     private static final String STUDENT_DELETE = "school::education::students:delete";
     private static final String STUDENT_DELETE_ALL = "school::education::students:delete.Macro";
+    private static final String STUDENT_LOAD_ALL = "school::education::students:load.All";
 
     private static final String FACTORY_NAME = "Students";
     private static final String SPRING_NAME = "studentCommandsFactory";
@@ -59,10 +62,13 @@ class StudentCommandsFactorySpringTest {
                 STUDENT_FIND_BY_ID,
                 STUDENT_FIND_ENROLLED_TO,
                 STUDENT_FIND_NOT_ENROLLED,
+                STUDENT_FIND_NOT_ENROLLED_PAGE,
+                STUDENT_COUNT_NOT_ENROLLED,
                 STUDENT_CREATE_OR_UPDATE,
                 STUDENT_CREATE_NEW,
                 STUDENT_DELETE,
-                STUDENT_DELETE_ALL
+                STUDENT_DELETE_ALL,
+                STUDENT_LOAD_ALL
         );
     }
 
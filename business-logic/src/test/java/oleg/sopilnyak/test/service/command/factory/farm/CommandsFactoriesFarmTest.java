@@ -1,15 +1,21 @@
 package oleg.sopilnyak.test.service.command.factory.farm;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import oleg.sopilnyak.test.service.command.factory.base.CommandsFactory;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.type.core.Context;
 import oleg.sopilnyak.test.service.command.type.core.RootCommand;
 import oleg.sopilnyak.test.service.command.type.education.CourseCommand;
 import oleg.sopilnyak.test.service.command.type.education.StudentCommand;
+import oleg.sopilnyak.test.service.command.type.organization.FacultyCommand;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -60,9 +66,83 @@ class CommandsFactoriesFarmTest<T extends RootCommand<?>> {
     void shouldGetCommandFromFarm() {
         T cmd1 = (T) mock(RootCommand.class);
         T cmd2 = (T) mock(RootCommand.class);
+        when(factory1.commandIds()).thenReturn(List.of("cmd1", "cmd2"));
         when(factory1.command("cmd1")).thenReturn(cmd1);
         when(factory1.command("cmd2")).thenReturn(cmd2);
+        farm = new CommandsFactoriesFarm<>(Set.of(factory1, factory2, factory3));
+
         assertThat(farm.command("cmd1")).isEqualTo(cmd1);
         assertThat(farm.command("cmd2")).isEqualTo(cmd2);
+        assertThat(farm.command("cmd3")).isNull();
+        assertThat(farm.command(null)).isNull();
+        assertThat(farm.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldIndexCommandsOfFamilies() {
+        T cmd1 = (T) mock(RootCommand.class);
+        T cmd2 = (T) mock(RootCommand.class);
+        T cmd3 = (T) mock(RootCommand.class);
+        when(factory2.commandIds()).thenReturn(List.of("cmd3", "cmd1"));
+        when(factory2.command("cmd1")).thenReturn(cmd1);
+        when(factory2.command("cmd3")).thenReturn(cmd3);
+        when(factory3.commandIds()).thenReturn(List.of("cmd2"));
+        when(factory3.command("cmd2")).thenReturn(cmd2);
+
+        farm = new CommandsFactoriesFarm<>(Set.of(factory1, factory2, factory3));
+
+        assertThat(farm.commandIds()).containsExactly("cmd1", "cmd2", "cmd3");
+        assertThat(farm.familyCommands(StudentCommand.class)).containsOnly(entry("cmd1", cmd1), entry("cmd3", cmd3));
+        assertThat(farm.familyCommands(CourseCommand.class)).containsOnly(entry("cmd2", cmd2));
+        assertThat(farm.familyCommands(RootCommand.class)).isEmpty();
+        assertThat(farm.familyCommands(FacultyCommand.class)).isEmpty();
+    }
+
+    @Test
+    void shouldMakeCommandContext() {
+        T command = (T) mock(RootCommand.class);
+        Input<Long> input = Input.of(1L);
+        Context<?> context = mock(Context.class);
+        when(factory3.commandIds()).thenReturn(List.of("cmd"));
+        when(factory3.command("cmd")).thenReturn(command);
+        doReturn(context).when(command).createContext(input);
+        farm = new CommandsFactoriesFarm<>(Set.of(factory1, factory2, factory3));
+
+        assertThat(farm.<Long, Object>makeCommandContext("cmd", input)).isSameAs(context);
+        assertThat(farm.<Long, Object>makeCommandContext("unknown", input)).isNull();
+    }
+
+    @Test
+    void shouldNotBuildFarm_DuplicateCommandId() {
+        T cmd1 = (T) mock(RootCommand.class);
+        T cmd2 = (T) mock(RootCommand.class);
+        when(factory1.commandIds()).thenReturn(List.of("cmd"));
+        when(factory1.command("cmd")).thenReturn(cmd1);
+        when(factory2.commandIds()).thenReturn(List.of("cmd"));
+        when(factory2.command("cmd")).thenReturn(cmd2);
+        List<CommandsFactory<T>> factories = List.of(factory1, factory2, factory3);
+
+        var exception = assertThrows(IllegalStateException.class, () -> new CommandsFactoriesFarm<>(factories));
+
+        assertThat(exception.getMessage()).startsWith("Duplicate command-id 'cmd' in factory ");
+    }
+
+    @Test
+    void shouldReRegisterCommandsFactory() {
+        T cmd1 = (T) mock(RootCommand.class);
+        T cmd2 = (T) mock(RootCommand.class);
+        when(factory2.commandIds()).thenReturn(List.of("cmd1"));
+        when(factory2.command("cmd1")).thenReturn(cmd1);
+        farm = new CommandsFactoriesFarm<>(Set.of(factory1, factory2, factory3));
+        CommandsFactory<T> factory = mock(CommandsFactory.class);
+        doReturn(StudentCommand.class).when(factory).commandFamily();
+        when(factory.commandIds()).thenReturn(List.of("cmd2"));
+        when(factory.command("cmd2")).thenReturn(cmd2);
+
+        farm.register(factory);
+
+        assertThat(farm.command("cmd1")).isNull();
+        assertThat(farm.command("cmd2")).isEqualTo(cmd2);
+        assertThat(farm.familyCommands(StudentCommand.class)).containsOnly(entry("cmd2", cmd2));
     }
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ContextConfiguration(classes = FacultyCommandsFactorySpringTest.FactoryConfiguration.class)
 class FacultyCommandsFactorySpringTest {
     private static final String ORGANIZATION_FACULTY_FIND_ALL = "school::organization::faculties:find.All";
+    private static final String ORGANIZATION_FACULTY_FIND_PAGE = "school::organization::faculties:find.Page";
     private static final String ORGANIZATION_FACULTY_FIND_BY_ID = "school::organization::faculties:find.By.Id";
     private static final String ORGANIZATION_FACULTY_CREATE_OR_UPDATE = "school::organization::faculties:create.Or.Update";
     private static final String ORGANIZATION_FACULTY_DELETE = "school::organization::faculties:delete";
@@ -53,6 +54,7 @@ class FacultyCommandsFactorySpringTest {
     void setUp() {
         commandsId = Set.of(
                 ORGANIZATION_FACULTY_FIND_ALL,
+                ORGANIZATION_FACULTY_FIND_PAGE,
                 ORGANIZATION_FACULTY_FIND_BY_ID,
                 ORGANIZATION_FACULTY_CREATE_OR_UPDATE,
                 ORGANIZATION_FACULTY_DELETE
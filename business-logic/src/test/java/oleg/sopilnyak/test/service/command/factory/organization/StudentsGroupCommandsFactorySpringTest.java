@@ -28,6 +28,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ContextConfiguration(classes = StudentsGroupCommandsFactorySpringTest.FactoryConfiguration.class)
 class StudentsGroupCommandsFactorySpringTest {
     private static final String ORGANIZATION_STUDENTS_GROUP_FIND_ALL = "school::organization::student::groups:find.All";
+    private static final String ORGANIZATION_STUDENTS_GROUP_FIND_PAGE = "school::organization::student::groups:find.Page";
     private static final String ORGANIZATION_STUDENTS_GROUP_FIND_BY_ID = "school::organization::student::groups:find.By.Id";
     private static final String ORGANIZATION_STUDENTS_GROUP_CREATE_OR_UPDATE = "school::organization::student::groups:create.Or.Update";
     private static final String ORGANIZATION_STUDENTS_GROUP_DELETE = "school::organization::student::groups:delete";
@@ -53,6 +54,7 @@ class StudentsGroupCommandsFactorySpringTest {
     void setUp() {
         commandsId = Set.of(
                 ORGANIZATION_STUDENTS_GROUP_FIND_ALL,
+                ORGANIZATION_STUDENTS_GROUP_FIND_PAGE,
                 ORGANIZATION_STUDENTS_GROUP_FIND_BY_ID,
                 ORGANIZATION_STUDENTS_GROUP_CREATE_OR_UPDATE,
                 ORGANIZATION_STUDENTS_GROUP_DELETE
@@ -0,0 +1,86 @@
+package oleg.sopilnyak.test.service.command.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import oleg.sopilnyak.test.school.common.exception.core.CannotProcessActionException;
+import oleg.sopilnyak.test.service.command.io.parameter.PayloadParameter;
+import oleg.sopilnyak.test.service.command.io.result.PayloadResult;
+import oleg.sopilnyak.test.service.message.payload.BasePayload;
+import oleg.sopilnyak.test.service.message.payload.StudentPayload;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class IOTypesRegistryTest {
+
+    @Test
+    void shouldResolveKnownTypes() throws ClassNotFoundException {
+
+        assertThat(IOTypesRegistry.resolve(StudentPayload.class.getName(), BasePayload.class)).isSameAs(StudentPayload.class);
+        assertThat(IOTypesRegistry.resolve(PayloadParameter.class.getName(), Input.class)).isSameAs(PayloadParameter.class);
+        assertThat(IOTypesRegistry.resolve(PayloadResult.class.getName(), Output.class)).isSameAs(PayloadResult.class);
+        assertThat(IOTypesRegistry.resolve(Long.class.getName(), Number.class)).isSameAs(Long.class);
+    }
+
+    @Test
+    void shouldResolveAllowedType() throws ClassNotFoundException {
+        String typeName = CannotProcessActionException.class.getName();
+
+        Class<? extends Throwable> resolved = IOTypesRegistry.resolve(typeName, Throwable.class);
+
+        assertThat(resolved).isSameAs(CannotProcessActionException.class);
+        assertThat(IOTypesRegistry.resolve(typeName, Throwable.class)).isSameAs(resolved);
+    }
+
+    @Test
+    void shouldNotInitializeResolvedType() throws ClassNotFoundException {
+
+        Class<?> resolved = IOTypesRegistry.resolve(NotInitialized.class.getName(), Object.class);
+
+        assertThat(resolved.getName()).isEqualTo(NotInitialized.class.getName());
+        assertThat(NotInitializedFlag.VALUE).isFalse();
+    }
+
+    @Test
+    void shouldNotResolveNotAllowedType() {
+        String typeName = "org.springframework.context.support.ClassPathXmlApplicationContext";
+
+        var exception = assertThrows(ClassNotFoundException.class, () -> IOTypesRegistry.resolve(typeName, Object.class));
+
+        assertThat(exception.getMessage()).isEqualTo("Type is not allowed: " + typeName);
+    }
+
+    @Test
+    void shouldNotResolveUnknownType() {
+        String typeName = "oleg.sopilnyak.test.service.UnknownType";
+
+        assertThrows(ClassNotFoundException.class, () -> IOTypesRegistry.resolve(typeName, Object.class));
+    }
+
+    @Test
+    void shouldNotResolveMissingType() {
+
+        var exception = assertThrows(ClassNotFoundException.class, () -> IOTypesRegistry.resolve(null, Object.class));
+
+        assertThat(exception.getMessage()).isEqualTo("Type name is missing");
+    }
+
+    @Test
+    void shouldNotResolveWrongSubtype() {
+        String typeName = StudentPayload.class.getName();
+
+        assertThrows(ClassCastException.class, () -> IOTypesRegistry.resolve(typeName, Output.class));
+    }
+
+    // class implementation
+    static class NotInitialized {
+        static {
+            NotInitializedFlag.VALUE.set(true);
+        }
+    }
+
+    static class NotInitializedFlag {
+        static final AtomicBoolean VALUE = new AtomicBoolean(false);
+    }
+}
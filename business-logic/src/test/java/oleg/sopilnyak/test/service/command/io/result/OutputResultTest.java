@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import oleg.sopilnyak.test.school.common.model.authentication.Permission;
 import oleg.sopilnyak.test.school.common.model.authentication.Role;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
 import oleg.sopilnyak.test.service.command.io.CompositeOutput;
 import oleg.sopilnyak.test.service.command.io.Output;
 import oleg.sopilnyak.test.service.message.payload.AuthorityPersonPayload;
@@ -151,6 +152,27 @@ class OutputResultTest {
         assertThat(result.value()).isInstanceOf(Long.class).isEqualTo(1L);
     }
 
+    @Test
+    void shouldCreateBulkLoadResult() {
+        BulkLoadReport report = new BulkLoadReport(3L, 2L, List.of(new BulkLoadReport.RowError(2L, "wrong row")));
+
+        Output<?> result = Output.of((Object) report);
+
+        assertThat(result).isInstanceOf(BulkLoadResult.class);
+        assertThat(result.isEmpty()).isFalse();
+        assertThat(result.value()).isSameAs(report);
+    }
+
+    @Test
+    void shouldRestoreBulkLoadResult() throws JsonProcessingException {
+        BulkLoadReport report = new BulkLoadReport(3L, 2L, List.of(new BulkLoadReport.RowError(2L, "wrong row")));
+        String json = objectMapper.writeValueAsString(Output.of(report));
+
+        var result = objectMapper.readValue(json, BulkLoadResult.class);
+
+        assertThat(result.value()).isEqualTo(report);
+    }
+
     @Test
     void shouldCreateDoubleResult() {
         Output<Number> result = Output.of(1.0);
@@ -20,6 +20,8 @@ import oleg.sopilnyak.test.service.exception.CommandNotRegisteredInFactoryExcept
 import oleg.sopilnyak.test.service.exception.UnableExecuteCommandException;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -79,6 +81,51 @@ class ActionFacadeTest {
         verify(actionExecutor).commitAction(currentActionContext, context);
     }
 
+    @Test
+    void shouldExecuteCommandAsyncWithDefaultErrorHandler() {
+        String commandId = "1";
+        ActionContext currentActionContext = ActionContext.current();
+        doReturn(true).when(context).isDone();
+        doReturn(Optional.of(Boolean.TRUE)).when(context).getResult();
+        doReturn(context).when(commandsFactory).makeCommandContext(commandId, input);
+        doReturn(CompletableFuture.completedFuture(context)).when(actionExecutor).commitActionAsync(ActionContext.current(), context);
+
+        CompletableFuture<Optional<Boolean>> result = actionFacade.executeCommandAsync(commandId, commandsFactory, input);
+
+        assertThat(result.join()).contains(Boolean.TRUE);
+        verify(actionFacade).executeCommandAsync(eq(commandId), eq(commandsFactory), eq(input), any(Consumer.class));
+        verify(actionExecutor).commitActionAsync(currentActionContext, context);
+        verify(actionExecutor, never()).commitAction(any(ActionContext.class), any(Context.class));
+    }
+
+    @Test
+    void shouldNotExecuteCommandAsyncWithDefaultErrorHandler_CannotMakeContext() {
+        String commandId = "2";
+
+        CompletableFuture<Optional<Object>> result = actionFacade.executeCommandAsync(commandId, commandsFactory, input);
+
+        var exception = assertThrows(CompletionException.class, result::join);
+        assertThat(exception.getCause()).isInstanceOf(UnableExecuteCommandException.class);
+        assertThat(exception.getCause().getMessage()).startsWith("Cannot execute command '" + commandId);
+        assertThat(exception.getCause().getCause()).isInstanceOf(CommandNotRegisteredInFactoryException.class);
+        verify(actionExecutor, never()).commitActionAsync(any(ActionContext.class), any(Context.class));
+    }
+
+    @Test
+    void shouldNotExecuteCommandAsyncWithDefaultErrorHandler_CommandExecutionFailed() {
+        String commandId = "3";
+        doReturn(false).when(context).isDone();
+        doReturn(new RuntimeException()).when(context).getException();
+        doReturn(context).when(commandsFactory).makeCommandContext(commandId, input);
+        doReturn(CompletableFuture.completedFuture(context)).when(actionExecutor).commitActionAsync(ActionContext.current(), context);
+
+        CompletableFuture<Optional<Object>> result = actionFacade.executeCommandAsync(commandId, commandsFactory, input);
+
+        var exception = assertThrows(CompletionException.class, result::join);
+        assertThat(exception.getCause()).isInstanceOf(UnableExecuteCommandException.class);
+        assertThat(exception.getCause().getCause()).isInstanceOf(RuntimeException.class);
+    }
+
     @Test
     void shouldNotExecuteCommandWithDefaultErrorHandler_CannotMakeContext() {
         String commandId = "2";
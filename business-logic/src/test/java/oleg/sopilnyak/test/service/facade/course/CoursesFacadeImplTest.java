@@ -19,16 +19,20 @@ import oleg.sopilnyak.test.school.common.exception.education.CourseNotFoundExcep
 import oleg.sopilnyak.test.school.common.exception.education.CourseWithStudentsException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentCoursesExceedException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentNotFoundException;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 import oleg.sopilnyak.test.school.common.persistence.PersistenceFacade;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade.Link;
 import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActionExecutor;
 import oleg.sopilnyak.test.service.command.executable.education.course.CreateOrUpdateCourseCommand;
 import oleg.sopilnyak.test.service.command.executable.education.course.DeleteCourseCommand;
 import oleg.sopilnyak.test.service.command.executable.education.course.FindCourseCommand;
 import oleg.sopilnyak.test.service.command.executable.education.course.FindCoursesWithoutStudentsCommand;
 import oleg.sopilnyak.test.service.command.executable.education.course.FindRegisteredCoursesCommand;
+import oleg.sopilnyak.test.service.command.executable.education.course.LoadCoursesCommand;
 import oleg.sopilnyak.test.service.command.executable.education.course.RegisterStudentToCourseCommand;
+import oleg.sopilnyak.test.service.command.executable.education.course.RegisterStudentsToCoursesCommand;
 import oleg.sopilnyak.test.service.command.executable.education.course.UnRegisterStudentFromCourseCommand;
 import oleg.sopilnyak.test.service.command.factory.CourseCommandsFactory;
 import oleg.sopilnyak.test.service.command.factory.base.CommandsFactory;
@@ -40,11 +44,12 @@ import oleg.sopilnyak.test.service.mapper.BusinessMessagePayloadMapper;
 import oleg.sopilnyak.test.service.message.BaseCommandMessage;
 import oleg.sopilnyak.test.service.message.payload.CoursePayload;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -64,6 +69,7 @@ class CoursesFacadeImplTest {
     private static final String COURSE_DELETE = "school::education::courses:delete";
     private static final String COURSE_REGISTER = "school::education::courses:register";
     private static final String COURSE_UN_REGISTER = "school::education::courses:unregister";
+    private static final String COURSE_REGISTER_ALL = "school::education::courses:register.All";
 
     CommandActionExecutor actionExecutor = mock(CommandActionExecutor.class);
     PersistenceFacade persistenceFacade = mock(PersistenceFacade.class);
@@ -502,7 +508,7 @@ class CoursesFacadeImplTest {
         when(mockedStudent.getId()).thenReturn(studentId);
         when(persistenceFacade.findStudentById(studentId)).thenReturn(Optional.of(mockedStudent));
         when(persistenceFacade.findCourseById(courseId)).thenReturn(Optional.of(mockedCourse));
-        when(mockedStudent.getCourses()).thenReturn(IntStream.range(1, 10).mapToObj(_ -> mockedCourse).toList());
+        when(persistenceFacade.countRegisteredCourses(studentId)).thenReturn(9L);
 
         Exception exception = assertThrows(StudentCoursesExceedException.class,
                 () -> ReflectionTestUtils.invokeMethod(facade, "internalRegister", studentId, courseId)
@@ -528,7 +534,7 @@ class CoursesFacadeImplTest {
         when(mockedCourse.getId()).thenReturn(courseId);
         when(persistenceFacade.findStudentById(studentId)).thenReturn(Optional.of(mockedStudent));
         when(persistenceFacade.findCourseById(courseId)).thenReturn(Optional.of(mockedCourse));
-        when(mockedCourse.getStudents()).thenReturn(IntStream.range(1, 51).mapToObj(_ -> mockedStudent).toList());
+        when(persistenceFacade.countEnrolledStudents(courseId)).thenReturn(50L);
 
         Exception exception = assertThrows(CourseHasNoRoomException.class,
                 () -> ReflectionTestUtils.invokeMethod(facade, "internalRegister", studentId, courseId)
@@ -551,8 +557,11 @@ class CoursesFacadeImplTest {
         doReturn(command).when(applicationContext).getBean("courseUnRegisterStudent", CourseCommand.class);
         Long studentId = 107L;
         Long courseId = 210L;
+        when(mockedStudent.getId()).thenReturn(studentId);
+        when(mockedCourse.getId()).thenReturn(courseId);
         when(persistenceFacade.findStudentById(studentId)).thenReturn(Optional.of(mockedStudent));
         when(persistenceFacade.findCourseById(courseId)).thenReturn(Optional.of(mockedCourse));
+        when(persistenceFacade.isLinked(studentId, courseId)).thenReturn(true);
 
         facade.doActionAndResult(commandId, studentId, courseId);
 
@@ -572,8 +581,11 @@ class CoursesFacadeImplTest {
         doReturn(command).when(applicationContext).getBean("courseUnRegisterStudent", CourseCommand.class);
         Long studentId = 107L;
         Long courseId = 210L;
+        when(mockedStudent.getId()).thenReturn(studentId);
+        when(mockedCourse.getId()).thenReturn(courseId);
         when(persistenceFacade.findStudentById(studentId)).thenReturn(Optional.of(mockedStudent));
         when(persistenceFacade.findCourseById(courseId)).thenReturn(Optional.of(mockedCourse));
+        when(persistenceFacade.isLinked(studentId, courseId)).thenReturn(true);
 
         ReflectionTestUtils.invokeMethod(facade, "internalUnRegister", studentId, courseId);
 
@@ -630,6 +642,35 @@ class CoursesFacadeImplTest {
         verify(persistenceFacade, never()).unLink(any(Student.class), any(Course.class));
     }
 
+    @Test
+    void shouldRegisterAll() {
+        String commandId = COURSE_REGISTER_ALL;
+        CourseCommand<?> command = factory.command(commandId);
+        reset(factory);
+        doReturn(command).when(applicationContext).getBean("courseBulkRegisterStudents", CourseCommand.class);
+        String rows = """
+                studentId,courseId
+                1,10
+                ,10
+                2,twenty
+                3,30
+                """;
+        List<Link> links = List.of(new Link(1L, 10L), new Link(3L, 30L));
+        when(persistenceFacade.linkAll(links)).thenReturn(List.of(true, true));
+
+        BulkLoadReport report = facade.doActionAndResult(commandId,
+                new ByteArrayInputStream(rows.getBytes(StandardCharsets.UTF_8)), "text/csv"
+        );
+
+        assertThat(report.rows()).isEqualTo(4);
+        assertThat(report.loaded()).isEqualTo(2);
+        assertThat(report.errors()).extracting(BulkLoadReport.RowError::row).containsExactly(3L, 4L);
+        assertThat(report.errors().getFirst().message()).isEqualTo("Wrong student-id: '0'");
+        verify(factory).command(commandId);
+        verify(factory.command(commandId)).doCommand(any(Context.class));
+        verify(persistenceFacade).linkAll(links);
+    }
+
     private CommandsFactory<CourseCommand<?>> buildFactory() {
         Map<CourseCommand<?>, String> commands = Map.of(
                 spy(new FindCourseCommand(persistenceFacade, payloadMapper)), "courseFind",
@@ -638,7 +679,9 @@ class CoursesFacadeImplTest {
                 spy(new CreateOrUpdateCourseCommand(persistenceFacade, payloadMapper)),"courseUpdate",
                 spy(new DeleteCourseCommand(persistenceFacade, payloadMapper)),"courseDelete",
                 spy(new RegisterStudentToCourseCommand(persistenceFacade, payloadMapper, 50, 5)),"courseRegisterStudent",
-                spy(new UnRegisterStudentFromCourseCommand(persistenceFacade, payloadMapper)),"courseUnRegisterStudent"
+                spy(new UnRegisterStudentFromCourseCommand(persistenceFacade, payloadMapper)),"courseUnRegisterStudent",
+                spy(new LoadCoursesCommand(persistenceFacade, payloadMapper)),"courseBulkLoad",
+                spy(new RegisterStudentsToCoursesCommand(persistenceFacade, payloadMapper)),"courseBulkRegisterStudents"
         );
         String acName = "applicationContext";
         commands.entrySet().forEach(entry -> {
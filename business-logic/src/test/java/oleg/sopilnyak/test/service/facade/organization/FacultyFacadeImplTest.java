@@ -23,6 +23,7 @@ import oleg.sopilnyak.test.service.command.executable.core.executor.CommandActio
 import oleg.sopilnyak.test.service.command.executable.organization.faculty.CreateOrUpdateFacultyCommand;
 import oleg.sopilnyak.test.service.command.executable.organization.faculty.DeleteFacultyCommand;
 import oleg.sopilnyak.test.service.command.executable.organization.faculty.FindAllFacultiesCommand;
+import oleg.sopilnyak.test.service.command.executable.organization.faculty.FindFacultiesPageCommand;
 import oleg.sopilnyak.test.service.command.executable.organization.faculty.FindFacultyCommand;
 import oleg.sopilnyak.test.service.command.factory.base.CommandsFactory;
 import oleg.sopilnyak.test.service.command.factory.organization.FacultyCommandsFactory;
@@ -51,6 +52,7 @@ import org.springframework.util.ReflectionUtils;
 @SuppressWarnings("unchecked")
 class FacultyFacadeImplTest {
     private static final String ORGANIZATION_FACULTY_FIND_ALL = "school::organization::faculties:find.All";
+    private static final String ORGANIZATION_FACULTY_FIND_PAGE = "school::organization::faculties:find.Page";
     private static final String ORGANIZATION_FACULTY_FIND_BY_ID = "school::organization::faculties:find.By.Id";
     private static final String ORGANIZATION_FACULTY_CREATE_OR_UPDATE = "school::organization::faculties:create.Or.Update";
     private static final String ORGANIZATION_FACULTY_DELETE = "school::organization::faculties:delete";
@@ -127,6 +129,29 @@ class FacultyFacadeImplTest {
         verify(persistence).findAllFaculties();
     }
 
+    @Test
+    void shouldFindFacultiesPage_Unified() {
+        String commandId = ORGANIZATION_FACULTY_FIND_PAGE;
+        FacultyCommand<?> command = factory.command(commandId);
+        reset(factory);
+        doReturn(command).when(applicationContext).getBean("facultyFindPage", FacultyCommand.class);
+        Faculty nextFaculty = mock(Faculty.class);
+        FacultyPayload nextPayload = mock(FacultyPayload.class);
+        when(persistence.findFacultiesPage(0L, 2)).thenReturn(List.of(nextFaculty, mockFaculty));
+        when(payloadMapper.toPayload(mockFaculty)).thenReturn(mockFacultyPayload);
+        when(payloadMapper.toPayload(nextFaculty)).thenReturn(nextPayload);
+        when(mockFacultyPayload.getId()).thenReturn(1L);
+        when(nextPayload.getId()).thenReturn(2L);
+
+        List<Faculty> result = facade.doActionAndResult(commandId, null, 2);
+
+        assertThat(result).containsExactly(mockFacultyPayload, nextPayload);
+        verify(factory).command(commandId);
+        verify(factory.command(commandId)).createContext(Input.of(0L, 2L));
+        verify(factory.command(commandId)).doCommand(any(Context.class));
+        verify(persistence).findFacultiesPage(0L, 2);
+    }
+
     @Test
     void shouldNotFindFacultyById_Unified() {
         String commandId = ORGANIZATION_FACULTY_FIND_BY_ID;
@@ -321,7 +346,8 @@ class FacultyFacadeImplTest {
                 spy(new CreateOrUpdateFacultyCommand(persistence, payloadMapper)),
                 spy(new DeleteFacultyCommand(persistence, payloadMapper)),
                 spy(new FindAllFacultiesCommand(persistence, payloadMapper)),
-                spy(new FindFacultyCommand(persistence, payloadMapper))
+                spy(new FindFacultyCommand(persistence, payloadMapper)),
+                spy(new FindFacultiesPageCommand(persistence, payloadMapper))
         );
         String acName = "applicationContext";
         commands.forEach(command -> {
@@ -11,12 +11,14 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
 import oleg.sopilnyak.test.school.common.exception.education.StudentNotFoundException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentWithCoursesException;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 import oleg.sopilnyak.test.school.common.model.person.profile.StudentProfile;
@@ -29,6 +31,7 @@ import oleg.sopilnyak.test.service.command.executable.education.student.DeleteSt
 import oleg.sopilnyak.test.service.command.executable.education.student.FindEnrolledStudentsCommand;
 import oleg.sopilnyak.test.service.command.executable.education.student.FindNotEnrolledStudentsCommand;
 import oleg.sopilnyak.test.service.command.executable.education.student.FindStudentCommand;
+import oleg.sopilnyak.test.service.command.executable.education.student.LoadStudentsCommand;
 import oleg.sopilnyak.test.service.command.executable.education.student.MacroDeleteStudent;
 import oleg.sopilnyak.test.service.command.executable.profile.student.CreateOrUpdateStudentProfileCommand;
 import oleg.sopilnyak.test.service.command.executable.profile.student.DeleteStudentProfileCommand;
@@ -44,6 +47,8 @@ import oleg.sopilnyak.test.service.message.BaseCommandMessage;
 import oleg.sopilnyak.test.service.message.payload.StudentPayload;
 import oleg.sopilnyak.test.service.message.payload.StudentProfilePayload;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -68,6 +73,7 @@ class StudentsFacadeImplTest {
     private static final String STUDENT_CREATE_OR_UPDATE = "school::education::students:create.Or.Update";
     private static final String STUDENT_CREATE_NEW = "school::education::students:create.Macro";
     private static final String STUDENT_DELETE_ALL = "school::education::students:delete.Macro";
+    private static final String STUDENT_LOAD_ALL = "school::education::students:load.All";
 
     PersistenceFacade persistenceFacade = mock(PersistenceFacade.class);
     BusinessMessagePayloadMapper payloadMapper = mock(BusinessMessagePayloadMapper.class);
@@ -500,7 +506,71 @@ class StudentsFacadeImplTest {
         verify(persistenceFacade, never()).deleteStudent(studentId);
     }
 
+    @Test
+    void shouldLoadAll() {
+        String commandId = STUDENT_LOAD_ALL;
+        StudentCommand<?> command = factory.command(commandId);
+        reset(factory);
+        doReturn(command).when(applicationContext).getBean("studentBulkLoad", StudentCommand.class);
+        String rows = """
+                {"firstName":"John","lastName":"Doe","gender":"Mr"}
+                {"firstName":"Jane",
+                {"firstName":"Jane","lastName":"","gender":"Ms"}
+
+                {"firstName":"Anna","lastName":"Smith","gender":"Ms"}
+                """;
+        when(persistenceFacade.saveAllStudents(any(List.class))).thenAnswer(call -> stored(call.getArgument(0)));
+
+        BulkLoadReport report = facade.doActionAndResult(commandId,
+                new ByteArrayInputStream(rows.getBytes(StandardCharsets.UTF_8)), "application/x-ndjson"
+        );
+
+        assertThat(report.rows()).isEqualTo(4);
+        assertThat(report.loaded()).isEqualTo(2);
+        assertThat(report.errors()).extracting(BulkLoadReport.RowError::row).containsExactly(2L, 3L);
+        assertThat(report.errors().get(1).message()).isEqualTo("Last name cannot be blank");
+        verify(factory).command(commandId);
+        verify(factory.command(commandId)).doCommand(any(Context.class));
+        verify(persistenceFacade).saveAllStudents(any(List.class));
+    }
+
+    @Test
+    void shouldLoadAll_ChunkNotLoaded() {
+        String commandId = STUDENT_LOAD_ALL;
+        StudentCommand<?> command = factory.command(commandId);
+        reset(factory);
+        doReturn(command).when(applicationContext).getBean("studentBulkLoad", StudentCommand.class);
+        facade.setBulkChunkSize(1);
+        String rows = """
+                firstName,lastName,gender
+                John,Doe,Mr
+                Anna,"Smith, Jr",Ms
+                """;
+        when(persistenceFacade.saveAllStudents(any(List.class)))
+                .thenThrow(new IllegalStateException("Duplicate entry"))
+                .thenAnswer(call -> stored(call.getArgument(0)));
+
+        BulkLoadReport report = facade.doActionAndResult(commandId,
+                new ByteArrayInputStream(rows.getBytes(StandardCharsets.UTF_8)), "text/csv"
+        );
+
+        assertThat(report.rows()).isEqualTo(2);
+        assertThat(report.loaded()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(
+                new BulkLoadReport.RowError(2L, "Chunk is not loaded: Duplicate entry")
+        );
+        verify(factory, times(2)).command(commandId);
+        verify(factory.command(commandId), times(2)).doCommand(any(Context.class));
+        verify(persistenceFacade, times(2)).saveAllStudents(any(List.class));
+    }
+
     // private methods
+    // the stored students get the system-ids from the database
+    private static List<Student> stored(final List<Student> students) {
+        students.forEach(student -> ((StudentPayload) student).setId(student.getFirstName().length() + 100L));
+        return students;
+    }
+
     private CommandsFactory<StudentCommand<?>> buildFactory() {
         String acName = "applicationContext";
         createProfileCommand = spy(new CreateOrUpdateStudentProfileCommand(persistenceFacade, payloadMapper));
@@ -523,7 +593,8 @@ class StudentsFacadeImplTest {
                 createStudentCommand,
                 createMacroCommand,
                 deleteStudentCommand,
-                deleteStudentMacroCommand
+                deleteStudentMacroCommand,
+                spy(new LoadStudentsCommand(persistenceFacade, payloadMapper))
         );
         commands.forEach(command -> {
             if (ReflectionUtils.findField(command.getClass(), acName) != null) {
@@ -0,0 +1,109 @@
+package oleg.sopilnyak.test.service.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
+import oleg.sopilnyak.test.school.common.business.facade.education.StudentsFacade;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.school.common.persistence.PersistenceFacade;
+import oleg.sopilnyak.test.school.common.test.TestModelFactory;
+import oleg.sopilnyak.test.service.command.factory.farm.CommandsFactoriesFarm;
+import oleg.sopilnyak.test.service.command.io.Input;
+import oleg.sopilnyak.test.service.command.io.parameter.MacroCommandParameter;
+import oleg.sopilnyak.test.service.command.type.core.Context;
+import oleg.sopilnyak.test.service.command.type.core.RootCommand;
+import oleg.sopilnyak.test.service.configuration.BusinessLogicConfiguration;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Benchmark: JSON codec throughput of command-messages with macro-command (CreateStudentTask) context<BR/>
+ * The message's context has macro-parameter with nested contexts, so every nesting level
+ * of the command-message passes through the codec
+ *
+ * @see BaseCommandMessage.Serializer
+ * @see BaseCommandMessage.Deserializer
+ */
+@Tag("benchmark")
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {BusinessLogicConfiguration.class})
+@SuppressWarnings("unchecked")
+class CommandMessageJsonBenchmarkTest extends TestModelFactory {
+    private static final int WARM_UP_CYCLES = 2_000;
+    private static final int MEASURED_CYCLES = 20_000;
+    @MockitoBean
+    private PersistenceFacade persistenceFacade;
+    @Autowired
+    @Qualifier("commandsTroughMessageObjectMapper")
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CommandsFactoriesFarm<RootCommand<?>> farm;
+
+    DoCommandMessage<Optional<Student>> message;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper.disable(SerializationFeature.INDENT_OUTPUT);
+        RootCommand<Optional<Student>> command = (RootCommand<Optional<Student>>) farm.command(StudentsFacade.CREATE_MACRO);
+        Context<Optional<Student>> context = command.createContext(Input.of(makeClearStudent(1)));
+        message = DoCommandMessage.<Optional<Student>>builder()
+                .correlationId("correlation-id").context(context)
+                .actionContext(ActionContext.builder().actionProcessorFacade("test-facade").entryPointMethod("test-action").build())
+                .build();
+    }
+
+    @Test
+    void shouldMeasureMacroCommandMessageSerialization() throws JsonProcessingException {
+        int jsonLength = 0;
+        for (int cycle = 0; cycle < WARM_UP_CYCLES; cycle++) {
+            jsonLength = objectMapper.writeValueAsString(message).length();
+        }
+        long startedAt = System.nanoTime();
+        for (int cycle = 0; cycle < MEASURED_CYCLES; cycle++) {
+            jsonLength = objectMapper.writeValueAsString(message).length();
+        }
+        long spentNanos = System.nanoTime() - startedAt;
+
+        assertThat(message.getContext().getRedoParameter()).isInstanceOf(MacroCommandParameter.class);
+        report("serialize", spentNanos, jsonLength);
+    }
+
+    @Test
+    void shouldMeasureMacroCommandMessageDeserialization() throws JsonProcessingException {
+        String json = objectMapper.writeValueAsString(message);
+        BaseCommandMessage<?> restored = null;
+        for (int cycle = 0; cycle < WARM_UP_CYCLES; cycle++) {
+            restored = objectMapper.readValue(json, BaseCommandMessage.class);
+        }
+        long startedAt = System.nanoTime();
+        for (int cycle = 0; cycle < MEASURED_CYCLES; cycle++) {
+            restored = objectMapper.readValue(json, BaseCommandMessage.class);
+        }
+        long spentNanos = System.nanoTime() - startedAt;
+
+        assertThat(restored).isNotNull();
+        assertThat(restored.getContext().getRedoParameter()).isInstanceOf(MacroCommandParameter.class);
+        assertThat(objectMapper.writeValueAsString(restored)).isEqualTo(json);
+        report("deserialize", spentNanos, json.length());
+    }
+
+    // private methods
+    private static void report(String operation, long spentNanos, int jsonLength) {
+        System.out.printf(
+                "CreateStudentTask message %-11s : %,10.0f messages/sec, %,8.1f us per message, %,d chars%n",
+                operation, MEASURED_CYCLES * 1_000_000_000.0 / spentNanos, spentNanos / 1_000.0 / MEASURED_CYCLES, jsonLength
+        );
+    }
+}
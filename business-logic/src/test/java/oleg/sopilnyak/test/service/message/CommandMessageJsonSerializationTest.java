@@ -6,6 +6,7 @@ import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
 import oleg.sopilnyak.test.school.common.exception.core.CannotProcessActionException;
 import oleg.sopilnyak.test.school.common.model.authentication.Role;
 import oleg.sopilnyak.test.school.common.model.education.Student;
+import oleg.sopilnyak.test.service.command.io.CompositeInput;
 import oleg.sopilnyak.test.service.command.io.CompositeOutput;
 import oleg.sopilnyak.test.service.command.io.IOBase;
 import oleg.sopilnyak.test.service.command.io.Input;
@@ -34,6 +35,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -448,6 +451,50 @@ class CommandMessageJsonSerializationTest {
         assertThat(restored).isInstanceOf(StaffRoleParameter.class).isInstanceOf(Input.class);
     }
 
+    @Test
+    void shouldReadRootTreeNodeWithoutCopying() throws IOException {
+        Input<?> parameter = Input.of(createStudent(1));
+        TreeNode parameterNode = objectMapper.readTree(objectMapper.writeValueAsString(parameter));
+        JsonParser parser = new IOBase.TreeNodeParser(parameterNode, objectMapper);
+
+        TreeNode restored = parser.readValueAsTree();
+
+        assertThat(restored).isSameAs(parameterNode);
+        assertThat(parser.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+        assertThat(parser.nextToken()).isNull();
+    }
+
+    @Test
+    void shouldRestoreValueFromTreeNode() throws IOException {
+        Input<?> parameter = Input.of(createStudent(2), createStudent(3));
+        String json = objectMapper.writeValueAsString(parameter);
+        TreeNode parameterNode = objectMapper.readTree(json);
+
+        Input<?> restored = IOBase.restoreValue(parameterNode, objectMapper, parameter.getClass());
+
+        assertThat(restored).isInstanceOf(CompositeInput.class).isEqualTo(parameter);
+        assertThat(objectMapper.writeValueAsString(restored)).isEqualTo(json);
+    }
+
+    @Test
+    void shouldStoreNestedValuesInPlace() throws IOException {
+        Input<?> parameter = Input.of(Input.of(createStudent(4)), Input.of(createStudent(5)));
+        StringWriter writer = new StringWriter();
+
+        try (JsonGenerator generator = objectMapper.createGenerator(writer)) {
+            generator.writeStartArray();
+            IOBase.storeValue(parameter, generator, null);
+            IOBase.storeValue(parameter, generator, objectMapper.getSerializerProviderInstance());
+            generator.writeEndArray();
+        }
+
+        TreeNode stored = objectMapper.readTree(writer.toString());
+        TreeNode expected = objectMapper.readTree(objectMapper.writeValueAsString(parameter));
+        assertThat(stored.size()).isEqualTo(2);
+        assertThat(stored.get(0)).isEqualTo(expected);
+        assertThat(stored.get(1)).isEqualTo(expected);
+    }
+
     // private methods
     private static StudentPayload createStudent(long id) {
         return StudentPayload.builder()
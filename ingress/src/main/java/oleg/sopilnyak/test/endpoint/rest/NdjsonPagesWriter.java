@@ -0,0 +1,77 @@
+package oleg.sopilnyak.test.endpoint.rest;
+
+import static java.util.Objects.isNull;
+
+import oleg.sopilnyak.test.school.common.model.BaseType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utility: Streaming writer of the collection as NDJSON (one JSON document per line)<BR/>
+ * The collection is read by keyset pages (the cursor is system-id of the last read item),
+ * every page is mapped, written and flushed before the next one is read,
+ * so no more than one page of the collection is kept in the memory regardless of the collection's size
+ *
+ * @param <T> the type of the collection's item
+ * @see RequestMappingRoot#NDJSON_MEDIA_TYPE
+ */
+@Slf4j
+public class NdjsonPagesWriter<T extends BaseType> {
+    // the quantity of the items read by one page
+    public static final int PAGE_SIZE = 200;
+    private static final byte LINES_SEPARATOR = '\n';
+    private static final ObjectMapper LINES_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(SerializationFeature.INDENT_OUTPUT)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    // the reader of the page by the cursor and page size
+    private final BiFunction<Long, Integer, List<T>> pageReader;
+    // the mapper of the item to the line's document
+    private final Function<T, ?> toLine;
+
+    public NdjsonPagesWriter(final BiFunction<Long, Integer, List<T>> pageReader, final Function<T, ?> toLine) {
+        this.pageReader = pageReader;
+        this.toLine = toLine;
+    }
+
+    /**
+     * To write the whole collection page by page
+     *
+     * @param output the stream to write the lines to
+     * @return quantity of the written lines
+     * @throws IOException if output cannot be written
+     */
+    public long write(final OutputStream output) throws IOException {
+        long written = 0L;
+        Long afterId = null;
+        List<T> page;
+        do {
+            page = pageReader.apply(afterId, PAGE_SIZE);
+            for (final T item : page) {
+                final Object line = toLine.apply(item);
+                if (!isNull(line)) {
+                    output.write(LINES_MAPPER.writeValueAsBytes(line));
+                    output.write(LINES_SEPARATOR);
+                    written++;
+                }
+            }
+            // the page is sent to the client before the next one is read
+            output.flush();
+            if (!page.isEmpty()) {
+                afterId = page.getLast().getId();
+            }
+            log.debug("Written page of {} items, the last id: {}", page.size(), afterId);
+        } while (page.size() >= PAGE_SIZE);
+        return written;
+    }
+}
@@ -17,6 +17,17 @@ public final class RequestMappingRoot {
     public static final String PRINCIPAL_PROFILES = PROFILES + PRINCIPALS;
     public static final String FACULTIES = "/faculties";
     public static final String STUDENT_GROUPS = "/student-groups";
+    // bulk load of the rows (NDJSON or CSV)
+    public static final String BULK = "/bulk";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    // keyset pagination (the cursor is the system-id of the last item of the previous page)
+    public static final String PAGE = "/page";
+    public static final String PAGE_AFTER = "after";
+    public static final String PAGE_LIMIT = "limit";
+    public static final String PAGE_LIMIT_DEFAULT = "50";
+    // count-only query (the quantity of the items without loading of them)
+    public static final String COUNT = "/count";
 
     private RequestMappingRoot() {
     }
@@ -14,10 +14,9 @@ import lombok.extern.slf4j.Slf4j;
 import oleg.sopilnyak.test.endpoint.aspect.AdviseDelegate;
 import oleg.sopilnyak.test.school.common.business.facade.ActionContext;
 import oleg.sopilnyak.test.school.common.business.facade.BusinessFacade;
+import oleg.sopilnyak.test.school.common.utility.InstanceUnwrapper;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.Signature;
-import org.mockito.Mockito;
-import org.mockito.internal.util.MockUtil;
 import org.springframework.stereotype.Component;
 
 
@@ -85,15 +84,12 @@ public class ActionContextAdviseDelegate implements AdviseDelegate {
     // private methods
     private static Object getRestControllerInstance(final JoinPoint joinPoint) {
         final Object target = joinPoint.getTarget();
-        if (MockUtil.isSpy(target)) {
-            log.warn("Target controller is spy.");
+        final InstanceUnwrapper unwrapper = InstanceUnwrapper.current();
+        if (unwrapper.isTestDouble(target)) {
+            log.warn("Target controller is test double.");
             // if target is spy, we can retrieve genuine instance from it
-            // this is useful for Mockito spy, which is not a mock, but a real object
-            return Mockito.mockingDetails(target).getMockCreationSettings().getSpiedInstance();
-        } else if (MockUtil.isMock(target)) {
-            log.warn("Target controller is mock.");
             // if target is mock, we cannot retrieve genuine instance from it
-            return null;
+            return unwrapper.genuine(target);
         } else {
             log.debug("Returning genuine target controller instance: {}", target);
             // this is real controller instance, not mock or spy
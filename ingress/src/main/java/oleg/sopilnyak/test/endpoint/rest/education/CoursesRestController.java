@@ -2,6 +2,7 @@ package oleg.sopilnyak.test.endpoint.rest.education;
 
 import static java.util.Objects.isNull;
 
+import java.io.InputStream;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -12,15 +13,19 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import oleg.sopilnyak.test.endpoint.dto.CourseDto;
 import oleg.sopilnyak.test.endpoint.mapper.EndpointMapper;
+import oleg.sopilnyak.test.endpoint.rest.NdjsonPagesWriter;
 import oleg.sopilnyak.test.endpoint.rest.RequestMappingRoot;
 import oleg.sopilnyak.test.school.common.business.facade.education.CoursesFacade;
 import oleg.sopilnyak.test.school.common.exception.core.CannotProcessActionException;
 import oleg.sopilnyak.test.school.common.exception.education.CourseNotFoundException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentNotFoundException;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
 import oleg.sopilnyak.test.school.common.model.education.Course;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.mapstruct.factory.Mappers;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -29,7 +34,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -91,6 +98,52 @@ public class CoursesRestController {
         }
     }
 
+    @PreAuthorize("hasAuthority('EDU_LIST') and hasAuthority('EDU_GET')")
+    @GetMapping(value = "/empty", produces = RequestMappingRoot.NDJSON_MEDIA_TYPE)
+    public void streamEmptyCourses(HttpServletResponse response) {
+        log.debug("Trying to stream empty courses");
+        try {
+            // the lines are written page by page in the request's thread, ordered by id
+            response.setContentType(RequestMappingRoot.NDJSON_MEDIA_TYPE);
+            final long streamed = new NdjsonPagesWriter<Course>(
+                    (after, limit) -> facade.doActionAndResult(CoursesFacade.FIND_NOT_REGISTERED_PAGE, after, limit), mapper::toDto
+            ).write(response.getOutputStream());
+            log.debug("Streamed {} empty courses", streamed);
+        } catch (Exception e) {
+            log.error("Cannot stream empty courses", e);
+            throw new CannotProcessActionException("Cannot stream empty courses", e);
+        }
+    }
+
+    @PreAuthorize("hasAuthority('EDU_LIST') and hasAuthority('EDU_GET')")
+    @GetMapping("/empty" + RequestMappingRoot.PAGE)
+    public List<CourseDto> findPage(
+            @RequestParam(name = RequestMappingRoot.PAGE_AFTER, required = false) Long after,
+            @RequestParam(name = RequestMappingRoot.PAGE_LIMIT, defaultValue = RequestMappingRoot.PAGE_LIMIT_DEFAULT) int limit
+    ) {
+        log.debug("Trying to get the page of {} empty courses after id: {}", limit, after);
+        try {
+            // the page is ordered by id, so the id of the last item is the cursor of the next page
+            return facade.<List<Course>>doActionAndResult(CoursesFacade.FIND_NOT_REGISTERED_PAGE, after, limit).stream()
+                    .map(mapper::toDto).filter(Objects::nonNull).toList();
+        } catch (Exception e) {
+            log.error("Cannot get the page of empty courses after id: {}", after, e);
+            throw new CannotProcessActionException("Cannot get the page of empty courses", e);
+        }
+    }
+
+    @PreAuthorize("hasAuthority('EDU_LIST') and hasAuthority('EDU_GET')")
+    @GetMapping("/empty" + RequestMappingRoot.COUNT)
+    public long countEmptyCourses() {
+        log.debug("Trying to count empty courses");
+        try {
+            return facade.<Long>doActionAndResult(CoursesFacade.COUNT_NOT_REGISTERED);
+        } catch (Exception e) {
+            log.error("Cannot count empty courses", e);
+            throw new CannotProcessActionException("Cannot count empty courses", e);
+        }
+    }
+
     @PreAuthorize("hasAuthority('EDU_CREATE') and hasAuthority('EDU_GET')")
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -140,6 +193,25 @@ public class CoursesRestController {
         }
     }
 
+    @PreAuthorize("hasAuthority('EDU_CREATE')")
+    @PostMapping(
+            value = RequestMappingRoot.BULK,
+            consumes = {RequestMappingRoot.NDJSON_MEDIA_TYPE, RequestMappingRoot.CSV_MEDIA_TYPE}
+    )
+    public BulkLoadReport loadCourses(
+            InputStream rows, @RequestHeader(HttpHeaders.CONTENT_TYPE) String mediaType
+    ) {
+        log.debug("Trying to load courses from the stream of '{}'", mediaType);
+        try {
+            final BulkLoadReport report = facade.doActionAndResult(CoursesFacade.LOAD_ALL, rows, mediaType);
+            log.debug("Loaded {} of {} courses", report.loaded(), report.rows());
+            return report;
+        } catch (Exception e) {
+            log.error("Cannot load courses from the stream", e);
+            throw new CannotProcessActionException("Cannot load courses", e);
+        }
+    }
+
     // private methods
     private List<CourseDto> resultToDto(Set<Course> registeredFor) {
         return registeredFor.stream().map(mapper::toDto)
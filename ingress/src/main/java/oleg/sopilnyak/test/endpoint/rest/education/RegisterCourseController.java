@@ -11,15 +11,20 @@ import oleg.sopilnyak.test.school.common.exception.education.CourseHasNoRoomExce
 import oleg.sopilnyak.test.school.common.exception.education.CourseNotFoundException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentCoursesExceedException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentNotFoundException;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 
+import java.io.InputStream;
 import java.util.Optional;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -82,6 +87,25 @@ public class RegisterCourseController {
         }
     }
 
+    @PreAuthorize("hasAuthority('EDU_UPDATE')")
+    @PostMapping(
+            value = RequestMappingRoot.BULK,
+            consumes = {RequestMappingRoot.NDJSON_MEDIA_TYPE, RequestMappingRoot.CSV_MEDIA_TYPE}
+    )
+    public BulkLoadReport registerAll(
+            InputStream rows, @RequestHeader(HttpHeaders.CONTENT_TYPE) String mediaType
+    ) {
+        log.debug("Trying to load registrations from the stream of '{}'", mediaType);
+        try {
+            final BulkLoadReport report = coursesFacade.doActionAndResult(CoursesFacade.REGISTER_ALL, rows, mediaType);
+            log.debug("Loaded {} of {} registrations", report.loaded(), report.rows());
+            return report;
+        } catch (Exception e) {
+            log.error("Cannot load registrations from the stream", e);
+            throw new CannotProcessActionException("Cannot load registrations", e);
+        }
+    }
+
     // private methods
     private static Student restoreEntity(final String strId, final StudentsFacade owner) {
         try {
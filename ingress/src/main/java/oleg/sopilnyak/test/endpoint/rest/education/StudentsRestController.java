@@ -2,6 +2,7 @@ package oleg.sopilnyak.test.endpoint.rest.education;
 
 import static java.util.Objects.isNull;
 
+import java.io.InputStream;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -12,15 +13,19 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import oleg.sopilnyak.test.endpoint.dto.StudentDto;
 import oleg.sopilnyak.test.endpoint.mapper.EndpointMapper;
+import oleg.sopilnyak.test.endpoint.rest.NdjsonPagesWriter;
 import oleg.sopilnyak.test.endpoint.rest.RequestMappingRoot;
 import oleg.sopilnyak.test.school.common.business.facade.education.StudentsFacade;
 import oleg.sopilnyak.test.school.common.exception.core.CannotProcessActionException;
 import oleg.sopilnyak.test.school.common.exception.education.CourseNotFoundException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentNotFoundException;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.mapstruct.factory.Mappers;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -29,7 +34,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -93,6 +100,52 @@ public class StudentsRestController {
         }
     }
 
+    @PreAuthorize("hasAuthority('EDU_LIST') and hasAuthority('EDU_GET')")
+    @GetMapping(value = "/empty", produces = RequestMappingRoot.NDJSON_MEDIA_TYPE)
+    public void streamNotEnrolledStudents(HttpServletResponse response) {
+        log.debug("Trying to stream not enrolled students");
+        try {
+            // the lines are written page by page in the request's thread, ordered by id
+            response.setContentType(RequestMappingRoot.NDJSON_MEDIA_TYPE);
+            final long streamed = new NdjsonPagesWriter<Student>(
+                    (after, limit) -> facade.doActionAndResult(StudentsFacade.FIND_NOT_ENROLLED_PAGE, after, limit), mapper::toDto
+            ).write(response.getOutputStream());
+            log.debug("Streamed {} not enrolled students", streamed);
+        } catch (Exception e) {
+            log.error("Cannot stream not enrolled students", e);
+            throw new CannotProcessActionException("Cannot stream not enrolled students", e);
+        }
+    }
+
+    @PreAuthorize("hasAuthority('EDU_LIST') and hasAuthority('EDU_GET')")
+    @GetMapping("/empty" + RequestMappingRoot.PAGE)
+    public List<StudentDto> findPage(
+            @RequestParam(name = RequestMappingRoot.PAGE_AFTER, required = false) Long after,
+            @RequestParam(name = RequestMappingRoot.PAGE_LIMIT, defaultValue = RequestMappingRoot.PAGE_LIMIT_DEFAULT) int limit
+    ) {
+        log.debug("Trying to get the page of {} not enrolled students after id: {}", limit, after);
+        try {
+            // the page is ordered by id, so the id of the last item is the cursor of the next page
+            return facade.<List<Student>>doActionAndResult(StudentsFacade.FIND_NOT_ENROLLED_PAGE, after, limit).stream()
+                    .map(mapper::toDto).filter(Objects::nonNull).toList();
+        } catch (Exception e) {
+            log.error("Cannot get the page of not enrolled students after id: {}", after, e);
+            throw new CannotProcessActionException("Cannot get the page of not enrolled students", e);
+        }
+    }
+
+    @PreAuthorize("hasAuthority('EDU_LIST') and hasAuthority('EDU_GET')")
+    @GetMapping("/empty" + RequestMappingRoot.COUNT)
+    public long countNotEnrolledStudents() {
+        log.debug("Trying to count not enrolled students");
+        try {
+            return facade.<Long>doActionAndResult(StudentsFacade.COUNT_NOT_ENROLLED);
+        } catch (Exception e) {
+            log.error("Cannot count not enrolled students", e);
+            throw new CannotProcessActionException("Cannot count not enrolled students", e);
+        }
+    }
+
     @PreAuthorize("hasAuthority('EDU_CREATE') and hasAuthority('EDU_GET')")
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -138,6 +191,25 @@ public class StudentsRestController {
         }
     }
 
+    @PreAuthorize("hasAuthority('EDU_CREATE')")
+    @PostMapping(
+            value = RequestMappingRoot.BULK,
+            consumes = {RequestMappingRoot.NDJSON_MEDIA_TYPE, RequestMappingRoot.CSV_MEDIA_TYPE}
+    )
+    public BulkLoadReport loadStudents(
+            InputStream rows, @RequestHeader(HttpHeaders.CONTENT_TYPE) String mediaType
+    ) {
+        log.debug("Trying to load students from the stream of '{}'", mediaType);
+        try {
+            final BulkLoadReport report = facade.doActionAndResult(StudentsFacade.LOAD_ALL, rows, mediaType);
+            log.debug("Loaded {} of {} students", report.loaded(), report.rows());
+            return report;
+        } catch (Exception e) {
+            log.error("Cannot load students from the stream", e);
+            throw new CannotProcessActionException("Cannot load students", e);
+        }
+    }
+
     // private methods
     private StudentDto resultToDto(Optional<Student> student) {
         log.debug("Converting {} to DTO", student);
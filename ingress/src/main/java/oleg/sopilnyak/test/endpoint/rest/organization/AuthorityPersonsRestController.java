@@ -9,6 +9,7 @@ import static oleg.sopilnyak.test.school.common.business.facade.organization.Aut
 
 import oleg.sopilnyak.test.endpoint.dto.AuthorityPersonDto;
 import oleg.sopilnyak.test.endpoint.mapper.EndpointMapper;
+import oleg.sopilnyak.test.endpoint.rest.NdjsonPagesWriter;
 import oleg.sopilnyak.test.endpoint.rest.RequestMappingRoot;
 import oleg.sopilnyak.test.school.common.business.facade.organization.AuthorityPersonFacade;
 import oleg.sopilnyak.test.school.common.exception.core.CannotProcessActionException;
@@ -16,6 +17,7 @@ import oleg.sopilnyak.test.school.common.exception.organization.AuthorityPersonN
 import oleg.sopilnyak.test.school.common.model.authentication.Role;
 import oleg.sopilnyak.test.school.common.model.organization.AuthorityPerson;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.util.Collection;
 import java.util.Comparator;
@@ -63,6 +65,40 @@ public class AuthorityPersonsRestController {
         }
     }
 
+    @PreAuthorize("hasAuthority('ORG_LIST') and hasAuthority('ORG_GET')")
+    @GetMapping(produces = RequestMappingRoot.NDJSON_MEDIA_TYPE)
+    public void streamAll(HttpServletResponse response) {
+        log.debug("Trying to stream school's authorities");
+        try {
+            // the lines are written page by page in the request's thread, ordered by id
+            response.setContentType(RequestMappingRoot.NDJSON_MEDIA_TYPE);
+            final long streamed = new NdjsonPagesWriter<AuthorityPerson>(
+                    (after, limit) -> facade.doActionAndResult(AuthorityPersonFacade.FIND_PAGE, after, limit), mapper::toDto
+            ).write(response.getOutputStream());
+            log.debug("Streamed {} school's authorities", streamed);
+        } catch (Exception e) {
+            log.error("Cannot stream school's authorities", e);
+            throw new CannotProcessActionException("Cannot stream school's authorities", e);
+        }
+    }
+
+    @PreAuthorize("hasAuthority('ORG_LIST') and hasAuthority('ORG_GET')")
+    @GetMapping(RequestMappingRoot.PAGE)
+    public List<AuthorityPersonDto> findPage(
+            @RequestParam(name = RequestMappingRoot.PAGE_AFTER, required = false) Long after,
+            @RequestParam(name = RequestMappingRoot.PAGE_LIMIT, defaultValue = RequestMappingRoot.PAGE_LIMIT_DEFAULT) int limit
+    ) {
+        log.debug("Trying to get the page of {} school's authorities after id: {}", limit, after);
+        try {
+            // the page is ordered by id, so the id of the last item is the cursor of the next page
+            return facade.<List<AuthorityPerson>>doActionAndResult(AuthorityPersonFacade.FIND_PAGE, after, limit).stream()
+                    .map(mapper::toDto).filter(Objects::nonNull).toList();
+        } catch (Exception e) {
+            log.error("Cannot get the page of school's authorities after id: {}", after, e);
+            throw new CannotProcessActionException("Cannot get the page of school's authorities", e);
+        }
+    }
+
     @GetMapping("/{" + VAR_NAME + "}")
     @PreAuthorize("hasAuthority('ORG_LIST') and hasAuthority('ORG_GET')")
     public AuthorityPersonDto findById(@PathVariable String personId) {
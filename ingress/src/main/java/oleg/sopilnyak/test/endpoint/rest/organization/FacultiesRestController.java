@@ -12,6 +12,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import oleg.sopilnyak.test.endpoint.dto.FacultyDto;
 import oleg.sopilnyak.test.endpoint.mapper.EndpointMapper;
+import oleg.sopilnyak.test.endpoint.rest.NdjsonPagesWriter;
 import oleg.sopilnyak.test.endpoint.rest.RequestMappingRoot;
 import oleg.sopilnyak.test.school.common.business.facade.organization.FacultyFacade;
 import oleg.sopilnyak.test.school.common.exception.core.CannotProcessActionException;
@@ -19,6 +20,7 @@ import oleg.sopilnyak.test.school.common.exception.education.CourseNotFoundExcep
 import oleg.sopilnyak.test.school.common.exception.organization.FacultyNotFoundException;
 import oleg.sopilnyak.test.school.common.model.organization.Faculty;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.mapstruct.factory.Mappers;
 import org.springframework.http.HttpStatus;
@@ -30,6 +32,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -58,6 +61,40 @@ public class FacultiesRestController {
         }
     }
 
+    @PreAuthorize("hasAuthority('ORG_LIST') and hasAuthority('ORG_GET')")
+    @GetMapping(produces = RequestMappingRoot.NDJSON_MEDIA_TYPE)
+    public void streamAll(HttpServletResponse response) {
+        log.debug("Trying to stream school's faculties");
+        try {
+            // the lines are written page by page in the request's thread, ordered by id
+            response.setContentType(RequestMappingRoot.NDJSON_MEDIA_TYPE);
+            final long streamed = new NdjsonPagesWriter<Faculty>(
+                    (after, limit) -> facade.doActionAndResult(FacultyFacade.FIND_PAGE, after, limit), mapper::toDto
+            ).write(response.getOutputStream());
+            log.debug("Streamed {} school's faculties", streamed);
+        } catch (Exception e) {
+            log.error("Cannot stream school's faculties", e);
+            throw new CannotProcessActionException("Cannot stream school's faculties", e);
+        }
+    }
+
+    @PreAuthorize("hasAuthority('ORG_LIST') and hasAuthority('ORG_GET')")
+    @GetMapping(RequestMappingRoot.PAGE)
+    public List<FacultyDto> findPage(
+            @RequestParam(name = RequestMappingRoot.PAGE_AFTER, required = false) Long after,
+            @RequestParam(name = RequestMappingRoot.PAGE_LIMIT, defaultValue = RequestMappingRoot.PAGE_LIMIT_DEFAULT) int limit
+    ) {
+        log.debug("Trying to get the page of {} school's faculties after id: {}", limit, after);
+        try {
+            // the page is ordered by id, so the id of the last item is the cursor of the next page
+            return facade.<List<Faculty>>doActionAndResult(FacultyFacade.FIND_PAGE, after, limit).stream()
+                    .map(mapper::toDto).filter(Objects::nonNull).toList();
+        } catch (Exception e) {
+            log.error("Cannot get the page of school's faculties after id: {}", after, e);
+            throw new CannotProcessActionException("Cannot get the page of school's faculties", e);
+        }
+    }
+
     @PreAuthorize("hasAuthority('ORG_LIST') and hasAuthority('ORG_GET')")
     @GetMapping("/{" + VAR_NAME + "}")
     public FacultyDto findById(@PathVariable String facultyId) {
@@ -12,12 +12,14 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import oleg.sopilnyak.test.endpoint.dto.StudentsGroupDto;
 import oleg.sopilnyak.test.endpoint.mapper.EndpointMapper;
+import oleg.sopilnyak.test.endpoint.rest.NdjsonPagesWriter;
 import oleg.sopilnyak.test.endpoint.rest.RequestMappingRoot;
 import oleg.sopilnyak.test.school.common.business.facade.organization.StudentsGroupFacade;
 import oleg.sopilnyak.test.school.common.exception.core.CannotProcessActionException;
 import oleg.sopilnyak.test.school.common.exception.organization.StudentsGroupNotFoundException;
 import oleg.sopilnyak.test.school.common.model.organization.StudentsGroup;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.mapstruct.factory.Mappers;
 import org.springframework.http.HttpStatus;
@@ -29,6 +31,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -57,6 +60,40 @@ public class StudentsGroupsRestController {
         }
     }
 
+    @PreAuthorize("hasAuthority('ORG_LIST') and hasAuthority('ORG_GET')")
+    @GetMapping(produces = RequestMappingRoot.NDJSON_MEDIA_TYPE)
+    public void streamAll(HttpServletResponse response) {
+        log.debug("Trying to stream school's students groups");
+        try {
+            // the lines are written page by page in the request's thread, ordered by id
+            response.setContentType(RequestMappingRoot.NDJSON_MEDIA_TYPE);
+            final long streamed = new NdjsonPagesWriter<StudentsGroup>(
+                    (after, limit) -> facade.doActionAndResult(StudentsGroupFacade.FIND_PAGE, after, limit), mapper::toDto
+            ).write(response.getOutputStream());
+            log.debug("Streamed {} school's students groups", streamed);
+        } catch (Exception e) {
+            log.error("Cannot stream school's students groups", e);
+            throw new CannotProcessActionException("Cannot stream school's students groups", e);
+        }
+    }
+
+    @PreAuthorize("hasAuthority('ORG_LIST') and hasAuthority('ORG_GET')")
+    @GetMapping(RequestMappingRoot.PAGE)
+    public List<StudentsGroupDto> findPage(
+            @RequestParam(name = RequestMappingRoot.PAGE_AFTER, required = false) Long after,
+            @RequestParam(name = RequestMappingRoot.PAGE_LIMIT, defaultValue = RequestMappingRoot.PAGE_LIMIT_DEFAULT) int limit
+    ) {
+        log.debug("Trying to get the page of {} school's students groups after id: {}", limit, after);
+        try {
+            // the page is ordered by id, so the id of the last item is the cursor of the next page
+            return facade.<List<StudentsGroup>>doActionAndResult(StudentsGroupFacade.FIND_PAGE, after, limit).stream()
+                    .map(mapper::toDto).filter(Objects::nonNull).toList();
+        } catch (Exception e) {
+            log.error("Cannot get the page of school's students groups after id: {}", after, e);
+            throw new CannotProcessActionException("Cannot get the page of school's students groups", e);
+        }
+    }
+
     @PreAuthorize("hasAuthority('ORG_LIST') and hasAuthority('ORG_GET')")
     @GetMapping("/{" + VAR_NAME + "}")
     public StudentsGroupDto findById(@PathVariable String groupId) {
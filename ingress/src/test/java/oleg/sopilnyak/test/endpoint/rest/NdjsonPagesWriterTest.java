@@ -0,0 +1,81 @@
+package oleg.sopilnyak.test.endpoint.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import oleg.sopilnyak.test.endpoint.dto.FacultyDto;
+import oleg.sopilnyak.test.endpoint.mapper.EndpointMapper;
+import oleg.sopilnyak.test.school.common.model.organization.Faculty;
+import oleg.sopilnyak.test.school.common.test.TestModelFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class NdjsonPagesWriterTest extends TestModelFactory {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private final EndpointMapper mapper = Mappers.getMapper(EndpointMapper.class);
+    private final List<Long> cursors = new ArrayList<>();
+
+    @Test
+    void shouldWriteCollectionPageByPage() throws IOException {
+        int facultiesAmount = NdjsonPagesWriter.PAGE_SIZE * 2 + 3;
+        List<Faculty> faculties = IntStream.rangeClosed(1, facultiesAmount).mapToObj(this::makeFaculty).toList();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = new NdjsonPagesWriter<Faculty>((after, limit) -> page(faculties, after, limit), mapper::toDto)
+                .write(output);
+
+        assertThat(written).isEqualTo(facultiesAmount);
+        // first page has no cursor, the next pages are read after the last written item
+        assertThat(cursors).containsExactly(null, faculties.get(199).getId(), faculties.get(399).getId());
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(facultiesAmount);
+        for (int i = 0; i < lines.length; i++) {
+            FacultyDto faculty = MAPPER.readValue(lines[i], FacultyDto.class);
+            assertThat(faculty.getId()).isEqualTo(faculties.get(i).getId());
+            assertThat(faculty.getName()).isEqualTo(faculties.get(i).getName());
+        }
+    }
+
+    @Test
+    void shouldWriteNothingForEmptyCollection() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = new NdjsonPagesWriter<Faculty>((after, limit) -> page(List.of(), after, limit), mapper::toDto)
+                .write(output);
+
+        assertThat(written).isZero();
+        assertThat(output.size()).isZero();
+        assertThat(cursors).hasSize(1);
+    }
+
+    @Test
+    void shouldNotWriteCollection_OutputFails() {
+        List<Faculty> faculties = List.of(makeFaculty(1));
+        OutputStream output = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection is closed");
+            }
+        };
+        NdjsonPagesWriter<Faculty> writer = new NdjsonPagesWriter<>((after, limit) -> page(faculties, after, limit), mapper::toDto);
+
+        var exception = assertThrows(IOException.class, () -> writer.write(output));
+
+        assertThat(exception.getMessage()).isEqualTo("Connection is closed");
+    }
+
+    // private methods
+    private List<Faculty> page(List<Faculty> faculties, Long after, int limit) {
+        cursors.add(after);
+        return faculties.stream().filter(faculty -> after == null || faculty.getId() > after).limit(limit).toList();
+    }
+}
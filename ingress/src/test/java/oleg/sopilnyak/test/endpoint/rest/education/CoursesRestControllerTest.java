@@ -61,6 +61,7 @@ class CoursesRestControllerTest extends TestModelFactory {
     private static final String COURSE_FIND_BY_ID = "school::education::courses:find.By.Id";
     private static final String COURSE_FIND_REGISTERED = "school::education::courses:find.Registered.To.The.Student";
     private static final String COURSE_FIND_NOT_REGISTERED = "school::education::courses:find.Without.Any.Student";
+    private static final String COURSE_COUNT_NOT_REGISTERED = "school::education::courses:count.Without.Any.Student";
     private static final String COURSE_CREATE_OR_UPDATE = "school::education::courses:create.Or.Update";
     private static final String COURSE_DELETE = "school::education::courses:delete";
 
@@ -177,6 +178,30 @@ class CoursesRestControllerTest extends TestModelFactory {
         checkControllerAspect();
     }
 
+    @Test
+    @WithMockUser(authorities = {"EDU_LIST", "EDU_GET"})
+    void shouldCountEmptyCourses() throws Exception {
+        long coursesAmount = 7L;
+        doReturn(coursesAmount).when(persistenceFacade).countCoursesWithoutStudents();
+        String requestPath = "/courses/empty/count";
+
+        MvcResult result =
+                mockMvc.perform(
+                                MockMvcRequestBuilders.get(requestPath)
+                                        .contentType(APPLICATION_JSON)
+                        )
+                        .andExpect(status().isOk())
+                        .andDo(print())
+                        .andReturn();
+
+        verify(controller).countEmptyCourses();
+        verify(facade).doActionAndResult(COURSE_COUNT_NOT_REGISTERED);
+        verify(persistenceFacade).countCoursesWithoutStudents();
+        verify(persistenceFacade, never()).findCoursesWithoutStudents();
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(String.valueOf(coursesAmount));
+        checkControllerAspect();
+    }
+
     @Test
     @WithMockUser(authorities = {"EDU_CREATE", "EDU_GET"})
     void shouldCreateCourse() throws Exception {
@@ -19,17 +19,22 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import oleg.sopilnyak.test.endpoint.aspect.AdviseDelegate;
 import oleg.sopilnyak.test.endpoint.configuration.EndpointConfiguration;
 import oleg.sopilnyak.test.endpoint.dto.StudentDto;
+import oleg.sopilnyak.test.endpoint.rest.NdjsonPagesWriter;
+import oleg.sopilnyak.test.endpoint.rest.RequestMappingRoot;
 import oleg.sopilnyak.test.endpoint.rest.exceptions.ActionErrorMessage;
 import oleg.sopilnyak.test.endpoint.rest.exceptions.RestResponseEntityExceptionHandler;
 import oleg.sopilnyak.test.school.common.business.facade.education.StudentsFacade;
 import oleg.sopilnyak.test.school.common.exception.education.StudentNotFoundException;
 import oleg.sopilnyak.test.school.common.exception.education.StudentWithCoursesException;
+import oleg.sopilnyak.test.school.common.model.education.BulkLoadReport;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 import oleg.sopilnyak.test.school.common.persistence.PersistenceFacade;
 import oleg.sopilnyak.test.school.common.test.TestModelFactory;
 import oleg.sopilnyak.test.service.configuration.BusinessLogicConfiguration;
 import oleg.sopilnyak.test.service.message.payload.StudentProfilePayload;
 
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -54,6 +59,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.servlet.http.HttpServletResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(SpringExtension.class)
@@ -63,9 +69,12 @@ class StudentsRestControllerTest extends TestModelFactory {
     private static final String STUDENT_FIND_BY_ID = "school::education::students:find.By.Id";
     private static final String STUDENT_FIND_ENROLLED_TO = "school::education::students:find.Enrolled.To.The.Course";
     private static final String STUDENT_FIND_NOT_ENROLLED = "school::education::students:find.Not.Enrolled.To.Any.Course";
+    private static final String STUDENT_FIND_NOT_ENROLLED_PAGE = "school::education::students:find.Not.Enrolled.To.Any.Course.Page";
+    private static final String STUDENT_COUNT_NOT_ENROLLED = "school::education::students:count.Not.Enrolled.To.Any.Course";
     private static final String STUDENT_CREATE_OR_UPDATE = "school::education::students:create.Or.Update";
     private static final String STUDENT_CREATE_NEW = "school::education::students:create.Macro";
     private static final String STUDENT_DELETE_ALL = "school::education::students:delete.Macro";
+    private static final String STUDENT_LOAD_ALL = "school::education::students:load.All";
 
     private static final ObjectMapper MAPPER = new ObjectMapper();
     private static final String ROOT = "/students";
@@ -181,6 +190,62 @@ class StudentsRestControllerTest extends TestModelFactory {
         checkControllerAspect();
     }
 
+    @Test
+    @WithMockUser(authorities = {"EDU_LIST", "EDU_GET"})
+    void shouldCountStudentsWithEmptyCourses() throws Exception {
+        long studentsAmount = 11L;
+        doReturn(studentsAmount).when(persistenceFacade).countNotEnrolledStudents();
+        String requestPath = ROOT + "/empty/count";
+
+        MvcResult result =
+                mockMvc.perform(
+                                MockMvcRequestBuilders.get(requestPath)
+                                        .contentType(APPLICATION_JSON)
+                        )
+                        .andExpect(status().isOk())
+                        .andDo(print())
+                        .andReturn();
+
+        verify(controller).countNotEnrolledStudents();
+        verify(facade).doActionAndResult(STUDENT_COUNT_NOT_ENROLLED);
+        verify(persistenceFacade).countNotEnrolledStudents();
+        verify(persistenceFacade, never()).findNotEnrolledStudents();
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(String.valueOf(studentsAmount));
+        checkControllerAspect();
+    }
+
+    @Test
+    @WithMockUser(authorities = {"EDU_LIST", "EDU_GET"})
+    void shouldStreamStudentsWithEmptyCourses() throws Exception {
+        long studentsAmount = 5L;
+        List<Student> students = LongStream.range(0, studentsAmount).mapToObj(this::makeTestStudent)
+                .sorted(Comparator.comparing(Student::getId)).toList();
+        doReturn(students).when(facade).doActionAndResult(STUDENT_FIND_NOT_ENROLLED_PAGE, null, NdjsonPagesWriter.PAGE_SIZE);
+        String requestPath = ROOT + "/empty";
+
+        MvcResult result =
+                mockMvc.perform(
+                                MockMvcRequestBuilders.get(requestPath)
+                                        .accept(RequestMappingRoot.NDJSON_MEDIA_TYPE)
+                        )
+                        .andExpect(status().isOk())
+                        .andDo(print())
+                        .andReturn();
+
+        verify(controller).streamNotEnrolledStudents(any(HttpServletResponse.class));
+        verify(controller, never()).findNotEnrolledStudents();
+        verify(facade).doActionAndResult(STUDENT_FIND_NOT_ENROLLED_PAGE, null, NdjsonPagesWriter.PAGE_SIZE);
+        assertThat(result.getResponse().getContentType()).startsWith(RequestMappingRoot.NDJSON_MEDIA_TYPE);
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize((int) studentsAmount);
+        List<Student> receivedStudentsList = new ArrayList<>();
+        for (String line : lines) {
+            receivedStudentsList.add(MAPPER.readValue(line, StudentDto.class));
+        }
+        assertStudentLists(students, receivedStudentsList);
+        checkControllerAspect();
+    }
+
     @Test
     @WithMockUser(authorities = {"EDU_CREATE", "EDU_GET"})
     void shouldCreateStudent() throws Exception {
@@ -247,6 +312,30 @@ class StudentsRestControllerTest extends TestModelFactory {
         verify(controller, never()).createStudent(any(StudentDto.class));
     }
 
+    @Test
+    @WithMockUser(authorities = {"EDU_CREATE"})
+    void shouldLoadStudents() throws Exception {
+        String rows = "firstName,lastName,gender\nJohn,Doe,Mr\n,Smith,Mr\n";
+        BulkLoadReport report = new BulkLoadReport(2, 1, List.of(new BulkLoadReport.RowError(3, "First name cannot be blank")));
+        doReturn(report).when(facade).doActionAndResult(eq(STUDENT_LOAD_ALL), any(InputStream.class), anyString());
+
+        MvcResult result =
+                mockMvc.perform(
+                                MockMvcRequestBuilders.post(ROOT + "/bulk")
+                                        .content(rows)
+                                        .contentType("text/csv")
+                        )
+                        .andExpect(status().isOk())
+                        .andDo(print())
+                        .andReturn();
+
+        verify(controller).loadStudents(any(InputStream.class), eq("text/csv"));
+        verify(facade).doActionAndResult(eq(STUDENT_LOAD_ALL), any(InputStream.class), eq("text/csv"));
+        String responseString = result.getResponse().getContentAsString();
+        assertThat(MAPPER.readValue(responseString, BulkLoadReport.class)).isEqualTo(report);
+        checkControllerAspect();
+    }
+
     @Test
     @WithMockUser(authorities = {"EDU_UPDATE", "EDU_GET"})
     void shouldUpdateValidStudent() throws Exception {
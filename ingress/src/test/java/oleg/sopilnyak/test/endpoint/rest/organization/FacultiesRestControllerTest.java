@@ -56,6 +56,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @ContextConfiguration(classes = {EndpointConfiguration.class, BusinessLogicConfiguration.class})
 class FacultiesRestControllerTest extends TestModelFactory {
     private static final String FACULTIES_FIND_ALL = "school::organization::faculties:find.All";
+    private static final String FACULTIES_FIND_PAGE = "school::organization::faculties:find.Page";
     private static final String FACULTIES_FIND_BY_ID = "school::organization::faculties:find.By.Id";
     private static final String FACULTIES_CREATE_OR_UPDATE = "school::organization::faculties:create.Or.Update";
     private static final String FACULTIES_DELETE = "school::organization::faculties:delete";
@@ -113,6 +114,38 @@ class FacultiesRestControllerTest extends TestModelFactory {
         checkControllerAspect();
     }
 
+    @Test
+    @WithMockUser(authorities = {"ORG_LIST", "ORG_GET"})
+    void shouldFindFacultiesPage() throws Exception {
+        int personsAmount = 10;
+        long afterId = 400L;
+        List<Faculty> faculties = List.copyOf(makeFaculties(personsAmount));
+        doReturn(faculties).when(persistenceFacade).findFacultiesPage(afterId, personsAmount);
+
+        MvcResult result =
+                mockMvc.perform(
+                                MockMvcRequestBuilders.get(ROOT + "/page")
+                                        .param("after", String.valueOf(afterId))
+                                        .param("limit", String.valueOf(personsAmount))
+                                        .contentType(APPLICATION_JSON)
+                        )
+                        .andExpect(status().isOk())
+                        .andDo(print())
+                        .andReturn();
+
+        verify(controller).findPage(afterId, personsAmount);
+        verify(facade).doActionAndResult(FACULTIES_FIND_PAGE, afterId, personsAmount);
+        verify(persistenceFacade).findFacultiesPage(afterId, personsAmount);
+
+        List<FacultyDto> page = MAPPER.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+
+        assertThat(page).hasSize(personsAmount);
+        // the page is ordered by id
+        assertThat(page.stream().map(FacultyDto::getId).toList()).isSorted().allMatch(id -> id > afterId);
+        checkControllerAspect();
+    }
+
     @Test
     @WithMockUser(authorities = {"ORG_LIST", "ORG_GET"})
     void shouldFindFacultyById() throws Exception {
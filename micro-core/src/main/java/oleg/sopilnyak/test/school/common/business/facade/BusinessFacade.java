@@ -94,4 +94,40 @@ public interface BusinessFacade {
             throw new InvalidParameterTypeException("Long", parameters[0]);
         }
     }
+
+    /**
+     * To decode the cursor of the page (system-id of the last item of the previous page) from parameters array
+     *
+     * @param parameters input parameters (cursor in first position, null for the first page)
+     * @return cursor value (0 for the first page) or throws exception
+     * @see InvalidParameterTypeException
+     */
+    default Long decodePageCursorArgument(final Object... parameters) {
+        if (parameters == null || parameters.length < 2) {
+            throw new IllegalArgumentException("Wrong number of parameters");
+        }
+        return switch (parameters[0]) {
+            case null -> 0L;
+            case Long value -> value;
+            default -> throw new InvalidParameterTypeException("Long", parameters[0]);
+        };
+    }
+
+    /**
+     * To decode the size of the page from parameters array
+     *
+     * @param parameters input parameters (page size in second position)
+     * @return page size value or throws exception
+     * @see InvalidParameterTypeException
+     */
+    default Integer decodePageSizeArgument(final Object... parameters) {
+        if (parameters == null || parameters.length < 2) {
+            throw new IllegalArgumentException("Wrong number of parameters");
+        }
+        if (parameters[1] instanceof Integer value) {
+            return value;
+        } else {
+            throw new InvalidParameterTypeException("Integer", parameters[1]);
+        }
+    }
 }
@@ -17,14 +17,18 @@ public interface CoursesFacade extends EducationFacade {
     String FIND_BY_ID = NAMESPACE + SUBSPACE + ":find.By.Id";
     String FIND_REGISTERED = NAMESPACE + SUBSPACE + ":find.Registered.To.The.Student";
     String FIND_NOT_REGISTERED = NAMESPACE + SUBSPACE + ":find.Without.Any.Student";
+    String FIND_NOT_REGISTERED_PAGE = NAMESPACE + SUBSPACE + ":find.Without.Any.Student.Page";
+    String COUNT_NOT_REGISTERED = NAMESPACE + SUBSPACE + ":count.Without.Any.Student";
     String CREATE_OR_UPDATE = NAMESPACE + SUBSPACE + ":create.Or.Update";
     String DELETE = NAMESPACE + SUBSPACE + ":delete";
     String REGISTER = NAMESPACE + SUBSPACE + ":register";
     String UN_REGISTER = NAMESPACE + SUBSPACE + ":unregister";
+    String LOAD_ALL = NAMESPACE + SUBSPACE + ":load.All";
+    String REGISTER_ALL = NAMESPACE + SUBSPACE + ":register.All";
     //
     // the list of valid action-ids
     List<String> ACTION_IDS = List.of(
-            FIND_BY_ID, FIND_REGISTERED, FIND_NOT_REGISTERED, CREATE_OR_UPDATE, DELETE, REGISTER, UN_REGISTER
+            FIND_BY_ID, FIND_REGISTERED, FIND_NOT_REGISTERED, FIND_NOT_REGISTERED_PAGE, COUNT_NOT_REGISTERED, CREATE_OR_UPDATE, DELETE, REGISTER, UN_REGISTER, LOAD_ALL, REGISTER_ALL
     );
 
     /**
@@ -12,14 +12,17 @@ public interface StudentsFacade extends EducationFacade {
     String FIND_BY_ID = NAMESPACE + SUBSPACE + ":find.By.Id";
     String FIND_ENROLLED = NAMESPACE + SUBSPACE + ":find.Enrolled.To.The.Course";
     String FIND_NOT_ENROLLED = NAMESPACE + SUBSPACE + ":find.Not.Enrolled.To.Any.Course";
+    String FIND_NOT_ENROLLED_PAGE = NAMESPACE + SUBSPACE + ":find.Not.Enrolled.To.Any.Course.Page";
+    String COUNT_NOT_ENROLLED = NAMESPACE + SUBSPACE + ":count.Not.Enrolled.To.Any.Course";
     String CREATE_OR_UPDATE = NAMESPACE + SUBSPACE + ":create.Or.Update";
     String CREATE_MACRO = NAMESPACE + SUBSPACE + ":create.Macro";
     String DELETE = NAMESPACE + SUBSPACE + ":delete";
     String DELETE_MACRO = NAMESPACE + SUBSPACE + ":delete.Macro";
+    String LOAD_ALL = NAMESPACE + SUBSPACE + ":load.All";
     //
     // the list of valid action-ids
     List<String> ACTION_IDS = List.of(
-            FIND_BY_ID, FIND_ENROLLED, FIND_NOT_ENROLLED, CREATE_OR_UPDATE, CREATE_MACRO, DELETE, DELETE_MACRO
+            FIND_BY_ID, FIND_ENROLLED, FIND_NOT_ENROLLED, FIND_NOT_ENROLLED_PAGE, COUNT_NOT_ENROLLED, CREATE_OR_UPDATE, CREATE_MACRO, DELETE, DELETE_MACRO, LOAD_ALL
     );
 
     /**
@@ -18,6 +18,7 @@ public interface AuthorityPersonFacade extends OrganizationFacade {
     String LOGIN = NAMESPACE + SUBSPACE + ":login";
     String LOGOUT = NAMESPACE + SUBSPACE + ":logout";
     String FIND_ALL = NAMESPACE + SUBSPACE + ":find.All";
+    String FIND_PAGE = NAMESPACE + SUBSPACE + ":find.Page";
     String FIND_BY_ID = NAMESPACE + SUBSPACE + ":find.By.Id";
     String CREATE_OR_UPDATE = NAMESPACE + SUBSPACE + ":create.Or.Update";
     String CREATE_MACRO = NAMESPACE + SUBSPACE + ":create.Macro";
@@ -26,7 +27,7 @@ public interface AuthorityPersonFacade extends OrganizationFacade {
     //
     // the list of valid action-ids
     List<String> ACTION_IDS = List.of(
-            LOGIN, LOGOUT, FIND_ALL, FIND_BY_ID, CREATE_OR_UPDATE, CREATE_MACRO, DELETE, DELETE_MACRO
+            LOGIN, LOGOUT, FIND_ALL, FIND_PAGE, FIND_BY_ID, CREATE_OR_UPDATE, CREATE_MACRO, DELETE, DELETE_MACRO
     );
 
     /**
@@ -14,12 +14,13 @@ import java.util.List;
 public interface StudentsGroupFacade extends OrganizationFacade {
     String SUBSPACE = "::student::groups";
     String FIND_ALL = NAMESPACE + SUBSPACE + ":find.All";
+    String FIND_PAGE = NAMESPACE + SUBSPACE + ":find.Page";
     String FIND_BY_ID = NAMESPACE + SUBSPACE + ":find.By.Id";
     String CREATE_OR_UPDATE = NAMESPACE + SUBSPACE + ":create.Or.Update";
     String DELETE = NAMESPACE + SUBSPACE + ":delete";
     //
     // the list of valid action-ids
-    List<String> ACTION_IDS = List.of(FIND_ALL, FIND_BY_ID, CREATE_OR_UPDATE, DELETE);
+    List<String> ACTION_IDS = List.of(FIND_ALL, FIND_PAGE, FIND_BY_ID, CREATE_OR_UPDATE, DELETE);
 
     /**
      * To get the list of valid action-ids
@@ -0,0 +1,26 @@
+package oleg.sopilnyak.test.school.common.model.education;
+
+import java.util.List;
+
+/**
+ * Model: Report of the bulk load of the rows (students, courses or enrolments)<BR/>
+ * The rows which cannot be loaded are reported by the row-number, so the load isn't aborted by the wrong rows
+ *
+ * @param rows   the quantity of the processed rows
+ * @param loaded the quantity of the loaded rows
+ * @param errors the errors of the rows which are not loaded
+ */
+public record BulkLoadReport(long rows, long loaded, List<RowError> errors) {
+    public BulkLoadReport {
+        errors = errors == null ? List.of() : List.copyOf(errors);
+    }
+
+    /**
+     * Model: The error of the row which isn't loaded
+     *
+     * @param row     the number of the row
+     * @param message the reason why the row isn't loaded
+     */
+    public record RowError(long row, String message) {
+    }
+}
@@ -2,6 +2,8 @@ package oleg.sopilnyak.test.school.common.persistence.education;
 
 import oleg.sopilnyak.test.school.common.model.education.Course;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,6 +23,15 @@ public interface CoursesPersistenceFacade {
      */
     Optional<Course> findCourseById(Long id);
 
+    /**
+     * To find the courses by ids at once (by one query)
+     *
+     * @param ids system-ids of the courses
+     * @return found courses, the courses not existing are absent
+     * @see Course
+     */
+    List<Course> findCoursesByIds(Collection<Long> ids);
+
     /**
      * Create or update course
      *
@@ -32,6 +43,16 @@ public interface CoursesPersistenceFacade {
      */
     Optional<Course> save(Course course);
 
+    /**
+     * Create or update the courses at once (in one transaction)<BR/>
+     * The courses are flushed to the database before return
+     *
+     * @param courses course instances to store
+     * @return stored course instances
+     * @see Course
+     */
+    List<Course> saveAllCourses(List<Course> courses);
+
     /**
      * Delete course by id
      *
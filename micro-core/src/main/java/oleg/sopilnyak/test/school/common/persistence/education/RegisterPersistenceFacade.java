@@ -3,6 +3,7 @@ package oleg.sopilnyak.test.school.common.persistence.education;
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -27,6 +28,23 @@ public interface RegisterPersistenceFacade {
      * @return set of students
      */
     Set<Student> findNotEnrolledStudents();
+
+    /**
+     * To get the page of not enrolled to any course students ordered by system-id (keyset pagination)
+     *
+     * @param afterId system-id of the last student of the previous page (null for the first page)
+     * @param limit   the maximum quantity of students in the page
+     * @return the page of students
+     */
+    List<Student> findNotEnrolledStudentsPage(Long afterId, int limit);
+
+    /**
+     * To count not enrolled to any course students (without loading of the students)
+     *
+     * @return the quantity of not enrolled students
+     */
+    long countNotEnrolledStudents();
+
     /**
      * To find courses registered for student
      *
@@ -42,6 +60,47 @@ public interface RegisterPersistenceFacade {
      */
     Set<Course> findCoursesWithoutStudents();
 
+    /**
+     * To get the page of courses without students ordered by system-id (keyset pagination)
+     *
+     * @param afterId system-id of the last course of the previous page (null for the first page)
+     * @param limit   the maximum quantity of courses in the page
+     * @return the page of courses
+     */
+    List<Course> findCoursesWithoutStudentsPage(Long afterId, int limit);
+
+    /**
+     * To count courses without students (without loading of the courses)
+     *
+     * @return the quantity of courses without students
+     */
+    long countCoursesWithoutStudents();
+
+    /**
+     * To check is the student linked with the course (without loading of the students and courses)
+     *
+     * @param studentId system-id of the student
+     * @param courseId  system-id of the course
+     * @return true if the student is registered to the course
+     */
+    boolean isLinked(Long studentId, Long courseId);
+
+    /**
+     * To count the students enrolled to the course (without loading of the students)
+     *
+     * @param courseId system-id of the course
+     * @return the quantity of enrolled students
+     */
+    long countEnrolledStudents(Long courseId);
+
+    /**
+     * To count the courses registered for the student (without loading of the courses)
+     *
+     * @param studentId system-id of the student
+     * @return the quantity of registered courses
+     */
+    long countRegisteredCourses(Long studentId);
+
     /**
      * To link the student with the course
      *
@@ -51,6 +110,15 @@ public interface RegisterPersistenceFacade {
      */
     boolean link(Student student, Course course);
 
+    /**
+     * To link the students with the courses at once (in one transaction)
+     *
+     * @param links pairs of student-id and course-id to link
+     * @return the results of linking in the order of the links (false if student or course isn't found)
+     * @see Link
+     */
+    List<Boolean> linkAll(List<Link> links);
+
     /**
      * To un-link the student from the course
      *
@@ -59,4 +127,13 @@ public interface RegisterPersistenceFacade {
      * @return true if un-linking successful
      */
     boolean unLink(Student student, Course course);
+
+    /**
+     * The link of the student with the course by system-ids
+     *
+     * @param studentId system-id of the student
+     * @param courseId  system-id of the course
+     */
+    record Link(Long studentId, Long courseId) {
+    }
 }
@@ -2,6 +2,8 @@ package oleg.sopilnyak.test.school.common.persistence.education;
 
 import oleg.sopilnyak.test.school.common.model.education.Student;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,6 +21,15 @@ public interface StudentsPersistenceFacade {
      */
     Optional<Student> findStudentById(Long id);
 
+    /**
+     * To find the students by ids at once (by one query)
+     *
+     * @param ids system-ids of the students
+     * @return found students, the students not existing are absent
+     * @see Student
+     */
+    List<Student> findStudentsByIds(Collection<Long> ids);
+
     /**
      * Create or update student
      *
@@ -30,6 +41,16 @@ public interface StudentsPersistenceFacade {
      */
     Optional<Student> save(Student student);
 
+    /**
+     * Create or update the students at once (in one transaction)<BR/>
+     * The students are flushed to the database before return
+     *
+     * @param students student instances to store
+     * @return stored student instances
+     * @see Student
+     */
+    List<Student> saveAllStudents(List<Student> students);
+
     /**
      * Delete student by id
      *
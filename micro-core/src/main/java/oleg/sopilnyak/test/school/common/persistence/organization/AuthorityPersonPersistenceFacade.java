@@ -6,6 +6,7 @@ import oleg.sopilnyak.test.school.common.exception.organization.AuthorityPersonN
 import oleg.sopilnyak.test.school.common.exception.organization.AuthorityPersonManagesFacultyException;
 import oleg.sopilnyak.test.school.common.model.organization.AuthorityPerson;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -23,6 +24,16 @@ public interface AuthorityPersonPersistenceFacade {
      */
     Set<AuthorityPerson> findAllAuthorityPersons();
 
+    /**
+     * To get the page of authority persons ordered by system-id (keyset pagination)
+     *
+     * @param afterId system-id of the last item of the previous page (null for the first page)
+     * @param limit   the maximum quantity of items in the page
+     * @return the page of authority persons
+     * @see AuthorityPerson
+     */
+    List<AuthorityPerson> findAuthorityPersonsPage(Long afterId, int limit);
+
     /**
      * To find authority person by id
      *
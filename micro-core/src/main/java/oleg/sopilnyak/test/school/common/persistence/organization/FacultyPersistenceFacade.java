@@ -4,6 +4,7 @@ import oleg.sopilnyak.test.school.common.exception.organization.FacultyIsNotEmpt
 import oleg.sopilnyak.test.school.common.exception.organization.FacultyNotFoundException;
 import oleg.sopilnyak.test.school.common.model.organization.Faculty;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -21,6 +22,16 @@ public interface FacultyPersistenceFacade {
      */
     Set<Faculty> findAllFaculties();
 
+    /**
+     * To get the page of faculties ordered by system-id (keyset pagination)
+     *
+     * @param afterId system-id of the last item of the previous page (null for the first page)
+     * @param limit   the maximum quantity of items in the page
+     * @return the page of faculties
+     * @see Faculty
+     */
+    List<Faculty> findFacultiesPage(Long afterId, int limit);
+
     /**
      * To find faculty by id
      *
@@ -4,6 +4,7 @@ import oleg.sopilnyak.test.school.common.exception.organization.StudentsGroupNot
 import oleg.sopilnyak.test.school.common.exception.organization.StudentGroupWithStudentsException;
 import oleg.sopilnyak.test.school.common.model.organization.StudentsGroup;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -21,6 +22,16 @@ public interface StudentsGroupPersistenceFacade {
      */
     Set<StudentsGroup> findAllStudentsGroups();
 
+    /**
+     * To get the page of students groups ordered by system-id (keyset pagination)
+     *
+     * @param afterId system-id of the last item of the previous page (null for the first page)
+     * @param limit   the maximum quantity of items in the page
+     * @return the page of students groups
+     * @see StudentsGroup
+     */
+    List<StudentsGroup> findStudentsGroupsPage(Long afterId, int limit);
+
     /**
      * To find students group by id
      *
@@ -4,6 +4,8 @@ import oleg.sopilnyak.test.school.common.model.person.profile.PrincipalProfile;
 import oleg.sopilnyak.test.school.common.model.person.profile.StudentProfile;
 import oleg.sopilnyak.test.school.common.model.person.profile.PersonProfile;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -71,6 +73,27 @@ public interface ProfilePersistenceFacade {
      */
     Optional<PersonProfile> findProfileById(Long id);
 
+    /**
+     * To get principal-profile instances by ids at once (by one query)
+     *
+     * @param ids system-ids of the profiles
+     * @return found principal-profiles, the profiles not existing are absent
+     * @see PrincipalProfile
+     */
+    default List<PrincipalProfile> findPrincipalProfilesByIds(Collection<Long> ids) {
+        return findProfilesByIds(ids).stream()
+                .filter(PrincipalProfile.class::isInstance).map(PrincipalProfile.class::cast).toList();
+    }
+
+    /**
+     * To get person-profile instances by ids at once (by one query)
+     *
+     * @param ids system-ids of the profiles
+     * @return found profiles, the profiles not existing are absent
+     * @see PersonProfile
+     */
+    List<PersonProfile> findProfilesByIds(Collection<Long> ids);
+
     /**
      * To save principal-profile instance
      *
@@ -0,0 +1,61 @@
+package oleg.sopilnyak.test.school.common.utility;
+
+import java.util.ServiceLoader;
+
+/**
+ * SPI: to resolve genuine instances behind the test doubles (mocks and spies)<BR/>
+ * Production classpath has no implementations, so the instances are used as is.
+ * Test code plugs the implementation in through {@link ServiceLoader} (META-INF/services)
+ *
+ * @see InstanceUnwrapper#current()
+ */
+public interface InstanceUnwrapper {
+    /**
+     * To check is the instance a test double (mock or spy)
+     *
+     * @param instance the instance to check
+     * @return true if the instance is a test double
+     */
+    boolean isTestDouble(Object instance);
+
+    /**
+     * To get genuine instance
+     * <p>
+     * If instance is a spy, then it returns the spied instance.
+     * If instance is a mock, then it returns null.
+     * Otherwise, it returns the instance itself.
+     *
+     * @param instance the instance to unwrap
+     * @param <T>      the type of the instance
+     * @return genuine instance or null if instance is a mock
+     */
+    <T> T genuine(T instance);
+
+    /**
+     * To get the unwrapper, plugged in the classpath (resolved once)
+     *
+     * @return active unwrapper instance
+     */
+    static InstanceUnwrapper current() {
+        return InstanceUnwrapperHolder.INSTANCE;
+    }
+}
+
+// holder of the plugged unwrapper (identity when nothing is plugged)
+final class InstanceUnwrapperHolder {
+    static final InstanceUnwrapper INSTANCE = ServiceLoader.load(InstanceUnwrapper.class).findFirst()
+            .orElseGet(() -> new InstanceUnwrapper() {
+                @Override
+                public boolean isTestDouble(Object instance) {
+                    return false;
+                }
+
+                @Override
+                public <T> T genuine(T instance) {
+                    return instance;
+                }
+            });
+
+    private InstanceUnwrapperHolder() {
+    }
+}
@@ -0,0 +1,33 @@
+package oleg.sopilnyak.test.school.common.test;
+
+import oleg.sopilnyak.test.school.common.utility.InstanceUnwrapper;
+
+import org.mockito.MockingDetails;
+import org.mockito.Mockito;
+
+/**
+ * Test SPI Implementation: to resolve genuine instances behind Mockito's mocks and spies
+ *
+ * @see InstanceUnwrapper
+ */
+public class MockitoInstanceUnwrapper implements InstanceUnwrapper {
+    @Override
+    public boolean isTestDouble(Object instance) {
+        return instance != null && Mockito.mockingDetails(instance).isMock();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T genuine(T instance) {
+        if (instance == null) {
+            return null;
+        }
+        final MockingDetails details = Mockito.mockingDetails(instance);
+        if (details.isSpy()) {
+            // if instance is a spy, we can retrieve genuine instance from it
+            return (T) details.getMockCreationSettings().getSpiedInstance();
+        }
+        // if it is a mock, then we return null
+        return details.isMock() ? null : instance;
+    }
+}
@@ -5,21 +5,46 @@ import java.util.Objects;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Configuration: the pooled data-source of MySQL database<BR/>
+ * The pool is started lazily (on first connection request), so pool's metrics tracker
+ * (micrometer's hikaricp.connections.* meters) could be attached before the start.
+ * The pool's saturation is also exposed through JMX (HikariPoolMXBean of the pool name)
+ */
 @Configuration
 @RequiredArgsConstructor
 public class MySqlDataSourceConfiguration {
+    public static final String POOL_NAME = "school-db-pool";
+    private static final String POOL_PREFIX = "school.jdbc.pool.";
     private final Environment env;
 
     @Bean
     public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        final HikariDataSource dataSource = new HikariDataSource();
         dataSource.setDriverClassName(Objects.requireNonNull(env.getProperty("school.jdbc.driverClassName")));
-        dataSource.setUrl(env.getProperty("school.jdbc.url"));
+        dataSource.setJdbcUrl(env.getProperty("school.jdbc.url"));
         dataSource.setUsername(env.getProperty("school.jdbc.username"));
         dataSource.setPassword(env.getProperty("school.jdbc.password"));
+        // pool size and timeouts
+        dataSource.setPoolName(env.getProperty(POOL_PREFIX + "name", POOL_NAME));
+        dataSource.setMaximumPoolSize(env.getProperty(POOL_PREFIX + "maximum-size", Integer.class, 10));
+        dataSource.setMinimumIdle(env.getProperty(POOL_PREFIX + "minimum-idle", Integer.class, 2));
+        dataSource.setConnectionTimeout(env.getProperty(POOL_PREFIX + "connection-timeout.millis", Long.class, 3_000L));
+        dataSource.setIdleTimeout(env.getProperty(POOL_PREFIX + "idle-timeout.millis", Long.class, 600_000L));
+        dataSource.setMaxLifetime(env.getProperty(POOL_PREFIX + "max-lifetime.millis", Long.class, 1_800_000L));
+        // 0 means leak detection is off
+        dataSource.setLeakDetectionThreshold(env.getProperty(POOL_PREFIX + "leak-detection-threshold.millis", Long.class, 60_000L));
+        dataSource.setRegisterMbeans(env.getProperty(POOL_PREFIX + "register-mbeans", Boolean.class, true));
+        // prepared statements caching of MySQL connector
+        dataSource.addDataSourceProperty("cachePrepStmts", env.getProperty(POOL_PREFIX + "cache-prepared-statements", "true"));
+        dataSource.addDataSourceProperty("prepStmtCacheSize", env.getProperty(POOL_PREFIX + "prepared-statements-cache.size", "250"));
+        dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", env.getProperty(POOL_PREFIX + "prepared-statements-cache.sql-limit", "2048"));
+        dataSource.addDataSourceProperty("useServerPrepStmts", env.getProperty(POOL_PREFIX + "server-prepared-statements", "true"));
+        // to send batched inserts as multi-rows statements
+        dataSource.addDataSourceProperty("rewriteBatchedStatements", env.getProperty(POOL_PREFIX + "rewrite-batched-statements", "true"));
         return dataSource;
     }
 }
@@ -4,8 +4,14 @@ import oleg.sopilnyak.test.persistence.sql.PersistenceFacadeImpl;
 import oleg.sopilnyak.test.persistence.sql.mapper.EntityMapper;
 import oleg.sopilnyak.test.school.common.persistence.PersistenceFacade;
 
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SharedCacheMode;
 import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.mapstruct.factory.Mappers;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -21,15 +27,31 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 public class PersistenceConfiguration {
     public static final String REAL_PERSISTENCE_FACADE = "realPersistenceFacade";
     public static final String PERSISTENCE_SQL_SCAN_PACKAGE = "oleg.sopilnyak.test.persistence.sql";
+    // Infinispan configurations of the second-level cache regions
+    public static final String LOCAL_CACHE_CONFIG = "org/infinispan/hibernate/cache/commons/builder/infinispan-configs-local.xml";
+    public static final String CLUSTERED_CACHE_CONFIG = "org/infinispan/hibernate/cache/commons/builder/infinispan-configs.xml";
+    public static final String INVALIDATION_CACHE_MODE = "invalidation";
     private final Boolean showSQL;
     private final String databaseUnitName;
+    private final Integer jdbcBatchSize;
+    private final Boolean cacheEnabled;
+    private final String cacheMode;
+    private final Boolean cacheStatistics;
 
     public PersistenceConfiguration(
             @Value("${school.spring.jpa.show-sql:false}") Boolean showSQL,
-            @Value("${school.persistence.unit.name:testDatabaseUnit}") String databaseUnitName
+            @Value("${school.persistence.unit.name:testDatabaseUnit}") String databaseUnitName,
+            @Value("${school.persistence.jdbc.batch-size:50}") Integer jdbcBatchSize,
+            @Value("${school.persistence.cache.enabled:false}") Boolean cacheEnabled,
+            @Value("${school.persistence.cache.mode:local}") String cacheMode,
+            @Value("${school.persistence.cache.statistics:true}") Boolean cacheStatistics
     ) {
         this.showSQL = showSQL;
         this.databaseUnitName = databaseUnitName;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.cacheEnabled = cacheEnabled;
+        this.cacheMode = cacheMode;
+        this.cacheStatistics = cacheStatistics;
     }
 
     @Bean
@@ -54,7 +76,57 @@ public class PersistenceConfiguration {
         factory.setJpaVendorAdapter(vendorAdapter);
         factory.setPackagesToScan(PERSISTENCE_SQL_SCAN_PACKAGE);
         factory.setPersistenceUnitName(databaseUnitName);
+        final Map<String, Object> properties = new HashMap<>(Map.of(
+                // JDBC batching of the inserts and updates (entities' system-ids are pooled)
+                "hibernate.jdbc.batch_size", jdbcBatchSize,
+                "hibernate.order_inserts", true,
+                "hibernate.order_updates", true,
+                "hibernate.jdbc.batch_versioned_data", true
+        ));
+        properties.putAll(secondLevelCacheProperties());
+        factory.setJpaPropertyMap(properties);
         factory.afterPropertiesSet();
         return factory;
     }
+
+    /**
+     * Statistics of the persistence unit (hits, misses and puts of the second-level and query caches)<BR/>
+     * The values are collected when school.persistence.cache.statistics is on
+     *
+     * @param entityManagerFactory factory of the persistence unit
+     * @return hibernate's statistics of the unit
+     * @see Statistics#getSecondLevelCacheHitCount()
+     * @see Statistics#getSecondLevelCacheMissCount()
+     * @see Statistics#getQueryCacheHitCount()
+     */
+    @Bean
+    public Statistics persistenceStatistics(EntityManagerFactory entityManagerFactory) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * To build the properties of opt-in second-level (entities) and query caches<BR/>
+     * Only the entities marked as Cacheable are cached, local Infinispan cache is used for single node
+     * and invalidation mode for the clustered nodes
+     *
+     * @return properties of the caches
+     */
+    Map<String, Object> secondLevelCacheProperties() {
+        if (!Boolean.TRUE.equals(cacheEnabled)) {
+            return Map.of(
+                    "hibernate.cache.use_second_level_cache", false,
+                    "hibernate.cache.use_query_cache", false,
+                    "jakarta.persistence.sharedCache.mode", SharedCacheMode.NONE
+            );
+        }
+        final boolean clustered = INVALIDATION_CACHE_MODE.equalsIgnoreCase(cacheMode);
+        return Map.of(
+                "hibernate.cache.use_second_level_cache", true,
+                "hibernate.cache.use_query_cache", true,
+                "hibernate.cache.region.factory_class", "infinispan",
+                "hibernate.cache.infinispan.cfg", clustered ? CLUSTERED_CACHE_CONFIG : LOCAL_CACHE_CONFIG,
+                "jakarta.persistence.sharedCache.mode", SharedCacheMode.ENABLE_SELECTIVE,
+                "hibernate.generate_statistics", Boolean.TRUE.equals(cacheStatistics)
+        );
+    }
 }
@@ -0,0 +1,22 @@
+package oleg.sopilnyak.test.persistence.sql.entity;
+
+/**
+ * Constants: the pooled table-based generator of entities system-ids<BR/>
+ * Every entity type has own row in the table, each round trip to the table allocates
+ * the block of system-ids, so the inserts of the entities could be batched
+ *
+ * @see jakarta.persistence.TableGenerator
+ */
+public final class EntityIds {
+    // the table of the generators
+    public static final String TABLE = "entity_ids";
+    // the column with the name of the entity type
+    public static final String NAME_COLUMN = "entity_name";
+    // the column with the next value of the system-id
+    public static final String VALUE_COLUMN = "next_id";
+    // the quantity of system-ids allocated by one round trip
+    public static final int ALLOCATION_SIZE = 50;
+
+    private EntityIds() {
+    }
+}
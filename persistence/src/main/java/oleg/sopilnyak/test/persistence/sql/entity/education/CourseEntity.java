@@ -3,11 +3,13 @@ package oleg.sopilnyak.test.persistence.sql.entity.education;
 import static java.util.Objects.isNull;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import oleg.sopilnyak.test.persistence.sql.entity.EntityIds;
 import oleg.sopilnyak.test.persistence.sql.entity.organization.FacultyEntity;
 import oleg.sopilnyak.test.persistence.sql.mapper.EntityMapper;
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -17,11 +19,14 @@ import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.mapstruct.factory.Mappers;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -37,12 +42,16 @@ import lombok.ToString;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "courses")
 public class CourseEntity implements Course {
     private static EntityMapper mapper = Mappers.getMapper(EntityMapper.class);
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "courses-ids")
+    @TableGenerator(name = "courses-ids", table = EntityIds.TABLE, pkColumnName = EntityIds.NAME_COLUMN,
+            valueColumnName = EntityIds.VALUE_COLUMN, pkColumnValue = "courses", allocationSize = EntityIds.ALLOCATION_SIZE)
     @Column(name = "ID", unique = true, nullable = false)
     private Long id;
     @NotNull
@@ -3,6 +3,7 @@ package oleg.sopilnyak.test.persistence.sql.entity.education;
 import static java.util.Objects.isNull;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import oleg.sopilnyak.test.persistence.sql.entity.EntityIds;
 import oleg.sopilnyak.test.persistence.sql.entity.organization.StudentsGroupEntity;
 import oleg.sopilnyak.test.persistence.sql.mapper.EntityMapper;
 import oleg.sopilnyak.test.school.common.model.education.Course;
@@ -21,6 +22,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -50,7 +52,9 @@ public class StudentEntity implements Student {
     private static EntityMapper mapper = Mappers.getMapper(EntityMapper.class);
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "students-ids")
+    @TableGenerator(name = "students-ids", table = EntityIds.TABLE, pkColumnName = EntityIds.NAME_COLUMN,
+            valueColumnName = EntityIds.VALUE_COLUMN, pkColumnValue = "students", allocationSize = EntityIds.ALLOCATION_SIZE)
     @Column(name = "ID", unique = true, nullable = false)
     private Long id;
     private Long profileId;
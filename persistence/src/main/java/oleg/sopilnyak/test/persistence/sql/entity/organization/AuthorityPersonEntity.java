@@ -1,6 +1,7 @@
 package oleg.sopilnyak.test.persistence.sql.entity.organization;
 
 import lombok.*;
+import oleg.sopilnyak.test.persistence.sql.entity.EntityIds;
 import oleg.sopilnyak.test.persistence.sql.mapper.EntityMapper;
 import oleg.sopilnyak.test.school.common.model.organization.AuthorityPerson;
 import oleg.sopilnyak.test.school.common.model.organization.Faculty;
@@ -22,7 +23,9 @@ import static java.util.Objects.isNull;
 public class AuthorityPersonEntity implements AuthorityPerson {
     private static final EntityMapper mapper = Mappers.getMapper(EntityMapper.class);
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "authorities-ids")
+    @TableGenerator(name = "authorities-ids", table = EntityIds.TABLE, pkColumnName = EntityIds.NAME_COLUMN,
+            valueColumnName = EntityIds.VALUE_COLUMN, pkColumnValue = "authorities", allocationSize = EntityIds.ALLOCATION_SIZE)
     @Column(name = "ID", unique = true, nullable = false)
     private Long id;
     private Long profileId;
@@ -2,10 +2,13 @@ package oleg.sopilnyak.test.persistence.sql.entity.organization;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
+import oleg.sopilnyak.test.persistence.sql.entity.EntityIds;
 import oleg.sopilnyak.test.persistence.sql.entity.education.CourseEntity;
 import oleg.sopilnyak.test.persistence.sql.mapper.EntityMapper;
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.model.organization.Faculty;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.mapstruct.factory.Mappers;
 
 import jakarta.persistence.*;
@@ -20,12 +23,16 @@ import static java.util.Objects.isNull;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "faculties")
 public class FacultyEntity implements Faculty {
     private static final EntityMapper mapper = Mappers.getMapper(EntityMapper.class);
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "faculties-ids")
+    @TableGenerator(name = "faculties-ids", table = EntityIds.TABLE, pkColumnName = EntityIds.NAME_COLUMN,
+            valueColumnName = EntityIds.VALUE_COLUMN, pkColumnValue = "faculties", allocationSize = EntityIds.ALLOCATION_SIZE)
     @Column(name = "ID", unique = true, nullable = false)
     private Long id;
     private String name;
@@ -1,10 +1,13 @@
 package oleg.sopilnyak.test.persistence.sql.entity.organization;
 
 import lombok.*;
+import oleg.sopilnyak.test.persistence.sql.entity.EntityIds;
 import oleg.sopilnyak.test.persistence.sql.entity.education.StudentEntity;
 import oleg.sopilnyak.test.persistence.sql.mapper.EntityMapper;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 import oleg.sopilnyak.test.school.common.model.organization.StudentsGroup;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.mapstruct.factory.Mappers;
 
 import jakarta.persistence.*;
@@ -19,11 +22,15 @@ import static org.springframework.util.ObjectUtils.isEmpty;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "studentsGroups")
 public class StudentsGroupEntity implements StudentsGroup {
     private static final EntityMapper mapper = Mappers.getMapper(EntityMapper.class);
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "students-groups-ids")
+    @TableGenerator(name = "students-groups-ids", table = EntityIds.TABLE, pkColumnName = EntityIds.NAME_COLUMN,
+            valueColumnName = EntityIds.VALUE_COLUMN, pkColumnValue = "students_groups", allocationSize = EntityIds.ALLOCATION_SIZE)
     @Column(name = "ID", unique = true, nullable = false)
     private Long id;
     private String name;
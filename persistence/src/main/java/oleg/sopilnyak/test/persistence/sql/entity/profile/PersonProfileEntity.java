@@ -2,6 +2,7 @@ package oleg.sopilnyak.test.persistence.sql.entity.profile;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
 
+import oleg.sopilnyak.test.persistence.sql.entity.EntityIds;
 import oleg.sopilnyak.test.school.common.model.person.profile.PersonProfile;
 
 import jakarta.persistence.*;
@@ -9,6 +10,8 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
 import java.util.Map;
 import java.util.Optional;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -27,12 +30,16 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "profiles")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "type", discriminatorType = DiscriminatorType.INTEGER)
 public abstract class PersonProfileEntity implements PersonProfile {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "profiles-ids")
+    @TableGenerator(name = "profiles-ids", table = EntityIds.TABLE, pkColumnName = EntityIds.NAME_COLUMN,
+            valueColumnName = EntityIds.VALUE_COLUMN, pkColumnValue = "profiles", allocationSize = EntityIds.ALLOCATION_SIZE)
     @Column(name = "ID", unique = true, nullable = false)
     private Long id;
     @NotNull
@@ -44,6 +51,7 @@ public abstract class PersonProfileEntity implements PersonProfile {
     private String photoUrl;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @CollectionTable(name = "profile_extras", joinColumns = @JoinColumn(name = "person_id"))
     @MapKeyColumn(name = "extra_key")
     @Column(name = "extra_value")
@@ -16,6 +16,8 @@ import jakarta.persistence.JoinColumn;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.proxy.HibernateProxy;
 import lombok.Builder;
 import lombok.Getter;
@@ -49,6 +51,7 @@ public class PrincipalProfileEntity extends PersonProfileEntity implements Princ
     private Role role;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Enumerated(EnumType.STRING)
     @Column(name = "permission_name", length = 50, nullable = false)
     @CollectionTable(name = "person_permissions", joinColumns = @JoinColumn(name = "profile_id", referencedColumnName = "id"))
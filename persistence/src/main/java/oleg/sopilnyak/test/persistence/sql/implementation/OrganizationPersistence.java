@@ -21,10 +21,12 @@ import oleg.sopilnyak.test.school.common.model.organization.Faculty;
 import oleg.sopilnyak.test.school.common.model.organization.StudentsGroup;
 import oleg.sopilnyak.test.school.common.persistence.organization.joint.OrganizationPersistenceFacade;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -55,6 +57,21 @@ public interface OrganizationPersistence extends OrganizationPersistenceFacade {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * To get the page of authority persons ordered by system-id (keyset pagination)
+     *
+     * @param afterId system-id of the last item of the previous page (null for the first page)
+     * @param limit   the maximum quantity of items in the page
+     * @return the page of authority persons
+     * @see AuthorityPerson
+     */
+    @Override
+    default List<AuthorityPerson> findAuthorityPersonsPage(final Long afterId, final int limit) {
+        getLog().debug("Looking for {} AuthorityPersons after ID:{}", limit, afterId);
+        return getAuthorityPersonRepository().findByIdGreaterThanOrderByIdAsc(isNull(afterId) ? 0L : afterId, Limit.of(limit))
+                .stream().map(AuthorityPerson.class::cast).toList();
+    }
+
     /**
      * To find authority person by id
      *
@@ -143,6 +160,21 @@ public interface OrganizationPersistence extends OrganizationPersistenceFacade {
         return getFacultyRepository().findAll().stream().map(Faculty.class::cast).collect(Collectors.toSet());
     }
 
+    /**
+     * To get the page of faculties ordered by system-id (keyset pagination)
+     *
+     * @param afterId system-id of the last item of the previous page (null for the first page)
+     * @param limit   the maximum quantity of items in the page
+     * @return the page of faculties
+     * @see Faculty
+     */
+    @Override
+    default List<Faculty> findFacultiesPage(final Long afterId, final int limit) {
+        getLog().debug("Looking for {} Faculties after ID:{}", limit, afterId);
+        return getFacultyRepository().findByIdGreaterThanOrderByIdAsc(isNull(afterId) ? 0L : afterId, Limit.of(limit))
+                .stream().map(Faculty.class::cast).toList();
+    }
+
     /**
      * To find faculty by id
      *
@@ -210,6 +242,21 @@ public interface OrganizationPersistence extends OrganizationPersistenceFacade {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * To get the page of students groups ordered by system-id (keyset pagination)
+     *
+     * @param afterId system-id of the last item of the previous page (null for the first page)
+     * @param limit   the maximum quantity of items in the page
+     * @return the page of students groups
+     * @see StudentsGroup
+     */
+    @Override
+    default List<StudentsGroup> findStudentsGroupsPage(final Long afterId, final int limit) {
+        getLog().debug("Looking for {} StudentsGroups after ID:{}", limit, afterId);
+        return getStudentsGroupRepository().findByIdGreaterThanOrderByIdAsc(isNull(afterId) ? 0L : afterId, Limit.of(limit))
+                .stream().map(StudentsGroup.class::cast).toList();
+    }
+
     /**
      * To find students group by id
      *
@@ -14,6 +14,8 @@ import oleg.sopilnyak.test.school.common.model.person.profile.PrincipalProfile;
 import oleg.sopilnyak.test.school.common.model.person.profile.StudentProfile;
 import oleg.sopilnyak.test.school.common.persistence.profile.ProfilePersistenceFacade;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.springframework.transaction.annotation.Propagation;
@@ -45,6 +47,20 @@ public interface ProfilePersistence extends ProfilePersistenceFacade {
         return findPersonProfileById(id).map(PersonProfile.class::cast);
     }
 
+    /**
+     * To get person-profile instances by ids at once (by one query)
+     *
+     * @param ids system-ids of the profiles
+     * @return found profiles, the profiles not existing are absent
+     * @see PersonProfile
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
+    default List<PersonProfile> findProfilesByIds(Collection<Long> ids) {
+        getLog().debug("Looking for PersonProfiles with IDs:{}", ids);
+        return getPersonProfileRepository().findAllById(ids).stream().map(PersonProfile.class::cast).toList();
+    }
+
     /**
      * To get principal-profile instance by login
      *
@@ -6,6 +6,8 @@ import oleg.sopilnyak.test.persistence.sql.repository.education.CourseRepository
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.persistence.education.CoursesPersistenceFacade;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.springframework.transaction.annotation.Propagation;
@@ -37,6 +39,20 @@ public interface CoursesPersistence extends CoursesPersistenceFacade {
         return getCourseRepository().findById(id).map(Course.class::cast);
     }
 
+    /**
+     * To find the courses by ids at once (by one query)
+     *
+     * @param ids system-ids of the courses
+     * @return found courses, the courses not existing are absent
+     * @see Course
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
+    default List<Course> findCoursesByIds(Collection<Long> ids) {
+        getLog().debug("Looking for Courses with IDs:{}", ids);
+        return getCourseRepository().findAllById(ids).stream().map(Course.class::cast).toList();
+    }
+
     /**
      * Create or update course
      *
@@ -54,6 +70,24 @@ public interface CoursesPersistence extends CoursesPersistenceFacade {
         return Optional.of(getCourseRepository().saveAndFlush(entity));
     }
 
+    /**
+     * Create or update the courses at once (in one transaction)<BR/>
+     * The inserts are sent to the database by JDBC batches and flushed before return
+     *
+     * @param courses course instances to store
+     * @return stored course instances
+     * @see Course
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRED)
+    default List<Course> saveAllCourses(List<Course> courses) {
+        getLog().debug("Create or Update {} Courses", courses.size());
+        final List<CourseEntity> entities = courses.stream()
+                .map(course -> course instanceof CourseEntity entity ? entity : getMapper().toEntity(course))
+                .toList();
+        return getCourseRepository().saveAllAndFlush(entities).stream().map(Course.class::cast).toList();
+    }
+
     /**
      * Delete course by id
      *
@@ -5,15 +5,26 @@ import static java.util.Objects.isNull;
 import oleg.sopilnyak.test.persistence.sql.entity.education.CourseEntity;
 import oleg.sopilnyak.test.persistence.sql.entity.education.StudentEntity;
 import oleg.sopilnyak.test.persistence.sql.mapper.EntityMapper;
+import oleg.sopilnyak.test.persistence.sql.projection.CourseStudentRow;
+import oleg.sopilnyak.test.persistence.sql.projection.CourseView;
+import oleg.sopilnyak.test.persistence.sql.projection.StudentCourseRow;
+import oleg.sopilnyak.test.persistence.sql.projection.StudentView;
 import oleg.sopilnyak.test.persistence.sql.repository.education.CourseRepository;
 import oleg.sopilnyak.test.persistence.sql.repository.education.StudentRepository;
 import oleg.sopilnyak.test.school.common.model.education.Course;
 import oleg.sopilnyak.test.school.common.model.education.Student;
 import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade;
 
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,8 +52,7 @@ public interface RegisterPersistence extends RegisterPersistenceFacade {
     @Override
     default Set<Student> findEnrolledStudentsByCourseId(Long id) {
         getLog().debug("Looking for Enrolled Students by Course ID:{}", id);
-        return getStudentRepository().findStudentEntitiesByCourseSetId(id)
-                .stream().map(Student.class::cast).collect(Collectors.toSet());
+        return withCourses(getStudentRepository().findEnrolledStudentViews(id)).collect(Collectors.toSet());
     }
 
     /**
@@ -53,10 +63,37 @@ public interface RegisterPersistence extends RegisterPersistenceFacade {
     @Override
     default Set<Student> findNotEnrolledStudents() {
         getLog().debug("Looking for Not Enrolled Students");
-        return getStudentRepository().findStudentEntitiesByCourseSetEmpty()
+        // not enrolled students have no courses to attach
+        return getStudentRepository().findNotEnrolledStudentViews()
                 .stream().map(Student.class::cast).collect(Collectors.toSet());
     }
 
+    /**
+     * To get the page of not enrolled to any course students ordered by system-id (keyset pagination)
+     *
+     * @param afterId system-id of the last student of the previous page (null for the first page)
+     * @param limit   the maximum quantity of students in the page
+     * @return the page of students
+     */
+    @Override
+    default List<Student> findNotEnrolledStudentsPage(final Long afterId, final int limit) {
+        getLog().debug("Looking for {} Not Enrolled Students after ID:{}", limit, afterId);
+        return getStudentRepository()
+                .findNotEnrolledStudentViewsPage(isNull(afterId) ? 0L : afterId, Limit.of(limit))
+                .stream().map(Student.class::cast).toList();
+    }
+
+    /**
+     * To count not enrolled to any course students (without loading of the students)
+     *
+     * @return the quantity of not enrolled students
+     */
+    @Override
+    default long countNotEnrolledStudents() {
+        getLog().debug("Counting Not Enrolled Students");
+        return getStudentRepository().countNotEnrolled();
+    }
+
     /**
      * To find courses registered for student
      *
@@ -66,8 +103,7 @@ public interface RegisterPersistence extends RegisterPersistenceFacade {
     @Override
     default Set<Course> findCoursesRegisteredForStudent(Long id) {
         getLog().debug("Looking for Courses Registered to Student ID:{}", id);
-        return getCourseRepository().findCourseEntitiesByStudentSetId(id).stream()
-                .map(Course.class::cast).collect(Collectors.toSet());
+        return withStudents(getCourseRepository().findRegisteredCourseViews(id)).collect(Collectors.toSet());
     }
 
     /**
@@ -78,71 +114,202 @@ public interface RegisterPersistence extends RegisterPersistenceFacade {
     @Override
     default Set<Course> findCoursesWithoutStudents() {
         getLog().debug("Looking for Courses Without Students");
-        return getCourseRepository().findCourseEntitiesByStudentSetEmpty().stream().map(Course.class::cast)
+        // courses without students have no students to attach
+        return getCourseRepository().findCourseViewsWithoutStudents().stream().map(Course.class::cast)
                 .collect(Collectors.toSet());
     }
 
     /**
-     * To link the student with the course
+     * To get the page of courses without students ordered by system-id (keyset pagination)
+     *
+     * @param afterId system-id of the last course of the previous page (null for the first page)
+     * @param limit   the maximum quantity of courses in the page
+     * @return the page of courses
+     */
+    @Override
+    default List<Course> findCoursesWithoutStudentsPage(final Long afterId, final int limit) {
+        getLog().debug("Looking for {} Courses Without Students after ID:{}", limit, afterId);
+        return getCourseRepository()
+                .findCourseViewsWithoutStudentsPage(isNull(afterId) ? 0L : afterId, Limit.of(limit))
+                .stream().map(Course.class::cast).toList();
+    }
+
+    /**
+     * To count courses without students (without loading of the courses)
+     *
+     * @return the quantity of courses without students
+     */
+    @Override
+    default long countCoursesWithoutStudents() {
+        getLog().debug("Counting Courses Without Students");
+        return getCourseRepository().countWithoutStudents();
+    }
+
+    /**
+     * To check is the student linked with the course (without loading of the students and courses)
+     *
+     * @param studentId system-id of the student
+     * @param courseId  system-id of the course
+     * @return true if the student is registered to the course
+     */
+    @Override
+    default boolean isLinked(final Long studentId, final Long courseId) {
+        getLog().debug("Checking is Student ID:{} linked to Course ID:{}", studentId, courseId);
+        return getStudentRepository().countLinks(studentId, courseId) > 0L;
+    }
+
+    /**
+     * To count the students enrolled to the course (without loading of the students)
+     *
+     * @param courseId system-id of the course
+     * @return the quantity of enrolled students
+     */
+    @Override
+    default long countEnrolledStudents(final Long courseId) {
+        getLog().debug("Counting Enrolled Students of Course ID:{}", courseId);
+        return getStudentRepository().countByCourseId(courseId);
+    }
+
+    /**
+     * To count the courses registered for the student (without loading of the courses)
+     *
+     * @param studentId system-id of the student
+     * @return the quantity of registered courses
+     */
+    @Override
+    default long countRegisteredCourses(final Long studentId) {
+        getLog().debug("Counting Registered Courses of Student ID:{}", studentId);
+        return getCourseRepository().countByStudentId(studentId);
+    }
+
+    /**
+     * To link the student with the course<BR/>
+     * The row of the join table is inserted without loading of the course's students
      *
      * @param student student instance
      * @param course  course instance
      * @return true if linking successful
+     * @see StudentRepository#insertLink(Long, Long)
      */
     @Override
     @Transactional(propagation = Propagation.REQUIRED)
     default boolean link(final Student student, final Course course) {
         getLog().debug("Linking the Student '{}'\n to the Course '{}'", student, course);
-        final StudentEntity studentEntity = getStudentRepository().findById(student.getId()).orElse(null);
-        if (isNull(studentEntity)) {
-            getLog().warn(STUDENT_NOT_FOUND, student);
-            return false;
-        }
-
-        final CourseEntity courseEntity = getCourseRepository().findById(course.getId()).orElse(null);
-        if (isNull(courseEntity)) {
-            getLog().warn(COURSE_NOT_FOUND, course);
+        if (isNotLinkable(student, course)) {
             return false;
         }
 
-        if (!studentEntity.add(courseEntity)) {
+        if (getStudentRepository().countLinks(student.getId(), course.getId()) > 0L) {
             getLog().warn("Course '{}' already exists", course);
             return false;
         }
 
-        getStudentRepository().saveAndFlush(studentEntity);
-        return true;
+        return getStudentRepository().insertLink(student.getId(), course.getId()) > 0;
     }
 
     /**
-     * To un-link the student from the course
+     * To link the students with the courses at once (in one transaction)<BR/>
+     * The students and the courses are fetched by one query for each entity type
+     *
+     * @param links pairs of student-id and course-id to link
+     * @return the results of linking in the order of the links (false if student or course isn't found)
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRED)
+    default List<Boolean> linkAll(final List<Link> links) {
+        getLog().debug("Linking {} Students to the Courses", links.size());
+        final Map<Long, StudentEntity> students = getStudentRepository()
+                .findAllById(links.stream().map(Link::studentId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(StudentEntity::getId, Function.identity()));
+        final Map<Long, CourseEntity> courses = getCourseRepository()
+                .findAllById(links.stream().map(Link::courseId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(CourseEntity::getId, Function.identity()));
+
+        final Set<StudentEntity> changed = new LinkedHashSet<>();
+        final List<Boolean> results = links.stream().map(link -> {
+            final StudentEntity studentEntity = students.get(link.studentId());
+            final CourseEntity courseEntity = courses.get(link.courseId());
+            if (isNull(studentEntity) || isNull(courseEntity)) {
+                getLog().warn("Student '{}' or Course '{}' does not exist", link.studentId(), link.courseId());
+                return false;
+            }
+            final boolean linked = studentEntity.add(courseEntity);
+            if (linked) {
+                changed.add(studentEntity);
+            }
+            return linked;
+        }).toList();
+
+        getStudentRepository().saveAll(changed);
+        return results;
+    }
+
+    /**
+     * To un-link the student from the course<BR/>
+     * The row of the join table is deleted without loading of the course's students
      *
      * @param student student instance
      * @param course  course instance
      * @return true if un-linking successful
+     * @see StudentRepository#deleteLink(Long, Long)
      */
     @Override
     @Transactional(propagation = Propagation.REQUIRED)
     default boolean unLink(final Student student, final Course course) {
         getLog().debug("UnLinking the Student '{}'\n from the Course '{}'", student, course);
-        final StudentEntity studentEntity = getStudentRepository().findById(student.getId()).orElse(null);
-        if (isNull(studentEntity)) {
-            getLog().warn(STUDENT_NOT_FOUND, student);
+        if (isNotLinkable(student, course)) {
             return false;
         }
 
-        final CourseEntity courseEntity = getCourseRepository().findById(course.getId()).orElse(null);
-        if (isNull(courseEntity)) {
-            getLog().warn(COURSE_NOT_FOUND, course);
-            return false;
-        }
-
-        if (!studentEntity.remove(courseEntity)) {
+        if (getStudentRepository().deleteLink(student.getId(), course.getId()) == 0) {
             getLog().warn("Course '{}' isn't exists", course);
             return false;
         }
 
-        getStudentRepository().saveAndFlush(studentEntity);
         return true;
     }
+
+    // private methods
+    // to check are the student and the course exist (without loading of the entities)
+    private boolean isNotLinkable(final Student student, final Course course) {
+        if (!getStudentRepository().existsById(student.getId())) {
+            getLog().warn(STUDENT_NOT_FOUND, student);
+            return true;
+        }
+        if (!getCourseRepository().existsById(course.getId())) {
+            getLog().warn(COURSE_NOT_FOUND, course);
+            return true;
+        }
+        return false;
+    }
+
+    // to attach the courses to the students by one query (ordered by name like StudentEntity#getCourses())
+    private Stream<Student> withCourses(final List<StudentView> students) {
+        if (students.isEmpty()) {
+            return Stream.empty();
+        }
+        final Map<Long, List<Course>> courses = getStudentRepository()
+                .findCourseRowsOfStudents(students.stream().map(StudentView::getId).toList()).stream()
+                .collect(Collectors.groupingBy(StudentCourseRow::studentId,
+                        Collectors.mapping(StudentCourseRow::toCourse, Collectors.toList())));
+        return students.stream().map(student -> student.withCourses(
+                courses.getOrDefault(student.getId(), List.of()).stream()
+                        .sorted(Comparator.comparing(Course::getName)).toList()
+        ));
+    }
+
+    // to attach the students to the courses by one query (ordered by full-name like CourseEntity#getStudents())
+    private Stream<Course> withStudents(final List<CourseView> courses) {
+        if (courses.isEmpty()) {
+            return Stream.empty();
+        }
+        final Map<Long, List<Student>> students = getCourseRepository()
+                .findStudentRowsOfCourses(courses.stream().map(CourseView::getId).toList()).stream()
+                .collect(Collectors.groupingBy(CourseStudentRow::courseId,
+                        Collectors.mapping(CourseStudentRow::toStudent, Collectors.toList())));
+        return courses.stream().map(course -> course.withStudents(
+                students.getOrDefault(course.getId(), List.of()).stream()
+                        .sorted(Comparator.comparing(Student::getFullName)).toList()
+        ));
+    }
 }
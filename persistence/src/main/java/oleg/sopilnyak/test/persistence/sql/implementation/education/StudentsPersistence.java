@@ -6,6 +6,8 @@ import oleg.sopilnyak.test.persistence.sql.repository.education.StudentRepositor
 import oleg.sopilnyak.test.school.common.model.education.Student;
 import oleg.sopilnyak.test.school.common.persistence.education.StudentsPersistenceFacade;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.springframework.transaction.annotation.Propagation;
@@ -37,6 +39,20 @@ public interface StudentsPersistence extends StudentsPersistenceFacade {
         return getStudentRepository().findById(id).map(Student.class::cast);
     }
 
+    /**
+     * To find the students by ids at once (by one query)
+     *
+     * @param ids system-ids of the students
+     * @return found students, the students not existing are absent
+     * @see Student
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRED)
+    default List<Student> findStudentsByIds(Collection<Long> ids) {
+        getLog().debug("Looking for Students with IDs:{}", ids);
+        return getStudentRepository().findAllById(ids).stream().map(Student.class::cast).toList();
+    }
+
     /**
      * Create or update student
      *
@@ -54,6 +70,24 @@ public interface StudentsPersistence extends StudentsPersistenceFacade {
         return Optional.of(getStudentRepository().saveAndFlush(entity));
     }
 
+    /**
+     * Create or update the students at once (in one transaction)<BR/>
+     * The inserts are sent to the database by JDBC batches and flushed before return
+     *
+     * @param students student instances to store
+     * @return stored student instances
+     * @see Student
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRED)
+    default List<Student> saveAllStudents(List<Student> students) {
+        getLog().debug("Create or Update {} Students", students.size());
+        final List<StudentEntity> entities = students.stream()
+                .map(student -> student instanceof StudentEntity entity ? entity : getMapper().toEntity(student))
+                .toList();
+        return getStudentRepository().saveAllAndFlush(entities).stream().map(Student.class::cast).toList();
+    }
+
     /**
      * Delete student by id
      *
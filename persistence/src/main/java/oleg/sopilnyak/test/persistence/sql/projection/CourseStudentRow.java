@@ -0,0 +1,24 @@
+package oleg.sopilnyak.test.persistence.sql.projection;
+
+/**
+ * Read-Model: the row of the course's student (the link and the student's columns)
+ *
+ * @param courseId    system-id of the course
+ * @param studentId   system-id of the student
+ * @param profileId   system-id of the student's profile
+ * @param firstName   the first name of the student
+ * @param lastName    the last name of the student
+ * @param gender      the gender of the student
+ * @param description the description of the student
+ */
+public record CourseStudentRow(Long courseId, Long studentId, Long profileId,
+                               String firstName, String lastName, String gender, String description) {
+    /**
+     * To get the student of the row
+     *
+     * @return the student without courses
+     */
+    public StudentView toStudent() {
+        return new StudentView(studentId, profileId, firstName, lastName, gender, description);
+    }
+}
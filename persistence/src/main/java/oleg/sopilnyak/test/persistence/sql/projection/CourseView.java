@@ -0,0 +1,31 @@
+package oleg.sopilnyak.test.persistence.sql.projection;
+
+import oleg.sopilnyak.test.school.common.model.education.Course;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * Read-Model: the course's columns selected by projection query (not managed by persistence context)<BR/>
+ * The students of the course are attached by the separate query for all selected courses at once
+ *
+ * @see Course
+ * @see oleg.sopilnyak.test.persistence.sql.entity.education.CourseEntity
+ */
+@Value
+@AllArgsConstructor
+public class CourseView implements Course {
+    Long id;
+    String name;
+    String description;
+    @With
+    List<Student> students;
+
+    // constructor for JPQL constructor expression
+    public CourseView(Long id, String name, String description) {
+        this(id, name, description, List.of());
+    }
+}
@@ -0,0 +1,20 @@
+package oleg.sopilnyak.test.persistence.sql.projection;
+
+/**
+ * Read-Model: the row of the student's course (the link and the course's columns)
+ *
+ * @param studentId   system-id of the student
+ * @param courseId    system-id of the course
+ * @param name        the name of the course
+ * @param description the description of the course
+ */
+public record StudentCourseRow(Long studentId, Long courseId, String name, String description) {
+    /**
+     * To get the course of the row
+     *
+     * @return the course without students
+     */
+    public CourseView toCourse() {
+        return new CourseView(courseId, name, description);
+    }
+}
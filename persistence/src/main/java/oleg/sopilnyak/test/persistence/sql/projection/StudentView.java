@@ -0,0 +1,34 @@
+package oleg.sopilnyak.test.persistence.sql.projection;
+
+import oleg.sopilnyak.test.school.common.model.education.Course;
+import oleg.sopilnyak.test.school.common.model.education.Student;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * Read-Model: the student's columns selected by projection query (not managed by persistence context)<BR/>
+ * The courses of the student are attached by the separate query for all selected students at once
+ *
+ * @see Student
+ * @see oleg.sopilnyak.test.persistence.sql.entity.education.StudentEntity
+ */
+@Value
+@AllArgsConstructor
+public class StudentView implements Student {
+    Long id;
+    Long profileId;
+    String firstName;
+    String lastName;
+    String gender;
+    String description;
+    @With
+    List<Course> courses;
+
+    // constructor for JPQL constructor expression
+    public StudentView(Long id, Long profileId, String firstName, String lastName, String gender, String description) {
+        this(id, profileId, firstName, lastName, gender, description, List.of());
+    }
+}
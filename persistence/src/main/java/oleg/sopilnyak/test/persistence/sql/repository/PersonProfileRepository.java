@@ -2,10 +2,13 @@ package oleg.sopilnyak.test.persistence.sql.repository;
 
 import oleg.sopilnyak.test.persistence.sql.entity.profile.PersonProfileEntity;
 import oleg.sopilnyak.test.persistence.sql.entity.profile.PrincipalProfileEntity;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
 
 public interface PersonProfileRepository<T extends PersonProfileEntity> extends JpaRepository<T, Long> {
@@ -18,6 +21,8 @@ public interface PersonProfileRepository<T extends PersonProfileEntity> extends
      * @see Optional
      * @see Optional#empty()
      */
+    // the result is kept in the query cache when the second-level cache is enabled
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             select profile from PrincipalProfileEntity profile where profile.username=:login
             """)
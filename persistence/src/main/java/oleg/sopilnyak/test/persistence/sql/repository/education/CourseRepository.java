@@ -1,13 +1,87 @@
 package oleg.sopilnyak.test.persistence.sql.repository.education;
 
 import oleg.sopilnyak.test.persistence.sql.entity.education.CourseEntity;
+import oleg.sopilnyak.test.persistence.sql.projection.CourseStudentRow;
+import oleg.sopilnyak.test.persistence.sql.projection.CourseView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Set;
+import java.util.Collection;
+import java.util.List;
 
 public interface CourseRepository extends JpaRepository<CourseEntity, Long> {
-    Set<CourseEntity> findCourseEntitiesByStudentSetId(Long studentId);
+    /**
+     * To get the columns of the courses registered for the student (projection without entities hydration)
+     *
+     * @param studentId system-id of the student
+     * @return the courses without students
+     */
+    @Query("""
+            select new oleg.sopilnyak.test.persistence.sql.projection.CourseView(c.id, c.name, c.description)
+            from CourseEntity c join c.studentSet s where s.id = :studentId
+            """)
+    List<CourseView> findRegisteredCourseViews(@Param("studentId") Long studentId);
 
-    Set<CourseEntity> findCourseEntitiesByStudentSetEmpty();
+    /**
+     * To get the columns of the courses without students (projection without entities hydration)<BR/>
+     * The empty collection is the anti-join with the join table only (not exists by student_course.fk_course)
+     *
+     * @return the courses without students
+     */
+    @Query("""
+            select new oleg.sopilnyak.test.persistence.sql.projection.CourseView(c.id, c.name, c.description)
+            from CourseEntity c where c.studentSet is empty
+            """)
+    List<CourseView> findCourseViewsWithoutStudents();
 
-}
\ No newline at end of file
+    /**
+     * To get the page of courses without students with system-id greater than the cursor (keyset pagination)<BR/>
+     * The courses are read by primary key range, each one is checked by anti-join with the join table's index
+     *
+     * @param id    system-id of the last course of the previous page
+     * @param limit the maximum quantity of courses in the page
+     * @return the page of courses without students ordered by system-id
+     */
+    @Query("""
+            select new oleg.sopilnyak.test.persistence.sql.projection.CourseView(c.id, c.name, c.description)
+            from CourseEntity c where c.studentSet is empty and c.id > :id order by c.id
+            """)
+    List<CourseView> findCourseViewsWithoutStudentsPage(@Param("id") Long id, Limit limit);
+
+    /**
+     * To get the students of the courses by one query (projection without entities hydration)
+     *
+     * @param courseIds system-ids of the courses
+     * @return the rows of the courses' students
+     */
+    @Query("""
+            select new oleg.sopilnyak.test.persistence.sql.projection.CourseStudentRow(
+                c.id, s.id, s.profileId, s.firstName, s.lastName, s.gender, s.description
+            ) from CourseEntity c join c.studentSet s where c.id in :courseIds
+            """)
+    List<CourseStudentRow> findStudentRowsOfCourses(@Param("courseIds") Collection<Long> courseIds);
+
+    /**
+     * To count the courses registered for the student in the join table only
+     *
+     * @param studentId system-id of the student
+     * @return the quantity of the courses
+     */
+    @Query(value = """
+            select count(*) from student_course where fk_student=:studentId
+            """, nativeQuery = true)
+    long countByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * To count the courses without students by anti-join with the join table only
+     *
+     * @return the quantity of the courses
+     */
+    @Query(value = """
+            select count(*) from courses c
+            where not exists (select 1 from student_course sc where sc.fk_course=c.id)
+            """, nativeQuery = true)
+    long countWithoutStudents();
+}
@@ -1,13 +1,137 @@
 package oleg.sopilnyak.test.persistence.sql.repository.education;
 
 import oleg.sopilnyak.test.persistence.sql.entity.education.StudentEntity;
+import oleg.sopilnyak.test.persistence.sql.projection.StudentCourseRow;
+import oleg.sopilnyak.test.persistence.sql.projection.StudentView;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Set;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 
 public interface StudentRepository extends JpaRepository<StudentEntity, Long> {
+    // the query space of the native modifying queries (only its cache regions are evicted after the query)
+    String JOIN_TABLE = "student_course";
 
-    Set<StudentEntity> findStudentEntitiesByCourseSetId(Long courseId);
+    /**
+     * To get the columns of the students enrolled to the course (projection without entities hydration)
+     *
+     * @param courseId system-id of the course
+     * @return the students without courses
+     */
+    @Query("""
+            select new oleg.sopilnyak.test.persistence.sql.projection.StudentView(
+                s.id, s.profileId, s.firstName, s.lastName, s.gender, s.description
+            ) from StudentEntity s join s.courseSet c where c.id = :courseId
+            """)
+    List<StudentView> findEnrolledStudentViews(@Param("courseId") Long courseId);
 
-    Set<StudentEntity> findStudentEntitiesByCourseSetEmpty();
+    /**
+     * To get the columns of the students not enrolled to any course (projection without entities hydration)<BR/>
+     * The empty collection is the anti-join with the join table only (not exists by student_course.fk_student)
+     *
+     * @return the students without courses
+     */
+    @Query("""
+            select new oleg.sopilnyak.test.persistence.sql.projection.StudentView(
+                s.id, s.profileId, s.firstName, s.lastName, s.gender, s.description
+            ) from StudentEntity s where s.courseSet is empty
+            """)
+    List<StudentView> findNotEnrolledStudentViews();
+
+    /**
+     * To get the page of not enrolled students with system-id greater than the cursor (keyset pagination)<BR/>
+     * The students are read by primary key range, each one is checked by anti-join with the join table's index
+     *
+     * @param id    system-id of the last student of the previous page
+     * @param limit the maximum quantity of students in the page
+     * @return the page of students without courses ordered by system-id
+     */
+    @Query("""
+            select new oleg.sopilnyak.test.persistence.sql.projection.StudentView(
+                s.id, s.profileId, s.firstName, s.lastName, s.gender, s.description
+            ) from StudentEntity s where s.courseSet is empty and s.id > :id order by s.id
+            """)
+    List<StudentView> findNotEnrolledStudentViewsPage(@Param("id") Long id, Limit limit);
+
+    /**
+     * To get the courses of the students by one query (projection without entities hydration)
+     *
+     * @param studentIds system-ids of the students
+     * @return the rows of the students' courses
+     */
+    @Query("""
+            select new oleg.sopilnyak.test.persistence.sql.projection.StudentCourseRow(
+                s.id, c.id, c.name, c.description
+            ) from StudentEntity s join s.courseSet c where s.id in :studentIds
+            """)
+    List<StudentCourseRow> findCourseRowsOfStudents(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * To count the links of the student with the course (0 or 1) in the join table only
+     *
+     * @param studentId system-id of the student
+     * @param courseId  system-id of the course
+     * @return the quantity of the links
+     */
+    @Query(value = """
+            select count(*) from student_course where fk_student=:studentId and fk_course=:courseId
+            """, nativeQuery = true)
+    long countLinks(@Param("studentId") Long studentId, @Param("courseId") Long courseId);
+
+    /**
+     * To count the students enrolled to the course in the join table only
+     *
+     * @param courseId system-id of the course
+     * @return the quantity of the students
+     */
+    @Query(value = """
+            select count(*) from student_course where fk_course=:courseId
+            """, nativeQuery = true)
+    long countByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * To count the students not enrolled to any course by anti-join with the join table only
+     *
+     * @return the quantity of the students
+     */
+    @Query(value = """
+            select count(*) from students s
+            where not exists (select 1 from student_course sc where sc.fk_student=s.id)
+            """, nativeQuery = true)
+    long countNotEnrolled();
+
+    /**
+     * To link the student with the course by the row of the join table only (without loading of the course's students)
+     *
+     * @param studentId system-id of the student
+     * @param courseId  system-id of the course
+     * @return the quantity of inserted rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = JOIN_TABLE))
+    @Query(value = """
+            insert into student_course (fk_student, fk_course) values (:studentId, :courseId)
+            """, nativeQuery = true)
+    int insertLink(@Param("studentId") Long studentId, @Param("courseId") Long courseId);
+
+    /**
+     * To un-link the student from the course by the row of the join table only (without loading of the course's students)
+     *
+     * @param studentId system-id of the student
+     * @param courseId  system-id of the course
+     * @return the quantity of deleted rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = JOIN_TABLE))
+    @Query(value = """
+            delete from student_course where fk_student=:studentId and fk_course=:courseId
+            """, nativeQuery = true)
+    int deleteLink(@Param("studentId") Long studentId, @Param("courseId") Long courseId);
 }
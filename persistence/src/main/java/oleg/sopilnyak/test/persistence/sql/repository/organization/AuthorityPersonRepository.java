@@ -1,10 +1,21 @@
 package oleg.sopilnyak.test.persistence.sql.repository.organization;
 
 import oleg.sopilnyak.test.persistence.sql.entity.organization.AuthorityPersonEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthorityPersonRepository extends JpaRepository<AuthorityPersonEntity, Long> {
     Optional<AuthorityPersonEntity> findByProfileId(Long profileId);
+
+    /**
+     * To get the page of entities with system-id greater than the cursor (keyset pagination)
+     *
+     * @param id    system-id of the last entity of the previous page
+     * @param limit the maximum quantity of entities in the page
+     * @return the page of entities ordered by system-id
+     */
+    List<AuthorityPersonEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -1,7 +1,18 @@
 package oleg.sopilnyak.test.persistence.sql.repository.organization;
 
 import oleg.sopilnyak.test.persistence.sql.entity.organization.FacultyEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface FacultyRepository extends JpaRepository<FacultyEntity, Long> {
+    /**
+     * To get the page of entities with system-id greater than the cursor (keyset pagination)
+     *
+     * @param id    system-id of the last entity of the previous page
+     * @param limit the maximum quantity of entities in the page
+     * @return the page of entities ordered by system-id
+     */
+    List<FacultyEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
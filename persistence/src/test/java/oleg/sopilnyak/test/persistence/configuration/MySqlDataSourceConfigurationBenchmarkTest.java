@@ -0,0 +1,138 @@
+package oleg.sopilnyak.test.persistence.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Benchmark: requests/sec of short transactions against local (docker) MySQL database<BR/>
+ * Compares the pooled data-source with one opening new JDBC connection per transaction
+ *
+ * @see MySqlDataSourceConfiguration#dataSource()
+ */
+@Tag("benchmark")
+@Testcontainers
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {MySqlDataSourceConfiguration.class})
+class MySqlDataSourceConfigurationBenchmarkTest {
+    private static final int CLIENTS = 16;
+    private static final int REQUESTS_PER_CLIENT = 500;
+    private static final int WARM_UP_REQUESTS = 200;
+    @Container
+    private static final MySQLContainer<?> database = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("school.jdbc.driverClassName", database::getDriverClassName);
+        registry.add("school.jdbc.url", database::getJdbcUrl);
+        registry.add("school.jdbc.username", database::getUsername);
+        registry.add("school.jdbc.password", database::getPassword);
+    }
+
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    void shouldMeasurePooledDataSourceThroughput() throws Exception {
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        HikariDataSource pool = (HikariDataSource) dataSource;
+        runRequests(pool, 1, WARM_UP_REQUESTS);
+
+        AtomicInteger awaitingPeak = new AtomicInteger();
+        double requestsPerSecond = runRequests(pool, CLIENTS, REQUESTS_PER_CLIENT, () -> {
+            HikariPoolMXBean poolBean = pool.getHikariPoolMXBean();
+            awaitingPeak.accumulateAndGet(poolBean.getThreadsAwaitingConnection(), Math::max);
+        });
+
+        HikariPoolMXBean poolBean = pool.getHikariPoolMXBean();
+        assertThat(poolBean.getTotalConnections()).isLessThanOrEqualTo(pool.getMaximumPoolSize());
+        report("pooled", requestsPerSecond);
+        System.out.printf("pool %s : total %d, idle %d, active %d, awaiting peak %d%n",
+                pool.getPoolName(), poolBean.getTotalConnections(), poolBean.getIdleConnections(),
+                poolBean.getActiveConnections(), awaitingPeak.get()
+        );
+    }
+
+    @Test
+    void shouldMeasureNotPooledDataSourceThroughput() throws Exception {
+        DriverManagerDataSource notPooled = new DriverManagerDataSource(
+                database.getJdbcUrl(), database.getUsername(), database.getPassword()
+        );
+        runRequests(notPooled, 1, WARM_UP_REQUESTS / 10);
+
+        double requestsPerSecond = runRequests(notPooled, CLIENTS, REQUESTS_PER_CLIENT / 10);
+
+        report("not-pooled", requestsPerSecond);
+    }
+
+    // private methods
+    private static double runRequests(DataSource source, int clients, int requests) throws Exception {
+        return runRequests(source, clients, requests, () -> {
+        });
+    }
+
+    private static double runRequests(DataSource source, int clients, int requests, Runnable probe) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(clients);
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(clients)) {
+            for (int client = 0; client < clients; client++) {
+                futures.add(executor.submit(() -> {
+                    for (int request = 0; request < requests; request++) {
+                        transaction(source, request);
+                        probe.run();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long spentNanos = System.nanoTime() - startedAt;
+        return clients * requests * 1_000_000_000.0 / spentNanos;
+    }
+
+    private static void transaction(DataSource source, int request) throws SQLException {
+        try (Connection connection = source.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement("SELECT ? + 1")) {
+                statement.setInt(1, request);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertThat(resultSet.next()).isTrue();
+                    assertThat(resultSet.getInt(1)).isEqualTo(request + 1);
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    private static void report(String dataSourceType, double requestsPerSecond) {
+        System.out.printf("%-10s data-source : %,10.0f requests/sec (%d clients)%n",
+                dataSourceType, requestsPerSecond, CLIENTS
+        );
+    }
+}
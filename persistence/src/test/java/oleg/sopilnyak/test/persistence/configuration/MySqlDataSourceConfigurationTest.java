@@ -0,0 +1,72 @@
+package oleg.sopilnyak.test.persistence.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import com.zaxxer.hikari.HikariDataSource;
+
+class MySqlDataSourceConfigurationTest {
+    MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment()
+                .withProperty("school.jdbc.driverClassName", "com.mysql.cj.jdbc.Driver")
+                .withProperty("school.jdbc.url", "jdbc:mysql://localhost:3306/school_db")
+                .withProperty("school.jdbc.username", "director")
+                .withProperty("school.jdbc.password", "director_password");
+    }
+
+    @Test
+    void shouldCreateDefaultPooledDataSource() {
+
+        DataSource dataSource = new MySqlDataSourceConfiguration(environment).dataSource();
+
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        try (HikariDataSource pool = (HikariDataSource) dataSource) {
+            assertThat(pool.getJdbcUrl()).isEqualTo("jdbc:mysql://localhost:3306/school_db");
+            assertThat(pool.getUsername()).isEqualTo("director");
+            assertThat(pool.getPoolName()).isEqualTo(MySqlDataSourceConfiguration.POOL_NAME);
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(10);
+            assertThat(pool.getMinimumIdle()).isEqualTo(2);
+            assertThat(pool.getConnectionTimeout()).isEqualTo(3_000L);
+            assertThat(pool.getLeakDetectionThreshold()).isEqualTo(60_000L);
+            assertThat(pool.isRegisterMbeans()).isTrue();
+            assertThat(pool.getDataSourceProperties())
+                    .containsEntry("cachePrepStmts", "true")
+                    .containsEntry("prepStmtCacheSize", "250")
+                    .containsEntry("prepStmtCacheSqlLimit", "2048")
+                    .containsEntry("useServerPrepStmts", "true")
+                    .containsEntry("rewriteBatchedStatements", "true");
+            // the pool is started lazily
+            assertThat(pool.isRunning()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldCreateConfiguredPooledDataSource() {
+        environment
+                .withProperty("school.jdbc.pool.name", "test-pool")
+                .withProperty("school.jdbc.pool.maximum-size", "32")
+                .withProperty("school.jdbc.pool.minimum-idle", "4")
+                .withProperty("school.jdbc.pool.connection-timeout.millis", "1500")
+                .withProperty("school.jdbc.pool.idle-timeout.millis", "120000")
+                .withProperty("school.jdbc.pool.max-lifetime.millis", "900000")
+                .withProperty("school.jdbc.pool.leak-detection-threshold.millis", "0")
+                .withProperty("school.jdbc.pool.prepared-statements-cache.size", "500");
+
+        try (HikariDataSource pool = (HikariDataSource) new MySqlDataSourceConfiguration(environment).dataSource()) {
+            assertThat(pool.getPoolName()).isEqualTo("test-pool");
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(32);
+            assertThat(pool.getMinimumIdle()).isEqualTo(4);
+            assertThat(pool.getConnectionTimeout()).isEqualTo(1_500L);
+            assertThat(pool.getIdleTimeout()).isEqualTo(120_000L);
+            assertThat(pool.getMaxLifetime()).isEqualTo(900_000L);
+            assertThat(pool.getLeakDetectionThreshold()).isZero();
+            assertThat(pool.getDataSourceProperties()).containsEntry("prepStmtCacheSize", "500");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package oleg.sopilnyak.test.persistence.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.SharedCacheMode;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PersistenceConfigurationTest {
+
+    @Test
+    void shouldDisableSecondLevelCacheByDefault() {
+        PersistenceConfiguration configuration = configuration(false, "local");
+
+        Map<String, Object> properties = configuration.secondLevelCacheProperties();
+
+        assertThat(properties)
+                .containsEntry("hibernate.cache.use_second_level_cache", false)
+                .containsEntry("hibernate.cache.use_query_cache", false)
+                .containsEntry("jakarta.persistence.sharedCache.mode", SharedCacheMode.NONE)
+                .doesNotContainKey("hibernate.cache.region.factory_class");
+    }
+
+    @Test
+    void shouldEnableLocalSecondLevelCache() {
+        PersistenceConfiguration configuration = configuration(true, "local");
+
+        Map<String, Object> properties = configuration.secondLevelCacheProperties();
+
+        assertThat(properties)
+                .containsEntry("hibernate.cache.use_second_level_cache", true)
+                .containsEntry("hibernate.cache.use_query_cache", true)
+                .containsEntry("hibernate.cache.region.factory_class", "infinispan")
+                .containsEntry("hibernate.cache.infinispan.cfg", PersistenceConfiguration.LOCAL_CACHE_CONFIG)
+                .containsEntry("jakarta.persistence.sharedCache.mode", SharedCacheMode.ENABLE_SELECTIVE)
+                .containsEntry("hibernate.generate_statistics", true);
+        assertThat(getClass().getClassLoader().getResource(PersistenceConfiguration.LOCAL_CACHE_CONFIG)).isNotNull();
+    }
+
+    @Test
+    void shouldEnableInvalidationSecondLevelCache() {
+        PersistenceConfiguration configuration = configuration(true, "Invalidation");
+
+        Map<String, Object> properties = configuration.secondLevelCacheProperties();
+
+        assertThat(properties)
+                .containsEntry("hibernate.cache.use_second_level_cache", true)
+                .containsEntry("hibernate.cache.infinispan.cfg", PersistenceConfiguration.CLUSTERED_CACHE_CONFIG);
+        assertThat(getClass().getClassLoader().getResource(PersistenceConfiguration.CLUSTERED_CACHE_CONFIG)).isNotNull();
+    }
+
+    // private methods
+    private static PersistenceConfiguration configuration(boolean cacheEnabled, String cacheMode) {
+        return new PersistenceConfiguration(false, "testDatabaseUnit", 50, cacheEnabled, cacheMode, true);
+    }
+}
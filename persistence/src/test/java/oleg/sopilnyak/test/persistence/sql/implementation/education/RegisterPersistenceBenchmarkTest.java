@@ -0,0 +1,138 @@
+package oleg.sopilnyak.test.persistence.sql.implementation.education;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import oleg.sopilnyak.test.persistence.configuration.PersistenceConfiguration;
+import oleg.sopilnyak.test.school.common.model.BaseType;
+import oleg.sopilnyak.test.school.common.persistence.education.RegisterPersistenceFacade;
+import oleg.sopilnyak.test.school.common.test.MysqlTestModelFactory;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Benchmark: anti-join queries of not enrolled students and courses without students
+ * over the data volume of 100k students and 5k courses in local (docker) MySQL database<BR/>
+ * Half of the students are enrolled to the first half of the courses
+ *
+ * @see RegisterPersistenceFacade#findNotEnrolledStudentsPage(Long, int)
+ * @see RegisterPersistenceFacade#countNotEnrolledStudents()
+ * @see RegisterPersistenceFacade#findCoursesWithoutStudentsPage(Long, int)
+ * @see RegisterPersistenceFacade#countCoursesWithoutStudents()
+ */
+@Tag("benchmark")
+@ContextConfiguration(classes = {PersistenceConfiguration.class})
+class RegisterPersistenceBenchmarkTest extends MysqlTestModelFactory {
+    private static final long STUDENTS = 100_000L;
+    private static final long COURSES = 5_000L;
+    private static final long FIRST_ID = 10_000_000L;
+    private static final int PAGE_SIZE = 200;
+    private static final int BATCH_SIZE = 5_000;
+    @Autowired
+    RegisterPersistenceFacade persistence;
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    void shouldMeasureNotEnrolledStudentsQueries() {
+        long notEnrolledBefore = persistence.countNotEnrolledStudents();
+        fillTables();
+
+        long count = measure("count not enrolled students", persistence::countNotEnrolledStudents);
+        long paged = measurePages("page not enrolled students", persistence::findNotEnrolledStudentsPage);
+
+        assertThat(count).isEqualTo(notEnrolledBefore + STUDENTS / 2);
+        assertThat(paged).isEqualTo(count);
+        assertNoFullScanOfJoinTable("""
+                select s.id from students s
+                where not exists (select 1 from student_course sc where sc.fk_student=s.id) and s.id > 0
+                order by s.id limit 200
+                """);
+    }
+
+    @Test
+    void shouldMeasureCoursesWithoutStudentsQueries() {
+        long withoutStudentsBefore = persistence.countCoursesWithoutStudents();
+        fillTables();
+
+        long count = measure("count courses without students", persistence::countCoursesWithoutStudents);
+        long paged = measurePages("page courses without students", persistence::findCoursesWithoutStudentsPage);
+
+        assertThat(count).isEqualTo(withoutStudentsBefore + COURSES / 2);
+        assertThat(paged).isEqualTo(count);
+        assertNoFullScanOfJoinTable("""
+                select c.id from courses c
+                where not exists (select 1 from student_course sc where sc.fk_course=c.id) and c.id > 0
+                order by c.id limit 200
+                """);
+    }
+
+    // private methods
+    private void fillTables() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        insert(jdbc, "insert into courses(id, name, description) values (?, ?, ?)", COURSES,
+                id -> new Object[]{id, "course-" + id, "benchmark course"});
+        insert(jdbc, "insert into students(id, person_first_name, last_name, person_gender) values (?, ?, ?, ?)",
+                STUDENTS, id -> new Object[]{id, "Student", "student-" + id, "Mx"});
+        // the even students are enrolled to one of the first half of the courses
+        insert(jdbc, "insert into student_course(fk_student, fk_course) values (?, ?)", STUDENTS / 2,
+                id -> new Object[]{FIRST_ID + (id - FIRST_ID) * 2, FIRST_ID + (id - FIRST_ID) % (COURSES / 2)});
+    }
+
+    private static void insert(JdbcTemplate jdbc, String sql, long rows, LongFunction<Object[]> row) {
+        for (long first = 0; first < rows; first += BATCH_SIZE) {
+            List<Object[]> batch = LongStream.range(first, Math.min(first + BATCH_SIZE, rows))
+                    .mapToObj(index -> row.apply(FIRST_ID + index)).toList();
+            jdbc.batchUpdate(sql, batch);
+        }
+    }
+
+    private static long measure(String name, LongSupplier query) {
+        long startedAt = System.nanoTime();
+        long result = query.getAsLong();
+        report(name, 1, System.nanoTime() - startedAt);
+        return result;
+    }
+
+    private static <T extends BaseType> long measurePages(String name, BiFunction<Long, Integer, List<T>> pageReader) {
+        long items = 0L;
+        int pages = 0;
+        Long afterId = null;
+        List<T> page;
+        long startedAt = System.nanoTime();
+        do {
+            page = pageReader.apply(afterId, PAGE_SIZE);
+            pages++;
+            items += page.size();
+            if (!page.isEmpty()) {
+                afterId = page.getLast().getId();
+            }
+        } while (page.size() == PAGE_SIZE);
+        report(name, pages, System.nanoTime() - startedAt);
+        return items;
+    }
+
+    private void assertNoFullScanOfJoinTable(String query) {
+        List<Map<String, Object>> plan = new JdbcTemplate(dataSource).queryForList("explain " + query);
+        System.out.println("plan: " + plan);
+        assertThat(plan).filteredOn(row -> "sc".equals(row.get("table")))
+                .isNotEmpty()
+                .allSatisfy(row -> assertThat(row.get("type")).isNotEqualTo("ALL"));
+    }
+
+    private static void report(String name, int executions, long spentNanos) {
+        System.out.printf("%-32s : %,8.2f ms per execution (%d executions)%n",
+                name, spentNanos / 1_000_000.0 / executions, executions
+        );
+    }
+}
@@ -1,7 +1,12 @@
 package oleg.sopilnyak.test.persistence.sql.implementation.education;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import oleg.sopilnyak.test.persistence.configuration.PersistenceConfiguration;
@@ -92,8 +97,12 @@ class RegisterPersistenceTest extends MysqlTestModelFactory {
 
         Set<Student> enrolled = persistence.findEnrolledStudentsByCourseId(courseId);
 
-        assertThat(enrolled).isNotEmpty().contains(student);
-        verify(studentRepository).findStudentEntitiesByCourseSetId(courseId);
+        assertThat(enrolled).isNotEmpty().extracting(Student::getId).contains(student.getId());
+        Student received = enrolled.stream().filter(s -> s.getId().equals(student.getId())).findFirst().orElseThrow();
+        assertThat(received.getFullName()).isEqualTo(student.getFullName());
+        assertThat(received.getCourses()).extracting(Course::getId).containsExactly(courseId);
+        verify(studentRepository).findEnrolledStudentViews(courseId);
+        verify(studentRepository).findCourseRowsOfStudents(anyCollection());
     }
 
     @Test
@@ -103,8 +112,8 @@ class RegisterPersistenceTest extends MysqlTestModelFactory {
 
         Set<Student> notEnrolledStudents = persistence.findNotEnrolledStudents();
 
-        assertThat(notEnrolledStudents).isNotEmpty().contains(student);
-        verify(studentRepository).findStudentEntitiesByCourseSetEmpty();
+        assertThat(notEnrolledStudents).isNotEmpty().extracting(Student::getId).contains(student.getId());
+        verify(studentRepository).findNotEnrolledStudentViews();
     }
 
     @Test
@@ -117,8 +126,12 @@ class RegisterPersistenceTest extends MysqlTestModelFactory {
 
         Set<Course> registered = persistence.findCoursesRegisteredForStudent(studentId);
 
-        assertThat(registered).isNotEmpty().contains(course);
-        verify(courseRepository).findCourseEntitiesByStudentSetId(studentId);
+        assertThat(registered).isNotEmpty().extracting(Course::getId).contains(course.getId());
+        Course received = registered.stream().filter(c -> c.getId().equals(course.getId())).findFirst().orElseThrow();
+        assertThat(received.getName()).isEqualTo(course.getName());
+        assertThat(received.getStudents()).extracting(Student::getId).containsExactly(studentId);
+        verify(courseRepository).findRegisteredCourseViews(studentId);
+        verify(courseRepository).findStudentRowsOfCourses(anyCollection());
     }
 
     @Test
@@ -128,8 +141,8 @@ class RegisterPersistenceTest extends MysqlTestModelFactory {
 
         Set<Course> registered = persistence.findCoursesWithoutStudents();
 
-        assertThat(registered).isNotEmpty().contains(course);
-        verify(courseRepository).findCourseEntitiesByStudentSetEmpty();
+        assertThat(registered).isNotEmpty().extracting(Course::getId).contains(course.getId());
+        verify(courseRepository).findCourseViewsWithoutStudents();
     }
 
     @Test
@@ -140,10 +153,27 @@ class RegisterPersistenceTest extends MysqlTestModelFactory {
 
         assertThat(persistence.link(student, course)).isTrue();
 
-        assertThat(course.getStudents()).contains(student);
-        verify(studentRepository).findById(student.getId());
-        verify(courseRepository).findById(course.getId());
-        verify(studentRepository).saveAndFlush(student);
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getStudents())
+                .extracting(Student::getId).containsExactly(student.getId());
+        verify(studentRepository).existsById(student.getId());
+        verify(courseRepository).existsById(course.getId());
+        verify(studentRepository).countLinks(student.getId(), course.getId());
+        verify(studentRepository).insertLink(student.getId(), course.getId());
+        verify(studentRepository, never()).saveAndFlush(any(StudentEntity.class));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    void shouldNotLinkStudentToCourse_AlreadyLinked() {
+        StudentEntity student = createStudent(8);
+        Course course = createCourse(8);
+        assertThat(persistence.link(student, course)).isTrue();
+        reset(studentRepository);
+
+        assertThat(persistence.link(student, course)).isFalse();
+
+        verify(studentRepository).countLinks(student.getId(), course.getId());
+        verify(studentRepository, never()).insertLink(anyLong(), anyLong());
     }
 
     @Test
@@ -158,13 +188,55 @@ class RegisterPersistenceTest extends MysqlTestModelFactory {
 
         assertThat(persistence.unLink(student, course)).isTrue();
 
-        verify(studentRepository).findById(student.getId());
-        verify(courseRepository).findById(course.getId());
-        verify(studentRepository).saveAndFlush(student);
+        verify(studentRepository).existsById(student.getId());
+        verify(courseRepository).existsById(course.getId());
+        verify(studentRepository).deleteLink(student.getId(), course.getId());
+        verify(studentRepository, never()).saveAndFlush(any(StudentEntity.class));
         assertThat(courseRepository.findById(course.getId()).orElseThrow().getStudents()).isEmpty();
         assertThat(studentRepository.findById(student.getId()).orElseThrow().getCourses()).isEmpty();
     }
 
+    @Test
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    void shouldCheckAndCountLinks() {
+        StudentEntity student = createStudent(6);
+        Course course = createCourse(6);
+        Long studentId = student.getId();
+        Long courseId = course.getId();
+        assertThat(persistence.isLinked(studentId, courseId)).isFalse();
+        assertThat(persistence.link(student, course)).isTrue();
+        studentRepository.flush();
+
+        assertThat(persistence.isLinked(studentId, courseId)).isTrue();
+        assertThat(persistence.countEnrolledStudents(courseId)).isOne();
+        assertThat(persistence.countRegisteredCourses(studentId)).isOne();
+
+        verify(studentRepository, times(2)).countLinks(studentId, courseId);
+        verify(studentRepository).countByCourseId(courseId);
+        verify(courseRepository).countByStudentId(studentId);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    void shouldCountNotEnrolledStudentsAndCoursesWithoutStudents() {
+        long notEnrolled = persistence.countNotEnrolledStudents();
+        long withoutStudents = persistence.countCoursesWithoutStudents();
+        StudentEntity student = createStudent(7);
+        Course course = createCourse(7);
+        studentRepository.flush();
+        courseRepository.flush();
+        assertThat(persistence.countNotEnrolledStudents()).isEqualTo(notEnrolled + 1);
+        assertThat(persistence.countCoursesWithoutStudents()).isEqualTo(withoutStudents + 1);
+        assertThat(persistence.link(student, course)).isTrue();
+        studentRepository.flush();
+
+        assertThat(persistence.countNotEnrolledStudents()).isEqualTo(notEnrolled);
+        assertThat(persistence.countCoursesWithoutStudents()).isEqualTo(withoutStudents);
+
+        verify(studentRepository, times(3)).countNotEnrolled();
+        verify(courseRepository, times(3)).countWithoutStudents();
+    }
+
     //private methods
     private StudentEntity createStudent(int order) {
         try {
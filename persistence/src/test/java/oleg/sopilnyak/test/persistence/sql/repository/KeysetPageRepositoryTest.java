@@ -0,0 +1,99 @@
+package oleg.sopilnyak.test.persistence.sql.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import oleg.sopilnyak.test.persistence.configuration.PersistenceConfiguration;
+import oleg.sopilnyak.test.persistence.sql.entity.organization.AuthorityPersonEntity;
+import oleg.sopilnyak.test.persistence.sql.entity.organization.FacultyEntity;
+import oleg.sopilnyak.test.persistence.sql.entity.organization.StudentsGroupEntity;
+import oleg.sopilnyak.test.persistence.sql.repository.organization.AuthorityPersonRepository;
+import oleg.sopilnyak.test.persistence.sql.repository.organization.FacultyRepository;
+import oleg.sopilnyak.test.persistence.sql.repository.organization.StudentsGroupRepository;
+import oleg.sopilnyak.test.school.common.model.BaseType;
+import oleg.sopilnyak.test.school.common.test.MysqlTestModelFactory;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@ExtendWith(MockitoExtension.class)
+@ContextConfiguration(classes = {PersistenceConfiguration.class})
+@TestPropertySource(properties = {"school.spring.jpa.show-sql=true", "school.hibernate.hbm2ddl.auto=update"})
+@Rollback
+class KeysetPageRepositoryTest extends MysqlTestModelFactory {
+    @Autowired
+    AuthorityPersonRepository authorityPersonRepository;
+    @Autowired
+    FacultyRepository facultyRepository;
+    @Autowired
+    StudentsGroupRepository studentsGroupRepository;
+
+    @Test
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    void shouldFindAuthorityPersonsPages() {
+        List<AuthorityPersonEntity> persons = authorityPersonRepository.saveAllAndFlush(List.of(
+                createAuthorityPerson(1), createAuthorityPerson(2), createAuthorityPerson(3)
+        ));
+
+        assertKeysetPages(persons, authorityPersonRepository::findByIdGreaterThanOrderByIdAsc);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    void shouldFindFacultiesPages() {
+        List<FacultyEntity> faculties = facultyRepository.saveAllAndFlush(List.of(
+                createFaculty(1), createFaculty(2), createFaculty(3)
+        ));
+
+        assertKeysetPages(faculties, facultyRepository::findByIdGreaterThanOrderByIdAsc);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    void shouldFindStudentsGroupsPages() {
+        List<StudentsGroupEntity> groups = studentsGroupRepository.saveAllAndFlush(List.of(
+                createStudentsGroup(1), createStudentsGroup(2), createStudentsGroup(3)
+        ));
+
+        assertKeysetPages(groups, studentsGroupRepository::findByIdGreaterThanOrderByIdAsc);
+    }
+
+    // private methods
+    // the pages are limited by the size and continue after the cursor in the order of system-id
+    private static <T extends BaseType> void assertKeysetPages(final List<T> saved,
+                                                               final BiFunction<Long, Limit, List<T>> page) {
+        final List<Long> ids = saved.stream().map(BaseType::getId).sorted().toList();
+        final Long cursor = ids.get(0) - 1L;
+
+        assertThat(page.apply(cursor, Limit.of(2))).extracting(BaseType::getId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(page.apply(ids.get(0), Limit.of(1))).extracting(BaseType::getId).containsExactly(ids.get(1));
+        assertThat(page.apply(ids.get(1), Limit.of(2))).extracting(BaseType::getId).containsExactly(ids.get(2));
+        assertThat(page.apply(ids.get(2), Limit.of(2))).isEmpty();
+    }
+
+    private static AuthorityPersonEntity createAuthorityPerson(int order) {
+        return AuthorityPersonEntity.builder()
+                .title("title-" + order)
+                .firstName("first-name-" + order)
+                .lastName("last-name-" + order)
+                .gender("gender-" + order)
+                .build();
+    }
+
+    private static FacultyEntity createFaculty(int order) {
+        return FacultyEntity.builder().name("faculty-" + order).build();
+    }
+
+    private static StudentsGroupEntity createStudentsGroup(int order) {
+        return StudentsGroupEntity.builder().name("group-" + order).build();
+    }
+}
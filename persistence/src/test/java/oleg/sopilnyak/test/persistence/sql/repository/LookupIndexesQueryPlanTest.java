@@ -0,0 +1,177 @@
+package oleg.sopilnyak.test.persistence.sql.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import liquibase.Contexts;
+import liquibase.Liquibase;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.LiquibaseException;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Query plans of the hot lookup paths of the repositories over the database made by the liquibase change-log<BR/>
+ * No lookup path may scan the whole table. The embedded database in MySQL mode is the stand-in of the MySQL server
+ * (both index the foreign keys columns implicitly), so the check runs in every build
+ *
+ * @see StudentRepository
+ * @see CourseRepository
+ * @see PersonProfileRepository
+ */
+class LookupIndexesQueryPlanTest {
+    private static final String CHANGE_LOG = "database/changelog/dbChangelog_main.xml";
+    private static final String DATABASE_URL = "jdbc:h2:mem:query-plans;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final String TABLE_SCAN = "tablescan";
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException, LiquibaseException {
+        connection = DriverManager.getConnection(DATABASE_URL, "sa", "");
+        new Liquibase(CHANGE_LOG, new ClassLoaderResourceAccessor(), new JdbcConnection(connection))
+                .update(new Contexts());
+        fillTables();
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void shouldFindStudentsOfCourseByIndex() throws SQLException {
+        String plan = explain("""
+                select s.id, s.person_first_name, s.last_name from students s
+                join student_course sc on s.id = sc.fk_student where sc.fk_course = ?
+                """);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldFindCoursesOfStudentByReversedJoinIndex() throws SQLException {
+        String plan = explain("""
+                select c.id, c.name, c.description from courses c
+                join student_course sc on c.id = sc.fk_course where sc.fk_student = ?
+                """);
+
+        assertThat(plan).contains("idx_student_course_student").doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldCountLinksByJoinTableIndexes() throws SQLException {
+        assertThat(explain("select count(*) from student_course where fk_student = ? and fk_course = ?"))
+                .doesNotContain(TABLE_SCAN);
+        assertThat(explain("select count(*) from student_course where fk_course = ?"))
+                .doesNotContain(TABLE_SCAN);
+        assertThat(explain("select count(*) from student_course where fk_student = ?"))
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldFindStudentsWithoutCoursesByIndex() throws SQLException {
+        String plan = explain("""
+                select s.id from students s
+                where not exists (select 1 from student_course sc where s.id = sc.fk_student) and s.id > ?
+                order by s.id limit 50
+                """);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldFindCoursesWithoutStudentsByIndex() throws SQLException {
+        String plan = explain("""
+                select c.id from courses c
+                where not exists (select 1 from student_course sc where c.id = sc.fk_course) and c.id > ?
+                order by c.id limit 50
+                """);
+
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldFindCoursesOfFacultyByIndex() throws SQLException {
+        String plan = explain("select c.id, c.name from courses c where c.faculty_id = ?");
+
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldFindStudentsOfGroupByIndex() throws SQLException {
+        String plan = explain("select s.id, s.last_name from students s where s.group_id = ?");
+
+        assertThat(plan).contains("idx_students_group").doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldFindFacultiesOfDeanByIndex() throws SQLException {
+        String plan = explain("select f.id, f.name from faculties f where f.dean_id = ?");
+
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldFindPermissionsOfProfileByCoveringIndex() throws SQLException {
+        String plan = explain("select p.permission_name from person_permissions p where p.profile_id = ?");
+
+        assertThat(plan).contains("idx_person_permissions_profile").doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void shouldFindPrincipalByLoginByUniqueIndex() throws SQLException {
+        String plan = explain("select p.id, p.email from profiles p where p.type = 0 and p.username = ?");
+
+        assertThat(plan).doesNotContain(TABLE_SCAN);
+    }
+
+    // private methods
+    private static String explain(String query) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query)) {
+            for (int index = 1; index <= statement.getParameterMetaData().getParameterCount(); index++) {
+                statement.setLong(index, 1L);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                final StringBuilder result = new StringBuilder();
+                while (plan.next()) {
+                    result.append(plan.getString(1)).append('\n');
+                }
+                return result.toString().toLowerCase();
+            }
+        }
+    }
+
+    // the tables are filled to make the scans more expensive than the index lookups
+    private static void fillTables() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO authorities(id, title) SELECT x, 'Dr.' FROM SYSTEM_RANGE(1, 20)");
+            statement.execute("INSERT INTO faculties(id, name, dean_id) SELECT x, 'Faculty', MOD(x, 20) + 1 FROM SYSTEM_RANGE(1, 20)");
+            statement.execute("INSERT INTO courses(id, name, faculty_id) SELECT x, 'Course', MOD(x, 20) + 1 FROM SYSTEM_RANGE(1, 200)");
+            statement.execute("INSERT INTO students_groups(id, name, leader_index) SELECT x, 'Group', 0 FROM SYSTEM_RANGE(1, 50)");
+            statement.execute("INSERT INTO students(id, last_name, group_id) SELECT x, 'Student', MOD(x, 50) + 1 FROM SYSTEM_RANGE(1, 2000)");
+            statement.execute("""
+                    INSERT INTO student_course(fk_course, fk_student)
+                    SELECT MOD(x, 200) + 1, x FROM SYSTEM_RANGE(1, 1500)
+                    """);
+            statement.execute("""
+                    INSERT INTO profiles(id, type, email, phone, username)
+                    SELECT x, 0, 'mail@school.com', '0', 'login-' || x FROM SYSTEM_RANGE(1, 500)
+                    """);
+            statement.execute("""
+                    INSERT INTO person_permissions(profile_id, permission_name)
+                    SELECT MOD(x, 500) + 1, 'PERMISSION-' || MOD(x, 7) FROM SYSTEM_RANGE(1, 1500)
+                    """);
+            statement.execute("ANALYZE");
+        }
+    }
+}